@@ -0,0 +1,94 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.Navigation;
+import ru.avicomp.ontapi.BaseModel;
+import ru.avicomp.ontapi.OntologyModel;
+import ru.avicomp.ontapi.internal.InternalModel;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures reading axioms from an already loaded ontology:
+ * {@link InternalModel#listOWLAxioms()} and
+ * {@link ru.avicomp.ontapi.OntBaseModelImpl#axioms(Class, OWLObject, boolean)} lookups
+ * (through the OWL-API method {@link OWLOntology#axioms(Class, Class, OWLObject, Navigation)}).
+ * In the {@code cold} mode the model cache is cleared before each invocation,
+ * so the measurement includes the translation of RDF into OWL-API objects;
+ * in the {@code warm} mode the axioms are taken from the cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AxiomsBenchmark {
+    private static final int SEARCH_LIMIT = 200;
+
+    @Param({"pizza.ttl", "family.ttl", "goodrelations.rdf", "synthetic-10000"})
+    public String data;
+
+    @Param({"cold", "warm"})
+    public String cache;
+
+    private OntologyModel ontology;
+    private InternalModel model;
+    private List<OWLClass> classes;
+
+    @Setup
+    public void setup() {
+        ontology = BenchmarkData.of(data).load();
+        model = ((BaseModel) ontology).getBase();
+        classes = ontology.classesInSignature().limit(SEARCH_LIMIT).collect(Collectors.toList());
+    }
+
+    @Setup(Level.Invocation)
+    public void prepare() {
+        if ("cold".equals(cache)) {
+            model.clearCache();
+        } else {
+            model.forceLoad();
+        }
+    }
+
+    @Benchmark
+    public void listAxioms(Blackhole bh) {
+        model.listOWLAxioms().forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void listSubClassOfAxioms(Blackhole bh) {
+        model.listOWLAxioms(AxiomType.SUBCLASS_OF).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void searchByClass(Blackhole bh) {
+        for (OWLClass c : classes) {
+            ontology.axioms(OWLSubClassOfAxiom.class, OWLClassExpression.class, c, Navigation.IN_SUB_POSITION)
+                    .forEach(bh::consume);
+            ontology.axioms(OWLSubClassOfAxiom.class, OWLClassExpression.class, c, Navigation.IN_SUPER_POSITION)
+                    .forEach(bh::consume);
+            ontology.axioms(OWLClassAssertionAxiom.class, OWLClassExpression.class, c, Navigation.IN_SUB_POSITION)
+                    .forEach(bh::consume);
+        }
+    }
+}
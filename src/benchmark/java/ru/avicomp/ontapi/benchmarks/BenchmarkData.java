@@ -0,0 +1,161 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import ru.avicomp.ontapi.OntFormat;
+import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.OntologyManager;
+import ru.avicomp.ontapi.OntologyModel;
+import ru.avicomp.ontapi.jena.OntModelFactory;
+import ru.avicomp.ontapi.jena.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * A helper to provide the benchmark data: either ontologies from the test resources (e.g. {@code pizza.ttl}),
+ * or synthetic generated ontologies, which are specified by the names like {@code synthetic-10000},
+ * where the number is the count of OWL classes.
+ * <p>
+ * All sources are kept in memory as bytes, so the disk IO is not included in the measurements.
+ */
+public class BenchmarkData {
+    public static final String SYNTHETIC_PREFIX = "synthetic-";
+    public static final String NS = "http://ont-api.ru/benchmarks/synthetic#";
+
+    private final String name;
+    private final OntFormat format;
+    private final byte[] bytes;
+
+    private BenchmarkData(String name, OntFormat format, byte[] bytes) {
+        this.name = name;
+        this.format = format;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Prepares the benchmark data by the name.
+     *
+     * @param name either a file name from the {@code /ontapi} test resources dir or {@code synthetic-N}
+     * @return {@link BenchmarkData}
+     */
+    public static BenchmarkData of(String name) {
+        if (name.startsWith(SYNTHETIC_PREFIX)) {
+            int size = Integer.parseInt(name.substring(SYNTHETIC_PREFIX.length()));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            RDFDataMgr.write(out, createSyntheticModel(size), Lang.TURTLE);
+            return new BenchmarkData(name, OntFormat.TURTLE, out.toByteArray());
+        }
+        OntFormat format = name.endsWith(".rdf") || name.endsWith(".owl") ? OntFormat.RDF_XML : OntFormat.TURTLE;
+        try (InputStream in = Objects.requireNonNull(BenchmarkData.class.getResourceAsStream("/ontapi/" + name),
+                "Can't find " + name)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buff = new byte[8192];
+            int n;
+            while ((n = in.read(buff)) != -1) {
+                out.write(buff, 0, n);
+            }
+            return new BenchmarkData(name, format, out.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Generates a synthetic ontology with the given number of classes.
+     * For each class there is a {@code rdfs:subClassOf} (a tree with a branching factor {@code 8}),
+     * an annotation, and one individual with a class assertion and object and data property assertions;
+     * there is also a one property per each {@code 100} classes.
+     *
+     * @param classes int, the number of classes
+     * @return {@link OntGraphModel}
+     */
+    public static OntGraphModel createSyntheticModel(int classes) {
+        OntGraphModel m = OntModelFactory.createModel();
+        m.setID(NS.substring(0, NS.length() - 1));
+        m.setNsPrefixes(OntModelFactory.STANDARD).setNsPrefix("s", NS);
+        int props = Math.max(1, classes / 100);
+        OntNOP[] ops = new OntNOP[props];
+        OntNDP[] dps = new OntNDP[props];
+        OntClass[] ces = new OntClass[classes];
+        OntIndividual[] is = new OntIndividual[classes];
+        for (int i = 0; i < classes; i++) {
+            ces[i] = m.createOntClass(NS + "C" + i);
+            ces[i].addComment("Class #" + i);
+            if (i > 0) {
+                ces[i].addSuperClass(ces[(i - 1) / 8]);
+            }
+            is[i] = ces[i].createIndividual(NS + "I" + i);
+        }
+        for (int i = 0; i < props; i++) {
+            ops[i] = m.createObjectProperty(NS + "op" + i);
+            ops[i].addDomain(ces[i % classes]).addRange(ces[(i * 7) % classes]);
+            dps[i] = m.createDataProperty(NS + "dp" + i);
+            dps[i].addDomain(ces[i % classes]);
+        }
+        for (int i = 0; i < classes; i++) {
+            is[i].addAssertion(ops[i % props], is[(i * 31 + 1) % classes]);
+            is[i].addAssertion(dps[i % props], m.createTypedLiteral(i));
+        }
+        return m;
+    }
+
+    /**
+     * Creates a new document source to load.
+     *
+     * @return {@link OWLOntologyDocumentSource}
+     */
+    public OWLOntologyDocumentSource createSource() {
+        return new StreamDocumentSource(new ByteArrayInputStream(bytes),
+                IRI.create("http://ont-api.ru/benchmarks/" + name), format.createOwlFormat(), null);
+    }
+
+    /**
+     * Loads the data into a fresh ONT-API manager.
+     *
+     * @param manager {@link OntologyManager}
+     * @return {@link OntologyModel}
+     */
+    public OntologyModel load(OntologyManager manager) {
+        try {
+            return manager.loadOntologyFromOntologyDocument(createSource());
+        } catch (Exception e) {
+            throw new IllegalStateException("Can't load " + name, e);
+        }
+    }
+
+    /**
+     * Loads the data into a fresh default ONT-API manager.
+     *
+     * @return {@link OntologyModel}
+     */
+    public OntologyModel load() {
+        return load(OntManagers.createONT());
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
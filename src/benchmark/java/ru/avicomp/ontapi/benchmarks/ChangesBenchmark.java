@@ -0,0 +1,95 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.OntologyManager;
+import ru.avicomp.ontapi.OntologyModel;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures {@link OntologyManager#applyChanges(List)} for bulk addition and bulk removal of axioms.
+ * The axioms are taken from the benchmark data,
+ * they are added into an empty ontology and removed from a fully loaded one.
+ * Each invocation works with a fresh ontology, so the measurement mode is single shot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = 1)
+@Measurement(iterations = 20, batchSize = 1)
+@Fork(1)
+public class ChangesBenchmark {
+    private static final IRI IRI_TO_ADD = IRI.create("http://ont-api.ru/benchmarks/changes");
+
+    @Param({"pizza.ttl", "family.ttl", "synthetic-10000"})
+    public String data;
+
+    private BenchmarkData source;
+    private List<OWLAxiom> axioms;
+
+    @Setup
+    public void setup() {
+        source = BenchmarkData.of(data);
+        axioms = source.load().axioms().collect(Collectors.toList());
+    }
+
+    @State(Scope.Benchmark)
+    public static class AddState {
+        private OntologyManager manager;
+        private List<OWLOntologyChange> changes;
+
+        @Setup(Level.Invocation)
+        public void prepare(ChangesBenchmark b) throws OWLOntologyCreationException {
+            manager = OntManagers.createONT();
+            OntologyModel o = manager.createOntology(IRI_TO_ADD);
+            changes = b.axioms.stream().map(a -> new AddAxiom(o, a)).collect(Collectors.toList());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RemoveState {
+        private OntologyManager manager;
+        private List<OWLOntologyChange> changes;
+
+        @Setup(Level.Invocation)
+        public void prepare(ChangesBenchmark b) {
+            manager = OntManagers.createONT();
+            OntologyModel o = b.source.load(manager);
+            // read the cache before, to measure only the removal;
+            // declarations go last, since the other axioms may need them to be found in the graph:
+            changes = Stream.concat(o.axioms().filter(a -> !a.isOfType(AxiomType.DECLARATION)),
+                    o.axioms(AxiomType.DECLARATION))
+                    .map(a -> new RemoveAxiom(o, a)).collect(Collectors.toList());
+        }
+    }
+
+    @Benchmark
+    public ChangeApplied addAxioms(AddState s) {
+        return s.manager.applyChanges(s.changes);
+    }
+
+    @Benchmark
+    public ChangeApplied removeAxioms(RemoveState s) {
+        return s.manager.applyChanges(s.changes);
+    }
+}
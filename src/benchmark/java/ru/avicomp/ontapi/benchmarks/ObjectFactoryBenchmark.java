@@ -0,0 +1,122 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.internal.CacheObjectFactory;
+import ru.avicomp.ontapi.jena.model.OntClass;
+import ru.avicomp.ontapi.jena.model.OntGraphModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the {@link CacheObjectFactory} throughput and hit rate for different cache sizes.
+ * The workload is a sequence of class IRIs in the order they occur in the graph triples,
+ * i.e. it reproduces the references distribution seen by the axiom translators.
+ * The hits and misses are reported as secondary results through the {@link Counters} aux-state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ObjectFactoryBenchmark {
+
+    @Param({"pizza.ttl", "family.ttl", "synthetic-10000"})
+    public String data;
+
+    @Param({"256", "2048", "16384"})
+    public int size;
+
+    private OntGraphModel model;
+    private List<String> workload;
+
+    @Setup
+    public void setup() {
+        model = BenchmarkData.of(data).load().asGraphModel();
+        Set<String> classes = model.classes().map(OntClass::getURI).collect(Collectors.toSet());
+        workload = new ArrayList<>();
+        model.getGraph().find().forEachRemaining(t -> {
+            if (t.getSubject().isURI() && classes.contains(t.getSubject().getURI())) {
+                workload.add(t.getSubject().getURI());
+            }
+            if (t.getObject().isURI() && classes.contains(t.getObject().getURI())) {
+                workload.add(t.getObject().getURI());
+            }
+        });
+    }
+
+    /**
+     * Hit and miss counters, reset for each iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    /**
+     * A factory that is recreated for each iteration, so that it is measured from a cold state.
+     */
+    @State(Scope.Thread)
+    public static class Factory {
+        private Probe probe;
+
+        @Setup(Level.Iteration)
+        public void prepare(ObjectFactoryBenchmark b) {
+            probe = new Probe(b.model, b.size);
+        }
+    }
+
+    @Benchmark
+    public void getClasses(Factory f, Counters c, Blackhole bh) {
+        for (String uri : workload) {
+            if (f.probe.contains(uri)) {
+                c.hits++;
+            } else {
+                c.misses++;
+            }
+            bh.consume(f.probe.getClass(uri));
+        }
+    }
+
+    /**
+     * A {@link CacheObjectFactory} with access to its class cache.
+     */
+    public static class Probe extends CacheObjectFactory {
+
+        Probe(OntGraphModel model, int size) {
+            super(OntManagers.getDataFactory(), model, size);
+        }
+
+        boolean contains(String uri) {
+            return classes.getIfPresent(uri) != null;
+        }
+    }
+}
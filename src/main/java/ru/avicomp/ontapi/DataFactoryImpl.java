@@ -21,6 +21,7 @@ import org.semanticweb.owlapi.util.VersionInfo;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 import org.semanticweb.owlapi.vocab.OWLFacet;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
+import ru.avicomp.ontapi.internal.Interner;
 import ru.avicomp.ontapi.owlapi.InternalizedEntities;
 import ru.avicomp.ontapi.owlapi.OWLImportsDeclarationImpl;
 import ru.avicomp.ontapi.owlapi.axioms.*;
@@ -58,6 +59,10 @@ import static ru.avicomp.ontapi.owlapi.InternalizedEntities.*;
  * {@link OWLLiteral}s and {@link OWLAnonymousIndividual} based on Jena RDF terms:
  * {@link LiteralLabel} and {@link BlankNodeId} respectively.
  * <p>
+ * Optionally (see {@link #DataFactoryImpl(boolean)}), the factory can work in the interning mode:
+ * all OWL entities and literals are hash-consed through the weak-value canonicalising {@link Interner table}s,
+ * so that equal objects share a single instance while it is in use somewhere.
+ * This may significantly reduce memory footprint in case there are a lot of axioms referencing the same entities.
  *
  * @author Matthew Horridge, The University Of Manchester, Bio-Health Informatics Group
  * @see <a href='https://github.com/owlcs/owlapi/blob/version5/impl/src/main/java/uk/ac/manchester/cs/owl/owlapi/OWLDataFactoryImpl.java'>uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl</a>
@@ -115,6 +120,63 @@ public class DataFactoryImpl implements DataFactory {
     private static final String ENTITY_TYPE_CANNOT_BE_NULL = "entityType cannot be null";
     private static final String ANNOTATIONS_CANNOT_BE_NULL = "annotations cannot be null";
 
+    protected final boolean intern;
+    protected transient volatile Tables tables;
+
+    /**
+     * Creates a default data factory, which produces a fresh instance on each call.
+     */
+    public DataFactoryImpl() {
+        this(false);
+    }
+
+    /**
+     * Creates a data factory.
+     * If {@code intern} is {@code true}, the factory returns the same instance for equal entities and literals,
+     * using a separate concurrent weak-value table for each entity type,
+     * and a table for literals, that is keyed by lexical form, datatype and language.
+     *
+     * @param intern boolean, {@code true} to enable the interning mode
+     * @since 1.4.3
+     */
+    public DataFactoryImpl(boolean intern) {
+        this.intern = intern;
+    }
+
+    /**
+     * Answers {@code true} if the interning mode is enabled.
+     *
+     * @return boolean
+     * @see #DataFactoryImpl(boolean)
+     * @since 1.4.3
+     */
+    public boolean isInterning() {
+        return intern;
+    }
+
+    private Tables tables() {
+        Tables res = tables;
+        if (res != null) return res;
+        synchronized (this) {
+            if ((res = tables) == null) {
+                tables = res = new Tables();
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Returns the canonical instance for the given literal if the interning mode is enabled.
+     *
+     * @param literal {@link OWLLiteralImpl}, not {@code null}
+     * @return {@link OWLLiteral}
+     * @since 1.4.3
+     */
+    protected OWLLiteral intern(OWLLiteralImpl literal) {
+        if (!intern) return literal;
+        return tables().literals.intern(Interner.literalKey(literal.getLiteralLabel()), literal);
+    }
+
     private static int nonNegativeCardinality(int value) {
         if (value < 0) {
             throw new OntApiException.IllegalArgument(CARDINALITY_CANNOT_BE_NEGATIVE);
@@ -128,7 +190,10 @@ public class DataFactoryImpl implements DataFactory {
 
     @Override
     public void purge() {
-        // nothing
+        Tables res = tables;
+        if (res != null) {
+            res.clear();
+        }
     }
 
     @Override
@@ -138,7 +203,8 @@ public class DataFactoryImpl implements DataFactory {
 
     @Override
     public OWLClass getOWLClass(IRI iri) {
-        return new OWLClassImpl(notNull(iri, IRI_CANNOT_BE_NULL));
+        notNull(iri, IRI_CANNOT_BE_NULL);
+        return intern ? tables().classes.intern(iri, OWLClassImpl::new) : new OWLClassImpl(iri);
     }
 
     @Override
@@ -213,7 +279,8 @@ public class DataFactoryImpl implements DataFactory {
 
     @Override
     public OWLObjectProperty getOWLObjectProperty(IRI iri) {
-        return new OWLObjectPropertyImpl(notNull(iri, IRI_CANNOT_BE_NULL));
+        notNull(iri, IRI_CANNOT_BE_NULL);
+        return intern ? tables().objectProperties.intern(iri, OWLObjectPropertyImpl::new) : new OWLObjectPropertyImpl(iri);
     }
 
     @Override
@@ -223,17 +290,20 @@ public class DataFactoryImpl implements DataFactory {
 
     @Override
     public OWLDataProperty getOWLDataProperty(IRI iri) {
-        return new OWLDataPropertyImpl(notNull(iri, IRI_CANNOT_BE_NULL));
+        notNull(iri, IRI_CANNOT_BE_NULL);
+        return intern ? tables().dataProperties.intern(iri, OWLDataPropertyImpl::new) : new OWLDataPropertyImpl(iri);
     }
 
     @Override
     public OWLAnnotationProperty getOWLAnnotationProperty(IRI iri) {
-        return new OWLAnnotationPropertyImpl(notNull(iri, IRI_CANNOT_BE_NULL));
+        notNull(iri, IRI_CANNOT_BE_NULL);
+        return intern ? tables().annotationProperties.intern(iri, OWLAnnotationPropertyImpl::new) : new OWLAnnotationPropertyImpl(iri);
     }
 
     @Override
     public OWLNamedIndividual getOWLNamedIndividual(IRI iri) {
-        return new OWLNamedIndividualImpl(notNull(iri, IRI_CANNOT_BE_NULL));
+        notNull(iri, IRI_CANNOT_BE_NULL);
+        return intern ? tables().individuals.intern(iri, OWLNamedIndividualImpl::new) : new OWLNamedIndividualImpl(iri);
     }
 
     @Override
@@ -260,7 +330,8 @@ public class DataFactoryImpl implements DataFactory {
 
     @Override
     public OWLDatatype getOWLDatatype(IRI iri) {
-        return new OWLDatatypeImpl(notNull(iri, IRI_CANNOT_BE_NULL));
+        notNull(iri, IRI_CANNOT_BE_NULL);
+        return intern ? tables().datatypes.intern(iri, OWLDatatypeImpl::new) : new OWLDatatypeImpl(iri);
     }
 
     @Override
@@ -608,33 +679,33 @@ public class DataFactoryImpl implements DataFactory {
 
     @Override
     public OWLLiteral getOWLLiteral(int i) {
-        return OWLLiteralImpl.createLiteral(i);
+        return intern(OWLLiteralImpl.createLiteral(i));
     }
 
     @Override
     public OWLLiteral getOWLLiteral(double d) {
-        return OWLLiteralImpl.createLiteral(d);
+        return intern(OWLLiteralImpl.createLiteral(d));
     }
 
     @Override
     public OWLLiteral getOWLLiteral(float f) {
-        return OWLLiteralImpl.createLiteral(f);
+        return intern(OWLLiteralImpl.createLiteral(f));
     }
 
     @Override
     public OWLLiteral getOWLLiteral(String txt) {
-        return OWLLiteralImpl.createLiteral(notNull(txt, VALUE_CANNOT_BE_NULL));
+        return intern(OWLLiteralImpl.createLiteral(notNull(txt, VALUE_CANNOT_BE_NULL)));
     }
 
     @Override
     public OWLLiteral getOWLLiteral(String txt, String lang) {
-        return OWLLiteralImpl.createLiteral(notNull(txt, LITERAL_CANNOT_BE_NULL), lang);
+        return intern(OWLLiteralImpl.createLiteral(notNull(txt, LITERAL_CANNOT_BE_NULL), lang));
     }
 
     @Override
     public OWLLiteral getOWLLiteral(String txt, OWLDatatype dt) {
-        return OWLLiteralImpl.createLiteral(notNull(txt, LEXICAL_VALUE_CANNOT_BE_NULL),
-                notNull(dt, DATATYPE_CANNOT_BE_NULL));
+        return intern(OWLLiteralImpl.createLiteral(notNull(txt, LEXICAL_VALUE_CANNOT_BE_NULL),
+                notNull(dt, DATATYPE_CANNOT_BE_NULL)));
     }
 
     /**
@@ -646,7 +717,7 @@ public class DataFactoryImpl implements DataFactory {
      */
     @Override
     public OWLLiteral getOWLLiteral(LiteralLabel label) {
-        return OWLLiteralImpl.newLiteral(notNull(label, VALUE_CANNOT_BE_NULL));
+        return intern(OWLLiteralImpl.newLiteral(notNull(label, VALUE_CANNOT_BE_NULL)));
     }
 
     @Override
@@ -1084,4 +1155,23 @@ public class DataFactoryImpl implements DataFactory {
                 notNull(head, HEAD_CANNOT_BE_NULL), nonNullAnnotations(annotations));
     }
 
+    /**
+     * A holder for the canonicalising tables, that are used in the interning mode.
+     *
+     * @since 1.4.3
+     */
+    protected static class Tables {
+        protected final Interner<IRI, OWLClass> classes = new Interner<>();
+        protected final Interner<IRI, OWLDatatype> datatypes = new Interner<>();
+        protected final Interner<IRI, OWLNamedIndividual> individuals = new Interner<>();
+        protected final Interner<IRI, OWLObjectProperty> objectProperties = new Interner<>();
+        protected final Interner<IRI, OWLDataProperty> dataProperties = new Interner<>();
+        protected final Interner<IRI, OWLAnnotationProperty> annotationProperties = new Interner<>();
+        protected final Interner<Object, OWLLiteral> literals = new Interner<>();
+
+        protected void clear() {
+            Stream.of(classes, datatypes, individuals, objectProperties, dataProperties, annotationProperties, literals)
+                    .forEach(Interner::clear);
+        }
+    }
 }
@@ -0,0 +1,212 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.mem.GraphMem;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.MissingImportHandlingStrategy;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import ru.avicomp.ontapi.config.OntLoaderConfiguration;
+import ru.avicomp.ontapi.jena.UnionGraph;
+import ru.avicomp.ontapi.jena.utils.GraphSnapshot;
+import ru.avicomp.ontapi.jena.utils.Graphs;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * A helper to save and restore the whole content of an {@link OntologyManager} in a binary form.
+ * The snapshot contains the base graph of each ontology (in the {@link GraphSnapshot} format)
+ * together with its document IRI and document format (including the format prefixes).
+ * The import hierarchy is not stored explicitly, it is rebuilt from the {@code owl:imports} declarations.
+ * Restoring a snapshot involves neither RDF parsing nor graph transformations,
+ * so it is much faster than loading the same ontologies from their documents.
+ * Note: the axioms caches are not a part of the snapshot, they are rebuilt lazily from the graphs as usual.
+ *
+ * @see OntologyManager#saveSnapshot(OutputStream)
+ * @see OntologyManager#restoreSnapshot(ByteBuffer)
+ * @since 1.4.3
+ */
+public class ManagerSnapshot {
+    private static final int MAGIC = 0x4F4E544D; // "ONTM"
+    private static final int VERSION = 1;
+
+    /**
+     * Writes all the ontologies of the manager into the output stream.
+     * The stream is flushed, but not closed.
+     *
+     * @param manager {@link OntologyManager}, not {@code null}
+     * @param out     {@link OutputStream}, not {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(OntologyManager manager, OutputStream out) throws IOException {
+        List<OntologyModel> ontologies = manager.ontologies().map(OntologyModel.class::cast).collect(Collectors.toList());
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(ontologies.size());
+        for (OntologyModel o : ontologies) {
+            IRI doc = manager.getOntologyDocumentIRI(o);
+            OWLDocumentFormat f = manager.getOntologyFormat(o);
+            OntFormat format = f == null ? null : OntFormat.get(f);
+            writeString(data, doc == null ? "" : doc.getIRIString());
+            writeString(data, format == null ? "" : format.getID());
+            Map<String, String> prefixes = f != null && f.isPrefixOWLDocumentFormat() ?
+                    f.asPrefixOWLDocumentFormat().getPrefixName2PrefixMap() : Collections.emptyMap();
+            data.writeInt(prefixes.size());
+            for (Map.Entry<String, String> e : prefixes.entrySet()) {
+                writeString(data, e.getKey());
+                writeString(data, e.getValue());
+            }
+            GraphSnapshot.write(o.asGraphModel().getBaseGraph(), data);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads all the ontologies from the snapshot buffer into the manager.
+     * The graphs are put into the manager as is, without any transformations,
+     * the import hierarchy is assembled from the {@code owl:imports} declarations.
+     *
+     * @param manager {@link OntologyManager}, not {@code null}
+     * @param buffer  {@link ByteBuffer}, e.g. a memory-mapped file, not {@code null}
+     * @param conf    {@link OntLoaderConfiguration} to use for the restored ontologies
+     * @return List of restored {@link OntologyModel}s in the snapshot order
+     * @throws IOException     if the data is not a valid snapshot
+     * @throws OntApiException if an ontology cannot be put into the manager,
+     *                         in particular, if the manager already contains an ontology with the same id;
+     *                         in this case the ontologies that have been already restored are removed from the manager
+     */
+    public static List<OntologyModel> read(OntologyManager manager,
+                                           ByteBuffer buffer,
+                                           OntLoaderConfiguration conf) throws IOException {
+        List<String> docs = new ArrayList<>();
+        List<String> formats = new ArrayList<>();
+        List<Map<String, String>> prefixes = new ArrayList<>();
+        List<UnionGraph> graphs = new ArrayList<>();
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not an ontology manager snapshot");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version: " + version);
+            }
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                docs.add(readString(buffer));
+                formats.add(readString(buffer));
+                Map<String, String> map = new LinkedHashMap<>();
+                int n = buffer.getInt();
+                for (int j = 0; j < n; j++) {
+                    map.put(readString(buffer), readString(buffer));
+                }
+                prefixes.add(map);
+                Graph g = new GraphMem();
+                GraphSnapshot.read(buffer, g);
+                graphs.add(new UnionGraph(g));
+            }
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Unexpected end of the snapshot");
+        }
+        // restore the imports hierarchy:
+        Map<String, UnionGraph> byURI = new HashMap<>();
+        graphs.forEach(g -> byURI.putIfAbsent(Graphs.getURI(g), g));
+        graphs.forEach(g -> Graphs.getImports(g).stream()
+                .map(byURI::get)
+                .filter(Objects::nonNull)
+                .forEach(g::addGraph));
+        List<OntologyID> ids = graphs.stream().map(OntGraphUtils::getOntologyID).collect(Collectors.toList());
+        ids.stream().filter(manager::contains).findFirst().ifPresent(id -> {
+            throw new OntApiException("The manager already contains the ontology " + id);
+        });
+        List<OntologyModel> res = new ArrayList<>();
+        try {
+            for (int i = 0; i < graphs.size(); i++) {
+                // the ontology might have been already added as an import of some other one:
+                OntologyModel o = manager.getOntology(ids.get(i));
+                if (o == null) {
+                    o = manager.addOntology(graphs.get(i), conf);
+                }
+                if (!docs.get(i).isEmpty()) {
+                    manager.setOntologyDocumentIRI(o, IRI.create(docs.get(i)));
+                }
+                OntFormat format = formats.get(i).isEmpty() ? null : OntFormat.get(formats.get(i));
+                if (format != null) {
+                    OWLDocumentFormat f = format.createOwlFormat();
+                    if (f.isPrefixOWLDocumentFormat()) {
+                        prefixes.get(i).forEach(f.asPrefixOWLDocumentFormat()::setPrefix);
+                    }
+                    manager.setOntologyFormat(o, f);
+                }
+                res.add(o);
+            }
+        } catch (RuntimeException e) {
+            rollback(manager, ids);
+            throw e;
+        }
+        return res;
+    }
+
+    /**
+     * Removes the ontologies that have been added by the failed {@link #read(OntologyManager, ByteBuffer, OntLoaderConfiguration)} call.
+     * Since the manager is checked to contain none of the snapshot ontologies before restoring,
+     * every ontology with one of the given ids belongs to the snapshot.
+     *
+     * @param manager {@link OntologyManager}
+     * @param ids     List of {@link OntologyID}s from the snapshot
+     */
+    private static void rollback(OntologyManager manager, List<OntologyID> ids) {
+        ids.stream().map(manager::getOntology).filter(Objects::nonNull).distinct().forEach(o -> {
+            try {
+                manager.removeOntology(o);
+            } catch (RuntimeException ex) {
+                // ignore, the original exception is more important
+            }
+        });
+    }
+
+    /**
+     * Creates a loader configuration to restore a snapshot into the manager.
+     * The graphs in the snapshot are already transformed,
+     * and the imports that are absent in the snapshot were missing in the original manager too,
+     * so the graph transformations are turned off and the missing imports are ignored.
+     *
+     * @param manager {@link OntologyManager}
+     * @return {@link OntLoaderConfiguration}
+     */
+    public static OntLoaderConfiguration createLoaderConfiguration(OntologyManager manager) {
+        return manager.getOntologyLoaderConfiguration()
+                .setPerformTransformation(false)
+                .setMissingImportHandlingStrategy(MissingImportHandlingStrategy.SILENT);
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] res = new byte[buffer.getInt()];
+        buffer.get(res);
+        return new String(res, StandardCharsets.UTF_8);
+    }
+}
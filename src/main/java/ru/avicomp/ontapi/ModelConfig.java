@@ -19,8 +19,10 @@ import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
 import org.semanticweb.owlapi.model.OWLOntologyWriterConfiguration;
 import org.semanticweb.owlapi.model.OWLPrimitive;
+import ru.avicomp.ontapi.config.OntConfig;
 import ru.avicomp.ontapi.config.OntLoaderConfiguration;
 import ru.avicomp.ontapi.config.OntWriterConfiguration;
+import ru.avicomp.ontapi.internal.CacheBudget;
 import ru.avicomp.ontapi.internal.InternalCache;
 import ru.avicomp.ontapi.internal.InternalConfig;
 import ru.avicomp.ontapi.internal.InternalModel;
@@ -31,6 +33,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -91,6 +94,31 @@ public class ModelConfig implements InternalConfig, Serializable {
         this.readConf = conf;
     }
 
+    /**
+     * Fixes the current manager's loader-configuration as a personal one for this model config,
+     * so that the settings can be read without any access to the manager (and its lock).
+     * Does nothing if the config already has its own settings.
+     *
+     * @return boolean {@code true} if the config has been changed
+     * @see #unpinLoaderConf()
+     * @since 1.4.3
+     */
+    protected boolean pinLoaderConf() {
+        if (readConf != null) return false;
+        this.readConf = manager.getOntologyLoaderConfiguration();
+        return true;
+    }
+
+    /**
+     * Returns this config to the manager's loader-configuration settings.
+     *
+     * @see #pinLoaderConf()
+     * @since 1.4.3
+     */
+    protected void unpinLoaderConf() {
+        this.readConf = null;
+    }
+
     /**
      * Answers {@code true}
      * if this config has not a personal {@link OntLoaderConfiguration Loader Configuration} and,
@@ -186,6 +214,32 @@ public class ModelConfig implements InternalConfig, Serializable {
         return manager.isConcurrent();
     }
 
+    @Override
+    public boolean optimisticReads() {
+        return manager != null && manager.getLock() instanceof StampedReadWriteLock;
+    }
+
+    @Override
+    public CacheBudget getCacheBudget() {
+        return manager == null ? null : manager.cacheBudget;
+    }
+
+    @Override
+    public Executor getLoadExecutor() {
+        return manager == null ? InternalConfig.super.getLoadExecutor() : manager.getLoadExecutor();
+    }
+
+    /**
+     * Answers {@code true} if the concurrent view of the ontology graph should work in the snapshot mode.
+     *
+     * @return boolean
+     * @see OntConfig#useSnapshotIterators()
+     * @since 1.4.3
+     */
+    public boolean useSnapshotIterators() {
+        return manager != null && manager.config.useSnapshotIterators();
+    }
+
     /**
      * Answers {@code true} if the specified config differs from this model config in important parameters.
      *
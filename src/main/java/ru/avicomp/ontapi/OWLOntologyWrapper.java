@@ -29,6 +29,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -647,72 +648,90 @@ public class OWLOntologyWrapper extends RWLockedOntology {
 
     @Override
     public ChangeApplied applyChange(OWLOntologyChange change) {
-        return withWriteLockToObject(() -> delegate.applyChange(change));
+        return withChangesLockToObject(() -> delegate.applyChange(change));
     }
 
     @Override
     public ChangeDetails applyChangesAndGetDetails(List<? extends OWLOntologyChange> changes) {
-        return withWriteLockToObject(() -> delegate.applyChangesAndGetDetails(changes));
+        return withChangesLockToObject(() -> delegate.applyChangesAndGetDetails(changes));
     }
 
     @Override
     public ChangeApplied addAxiom(OWLAxiom axiom) {
-        return withWriteLockToObject(() -> delegate.addAxiom(axiom));
+        return withChangesLockToObject(() -> delegate.addAxiom(axiom));
     }
 
     @Override
     public ChangeApplied addAxioms(Collection<? extends OWLAxiom> axioms) {
-        return withWriteLockToObject(() -> delegate.addAxioms(axioms));
+        return withChangesLockToObject(() -> delegate.addAxioms(axioms));
     }
 
     @Override
     public ChangeApplied addAxioms(OWLAxiom... axioms) {
-        return withWriteLockToObject(() -> delegate.addAxioms(axioms));
+        return withChangesLockToObject(() -> delegate.addAxioms(axioms));
     }
 
     @Override
     public ChangeApplied add(OWLAxiom axiom) {
-        return withWriteLockToObject(() -> delegate.add(axiom));
+        return withChangesLockToObject(() -> delegate.add(axiom));
     }
 
     @Override
     public ChangeApplied add(Collection<? extends OWLAxiom> axioms) {
-        return withWriteLockToObject(() -> delegate.add(axioms));
+        return withChangesLockToObject(() -> delegate.add(axioms));
     }
 
     @Override
     public ChangeApplied add(OWLAxiom... axioms) {
-        return withWriteLockToObject(() -> delegate.add(axioms));
+        return withChangesLockToObject(() -> delegate.add(axioms));
     }
 
     @Override
     public ChangeApplied removeAxiom(OWLAxiom axiom) {
-        return withWriteLockToObject(() -> delegate.removeAxiom(axiom));
+        return withChangesLockToObject(() -> delegate.removeAxiom(axiom));
     }
 
     @Override
     public ChangeApplied removeAxioms(Collection<? extends OWLAxiom> axioms) {
-        return withWriteLockToObject(() -> delegate.removeAxioms(axioms));
+        return withChangesLockToObject(() -> delegate.removeAxioms(axioms));
     }
 
     @Override
     public ChangeApplied removeAxioms(OWLAxiom... axioms) {
-        return withWriteLockToObject(() -> delegate.removeAxioms(axioms));
+        return withChangesLockToObject(() -> delegate.removeAxioms(axioms));
     }
 
     @Override
     public ChangeApplied remove(OWLAxiom axiom) {
-        return withWriteLockToObject(() -> delegate.remove(axiom));
+        return withChangesLockToObject(() -> delegate.remove(axiom));
     }
 
     @Override
     public ChangeApplied remove(Collection<? extends OWLAxiom> axioms) {
-        return withWriteLockToObject(() -> delegate.remove(axioms));
+        return withChangesLockToObject(() -> delegate.remove(axioms));
     }
 
     @Override
     public ChangeApplied remove(OWLAxiom... axioms) {
-        return withWriteLockToObject(() -> delegate.remove(axioms));
+        return withChangesLockToObject(() -> delegate.remove(axioms));
+    }
+
+    /**
+     * Performs the given modifying operation, which is delegated to the manager, returning its result.
+     * In case of {@link StripedReadWriteLock.OntologyLock} the operation is not locked here:
+     * the manager locks itself the ontologies being changed,
+     * an attempt to do it here would lead to a deadlock (it is not possible to upgrade a read lock to a write lock).
+     *
+     * @param op  {@link Supplier}
+     * @param <X> anything
+     * @return {@link X}
+     * @since 1.4.3
+     */
+    protected <X> X withChangesLockToObject(Supplier<X> op) {
+        if (lock instanceof StripedReadWriteLock.OntologyLock) {
+            return op.get();
+        }
+        return withWriteLockToObject(op);
     }
 
 }
\ No newline at end of file
@@ -17,7 +17,6 @@ package ru.avicomp.ontapi;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.mem.GraphMem;
 import org.apache.jena.rdf.model.Resource;
-import org.apache.jena.riot.RDFDataMgr;
 import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.model.parameters.AxiomAnnotations;
 import org.semanticweb.owlapi.model.parameters.Imports;
@@ -25,8 +24,10 @@ import org.semanticweb.owlapi.model.parameters.Navigation;
 import org.semanticweb.owlapi.search.Filters;
 import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
 import org.semanticweb.owlapi.util.OWLClassExpressionCollector;
+import ru.avicomp.ontapi.internal.AxiomPosition;
 import ru.avicomp.ontapi.internal.InternalModel;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
+import ru.avicomp.ontapi.jena.utils.GraphSnapshot;
 import ru.avicomp.ontapi.owlapi.OWLObjectImpl;
 
 import javax.annotation.Nullable;
@@ -50,9 +51,15 @@ import java.util.stream.Stream;
 @SuppressWarnings("WeakerAccess")
 @ParametersAreNonnullByDefault
 public abstract class OntBaseModelImpl implements OWLOntology, BaseModel {
-    // binary format to provide serialization:
+    /**
+     * The binary format that was used to provide serialization.
+     *
+     * @deprecated since 1.4.3 the graph is serialized in the {@link GraphSnapshot} format
+     */
+    @Deprecated
     public static final OntFormat DEFAULT_SERIALIZATION_FORMAT = OntFormat.RDF_THRIFT;
-    private static final long serialVersionUID = 7605836729147058594L;
+    // changed since 1.4.3 together with the graph serialization format (RDF-Thrift -> GraphSnapshot)
+    private static final long serialVersionUID = -2937216580475390528L;
 
     protected transient InternalModel base;
     protected transient ModelConfig config;
@@ -370,10 +377,8 @@ public abstract class OntBaseModelImpl implements OWLOntology, BaseModel {
     @Override
     public Stream<OWLClassAxiom> axioms(OWLClass clazz) {
         Stream<? extends OWLClassAxiom> subClassOf = base.listOWLSubClassOfAxioms(clazz);
-        Stream<? extends OWLClassAxiom> disjointUnion = base.listOWLAxioms(OWLDisjointUnionAxiom.class)
-                .filter(a -> Objects.equals(a.getOWLClass(), clazz));
-        Stream<? extends OWLClassAxiom> disjoint = base.listOWLAxioms(OWLDisjointClassesAxiom.class)
-                .filter(a -> a.operands().anyMatch(clazz::equals));
+        Stream<? extends OWLClassAxiom> disjointUnion = base.listOWLAxioms(AxiomPosition.DISJOINT_UNION_CLASS, clazz);
+        Stream<? extends OWLClassAxiom> disjoint = base.listOWLAxioms(AxiomPosition.DISJOINT_CLASSES_OPERANDS, clazz);
         Stream<? extends OWLClassAxiom> equivalent = base.listOWLEquivalentClassesAxioms(clazz);
         return Stream.of(subClassOf, disjointUnion, disjoint, equivalent).flatMap(Function.identity());
     }
@@ -398,8 +403,8 @@ public abstract class OntBaseModelImpl implements OWLOntology, BaseModel {
      */
     @Override
     public Stream<OWLObjectPropertyAxiom> axioms(OWLObjectPropertyExpression property) {
-        Stream<? extends OWLObjectPropertyAxiom> subPropertyOf = base.listOWLAxioms(OWLSubObjectPropertyOfAxiom.class)
-                .filter(a -> Objects.equals(a.getSubProperty(), property));
+        Stream<? extends OWLObjectPropertyAxiom> subPropertyOf =
+                base.listOWLAxioms(AxiomPosition.SUB_OBJECT_PROPERTY_SUB, property);
         @SuppressWarnings("unchecked")
         Stream<? extends OWLObjectPropertyAxiom> nary = Stream.of(
                 OWLEquivalentObjectPropertiesAxiom.class,
@@ -443,8 +448,8 @@ public abstract class OntBaseModelImpl implements OWLOntology, BaseModel {
      */
     @Override
     public Stream<OWLDataPropertyAxiom> axioms(OWLDataProperty property) {
-        Stream<? extends OWLDataPropertyAxiom> subPropertyOf = base.listOWLAxioms(OWLSubDataPropertyOfAxiom.class)
-                .filter(a -> Objects.equals(a.getSubProperty(), property));
+        Stream<? extends OWLDataPropertyAxiom> subPropertyOf =
+                base.listOWLAxioms(AxiomPosition.SUB_DATA_PROPERTY_SUB, property);
         @SuppressWarnings("unchecked")
         Stream<? extends OWLDataPropertyAxiom> nary = Stream.of(
                 OWLEquivalentDataPropertiesAxiom.class,
@@ -572,25 +577,24 @@ public abstract class OntBaseModelImpl implements OWLOntology, BaseModel {
             return (Stream<A>) base.listOWLDeclarationAxioms((OWLEntity) object);
         }
         if (OWLSubObjectPropertyOfAxiom.class.equals(type) && object instanceof OWLObjectPropertyExpression) {
-            return (Stream<A>) base.listOWLAxioms(OWLSubObjectPropertyOfAxiom.class)
-                    .filter(a -> object.equals(sub ? a.getSubProperty() : a.getSuperProperty()));
+            return base.listOWLAxioms(sub ? AxiomPosition.SUB_OBJECT_PROPERTY_SUB :
+                    AxiomPosition.SUB_OBJECT_PROPERTY_SUPER, object);
         }
         if (OWLSubDataPropertyOfAxiom.class.equals(type) && object instanceof OWLDataPropertyExpression) {
-            return (Stream<A>) base.listOWLAxioms(OWLSubDataPropertyOfAxiom.class)
-                    .filter(a -> object.equals(sub ? a.getSubProperty() : a.getSuperProperty()));
+            return base.listOWLAxioms(sub ? AxiomPosition.SUB_DATA_PROPERTY_SUB :
+                    AxiomPosition.SUB_DATA_PROPERTY_SUPER, object);
         }
         if (OWLSubAnnotationPropertyOfAxiom.class.equals(type) && object instanceof OWLAnnotationProperty) {
             // the difference: this axiom type is ignored in the original OWL-API method:
-            return (Stream<A>) base.listOWLAxioms(OWLSubAnnotationPropertyOfAxiom.class)
-                    .filter(a -> object.equals(sub ? a.getSubProperty() : a.getSuperProperty()));
+            return base.listOWLAxioms(sub ? AxiomPosition.SUB_ANNOTATION_PROPERTY_OF_SUB :
+                    AxiomPosition.SUB_ANNOTATION_PROPERTY_OF_SUPER, object);
         }
         if (OWLSubClassOfAxiom.class.equals(type) && object instanceof OWLClassExpression) {
             OWLClassExpression c = (OWLClassExpression) object;
             if (c.isOWLClass() && sub) {
                 return (Stream<A>) base.listOWLSubClassOfAxioms(c.asOWLClass());
             }
-            return (Stream<A>) base.listOWLAxioms(OWLSubClassOfAxiom.class)
-                    .filter(a -> c.equals(sub ? a.getSubClass() : a.getSuperClass()));
+            return base.listOWLAxioms(sub ? AxiomPosition.SUBCLASS_OF_SUB : AxiomPosition.SUBCLASS_OF_SUPER, c);
         }
         if (OWLEquivalentClassesAxiom.class.equals(type) && sub && object instanceof OWLClassExpression) {
             OWLClassExpression c = (OWLClassExpression) object;
@@ -600,34 +604,32 @@ public abstract class OntBaseModelImpl implements OWLOntology, BaseModel {
             return (Stream<A>) base.listOWLAxioms(OWLEquivalentClassesAxiom.class).filter(a -> a.contains(c));
         }
         if (OWLInverseObjectPropertiesAxiom.class.equals(type) && object instanceof OWLObjectPropertyExpression) {
-            return (Stream<A>) base.listOWLAxioms(OWLInverseObjectPropertiesAxiom.class)
-                    .filter(a -> object.equals(sub ? a.getFirstProperty() : a.getSecondProperty()));
+            return base.listOWLAxioms(sub ? AxiomPosition.INVERSE_OBJECT_PROPERTIES_FIRST :
+                    AxiomPosition.INVERSE_OBJECT_PROPERTIES_SECOND, object);
         }
         if (OWLObjectPropertyAssertionAxiom.class.equals(type) && object instanceof OWLIndividual) {
-            return (Stream<A>) base.listOWLAxioms(OWLObjectPropertyAssertionAxiom.class)
-                    .filter(a -> object.equals(sub ? a.getSubject() : a.getObject()));
+            return base.listOWLAxioms(sub ? AxiomPosition.OBJECT_PROPERTY_ASSERTION_SUBJECT :
+                    AxiomPosition.OBJECT_PROPERTY_ASSERTION_OBJECT, object);
         }
         if (OWLNegativeObjectPropertyAssertionAxiom.class.equals(type) && object instanceof OWLIndividual) {
-            return (Stream<A>) base.listOWLAxioms(OWLNegativeObjectPropertyAssertionAxiom.class)
-                    .filter(a -> object.equals(sub ? a.getSubject() : a.getObject()));
+            return base.listOWLAxioms(sub ? AxiomPosition.NEGATIVE_OBJECT_PROPERTY_ASSERTION_SUBJECT :
+                    AxiomPosition.NEGATIVE_OBJECT_PROPERTY_ASSERTION_OBJECT, object);
         }
         if (OWLAnnotationAssertionAxiom.class.equals(type)) {
             if (!sub && object instanceof OWLAnnotationObject) {
-                return (Stream<A>) base.listOWLAxioms(OWLAnnotationAssertionAxiom.class)
-                        .filter(a -> object.equals(a.getValue()));
+                return base.listOWLAxioms(AxiomPosition.ANNOTATION_ASSERTION_VALUE, object);
             }
             if (sub && object instanceof OWLAnnotationSubject) {
                 return (Stream<A>) base.listOWLAnnotationAssertionAxioms((OWLAnnotationSubject) object);
             }
         }
         if (OWLDisjointUnionAxiom.class.equals(type) && object instanceof OWLClassExpression) {
-            return (Stream<A>) base.listOWLAxioms(OWLDisjointUnionAxiom.class)
-                    .filter(a -> sub ? object.equals(a.getOWLClass()) : a.classExpressions().anyMatch(object::equals));
+            return base.listOWLAxioms(sub ? AxiomPosition.DISJOINT_UNION_CLASS :
+                    AxiomPosition.DISJOINT_UNION_OPERANDS, object);
         }
         if (OWLSubPropertyChainOfAxiom.class.equals(type) && object instanceof OWLObjectPropertyExpression) {
-            return (Stream<A>) base.listOWLAxioms(OWLSubPropertyChainOfAxiom.class)
-                    .filter(a -> sub ? object.equals(a.getSuperProperty()) :
-                            a.getPropertyChain().stream().anyMatch(object::equals));
+            return base.listOWLAxioms(sub ? AxiomPosition.SUB_PROPERTY_CHAIN_OF_SUPER :
+                    AxiomPosition.SUB_PROPERTY_CHAIN_OF_CHAIN, object);
         }
         if (OWLClassAxiom.class.equals(type) && object instanceof OWLClass) {
             return (Stream<A>) axioms((OWLClass) object);
@@ -642,8 +644,10 @@ public abstract class OntBaseModelImpl implements OWLOntology, BaseModel {
             return (Stream<A>) axioms((OWLIndividual) object);
         }
         if (OWLNaryAxiom.class.isAssignableFrom(type)) {
-            return base.listOWLAxioms(type)
-                    .filter(a -> ((OWLNaryAxiom) a).operands().anyMatch(o -> Objects.equals(o, object)));
+            AxiomPosition operands = AxiomPosition.operands(type);
+            if (operands != null) {
+                return base.listOWLAxioms(operands, object);
+            }
         }
         // default:
         return base.listOWLAxioms(type, object);
@@ -1042,7 +1046,9 @@ public abstract class OntBaseModelImpl implements OWLOntology, BaseModel {
 
     /**
      * Reads the object while serialization.
-     * Note: only the base graph is serialized.
+     * Note: only the base graph is serialized, in the {@link GraphSnapshot binary snapshot} format.
+     * The data written by the previous versions (in the RDF-Thrift format) is rejected
+     * with the {@link java.io.InvalidClassException} since the {@code serialVersionUID} has been changed.
      *
      * @param in {@link ObjectInputStream}
      * @throws IOException            if an I/O error occurs
@@ -1053,7 +1059,7 @@ public abstract class OntBaseModelImpl implements OWLOntology, BaseModel {
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
         Graph base = new GraphMem();
-        RDFDataMgr.read(base, in, DEFAULT_SERIALIZATION_FORMAT.getLang());
+        GraphSnapshot.read(in, base);
         // set temporary model with default personality, it will be reset inside manager while its #readObject
         setBase(BaseModel.createInternalModel(base));
     }
@@ -1075,7 +1081,7 @@ public abstract class OntBaseModelImpl implements OWLOntology, BaseModel {
             throw new OntApiException(getOntologyID() + ":: Serialization is not supported for " + g.getClass());
         out.defaultWriteObject();
         // serialize only base graph (it will be wrapped as UnionGraph):
-        RDFDataMgr.write(out, g, DEFAULT_SERIALIZATION_FORMAT.getLang());
+        GraphSnapshot.write(g, out);
     }
 
     /**
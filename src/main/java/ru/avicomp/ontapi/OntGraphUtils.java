@@ -17,10 +17,15 @@ package ru.avicomp.ontapi;
 import org.apache.commons.io.input.ReaderInputStream;
 import org.apache.jena.graph.*;
 import org.apache.jena.rdf.model.impl.ModelCom;
+import org.apache.jena.mem.GraphMemBase;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFFormat;
 import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFWriter;
 import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.util.iterator.ExtendedIterator;
 import org.semanticweb.owlapi.io.*;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLDocumentFormat;
@@ -31,18 +36,22 @@ import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.config.OntLoaderConfiguration;
 import ru.avicomp.ontapi.jena.impl.OntIDImpl;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
+import ru.avicomp.ontapi.jena.utils.ChunkedRDFParser;
 import ru.avicomp.ontapi.jena.utils.Graphs;
 import ru.avicomp.ontapi.jena.utils.Models;
 import ru.avicomp.ontapi.transforms.GraphTransformers;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import static ru.avicomp.ontapi.OntologyFactoryImpl.ConfigMismatchException;
 import static ru.avicomp.ontapi.OntologyFactoryImpl.UnsupportedFormatException;
@@ -71,6 +80,20 @@ public class OntGraphUtils {
     public static final String DEFAULT_REQUEST = "application/rdf+xml, application/xml; q=0.7, text/xml; q=0.6" +
             TEXT_PLAIN_REQUEST_TYPE + LAST_REQUEST_TYPE;
 
+    /**
+     * The number of leading bytes of a document that are examined to detect its format.
+     *
+     * @see #detectFormat(byte[], int)
+     * @since 1.4.3
+     */
+    public static final int SNIFF_BUFFER_SIZE = 8192;
+
+    private static final String NT_TERM = "(<[^>\\s]*>|_:\\S+)";
+    private static final String NT_OBJECT = "(<[^>\\s]*>|_:\\S+|\".*\"(@[a-zA-Z0-9-]+|\\^\\^<[^>\\s]*>)?)";
+    private static final Pattern NTRIPLES_LINE = Pattern.compile(NT_TERM + "\\s*<[^>\\s]*>\\s*" + NT_OBJECT + "\\s*\\.\\s*(#.*)?");
+    private static final Pattern XML_ELEMENT = Pattern.compile("<[A-Za-z_][\\w.-]*(:[A-Za-z_][\\w.-]*)?[\\s/>]");
+    private static final Pattern NQUADS_LINE = Pattern.compile(NT_TERM + "\\s*<[^>\\s]*>\\s*" + NT_OBJECT + "\\s*" + NT_TERM + "\\s*\\.\\s*(#.*)?");
+
     /**
      * Gets an OWL Ontology ID parsed from the given graph.
      * Treats graphs without {@code owl:Ontology} section inside as anonymous.
@@ -260,63 +283,406 @@ public class OntGraphUtils {
             LOGGER.debug("Read graph from <{}>.", iri);
         Supplier<OWLOntologyInputSourceException> orElse = () -> new OWLOntologyInputSourceException("Can't get " +
                 "input-stream/reader from " + iri);
+        int threads = conf.getParseThreads();
         if (source.getInputStream().isPresent()) {
-            return read(graph, source, s -> s.getInputStream().orElseThrow(orElse));
+            return read(graph, source, s -> s.getInputStream().orElseThrow(orElse), threads);
         }
         if (source.getReader().isPresent()) {
-            return read(graph, source, s -> asInputStream(s.getReader().orElseThrow(orElse)));
+            return read(graph, source, s -> asInputStream(s.getReader().orElseThrow(orElse)), threads);
         }
         if (conf.getSupportedSchemes().stream().noneMatch(s -> s.same(iri))) {
             throw new ConfigMismatchException("Not allowed scheme: " + iri);
         }
         String header = source.getAcceptHeaders().orElse(DEFAULT_REQUEST);
-        return read(graph, source, s -> DocumentSources.getInputStream(iri, conf, header).orElseThrow(orElse));
+        return read(graph, source, s -> DocumentSources.getInputStream(iri, conf, header).orElseThrow(orElse), threads);
+    }
+
+    /**
+     * Performs reading to the graph from the source using {@link OntInputSupplier ont-supplier}
+     * in a single thread.
+     *
+     * @param graph    {@link Graph}
+     * @param source   {@link OWLOntologyDocumentSource}
+     * @param supplier {@link OntInputSupplier}
+     * @return {@link OntFormat}
+     * @throws OWLOntologyCreationException if something is wrong.
+     * @see #read(Graph, OWLOntologyDocumentSource, OntInputSupplier, int)
+     */
+    protected static OntFormat read(Graph graph,
+                                    OWLOntologyDocumentSource source,
+                                    OntInputSupplier supplier) throws OWLOntologyCreationException {
+        return read(graph, source, supplier, 1);
     }
 
     /**
      * Performs reading to the graph from the source using {@link OntInputSupplier ont-supplier},
      * which produces a new input stream each call.
+     * If the source has no explicit format,
+     * the first {@link #SNIFF_BUFFER_SIZE} bytes of the input are examined to choose the parser up front
+     * (see {@link #detectFormat(byte[], int)}), the source content type and uri are used as a secondary hint
+     * (see {@link #guessFormat(OWLOntologyDocumentSource)}).
+     * In the normal case the input is opened and parsed only once.
+     * Only if the chosen parser fails, the other formats are tried one by one, each time with a fresh input stream.
+     * A failed attempt does not leave partially parsed triples in the graph.
+     * If {@code threads} is greater than {@code 1}, line-based formats are parsed in parallel,
+     * see {@link ChunkedRDFParser}.
      *
      * @param graph    {@link Graph}
      * @param source   {@link OWLOntologyDocumentSource}
      * @param supplier {@link OntInputSupplier}
+     * @param threads  int, the maximum number of threads to parse a line-based document
      * @return {@link OntFormat}
      * @throws OWLOntologyCreationException if something is wrong.
+     * @since 1.4.3
      */
     protected static OntFormat read(Graph graph,
                                     OWLOntologyDocumentSource source,
-                                    OntInputSupplier supplier) throws OWLOntologyCreationException {
+                                    OntInputSupplier supplier,
+                                    int threads) throws OWLOntologyCreationException {
         IRI iri = source.getDocumentIRI();
         final OWLOntologyCreationException cause = new UnsupportedFormatException(String.format("Can't read %s %s.",
                 source.getClass().getSimpleName(), iri));
-        for (OntFormat format : getSupportedFormats(source)) {
+        Set<OntFormat> formats = getSupportedFormats(source);
+        if (!source.getFormat().isPresent()) {
+            try (InputStream is = new BufferedInputStream(supplier.open(source), SNIFF_BUFFER_SIZE)) {
+                is.mark(SNIFF_BUFFER_SIZE);
+                byte[] buffer = new byte[SNIFF_BUFFER_SIZE];
+                int length = readFully(is, buffer);
+                is.reset();
+                OntFormat detected = detectFormat(buffer, length);
+                if (LOGGER.isDebugEnabled())
+                    LOGGER.debug("Detected format for <{}>: {}", iri, detected);
+                if (detected != null && detected.isOWLOnly()) {
+                    // the content is definitely not RDF, no need to try jena parsers
+                    cause.addSuppressed(new UnsupportedFormatException("Not supported by jena.")
+                            .putFormat(detected).putSource(iri));
+                    throw cause;
+                }
+                OntFormat first = detected != null && detected.isReadSupported() ? detected : guessFormat(source);
+                if (first != null && !first.isOWLOnly() && first.isReadSupported()) {
+                    if (read(graph, is, iri, first, threads, cause)) {
+                        return first;
+                    }
+                    formats.remove(first);
+                }
+            } catch (OWLOntologyInputSourceException | IOException e) {
+                throw new OWLOntologyCreationException(source.getClass().getSimpleName() +
+                        ": can't open or close input stream from " + iri, e);
+            }
+        }
+        for (OntFormat format : formats) {
             if (format.isOWLOnly()) {
                 cause.addSuppressed(new UnsupportedFormatException("Not supported by jena.")
                         .putFormat(format).putSource(iri));
                 continue;
             }
-            Lang lang = format.getLang();
             try (InputStream is = supplier.open(source)) {
-                if (LOGGER.isDebugEnabled())
-                    LOGGER.debug("try <{}>", lang);
-                // with @base:
-                RDFDataMgr.read(graph, is, iri.toString(), lang);
-                return format;
+                if (read(graph, is, iri, format, threads, cause)) {
+                    return format;
+                }
             } catch (OWLOntologyInputSourceException | IOException e) {
                 throw new OWLOntologyCreationException(source.getClass().getSimpleName() +
                         ": can't open or close input stream from " + iri, e);
-            } catch (RuntimeException e) {
-                // could be org.apache.jena.shared.JenaException ||
-                // org.apache.jena.atlas.AtlasException ||
-                // org.apache.jena.atlas.json.JsonParseException || ...
-                if (LOGGER.isDebugEnabled())
-                    LOGGER.debug("<{}> failed: '{}'", lang, e.getMessage());
-                cause.addSuppressed(new UnsupportedFormatException(e).putSource(iri).putFormat(format));
             }
         }
         throw cause;
     }
 
+    /**
+     * Reads the input stream into the graph using the specified format.
+     * In case of failure the exception is recorded into the {@code cause} as suppressed,
+     * and the graph is restored to its original state.
+     *
+     * @param graph   {@link Graph}
+     * @param is      {@link InputStream}
+     * @param iri     {@link IRI} the document IRI, used as base
+     * @param format  {@link OntFormat}, supported by Jena
+     * @param threads int, the maximum number of threads to parse a line-based document
+     * @param cause   {@link OWLOntologyCreationException} to collect errors
+     * @return {@code true} if the reading is successful
+     */
+    private static boolean read(Graph graph,
+                                InputStream is,
+                                IRI iri,
+                                OntFormat format,
+                                int threads,
+                                OWLOntologyCreationException cause) {
+        Lang lang = format.getLang();
+        // to not leave garbage in the graph if the parsing fails:
+        Graph target = graph.isEmpty() ? graph : Factory.createGraphMem();
+        try {
+            if (LOGGER.isDebugEnabled())
+                LOGGER.debug("try <{}>", lang);
+            // with @base:
+            if (threads > 1 && ChunkedRDFParser.isSupported(lang)) {
+                new ChunkedRDFParser(lang, iri.toString(), threads, ChunkedRDFParser.DEFAULT_CHUNK_SIZE).parse(is, target);
+            } else {
+                RDFDataMgr.read(target, is, iri.toString(), lang);
+            }
+            if (target != graph) {
+                GraphUtil.addInto(graph, target);
+            }
+            return true;
+        } catch (RuntimeException e) {
+            // could be org.apache.jena.shared.JenaException ||
+            // org.apache.jena.atlas.AtlasException ||
+            // org.apache.jena.atlas.json.JsonParseException || ...
+            if (LOGGER.isDebugEnabled())
+                LOGGER.debug("<{}> failed: '{}'", lang, e.getMessage());
+            target.clear();
+            cause.addSuppressed(new UnsupportedFormatException(e).putSource(iri).putFormat(format));
+            return false;
+        }
+    }
+
+    /**
+     * Reads bytes from the stream into the buffer until it is full or the stream is exhausted.
+     *
+     * @param is     {@link InputStream}
+     * @param buffer array of bytes
+     * @return the number of bytes read
+     * @throws IOException if an I/O error occurs
+     */
+    private static int readFully(InputStream is, byte[] buffer) throws IOException {
+        int res = 0;
+        int n;
+        while (res < buffer.length && (n = is.read(buffer, res, buffer.length - res)) != -1) {
+            res += n;
+        }
+        return res;
+    }
+
+    /**
+     * Detects the document format by its content, i.e. by the given prefix of the document.
+     * The following formats are recognized:
+     * <ul>
+     * <li>{@link OntFormat#RDF_XML RDF/XML}, {@link OntFormat#TRIX TriX} and {@link OntFormat#OWL_XML OWL/XML}
+     * - by the XML prolog and the root element</li>
+     * <li>{@link OntFormat#JSON_LD JSON-LD} and {@link OntFormat#RDF_JSON RDF/JSON} - by the leading brace</li>
+     * <li>{@link OntFormat#TURTLE Turtle} - by the leading {@code @prefix}, {@code @base},
+     * {@code PREFIX} or {@code BASE} directives</li>
+     * <li>{@link OntFormat#NTRIPLES N-Triples} and {@link OntFormat#NQUADS N-Quads}
+     * - by the shape of the complete lines</li>
+     * <li>{@link OntFormat#FUNCTIONAL_SYNTAX Functional Syntax} and
+     * {@link OntFormat#MANCHESTER_SYNTAX Manchester Syntax} - by the leading keywords</li>
+     * </ul>
+     * The method is public for more generality.
+     *
+     * @param buffer array of bytes, the beginning of the document
+     * @param length int, the number of valid bytes in the buffer
+     * @return {@link OntFormat} or {@code null} if the format cannot be recognized
+     * @since 1.4.3
+     */
+    public static OntFormat detectFormat(byte[] buffer, int length) {
+        String txt = new String(buffer, 0, length, StandardCharsets.UTF_8);
+        if (txt.startsWith("\uFEFF")) {
+            txt = txt.substring(1);
+        }
+        String body = skipComments(txt);
+        if (body.isEmpty()) {
+            return null;
+        }
+        char first = body.charAt(0);
+        if (first == '<') {
+            OntFormat res = detectLinesFormat(body);
+            if (res == null && (body.startsWith("<?xml") || body.startsWith("<!")
+                    || XML_ELEMENT.matcher(body).lookingAt())) {
+                res = detectXMLFormat(body);
+            }
+            return res;
+        }
+        if (first == '{' || first == '[') {
+            return body.contains("\"@") ? OntFormat.JSON_LD : OntFormat.RDF_JSON;
+        }
+        if (first == '@') {
+            return startsWithWord(body, "@prefix") || startsWithWord(body, "@base") ? OntFormat.TURTLE : null;
+        }
+        if (first == '_') {
+            return detectLinesFormat(body);
+        }
+        if (body.startsWith("Prefix(") || body.startsWith("Ontology(")) {
+            return OntFormat.FUNCTIONAL_SYNTAX;
+        }
+        if (body.startsWith("Prefix:") || body.startsWith("Ontology:")) {
+            return OntFormat.MANCHESTER_SYNTAX;
+        }
+        String word = body.toUpperCase(Locale.ROOT);
+        if (startsWithWord(word, "PREFIX") || startsWithWord(word, "BASE")) {
+            return OntFormat.TURTLE;
+        }
+        return null;
+    }
+
+    private static OntFormat detectXMLFormat(String txt) {
+        int root = rootElementStart(txt);
+        if (root < 0) {
+            return null;
+        }
+        String element = txt.substring(root);
+        if (element.startsWith("<rdf:RDF") || element.startsWith("<RDF")) {
+            return OntFormat.RDF_XML;
+        }
+        if (element.regionMatches(true, 0, "<TriX", 0, 5)) {
+            return OntFormat.TRIX;
+        }
+        if (element.startsWith("<Ontology")) {
+            int end = element.indexOf('>');
+            String tag = end < 0 ? element : element.substring(0, end);
+            if (tag.contains("rdf:about") || tag.contains("rdf:ID") || tag.contains("rdf:nodeID")) {
+                // a typed node element
+                return OntFormat.RDF_XML;
+            }
+            if (tag.contains("http://www.w3.org/2002/07/owl#")) {
+                return OntFormat.OWL_XML;
+            }
+        }
+        return txt.contains("http://www.w3.org/1999/02/22-rdf-syntax-ns#") ? OntFormat.RDF_XML : null;
+    }
+
+    private static int rootElementStart(String txt) {
+        int i = 0;
+        while ((i = txt.indexOf('<', i)) >= 0) {
+            char c = charAt(txt, i + 1);
+            if (c == '?') { // prolog or processing instruction
+                i = txt.indexOf("?>", i);
+            } else if (txt.startsWith("<!--", i)) {
+                i = txt.indexOf("-->", i);
+            } else if (c == '!') { // DOCTYPE, possibly with internal subset
+                int end = txt.indexOf("]>", i);
+                int gt = txt.indexOf('>', i);
+                int bracket = txt.indexOf('[', i);
+                i = bracket >= 0 && bracket < gt && end > 0 ? end : gt;
+            } else {
+                return i;
+            }
+            if (i < 0) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static OntFormat detectLinesFormat(String txt) {
+        String[] lines = txt.split("\\r?\\n|\\r");
+        // the last line may be truncated:
+        boolean truncated = !txt.endsWith("\n") && !txt.endsWith("\r");
+        boolean quads = false;
+        int res = 0;
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            if (NTRIPLES_LINE.matcher(line).matches()) {
+                res++;
+                continue;
+            }
+            if (NQUADS_LINE.matcher(line).matches()) {
+                quads = true;
+                res++;
+                continue;
+            }
+            if (truncated && i == lines.length - 1) break;
+            return null;
+        }
+        return res == 0 ? null : quads ? OntFormat.NQUADS : OntFormat.NTRIPLES;
+    }
+
+    private static String skipComments(String txt) {
+        int i = 0;
+        int length = txt.length();
+        while (i < length) {
+            char c = txt.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            if (c == '#') {
+                while (i < length && txt.charAt(i) != '\n' && txt.charAt(i) != '\r') i++;
+                continue;
+            }
+            break;
+        }
+        return txt.substring(i);
+    }
+
+    private static boolean startsWithWord(String txt, String word) {
+        return txt.startsWith(word) && Character.isWhitespace(charAt(txt, word.length()));
+    }
+
+    private static char charAt(String txt, int index) {
+        return index < txt.length() ? txt.charAt(index) : ' ';
+    }
+
+    /**
+     * Answers {@code true} if the format can be written by {@link #writeStreaming(Graph, PrefixMapping, OntFormat, OutputStream)},
+     * i.e. directly from the graph iteration.
+     *
+     * @param format {@link OntFormat}, not {@code null}
+     * @return boolean
+     * @since 1.4.3
+     */
+    public static boolean isStreamingSupported(OntFormat format) {
+        return getStreamingFormat(format) != null;
+    }
+
+    /**
+     * Writes the graph into the output stream triple by triple, without buffering or analysing the whole graph.
+     * Line-based formats (N-Triples, N-Quads) and RDF-Thrift are written as is,
+     * Turtle is written in the {@link RDFFormat#TURTLE_BLOCKS blocked} form, i.e. subject by subject.
+     * If the graph is a plain in-memory graph, its subject index is used to group triples by subjects,
+     * otherwise the triples are written in the graph iteration order, which is still a valid Turtle.
+     * The stream is flushed, but not closed.
+     *
+     * @param graph    {@link Graph} to write, not {@code null}
+     * @param prefixes {@link PrefixMapping} to write, only for Turtle, not {@code null}
+     * @param format   {@link OntFormat}, must be {@link #isStreamingSupported(OntFormat) supported}
+     * @param out      {@link OutputStream}, not {@code null}
+     * @throws IllegalArgumentException if the format is not supported
+     * @see #isStreamingSupported(OntFormat)
+     * @since 1.4.3
+     */
+    public static void writeStreaming(Graph graph, PrefixMapping prefixes, OntFormat format, OutputStream out) {
+        RDFFormat f = getStreamingFormat(format);
+        if (f == null) {
+            throw new IllegalArgumentException("Streaming is not supported for " + format);
+        }
+        StreamRDF stream = StreamRDFWriter.getWriterStream(out, f);
+        stream.start();
+        try {
+            if (format == OntFormat.TURTLE) {
+                prefixes.getNsPrefixMap().forEach(stream::prefix);
+            }
+            if (format == OntFormat.TURTLE && graph instanceof GraphMemBase) {
+                ExtendedIterator<Node> subjects = ((GraphMemBase) graph).store.listSubjects();
+                try {
+                    while (subjects.hasNext()) {
+                        graph.find(subjects.next(), Node.ANY, Node.ANY).forEachRemaining(stream::triple);
+                    }
+                } finally {
+                    subjects.close();
+                }
+            } else {
+                graph.find().forEachRemaining(stream::triple);
+            }
+        } finally {
+            stream.finish();
+        }
+    }
+
+    private static RDFFormat getStreamingFormat(OntFormat format) {
+        switch (format) {
+            case NTRIPLES:
+                return RDFFormat.NTRIPLES_UTF8;
+            case NQUADS:
+                return RDFFormat.NQUADS_UTF8;
+            case RDF_THRIFT:
+                return RDFFormat.RDF_THRIFT;
+            case TURTLE:
+                return RDFFormat.TURTLE_BLOCKS;
+            default:
+                return null;
+        }
+    }
+
     /**
      * Returns supported formats related to the source.
      * The result (ordered set) can only contain a single format in case the source has {@link OWLDocumentFormat},
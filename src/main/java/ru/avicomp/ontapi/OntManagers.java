@@ -15,6 +15,7 @@
 package ru.avicomp.ontapi;
 
 import com.google.common.collect.LinkedListMultimap;
+import org.apache.jena.graph.Graph;
 import org.semanticweb.owlapi.io.OWLParserFactory;
 import org.semanticweb.owlapi.model.*;
 import ru.avicomp.ontapi.jena.OntModelFactory;
@@ -110,6 +111,58 @@ public class OntManagers implements OWLOntologyManagerFactory {
         return DEFAULT_PROFILE.create(true);
     }
 
+    /**
+     * Creates a ready to use ONT-API ontology manager with a default configuration
+     * and per-ontology locking (lock striping) to work in a concurrent environment.
+     * Like {@link #createConcurrentONT()}, the returned manager and its ontologies are thread-safe,
+     * but each ontology is guarded by its own R/W lock (which also covers its imports closure),
+     * so that axioms can be read from and written to different ontologies simultaneously.
+     * Structural changes (loading, removing, changing ontology IDs or imports) are still serialized.
+     *
+     * @return {@link OntologyManager} a fresh ONT-API manager instance with concurrency
+     * @see StripedReadWriteLock
+     * @since 1.4.3
+     */
+    public static OntologyManager createStripedConcurrentONT() {
+        return DEFAULT_PROFILE.create(new StripedReadWriteLock());
+    }
+
+    /**
+     * Creates a ready to use ONT-API ontology manager with a default configuration
+     * and locking to work in a concurrent environment,
+     * which allows optimistic (lock-free) reads for simple point queries,
+     * such as {@link OntologyModel#containsAxiom(OWLAxiom)} or {@link OntologyModel#getAxiomCount()}.
+     * An optimistic read is performed without acquiring the read lock and is accepted if there was no write meanwhile,
+     * otherwise it is repeated in the ordinary read-locked section.
+     * This may be useful in a read-mostly environment with many reader threads.
+     * To make such reads safe, the content caches of the ontologies are always backed by concurrent maps;
+     * a point query, whose cache is not loaded yet, is performed under the read lock.
+     *
+     * @return {@link OntologyManager} a fresh ONT-API manager instance with concurrency
+     * @see StampedReadWriteLock
+     * @since 1.4.3
+     */
+    public static OntologyManager createOptimisticConcurrentONT() {
+        return DEFAULT_PROFILE.create(new StampedReadWriteLock());
+    }
+
+    /**
+     * Creates a ready to use ONT-API ontology manager with a default configuration,
+     * whose ontologies are backed by {@link ru.avicomp.ontapi.jena.CompactGraph compact graphs}
+     * instead of the default {@link org.apache.jena.mem.GraphMem}.
+     * Such a graph keeps triples as dictionary-encoded primitive arrays,
+     * so the memory footprint is several times less, which may be useful for very big ontologies,
+     * while the write operations become a bit slower.
+     * The returned manager is not thread-safe.
+     *
+     * @return {@link OntologyManager} a fresh ONT-API manager instance
+     * @see OntModelFactory#createCompactGraph()
+     * @since 1.4.3
+     */
+    public static OntologyManager createCompactONT() {
+        return new CompactONTAPIProfile().create(false);
+    }
+
     /**
      * Creates an original OWL-API (i.e. pure native impl) ontology manager instance with a default configuration.
      * Notes:
@@ -201,7 +254,18 @@ public class OntManagers implements OWLOntologyManagerFactory {
 
         @Override
         public OntologyManager create(boolean concurrent) {
-            ReadWriteLock lock = concurrent ? new ReentrantReadWriteLock() : NoOpReadWriteLock.NO_OP_RW_LOCK;
+            return create(concurrent ? new ReentrantReadWriteLock() : NoOpReadWriteLock.NO_OP_RW_LOCK);
+        }
+
+        /**
+         * Creates a fresh ONT-API manager with the default configuration, all OWL-API storers and parsers
+         * and the given R/W lock.
+         *
+         * @param lock {@link ReadWriteLock} or {@code null} for non-concurrent instance
+         * @return {@link OntologyManager}
+         * @since 1.4.3
+         */
+        public OntologyManager create(ReadWriteLock lock) {
             Set<OWLStorerFactory> storers = OWLLangRegistry.storerFactories().collect(Collectors.toSet());
             Set<OWLParserFactory> parsers = OWLLangRegistry.parserFactories().collect(Collectors.toSet());
             OntologyManager res = createManager(dataFactory(), lock);
@@ -300,6 +364,24 @@ public class OntManagers implements OWLOntologyManagerFactory {
         }
     }
 
+    /**
+     * An ONT-API {@link Profile} that produces ontologies backed by {@link ru.avicomp.ontapi.jena.CompactGraph}s.
+     *
+     * @since 1.4.3
+     */
+    public static class CompactONTAPIProfile extends ONTAPIProfile {
+
+        @Override
+        public OntologyFactory.Builder createOntologyBuilder() {
+            return new OntologyBuilderImpl() {
+                @Override
+                public Graph createGraph() {
+                    return OntModelFactory.createCompactGraph();
+                }
+            };
+        }
+    }
+
     /**
      * Creates a {@link Profile profile} to retrieve
      * <a href='https://github.com/owlcs/owlapi/blob/version5/impl/src/main/java/uk/ac/manchester/cs/owl/owlapi/OWLOntologyManagerImpl.java'>manager</a>
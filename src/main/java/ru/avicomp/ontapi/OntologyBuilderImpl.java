@@ -85,6 +85,9 @@ public class OntologyBuilderImpl implements OntologyFactory.Builder {
      */
     protected OntologyModel withLock(OntologyModelImpl ont, ReadWriteLock lock) {
         if (!NoOpReadWriteLock.isConcurrent(lock)) return ont;
+        if (lock instanceof StripedReadWriteLock) {
+            return new OntologyModelImpl.Concurrent(ont, ((StripedReadWriteLock) lock).createOntologyLock(ont));
+        }
         return new OntologyModelImpl.Concurrent(ont, lock);
     }
 
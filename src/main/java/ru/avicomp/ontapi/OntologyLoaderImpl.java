@@ -36,6 +36,10 @@ import ru.avicomp.ontapi.transforms.TransformException;
 import javax.annotation.Nonnull;
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -69,6 +73,7 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
     protected Map<String, GraphInfo> graphs = new LinkedHashMap<>();
     protected Map<IRI, Optional<IRI>> sourceMap = new HashMap<>();
     protected Map<IRI, GraphInfo> loaded = new HashMap<>();
+    protected Map<String, GraphInfo> prefetched = new HashMap<>();
 
     /**
      * Creates a default {@code Loader} instance.
@@ -116,6 +121,9 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
             // null key in case of anonymous ontology.
             // But: only one anonymous is allowed (as root of imports tree), if there is no mapping in manager.
             graphs.put(primary.getURI(), primary);
+            if (config.isProcessImports() && config.getImportsLoadThreads() > 1) {
+                fetchImports(primary, builder, manager, config);
+            }
             // first expand graphs map by creating primary model:
             OntologyModel res = OntApiException.notNull(createModel(primary, builder, manager, config), "Should never happen");
             // then process all the rest dependent models
@@ -142,6 +150,7 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
         graphs.clear();
         sourceMap.clear();
         loaded.clear();
+        prefetched.clear();
     }
 
     /**
@@ -221,6 +230,9 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
 
         if (!isPrimary || info.noTransforms() || !config.isPerformTransformation()) {
             // no transformations needed
+            if (isPrimary && config.isDetectDisjointGraphs()) {
+                markDisjoint(graph);
+            }
             return graph;
         }
         // process transformations
@@ -252,9 +264,32 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
                     }
                     g.setStats(s);
                 });
+        if (config.isDetectDisjointGraphs()) {
+            markDisjoint(graph);
+        }
         return graph;
     }
 
+    /**
+     * Checks whether the base graphs of the assembled imports closure are pairwise disjoint
+     * (which is a common case), and, if so, declares it,
+     * so that the iteration over the whole union does not require the duplicates checking.
+     * Since the base graphs of any union sub-graph are a part of the same closure,
+     * the flag is set for all of them without additional checking.
+     * The check itself requires constant memory, see {@link UnionGraph#detectDisjoint()}.
+     * It is performed only for the root of the loaded hierarchy
+     * and only if {@link OntLoaderConfiguration#isDetectDisjointGraphs()} is enabled.
+     *
+     * @param graph {@link UnionGraph}, the root of the assembled hierarchy
+     * @since 1.4.3
+     */
+    protected void markDisjoint(UnionGraph graph) {
+        if (graph.getUnderlying().isEmpty() || !graph.isDistinct() || !graph.detectDisjoint()) {
+            return;
+        }
+        graph.listUnionGraphs().filterDrop(x -> x.getUnderlying().isEmpty()).forEachRemaining(x -> x.setDisjoint(true));
+    }
+
     /**
      * Assembles the {@link UnionGraph} from the inner collection ({@link #graphs}).
      * Note: this collection can be modified by this method.
@@ -331,6 +366,8 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
             // graphs#computeIfAbsent:
             GraphInfo info = graphs.get(uri);
             try {
+                if (info == null)
+                    info = prefetched.remove(uri);
                 if (info == null)
                     info = fetchGraph(uri, builder, manager, config);
                 graphs.put(uri, info);
@@ -394,13 +431,163 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
         if (res != null) {
             return toGraphInfo(res, null);
         }
-        // Document Source Mappers:
-        OWLOntologyDocumentSource source = manager.getDocumentSourceMappers().stream()
+        return loadGraph(documentSource(manager, ontologyIRI, documentIRI), builder, manager, config);
+    }
+
+    /**
+     * Finds a document source for the given ontology IRI using the manager's document source mappers.
+     *
+     * @param manager     {@link OntologyManager}
+     * @param ontologyIRI {@link IRI} the ontology IRI
+     * @param documentIRI {@link IRI} the document IRI, that is used if there is no suitable mapper
+     * @return {@link OWLOntologyDocumentSource}
+     * @since 1.4.3
+     */
+    protected OWLOntologyDocumentSource documentSource(OntologyManager manager, IRI ontologyIRI, IRI documentIRI) {
+        return manager.getDocumentSourceMappers().stream()
                 .map(f -> f.map(ontologyIRI))
                 .filter(Objects::nonNull)
                 .findFirst()
                 .orElse(new IRIDocumentSource(documentIRI));
-        return loadGraph(source, builder, manager, config);
+    }
+
+    /**
+     * Discovers the imports closure of the given (root) graph level by level (i.e. breadth-first)
+     * and parses the independent import documents concurrently,
+     * using a bounded executor with the {@link OntLoaderConfiguration#getImportsLoadThreads()} threads.
+     * The results are stored in the {@link #prefetched} map,
+     * which is used then by the {@link #processImports(GraphInfo, Collection, OntologyCreator, OntologyManager,
+     * OntLoaderConfiguration) imports processing} instead of the sequential fetching.
+     * Since the assembling of the {@link UnionGraph}s is still performed sequentially in the sorted order,
+     * the result does not depend on the order in which the documents have been parsed.
+     * Only the documents that are going to be read by Apache Jena are prefetched;
+     * the imports that refer to existing ontologies or to graph document sources,
+     * and the imports that cannot be read by Jena for some reason are left for the sequential processing,
+     * which is also responsible for the error handling.
+     *
+     * @param root    {@link GraphInfo} the root graph
+     * @param builder {@link OntologyCreator} to construct a fresh {@link Graph} instances
+     * @param manager {@link OntologyManager}
+     * @param config  {@link OntLoaderConfiguration}
+     * @since 1.4.3
+     */
+    protected void fetchImports(GraphInfo root,
+                                OntologyCreator builder,
+                                OntologyManager manager,
+                                OntLoaderConfiguration config) {
+        ExecutorService executor = Executors.newFixedThreadPool(config.getImportsLoadThreads(), r -> {
+            Thread res = new Thread(r, "ont-api-imports-loader");
+            res.setDaemon(true);
+            return res;
+        });
+        try {
+            Set<String> seen = new HashSet<>(graphs.keySet());
+            List<GraphInfo> level = Collections.singletonList(root);
+            while (!level.isEmpty()) {
+                Map<String, Future<GraphInfo>> tasks = new LinkedHashMap<>();
+                for (GraphInfo info : level) {
+                    for (String uri : new TreeSet<>(info.getImports())) {
+                        if (!seen.add(uri) || config.isIgnoredImport(IRI.create(uri))) {
+                            continue;
+                        }
+                        OWLOntologyDocumentSource source = prefetchSource(uri, manager);
+                        if (source == null) {
+                            continue;
+                        }
+                        IRI doc = source.getDocumentIRI();
+                        OWLOntologyDocumentSource src = mapSource(manager, source);
+                        tasks.put(uri, executor.submit(() -> readGraph(src, doc, builder, config)));
+                    }
+                }
+                List<GraphInfo> next = new ArrayList<>();
+                for (Map.Entry<String, Future<GraphInfo>> e : tasks.entrySet()) {
+                    GraphInfo info;
+                    try {
+                        info = e.getValue().get();
+                    } catch (ExecutionException ex) {
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debug("Can't prefetch <{}>: '{}'. It will be processed sequentially.",
+                                    e.getKey(), ex.getCause().getMessage());
+                        }
+                        continue;
+                    }
+                    prefetched.put(e.getKey(), info);
+                    next.add(info);
+                }
+                level = next;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OntApiException("Interrupted while loading imports of " + root.name(), e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Resolves a document source for the given import uri,
+     * repeating the {@link #fetchGraph(String, OntologyCreator, OntologyManager, OntLoaderConfiguration)}
+     * and {@link #loadGraph(OWLOntologyDocumentSource, OntologyCreator, OntologyManager, OntLoaderConfiguration)}
+     * steps that precede the reading.
+     * Note: the IRI mapping results are cached in the {@link #sourceMap},
+     * so the subsequent sequential processing does not call the manager's IRI mappers again.
+     *
+     * @param uri     String, the ontology uri
+     * @param manager {@link OntologyManager}
+     * @return {@link OWLOntologyDocumentSource} to read by Jena (before the document IRI mapping),
+     * or {@code null} if the import cannot be prefetched
+     * @since 1.4.3
+     */
+    protected OWLOntologyDocumentSource prefetchSource(String uri, OntologyManager manager) {
+        IRI ontologyIRI = IRI.create(uri);
+        if (findModel(manager, ontologyIRI) != null) {
+            return null;
+        }
+        IRI documentIRI = documentIRI(manager, ontologyIRI).orElse(ontologyIRI);
+        if (findModel(manager, documentIRI) != null) {
+            return null;
+        }
+        OWLOntologyDocumentSource source = documentSource(manager, ontologyIRI, documentIRI);
+        if (source instanceof OntGraphDocumentSource || loaded.containsKey(source.getDocumentIRI())) {
+            return null;
+        }
+        return source;
+    }
+
+    /**
+     * Maps the given document source using the manager's IRI mappers.
+     *
+     * @param manager {@link OntologyManager}
+     * @param source  {@link OWLOntologyDocumentSource}
+     * @return {@link OWLOntologyDocumentSource}, either a new one or the same
+     * @since 1.4.3
+     */
+    protected OWLOntologyDocumentSource mapSource(OntologyManager manager, OWLOntologyDocumentSource source) {
+        return documentIRI(manager, source.getDocumentIRI())
+                .map(IRIDocumentSource::new)
+                .map(OWLOntologyDocumentSource.class::cast)
+                .orElse(source);
+    }
+
+    /**
+     * Reads the graph from the given document source using Apache Jena.
+     *
+     * @param source  {@link OWLOntologyDocumentSource} the document source, with already mapped document IRI
+     * @param doc     {@link IRI} the original document IRI
+     * @param builder {@link OntologyCreator} to construct a fresh {@link Graph} instance
+     * @param config  {@link OntLoaderConfiguration}
+     * @return {@link GraphInfo graph-info} a wrapper around jena {@link Graph}
+     * @throws OntologyFactoryImpl.UnsupportedFormatException if the format is not supported by Jena
+     * @throws OWLOntologyCreationException                  if reading is not possible
+     * @since 1.4.3
+     */
+    protected GraphInfo readGraph(OWLOntologyDocumentSource source,
+                                  IRI doc,
+                                  OntologyCreator builder,
+                                  OntLoaderConfiguration config) throws OWLOntologyCreationException {
+        Graph graph = builder.createGraph();
+        OntFormat format = OntGraphUtils.readGraph(graph, source, config);
+        return createGraphInfo(graph, format, doc, true);
     }
 
     /**
@@ -518,15 +705,10 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
             return loaded.get(source.getDocumentIRI());
         }
         IRI doc = source.getDocumentIRI();
-        OWLOntologyDocumentSource src = documentIRI(manager, doc)
-                .map(IRIDocumentSource::new)
-                .map(OWLOntologyDocumentSource.class::cast)
-                .orElse(source);
+        OWLOntologyDocumentSource src = mapSource(manager, source);
         try {
             // jena:
-            Graph graph = builder.createGraph();
-            OntFormat format = OntGraphUtils.readGraph(graph, src, config);
-            GraphInfo res = createGraphInfo(graph, format, doc, true);
+            GraphInfo res = readGraph(src, doc, builder, config);
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Graph <{}> is loaded by jena. Source: {}[{}]. Format: {}",
                         res.name(), source.getClass().getSimpleName(), res.getSource(), res.getFormat());
@@ -17,17 +17,22 @@ package ru.avicomp.ontapi;
 import org.apache.jena.graph.Graph;
 import org.semanticweb.owlapi.io.*;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
 import org.semanticweb.owlapi.model.parameters.OntologyCopy;
+import ru.avicomp.ontapi.config.BulkOptions;
 import ru.avicomp.ontapi.config.OntConfig;
 import ru.avicomp.ontapi.config.OntLoaderConfiguration;
 import ru.avicomp.ontapi.config.OntWriterConfiguration;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
+import ru.avicomp.ontapi.jena.utils.GraphSnapshot;
 
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
-import java.io.File;
-import java.io.InputStream;
-import java.io.Serializable;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -51,6 +56,8 @@ import java.util.stream.Stream;
  * <li>{@code removeDocumentSourceMapper(mapping)} - since 1.0.1, now deprecated</li>
  * <li>{@code documentSourceMappers()} - since 1.0.1, now deprecated</li>
  * <li>{@link #getDocumentSourceMappers()} - since 1.3.0</li>
+ * <li>{@link #saveSnapshot(OutputStream)}, {@link #saveSnapshot(Path)} - since 1.4.3</li>
+ * <li>{@link #restoreSnapshot(ByteBuffer)}, {@link #restoreSnapshot(Path)} - since 1.4.3</li>
  * </ul>
  * <p>
  * Created by szuev on 24.10.2016.
@@ -615,6 +622,91 @@ public interface OntologyManager extends OWLOntologyManager {
         return addOntology(graph, getOntologyLoaderConfiguration().setPerformTransformation(false));
     }
 
+    /**
+     * Adds the axioms to the specified ontology in the bulk mode.
+     * This is a new (ONT-API) method.
+     * Unlike the method {@link #addAxioms(OWLOntology, Stream)},
+     * an ONT-API implementation writes all triples first,
+     * and invalidates the derived caches only once at the end instead of after each axiom,
+     * the change events are emitted in aggregate.
+     * By default, the method just delegates to the standard {@link #addAxioms(OWLOntology, Stream)}.
+     *
+     * @param ontology {@link OWLOntology} the ontology to which the axioms should be added
+     * @param axioms   {@code Stream} of {@link OWLAxiom}s to be added
+     * @param options  {@link BulkOptions} to control the process
+     * @return {@link ChangeApplied#SUCCESSFULLY} if at least one axiom has been added,
+     * {@link ChangeApplied#NO_OPERATION} if all axioms are already present
+     * or {@link ChangeApplied#UNSUCCESSFULLY} if the change cannot be applied
+     * @since 1.4.3
+     */
+    default ChangeApplied addAxioms(OWLOntology ontology, Stream<? extends OWLAxiom> axioms, BulkOptions options) {
+        return addAxioms(ontology, axioms);
+    }
+
+    /**
+     * Writes all the ontologies of this manager into the given stream in a compact binary form,
+     * which can be restored later by the method {@link #restoreSnapshot(ByteBuffer)}.
+     * This is a new (ONT-API) method.
+     *
+     * @param out {@link OutputStream}, not closed after writing
+     * @throws IOException if an I/O error occurs
+     * @see ManagerSnapshot
+     * @since 1.4.3
+     */
+    default void saveSnapshot(OutputStream out) throws IOException {
+        ManagerSnapshot.write(this, out);
+    }
+
+    /**
+     * Writes all the ontologies of this manager into the given file in a compact binary form.
+     * This is a new (ONT-API) method.
+     *
+     * @param file {@link Path}, the file is overwritten
+     * @throws IOException if an I/O error occurs
+     * @see #saveSnapshot(OutputStream)
+     * @since 1.4.3
+     */
+    default void saveSnapshot(Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            saveSnapshot(out);
+        }
+    }
+
+    /**
+     * Puts all the ontologies from the snapshot into this manager.
+     * The ontologies are restored with the manager's loader configuration,
+     * but without graph transformations and with silent handling of the imports that are missing in the snapshot,
+     * their document IRIs and formats are restored as well.
+     * The manager must not contain ontologies with the same ids.
+     * This is a new (ONT-API) method.
+     *
+     * @param buffer {@link ByteBuffer} with the data written by the method {@link #saveSnapshot(OutputStream)}
+     * @return List of restored {@link OntologyModel}s
+     * @throws IOException     if the data is not a valid snapshot
+     * @throws OntApiException if some ontology cannot be put into the manager
+     * @see ManagerSnapshot
+     * @since 1.4.3
+     */
+    default List<OntologyModel> restoreSnapshot(ByteBuffer buffer) throws IOException {
+        return ManagerSnapshot.read(this, buffer, ManagerSnapshot.createLoaderConfiguration(this));
+    }
+
+    /**
+     * Puts all the ontologies from the snapshot file into this manager.
+     * The file is memory-mapped.
+     * This is a new (ONT-API) method.
+     *
+     * @param file {@link Path} to the file written by the method {@link #saveSnapshot(Path)}
+     * @return List of restored {@link OntologyModel}s
+     * @throws IOException     if an I/O error occurs or the file is not a valid snapshot
+     * @throws OntApiException if some ontology cannot be put into the manager
+     * @see #restoreSnapshot(ByteBuffer)
+     * @since 1.4.3
+     */
+    default List<OntologyModel> restoreSnapshot(Path file) throws IOException {
+        return restoreSnapshot(GraphSnapshot.map(file));
+    }
+
     /**
      * Creates a new (empty) ontology that does not have an ontology IRI
      * (and therefore does not have a version IRI).
@@ -28,9 +28,11 @@ import org.semanticweb.owlapi.model.parameters.Imports;
 import org.semanticweb.owlapi.model.parameters.OntologyCopy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.avicomp.ontapi.config.BulkOptions;
 import ru.avicomp.ontapi.config.OntConfig;
 import ru.avicomp.ontapi.config.OntLoaderConfiguration;
 import ru.avicomp.ontapi.config.OntWriterConfiguration;
+import ru.avicomp.ontapi.internal.CacheBudget;
 import ru.avicomp.ontapi.internal.InternalCache;
 import ru.avicomp.ontapi.internal.InternalConfig;
 import ru.avicomp.ontapi.internal.InternalModel;
@@ -42,23 +44,28 @@ import ru.avicomp.ontapi.jena.utils.OntModels;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 
 /**
@@ -75,6 +82,7 @@ public class OntologyManagerImpl implements OntologyManager,
         Serializable {
     private static final Logger LOGGER = LoggerFactory.getLogger(OntologyManagerImpl.class);
     private static final long serialVersionUID = -4764329329583952286L;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
     // listeners:
     protected final ListenersHolder listeners = new ListenersHolder();
     // configs:
@@ -83,6 +91,12 @@ public class OntologyManagerImpl implements OntologyManager,
     protected OntWriterConfiguration writerConfig;
     // Loading Cache for IRIs, that is shared between ontologies that belong to this manager.
     protected transient InternalCache.Loading<String, IRI> iris;
+    // Memory budget for the entities and nodes caches of all ontologies, possibly null (since 1.4.3).
+    protected transient CacheBudget cacheBudget;
+    // Executor to apply independent changes concurrently, created on demand (since 1.4.3).
+    protected transient ThreadPoolExecutor changesExecutor;
+    // Executor to load the content caches in parallel, null means the common pool (since 1.4.3).
+    protected transient volatile Executor loadExecutor;
     // OntologyFactory collection:
     protected final RWLockedCollection<OWLOntologyFactory> ontologyFactories;
     // IRI mappers
@@ -145,6 +159,7 @@ public class OntologyManagerImpl implements OntologyManager,
         this.config = OntConfig.createConfig(this.lock);
         this.content = new OntologyCollectionImpl<>(this.lock);
         this.iris = createIRICache();
+        this.cacheBudget = createCacheBudget();
     }
 
     @Override
@@ -167,6 +182,85 @@ public class OntologyManagerImpl implements OntologyManager,
         return InternalCache.createBounded(IRI::create, NoOpReadWriteLock.isConcurrent(lock), size);
     }
 
+    /**
+     * Creates a fresh {@link CacheBudget} instance depending on this manager settings.
+     *
+     * @return {@link CacheBudget} or {@code null} if the budget is disabled
+     * (i.e. {@link OntConfig#getManagerCacheBudget()} is not positive)
+     * @since 1.4.3
+     */
+    protected CacheBudget createCacheBudget() {
+        long size = this.config.getManagerCacheBudget();
+        return size > 0 ? new CacheBudget(size) : null;
+    }
+
+    /**
+     * Returns the executor to apply groups of independent changes concurrently,
+     * creating it on the first demand.
+     * The executor is owned by this manager and is reused between {@code applyChanges} calls;
+     * its pool size follows the {@link OntConfig#getManagerChangeThreads()} setting.
+     * The threads are daemons and terminate after a minute of inactivity,
+     * so an idle manager holds no threads and needs no explicit shutdown.
+     *
+     * @param threads int, the number of threads, positive
+     * @return {@link ExecutorService}
+     * @since 1.4.3
+     */
+    protected synchronized ExecutorService getChangesExecutor(int threads) {
+        ThreadPoolExecutor res = changesExecutor;
+        if (res == null) {
+            res = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread t = new Thread(r, "ont-api-changes-applier");
+                t.setDaemon(true);
+                return t;
+            });
+            res.allowCoreThreadTimeOut(true);
+            return changesExecutor = res;
+        }
+        if (threads > res.getMaximumPoolSize()) {
+            res.setMaximumPoolSize(threads);
+            res.setCorePoolSize(threads);
+        } else if (threads < res.getMaximumPoolSize()) {
+            res.setCorePoolSize(threads);
+            res.setMaximumPoolSize(threads);
+        }
+        return res;
+    }
+
+    /**
+     * Returns the executor, that is used to load the content caches of the ontologies in parallel
+     * (see {@link ru.avicomp.ontapi.config.CacheSettings#useParallelLoadCache()}).
+     *
+     * @return {@link Executor}, not {@code null}, the {@link ForkJoinPool#commonPool() common pool} by default
+     * @since 1.4.3
+     */
+    public Executor getLoadExecutor() {
+        Executor res = loadExecutor;
+        return res == null ? ForkJoinPool.commonPool() : res;
+    }
+
+    /**
+     * Sets the executor to load the content caches of the ontologies in parallel.
+     * The executor is not owned by the manager: it is never shut down by it and is not serialized.
+     *
+     * @param executor {@link Executor} or {@code null} to use the {@link ForkJoinPool#commonPool() common pool}
+     * @since 1.4.3
+     */
+    public void setLoadExecutor(Executor executor) {
+        this.loadExecutor = executor;
+    }
+
+    /**
+     * Returns the memory budget, that is shared between the entities and nodes caches of all ontologies.
+     * Can be used to monitor the caches.
+     *
+     * @return {@link CacheBudget} or {@code null} if the caches are bounded by the number of entries
+     * @since 1.4.3
+     */
+    public CacheBudget getCacheBudget() {
+        return cacheBudget;
+    }
+
     /**
      * Answers {@code true} if this manager must be thread-safe.
      *
@@ -220,11 +314,16 @@ public class OntologyManagerImpl implements OntologyManager,
             // just copying all settings is not suitable in this case.
             // This fact greatly and unnecessarily complicates the matter
             int size = this.config.getManagerIRIsCacheSize();
+            long budget = this.config.getManagerCacheBudget();
             this.config = OntConfig.withLock(getAdapter().asONT(conf), lock);
             if (size != this.config.getManagerIRIsCacheSize()) {
                 // reset cache:
                 this.iris = createIRICache();
             }
+            if (budget != this.config.getManagerCacheBudget()) {
+                // the existing ontologies keep the previous budget until their caches are reset
+                this.cacheBudget = createCacheBudget();
+            }
         } finally {
             getLock().writeLock().unlock();
         }
@@ -651,6 +750,37 @@ public class OntologyManagerImpl implements OntologyManager,
         }
     }
 
+    /**
+     * @param out {@link OutputStream}
+     * @throws IOException if an I/O error occurs
+     * @since 1.4.3
+     */
+    @Override
+    public void saveSnapshot(@Nonnull OutputStream out) throws IOException {
+        getLock().readLock().lock();
+        try {
+            ManagerSnapshot.write(this, out);
+        } finally {
+            getLock().readLock().unlock();
+        }
+    }
+
+    /**
+     * @param buffer {@link ByteBuffer}
+     * @return List of {@link OntologyModel}s
+     * @throws IOException if the data is wrong
+     * @since 1.4.3
+     */
+    @Override
+    public List<OntologyModel> restoreSnapshot(@Nonnull ByteBuffer buffer) throws IOException {
+        getLock().writeLock().lock();
+        try {
+            return ManagerSnapshot.read(this, buffer, ManagerSnapshot.createLoaderConfiguration(this));
+        } finally {
+            getLock().writeLock().unlock();
+        }
+    }
+
     /**
      * Answers if the given Graph ids are matching.
      *
@@ -842,9 +972,26 @@ public class OntologyManagerImpl implements OntologyManager,
      * @return true if the manager has the ontology
      */
     protected boolean hasOntology(OWLOntology ontology) {
+        // first check the identity, that does not require any ontology lock:
+        if (content.values().map(OntInfo::get).anyMatch(o -> isSame(o, ontology))) {
+            return true;
+        }
         return content.values().map(OntInfo::get).anyMatch(o -> o.equals(ontology));
     }
 
+    /**
+     * Answers {@code true} if the given ontology is the specified manager's ontology or its delegate.
+     *
+     * @param ont   {@link OntologyModel} from the manager
+     * @param other {@link OWLOntology} to test
+     * @return boolean
+     * @since 1.4.3
+     */
+    protected static boolean isSame(OntologyModel ont, OWLOntology other) {
+        return ont == other || ont instanceof OntologyModelImpl.Concurrent
+                && ((OntologyModelImpl.Concurrent) ont).delegate() == other;
+    }
+
     /**
      * @param iri {@link IRI}
      * @return boolean
@@ -879,12 +1026,24 @@ public class OntologyManagerImpl implements OntologyManager,
     public void removeOntology(@Nonnull OWLOntologyID id) {
         getLock().writeLock().lock();
         try {
-            content.remove(id).map(OntInfo::getModelConfig).ifPresent(x -> x.setManager(null));
+            content.remove(id).ifPresent(this::detach);
         } finally {
             getLock().writeLock().unlock();
         }
     }
 
+    /**
+     * Detaches the ontology, that has been removed from this manager,
+     * and releases all the manager's resources it holds (i.e. the entries of the {@link #cacheBudget}).
+     *
+     * @param info {@link OntInfo}, the container with the ontology, not {@code null}
+     * @since 1.4.3
+     */
+    protected void detach(OntInfo info) {
+        info.getModelConfig().setManager(null);
+        getAdapter().asBaseModel(info.get()).getBase().releaseCacheBudget();
+    }
+
     /**
      * Clears all ontologies, listeners and maps from the manager. Leave injected factories, storers and parsers.
      */
@@ -893,7 +1052,7 @@ public class OntologyManagerImpl implements OntologyManager,
         getLock().writeLock().lock();
         try {
             listeners.clear();
-            content.values().map(OntInfo::getModelConfig).forEach(x -> x.setManager(null));
+            content.values().forEach(this::detach);
             content.clear();
         } finally {
             getLock().writeLock().unlock();
@@ -1217,7 +1376,8 @@ public class OntologyManagerImpl implements OntologyManager,
      */
     @Override
     public ChangeDetails applyChangesAndGetDetails(@Nonnull List<? extends OWLOntologyChange> changes) {
-        getLock().writeLock().lock();
+        Lock lock = getChangesLock(changes);
+        lock.lock();
         try {
             listeners.broadcastImpendingChanges(changes);
             AtomicBoolean rollbackRequested = new AtomicBoolean(false);
@@ -1226,13 +1386,21 @@ public class OntologyManagerImpl implements OntologyManager,
             // will be reverted in case of a rollback
             List<OWLOntologyChange> appliedChanges = new ArrayList<>();
             listeners.fireBeginChanges(changes.size());
-            actuallyApply(changes, rollbackRequested, allNoOps, appliedChanges);
+            List<List<Integer>> groups = groupChanges(changes);
+            List<List<OWLOntologyChange>> broadcasts;
+            if (groups.size() > 1) {
+                broadcasts = actuallyApply(changes, groups, rollbackRequested, allNoOps, appliedChanges);
+            } else {
+                actuallyApply(changes, rollbackRequested, allNoOps, appliedChanges);
+                broadcasts = Collections.singletonList(appliedChanges);
+            }
             if (rollbackRequested.get()) {
                 rollBack(appliedChanges);
                 appliedChanges.clear();
+                broadcasts = Collections.singletonList(appliedChanges);
             }
             listeners.fireEndChanges();
-            listeners.broadcastChanges(appliedChanges);
+            broadcasts.forEach(listeners::broadcastChanges);
             if (rollbackRequested.get()) {
                 return new ChangeDetails(ChangeApplied.UNSUCCESSFULLY, appliedChanges);
             }
@@ -1245,10 +1413,193 @@ public class OntologyManagerImpl implements OntologyManager,
             listeners.broadcastOntologyChangesVetoed(changes, e);
             return new ChangeDetails(ChangeApplied.UNSUCCESSFULLY, Collections.emptyList());
         } finally {
-            getLock().writeLock().unlock();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the axioms to the ontology in the bulk mode.
+     * All triples are written first, the derived caches are invalidated only once,
+     * and the listeners (if it is allowed by the {@code options}) are notified in aggregate:
+     * the impending-change listeners receive the whole list of {@link AddAxiom} changes before the application
+     * (and can veto it), the change listeners receive the list of actually applied changes after.
+     * If some axiom is not applicable (see {@link #isChangeApplicable(OWLOntologyChange)}),
+     * nothing is added and the result is {@link ChangeApplied#UNSUCCESSFULLY}.
+     * If some axiom cannot be written into the graph, the partially applied batch is rolled back,
+     * no change is broadcast and the exception is rethrown.
+     * If the given ontology is not an ONT-API implementation,
+     * the method falls back to the standard axiom by axiom addition.
+     *
+     * @param ontology {@link OWLOntology} the ontology to which the axioms should be added
+     * @param axioms   {@code Stream} of {@link OWLAxiom}s to be added
+     * @param options  {@link BulkOptions} to control the process
+     * @return {@link ChangeApplied}
+     * @since 1.4.3
+     */
+    @Override
+    public ChangeApplied addAxioms(@Nonnull OWLOntology ontology,
+                                   @Nonnull Stream<? extends OWLAxiom> axioms,
+                                   @Nonnull BulkOptions options) {
+        OntologyModelImpl impl = asModelImpl(ontology);
+        if (impl == null) {
+            return addAxioms(ontology, axioms);
+        }
+        List<AddAxiom> changes = axioms.map(a -> new AddAxiom(ontology, a)).collect(Collectors.toList());
+        if (changes.isEmpty()) {
+            return ChangeApplied.NO_OPERATION;
+        }
+        Lock lock = getChangesLock(changes);
+        lock.lock();
+        try {
+            if (!hasOntology(ontology)) {
+                throw new UnknownOWLOntologyException(ontology.getOntologyID());
+            }
+            if (options.isFireEvents()) {
+                listeners.broadcastImpendingChanges(changes);
+            }
+            if (!changes.stream().allMatch(this::isChangeApplicable)) {
+                return ChangeApplied.UNSUCCESSFULLY;
+            }
+            Set<OWLAxiom> added = new HashSet<>(impl.addAxiomsDirectly(changes.stream().map(AddAxiom::getAxiom),
+                    options));
+            // the same axiom can be met several times, but the change is applied only once:
+            List<OWLOntologyChange> applied = changes.stream()
+                    .filter(c -> added.remove(c.getAxiom())).collect(Collectors.toList());
+            if (options.isFireEvents()) {
+                listeners.fireBeginChanges(applied.size());
+                listeners.fireEndChanges();
+                listeners.broadcastChanges(applied);
+            }
+            return applied.isEmpty() ? ChangeApplied.NO_OPERATION : ChangeApplied.SUCCESSFULLY;
+        } catch (OWLOntologyChangeVetoException e) {
+            listeners.broadcastOntologyChangesVetoed(changes, e);
+            return ChangeApplied.UNSUCCESSFULLY;
+        } finally {
+            lock.unlock();
         }
     }
 
+    /**
+     * Returns the ONT-API ontology implementation without any lock,
+     * that is either the given ontology or the delegate of the given concurrent ontology.
+     *
+     * @param ont {@link OWLOntology}
+     * @return {@link OntologyModelImpl} or {@code null} if the ontology is not an ONT-API implementation
+     * @since 1.4.3
+     */
+    protected static OntologyModelImpl asModelImpl(OWLOntology ont) {
+        return ont instanceof OntologyModelImpl.Concurrent ?
+                ((OntologyModelImpl.Concurrent) ont).delegate() :
+                ont instanceof OntologyModelImpl ? (OntologyModelImpl) ont : null;
+    }
+
+    /**
+     * Splits the given changes into groups that can be applied independently of each other.
+     * Each group contains indexes of the changes related to a set of ontologies,
+     * which are connected through their imports closures.
+     * The grouping is performed only for a concurrent manager
+     * with more than one change thread (see {@link OntConfig#getManagerChangeThreads()}),
+     * and only if all the changes are axioms or annotations changes
+     * of mutable ontologies from this manager that can be applied.
+     * Otherwise, the empty list is returned, and the changes must be applied one by one in the calling thread.
+     *
+     * @param changes List of {@link OWLOntologyChange}s
+     * @return List of groups, each group is a List of indexes in the order of the original list
+     * @since 1.4.3
+     */
+    protected List<List<Integer>> groupChanges(List<? extends OWLOntologyChange> changes) {
+        if (changes.size() < 2 || !isConcurrent() || config.getManagerChangeThreads() < 2) {
+            return Collections.emptyList();
+        }
+        Map<OWLOntologyID, OWLOntologyID> roots = new HashMap<>();
+        for (OWLOntologyChange c : changes) {
+            if (c instanceof SetOntologyID || c.isImportChange()) {
+                return Collections.emptyList();
+            }
+            OWLOntology ont = c.getOntology();
+            if (asModelImpl(ont) == null || !hasOntology(ont) || !isChangeApplicable(c)) {
+                return Collections.emptyList();
+            }
+            OWLOntologyID id = ont.getOntologyID();
+            if (roots.containsKey(id)) {
+                continue;
+            }
+            roots.put(id, id);
+        }
+        // union-find: join each changed ontology with every changed ontology from its imports closure
+        for (OWLOntologyChange c : changes) {
+            OWLOntologyID id = c.getOntology().getOntologyID();
+            asModelImpl(c.getOntology()).importsClosure()
+                    .map(OWLOntology::getOntologyID)
+                    .filter(roots::containsKey)
+                    .forEach(x -> roots.put(findRoot(roots, x), findRoot(roots, id)));
+        }
+        Map<OWLOntologyID, List<Integer>> res = new LinkedHashMap<>();
+        for (int i = 0; i < changes.size(); i++) {
+            res.computeIfAbsent(findRoot(roots, changes.get(i).getOntology().getOntologyID()),
+                    x -> new ArrayList<>()).add(i);
+        }
+        return res.size() < 2 ? Collections.emptyList() : new ArrayList<>(res.values());
+    }
+
+    private static OWLOntologyID findRoot(Map<OWLOntologyID, OWLOntologyID> roots, OWLOntologyID id) {
+        OWLOntologyID res = id;
+        OWLOntologyID next;
+        while (!res.equals(next = roots.get(res))) {
+            res = next;
+        }
+        return res;
+    }
+
+    /**
+     * Returns a lock to guard the application of the given changes.
+     * It is the manager's write lock in common case.
+     * But in case of {@link StripedReadWriteLock} and if there are no structural changes (i.e. ID and imports changes)
+     * only the changed ontologies (and their imports closures) are locked, which allows modifying
+     * different ontologies concurrently.
+     *
+     * @param changes List of {@link OWLOntologyChange}s
+     * @return {@link Lock}
+     * @since 1.4.3
+     */
+    protected Lock getChangesLock(List<? extends OWLOntologyChange> changes) {
+        if (!(lock instanceof StripedReadWriteLock)) {
+            return lock.writeLock();
+        }
+        Set<StripedReadWriteLock.OntologyLock> res = new HashSet<>();
+        for (OWLOntologyChange c : changes) {
+            if (c instanceof SetOntologyID || c.isImportChange()) {
+                return lock.writeLock();
+            }
+            ReadWriteLock ontLock = getOntologyLock(c.getOntology());
+            if (!(ontLock instanceof StripedReadWriteLock.OntologyLock)
+                    || ((StripedReadWriteLock.OntologyLock) ontLock).getParent() != lock) {
+                return lock.writeLock();
+            }
+            res.add((StripedReadWriteLock.OntologyLock) ontLock);
+        }
+        return ((StripedReadWriteLock) lock).writeLock(res);
+    }
+
+    /**
+     * Finds the R/W lock of the given ontology.
+     * The ontology can be either a concurrent wrapper or its delegate.
+     *
+     * @param ont {@link OWLOntology}
+     * @return {@link ReadWriteLock} or {@code null}
+     * @since 1.4.3
+     */
+    protected ReadWriteLock getOntologyLock(OWLOntology ont) {
+        if (ont instanceof RWLockedOntology) {
+            return ((RWLockedOntology) ont).getLock();
+        }
+        // the change could be created by the delegate (i.e. by a not-locked ontology instance)
+        return content.values().map(OntInfo::get)
+                .filter(x -> x instanceof RWLockedOntology && isSame(x, ont))
+                .map(x -> ((RWLockedOntology) x).getLock())
+                .findFirst().orElse(null);
+    }
+
     /**
      * @param changes           List of {@link OWLOntologyChange}
      * @param rollbackRequested boolean
@@ -1277,6 +1628,112 @@ public class OntologyManagerImpl implements OntologyManager,
         }
     }
 
+    /**
+     * Applies the changes in parallel, group by group (see {@link #groupChanges(List)}).
+     * Each group is processed by a separate task on the manager's {@link #getChangesExecutor(int) executor},
+     * directly on the ontology implementations, without any lock,
+     * since the caller thread already holds the write locks of all the changed ontologies.
+     * Once some change fails, the other tasks stop as soon as possible.
+     * The listeners are notified in the calling thread after all tasks are done,
+     * in the order of the original list.
+     * If some task throws an exception, all the applied changes are rolled back and the exception is rethrown.
+     *
+     * @param changes           List of {@link OWLOntologyChange}
+     * @param groups            List of groups of changes indexes
+     * @param rollbackRequested boolean
+     * @param allNoOps          boolean
+     * @param appliedChanges    List of {@link OWLOntologyChange}
+     * @return List of applied changes per group to broadcast
+     * @since 1.4.3
+     */
+    protected List<List<OWLOntologyChange>> actuallyApply(List<? extends OWLOntologyChange> changes,
+                                                          List<List<Integer>> groups,
+                                                          AtomicBoolean rollbackRequested,
+                                                          AtomicBoolean allNoOps,
+                                                          List<OWLOntologyChange> appliedChanges) {
+        ChangeApplied[] results = new ChangeApplied[changes.size()];
+        // the manager settings must not be read from the worker threads, since the manager lock is held by the caller
+        Set<ModelConfig> pinned = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (OWLOntologyChange c : changes) {
+            ModelConfig conf = asModelImpl(c.getOntology()).getConfig();
+            if (conf.pinLoaderConf()) {
+                pinned.add(conf);
+            }
+        }
+        ExecutorService executor = getChangesExecutor(config.getManagerChangeThreads());
+        Throwable error = null;
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (List<Integer> group : groups) {
+                tasks.add(executor.submit(() -> {
+                    for (int i : group) {
+                        if (rollbackRequested.get()) {
+                            return;
+                        }
+                        OWLOntologyChange c = changes.get(i);
+                        ChangeApplied res;
+                        try {
+                            res = asModelImpl(c.getOntology()).applyDirectChange(c);
+                        } catch (RuntimeException e) {
+                            rollbackRequested.set(true);
+                            throw e;
+                        }
+                        results[i] = res;
+                        if (res == ChangeApplied.UNSUCCESSFULLY) {
+                            rollbackRequested.set(true);
+                        }
+                    }
+                }));
+            }
+            boolean interrupted = false;
+            for (Future<?> task : tasks) {
+                // the tasks must be completed anyway, otherwise the ontologies will be modified outside the lock
+                while (true) {
+                    try {
+                        task.get();
+                        break;
+                    } catch (ExecutionException e) {
+                        if (error == null) error = e.getCause();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                        rollbackRequested.set(true);
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            pinned.forEach(ModelConfig::unpinLoaderConf);
+        }
+        List<List<OWLOntologyChange>> res = new ArrayList<>();
+        for (List<Integer> group : groups) {
+            List<OWLOntologyChange> applied = new ArrayList<>();
+            group.stream().filter(i -> results[i] == ChangeApplied.SUCCESSFULLY).map(changes::get).forEach(applied::add);
+            res.add(applied);
+        }
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                continue;
+            }
+            OWLOntologyChange change = changes.get(i);
+            if (results[i] == ChangeApplied.SUCCESSFULLY) {
+                allNoOps.set(false);
+                appliedChanges.add(change);
+            }
+            listeners.fireChangeApplied(change);
+        }
+        if (error == null) {
+            return res;
+        }
+        rollBack(appliedChanges);
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        throw (Error) error;
+    }
+
     /**
      * @param appliedChanges List of {@link OWLOntologyChange}
      */
@@ -1715,6 +2172,12 @@ public class OntologyManagerImpl implements OntologyManager,
      * Although, this cannot be correct, the behavior is left as it is (again):
      * a proper solution (i.e. without any hacks like temporary format substitution in try-finally block)
      * is not possible, since these {@link OWLStorer}s are not part of ONT-API and OWL-API-api.
+     * <p>
+     * The formats supported by Jena are written through a buffered stream,
+     * which can be gzip-compressed (see {@link OntWriterConfiguration#isGzipCompression()}).
+     * If {@link OntWriterConfiguration#isStreamingWrite()} is enabled,
+     * N-Triples, N-Quads, RDF-Thrift and Turtle are written directly from the graph iteration,
+     * see {@link OntGraphUtils#writeStreaming(Graph, PrefixMapping, OntFormat, OutputStream)}.
      *
      * @param ontology {@link OWLOntology}, expected to be {@link OntologyModel} belonging to the manager
      * @param doc      {@link OWLDocumentFormat} format
@@ -1748,6 +2211,7 @@ public class OntologyManagerImpl implements OntologyManager,
             }
         }
         OutputStream os = null;
+        boolean close = false;
         if (target.getOutputStream().isPresent()) {
             os = target.getOutputStream().get();
         } else if (target.getDocumentIRI().isPresent()) {
@@ -1757,6 +2221,7 @@ public class OntologyManagerImpl implements OntologyManager,
             }
             try {
                 os = openStream(iri);
+                close = true;
             } catch (IOException e) {
                 throw new OWLOntologyStorageIOException(e);
             }
@@ -1766,22 +2231,51 @@ public class OntologyManagerImpl implements OntologyManager,
         if (os == null) {
             throw new OWLOntologyStorageException("Null output stream, format = " + doc);
         }
+        OntWriterConfiguration conf = getOntologyWriterConfiguration();
         Graph graph = ont.asGraphModel().getBaseGraph();
-        if (doc.isPrefixOWLDocumentFormat()) {
-            PrefixMapping pm = OntGraphUtils.prefixMapping(doc.asPrefixOWLDocumentFormat());
-            graph = new WrappedGraph(graph) {
-
-                @Override
-                public PrefixMapping getPrefixMapping() {
-                    return pm;
-                }
-            };
-        }
+        PrefixMapping pm = doc.isPrefixOWLDocumentFormat() ?
+                OntGraphUtils.prefixMapping(doc.asPrefixOWLDocumentFormat()) : graph.getPrefixMapping();
         try {
-            RDFDataMgr.write(os, graph, format.getLang());
+            OutputStream out = new BufferedOutputStream(os, WRITE_BUFFER_SIZE);
+            GZIPOutputStream gzip = conf.isGzipCompression() ? new GZIPOutputStream(out, WRITE_BUFFER_SIZE) : null;
+            if (gzip != null) {
+                out = gzip;
+            }
+            if (conf.isStreamingWrite() && OntGraphUtils.isStreamingSupported(format)) {
+                OntGraphUtils.writeStreaming(graph, pm, format, out);
+            } else {
+                RDFDataMgr.write(out, withPrefixes(graph, pm), format.getLang());
+            }
+            if (gzip != null) {
+                gzip.finish();
+            }
+            out.flush();
         } catch (JenaException e) {
             throw new OWLOntologyStorageException("Can't save " + ont.getOntologyID() + ". Format=" + format, e);
+        } catch (IOException e) {
+            throw new OWLOntologyStorageIOException(e);
+        } finally {
+            if (close) {
+                try {
+                    os.close();
+                } catch (IOException e) {
+                    LOGGER.warn("Can't close output stream for {}: '{}'", ont.getOntologyID(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static Graph withPrefixes(Graph graph, PrefixMapping pm) {
+        if (graph.getPrefixMapping() == pm) {
+            return graph;
         }
+        return new WrappedGraph(graph) {
+
+            @Override
+            public PrefixMapping getPrefixMapping() {
+                return pm;
+            }
+        };
     }
 
     private static OutputStream openStream(IRI iri) throws IOException {
@@ -1810,6 +2304,7 @@ public class OntologyManagerImpl implements OntologyManager,
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
         this.iris = createIRICache();
+        this.cacheBudget = createCacheBudget();
         this.content.values().forEach(info -> {
             ModelConfig conf = info.getModelConfig();
             BaseModel m = getAdapter().asBaseModel(info.get());
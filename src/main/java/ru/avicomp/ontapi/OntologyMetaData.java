@@ -19,7 +19,6 @@ import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Triple;
-import org.apache.jena.mem.GraphMem;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.vocabulary.RDFS;
@@ -169,7 +168,7 @@ public class OntologyMetaData implements OWLOntologyLoaderMetaData {
     }
 
     /**
-     * Loads triple count in lazy manner if the associated graph is {@link org.apache.jena.mem.GraphMem Memory Graph}.
+     * Loads triple count in lazy manner if the associated graph is an in-memory graph (see {@link Graphs#isMem(Graph)}).
      * Otherwise returns -1.
      * Lazy loading is in order to relieve performance on loading.
      * Anyway nobody uses this stupid interface.
@@ -182,7 +181,7 @@ public class OntologyMetaData implements OWLOntologyLoaderMetaData {
     }
 
     protected int calcTripleCount() {
-        return graph instanceof GraphMem ? graph.size() : -1;
+        return Graphs.isMem(graph) ? graph.size() : -1;
     }
 
     @Override
@@ -14,10 +14,15 @@
 
 package ru.avicomp.ontapi;
 
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
 import ru.avicomp.ontapi.config.AxiomsSettings;
+import ru.avicomp.ontapi.config.BulkOptions;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
 
+import java.util.stream.Stream;
+
 /**
  * A Structural Ontological Model, that is an extended {@link OWLOntology OWL-API Ontology}, and
  * represents an <a href="http://www.w3.org/TR/owl2-syntax/#Ontologies">Ontology</a> in the OWL2 specification.
@@ -80,4 +85,21 @@ public interface OntologyModel extends OWLOntology {
      */
     OntologyManager getOWLOntologyManager();
 
+    /**
+     * Adds the given axioms to this ontology in the bulk mode.
+     * All triples are written first, the content caches are updated along the way,
+     * while the derived caches are invalidated only once at the end;
+     * the manager's change listeners are notified in aggregate.
+     * This is much faster than adding axioms one by one, when there are a lot of them.
+     *
+     * @param axioms  {@code Stream} of {@link OWLAxiom}s to add, not {@code null}
+     * @param options {@link BulkOptions} to control the process, not {@code null}
+     * @return {@link ChangeApplied}
+     * @see OntologyManager#addAxioms(OWLOntology, Stream, BulkOptions)
+     * @since 1.4.3
+     */
+    default ChangeApplied addAxioms(Stream<? extends OWLAxiom> axioms, BulkOptions options) {
+        return getOWLOntologyManager().addAxioms(this, axioms, options);
+    }
+
 }
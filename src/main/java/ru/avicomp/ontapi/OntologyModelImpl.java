@@ -17,6 +17,7 @@ package ru.avicomp.ontapi;
 import org.apache.jena.graph.Graph;
 import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+import ru.avicomp.ontapi.config.BulkOptions;
 import ru.avicomp.ontapi.internal.InternalModel;
 import ru.avicomp.ontapi.jena.UnionGraph;
 import ru.avicomp.ontapi.jena.impl.OntGraphModelImpl;
@@ -29,6 +30,7 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
@@ -95,6 +97,26 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
         throw new OntApiException.Unsupported("Model's lock cannot be changed in ONT-API");
     }
 
+    /**
+     * Adds the given axioms directly into the internal model in the bulk mode, skipping the existing ones.
+     * The caller (i.e. the manager) is responsible for locking and notifying listeners.
+     *
+     * @param axioms  {@code Stream} of {@link OWLAxiom}s, not {@code null}
+     * @param options {@link BulkOptions}, not {@code null}
+     * @return {@code List} of actually added {@link OWLAxiom}s
+     * @throws ModificationDeniedException in case the content cache is disabled
+     * @see InternalModel#addAxioms(Stream, BulkOptions)
+     * @since 1.4.3
+     */
+    protected List<OWLAxiom> addAxiomsDirectly(Stream<? extends OWLAxiom> axioms, BulkOptions options) {
+        if (!getConfig().useContentCache()) {
+            throw new ModificationDeniedException("Direct mutations through OWL-API interface are not allowed");
+        }
+        InternalModel base = getBase();
+        base.forceLoad();
+        return base.addAxioms(axioms, options);
+    }
+
     /**
      * Auxiliary class, which controls any changes that occur to the ontology through the OWL-API interface.
      */
@@ -272,7 +294,8 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
             lock.readLock().lock();
             try {
                 OntGraphModelImpl base = getBase();
-                return asConcurrent(base.getGraph(), base.getOntPersonality(), lock);
+                return asConcurrent(base.getGraph(), base.getOntPersonality(), lock,
+                        getConfig().useSnapshotIterators());
             } finally {
                 lock.readLock().unlock();
             }
@@ -297,6 +320,28 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
             return (OntologyManager) super.getOWLOntologyManager();
         }
 
+        @Override
+        public boolean containsAxiom(OWLAxiom axiom) {
+            return withOptimisticReadToObject(() -> getBase().peekContains(axiom).orElse(null),
+                    () -> delegate.containsAxiom(axiom));
+        }
+
+        @Override
+        public int getAxiomCount() {
+            return withOptimisticReadToObject(() -> toInteger(getBase().peekOWLAxiomCount()),
+                    delegate::getAxiomCount);
+        }
+
+        @Override
+        public <T extends OWLAxiom> int getAxiomCount(AxiomType<T> type) {
+            return withOptimisticReadToObject(() -> toInteger(getBase().peekOWLAxiomCount(type)),
+                    () -> delegate.getAxiomCount(type));
+        }
+
+        private static Integer toInteger(OptionalLong res) {
+            return res.isPresent() ? (int) res.getAsLong() : null;
+        }
+
         @Override
         public InternalModel getBase() {
             return delegate().getBase();
@@ -332,8 +377,27 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
         public static OntGraphModelImpl asConcurrent(UnionGraph graph,
                                                      OntPersonality personality,
                                                      ReadWriteLock lock) {
+            return asConcurrent(graph, personality, lock, false);
+        }
+
+        /**
+         * Assembles a concurrent version of the {@link OntGraphModel Ontology RDF Model}
+         * with the specified iteration mode of the {@link ru.avicomp.ontapi.jena.RWLockedGraph R/W-Locked Graph}.
+         *
+         * @param graph       {@link UnionGraph}, not {@code null}
+         * @param personality {@link OntPersonality}, not {@code null}
+         * @param lock        {@link ReadWriteLock}, not {@code null}
+         * @param snapshots   boolean, to turn on the snapshot mode
+         * @return {@link OntGraphModelImpl} completed with the give R/W lock
+         * @see ModelConfig#useSnapshotIterators()
+         * @since 1.4.3
+         */
+        public static OntGraphModelImpl asConcurrent(UnionGraph graph,
+                                                     OntPersonality personality,
+                                                     ReadWriteLock lock,
+                                                     boolean snapshots) {
             Graph base = graph.getBaseGraph();
-            UnionGraph copy = withBase(graph, Graphs.asConcurrent(base, lock));
+            UnionGraph copy = withBase(graph, Graphs.asConcurrent(base, lock, snapshots));
             return new OntGraphModelImpl(copy, personality) {
 
                 @Override
@@ -365,7 +429,7 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
                     try {
                         OntPersonality p = getOntPersonality();
                         List<OntGraphModel> res = listImportGraphs()
-                                .mapWith(x -> (OntGraphModel) asConcurrent(x, p, lock))
+                                .mapWith(x -> (OntGraphModel) asConcurrent(x, p, importLock(lock, x), snapshots))
                                 .toList();
                         return res.stream();
                     } finally {
@@ -390,6 +454,23 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
             };
         }
 
+        /**
+         * Chooses a lock for the model of the given imported graph.
+         * In case of lock striping each ontology graph is guarded by its own stripe,
+         * otherwise the lock is shared.
+         *
+         * @param lock  {@link ReadWriteLock} of the importer, not {@code null}
+         * @param graph {@link UnionGraph} of the import, not {@code null}
+         * @return {@link ReadWriteLock}
+         * @since 1.4.3
+         */
+        protected static ReadWriteLock importLock(ReadWriteLock lock, UnionGraph graph) {
+            if (lock instanceof StripedReadWriteLock.OntologyLock) {
+                return ((StripedReadWriteLock.OntologyLock) lock).forGraph(graph.getBaseGraph());
+            }
+            return lock;
+        }
+
         /**
          * Makes a new {@link UnionGraph} with a the specified {@code base} graph
          * and with the inherited hierarchy structure from the given {@code from} graph.
@@ -118,6 +118,25 @@ public abstract class RWLockedOntology implements OWLMutableOntology {
         }
     }
 
+    /**
+     * Performs the given operation optimistically, without any locking, if it is supported by the lock,
+     * otherwise performs the second operation in the dedicated read-locked section.
+     *
+     * @param optimistic {@link Supplier} a side-effect-free operation,
+     *                   that returns {@code null} if the result cannot be obtained without locking
+     * @param op         {@link Supplier}
+     * @param <X>        anything
+     * @return {@link X}
+     * @see StampedReadWriteLock
+     * @since 1.4.3
+     */
+    protected <X> X withOptimisticReadToObject(Supplier<X> optimistic, Supplier<X> op) {
+        if (lock instanceof StampedReadWriteLock) {
+            return ((StampedReadWriteLock) lock).optimisticRead(optimistic, op);
+        }
+        return withReadLockToObject(op);
+    }
+
     /**
      * Performs the given operation in the dedicated read-locked section.
      *
@@ -0,0 +1,152 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi;
+
+import java.io.ObjectStreamException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * A reentrant {@link java.util.concurrent.locks.ReadWriteLock R/W lock}
+ * that additionally supports optimistic (lock-free) reads.
+ * <p>
+ * The {@link StampedLock} itself is not reentrant, and therefore cannot replace the common lock,
+ * which is shared between the manager, its ontologies and graphs, and which is acquired in nested calls.
+ * Instead, this lock works as a usual {@link ReentrantReadWriteLock},
+ * but every outermost write-locked section is also marked in the encapsulated {@code StampedLock}.
+ * So, an optimistic read is a piece of code that is performed without any locking
+ * and which result is accepted only if there was no write-locked section in the meantime.
+ * Otherwise, the operation is repeated under the ordinary read lock.
+ * Note: an optimistic operation must be free of side effects,
+ * since it can observe an inconsistent state.
+ *
+ * @see OntManagers#createOptimisticConcurrentONT()
+ * @since 1.4.3
+ */
+@SuppressWarnings("WeakerAccess")
+public class StampedReadWriteLock extends ReentrantReadWriteLock {
+    private static final long serialVersionUID = 1270586391244537254L;
+
+    protected final transient StampedLock stamps = new StampedLock();
+    private final transient StampedWriteLock writeLock = new StampedWriteLock(this);
+    // the stamp of the outermost write-locked section, guarded by the write lock:
+    private transient long stamp;
+
+    @Override
+    public ReentrantReadWriteLock.WriteLock writeLock() {
+        return writeLock;
+    }
+
+    /**
+     * Performs the given operation optimistically, i.e. without locking,
+     * and returns its result if it is valid, i.e. if there was no write in the meantime.
+     * Otherwise, performs the second operation under the read lock and returns its result.
+     * Any {@code RuntimeException} from the first operation is considered
+     * as a consequence of concurrent modification, and also leads to the fallback.
+     * If the current thread holds the write lock the first operation is not performed.
+     *
+     * @param optimistic {@link Supplier} a side-effect-free operation, that may return {@code null},
+     *                   which means the result cannot be obtained optimistically
+     * @param fallback   {@link Supplier} the operation to perform in the read-locked section
+     * @param <X>        anything
+     * @return {@link X}
+     */
+    public <X> X optimisticRead(Supplier<X> optimistic, Supplier<X> fallback) {
+        long s = stamps.tryOptimisticRead();
+        if (s != 0) {
+            try {
+                X res = optimistic.get();
+                if (res != null && stamps.validate(s)) {
+                    return res;
+                }
+            } catch (RuntimeException e) {
+                // a concurrent modification, repeat in the locked section
+            }
+        }
+        readLock().lock();
+        try {
+            return fallback.get();
+        } finally {
+            readLock().unlock();
+        }
+    }
+
+    private Object readResolve() throws ObjectStreamException {
+        return new StampedReadWriteLock();
+    }
+
+    /**
+     * A reentrant write lock that marks the outermost locked section in the {@link StampedLock}.
+     */
+    protected static class StampedWriteLock extends ReentrantReadWriteLock.WriteLock {
+        private static final long serialVersionUID = -1569320483245216329L;
+        private final StampedReadWriteLock lock;
+
+        protected StampedWriteLock(StampedReadWriteLock lock) {
+            super(lock);
+            this.lock = lock;
+        }
+
+        private void start() {
+            if (lock.getWriteHoldCount() == 1) {
+                lock.stamp = lock.stamps.writeLock();
+            }
+        }
+
+        @Override
+        public void lock() {
+            super.lock();
+            start();
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            super.lockInterruptibly();
+            start();
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (!super.tryLock()) return false;
+            start();
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long timeout, TimeUnit unit) throws InterruptedException {
+            if (!super.tryLock(timeout, unit)) return false;
+            start();
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+            if (lock.getWriteHoldCount() == 1) {
+                lock.stamps.unlockWrite(lock.stamp);
+            }
+            super.unlock();
+        }
+
+        @Override
+        public Condition newCondition() {
+            // awaiting would release the write lock without marking the end of the section
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi;
+
+import org.apache.jena.graph.Graph;
+import ru.avicomp.ontapi.jena.UnionGraph;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A manager-wide {@link ReadWriteLock R/W lock} that provides a separate lock for each ontology (lock striping).
+ * <p>
+ * This lock itself plays the role of the global lock:
+ * it guards the manager's structural collections (the ontologies, the configs, the mappers, etc),
+ * and its write lock is used for any structural change (loading or removing an ontology, changing imports or IDs).
+ * Each ontology (and its {@link UnionGraph} base) gets its own {@link OntologyLock}, obtained from this factory,
+ * so that a write to one ontology does not block readers of another one.
+ * Taking any ontology lock implies taking the read lock of this global lock first,
+ * and then the locks of the whole import closure, in a deterministic order (the ontology creation order):
+ * the write lock for the ontology itself, and read locks for all its imports.
+ * If the global write lock is held by the current thread, the ontology locks are not needed and are skipped.
+ * The acquired locks are tracked per lock handle (i.e. per {@link Lock} instance),
+ * so the locks of different ontologies can be released in any order.
+ * The models of the imports, that are obtained through a concurrent ontology model,
+ * are guarded by the stripes of the imported ontologies, not by the stripe of the importer
+ * (see {@link OntologyLock#forGraph(Graph)}).
+ * <p>
+ * Note: it is not possible to upgrade a read lock to a write lock,
+ * and cross-ontology operations, which are not expressed through the import closure,
+ * are not guaranteed to be deadlock-free, so they should go through the manager.
+ *
+ * @see OntManagers#createStripedConcurrentONT()
+ * @since 1.4.3
+ */
+@SuppressWarnings("WeakerAccess")
+public class StripedReadWriteLock extends ReentrantReadWriteLock {
+    private static final long serialVersionUID = -3127064185375422185L;
+
+    private final AtomicLong counter = new AtomicLong();
+    private final transient Map<Graph, WeakReference<OntologyLock>> locks =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private final transient ThreadLocal<Map<Lock, Deque<List<Lock>>>> held =
+            ThreadLocal.withInitial(IdentityHashMap::new);
+
+    /**
+     * Creates a new R/W lock for the given ontology.
+     *
+     * @param ontology {@link BaseModel}, not {@code null}
+     * @return {@link OntologyLock}
+     */
+    public OntologyLock createOntologyLock(BaseModel ontology) {
+        OntologyLock res = new OntologyLock(this, counter.incrementAndGet(), ontology);
+        res.register();
+        return res;
+    }
+
+    /**
+     * Returns a {@link Lock} to modify all the specified ontologies at once.
+     * The locks are acquired in the same deterministic order as for a single ontology,
+     * i.e. it is the write lock for each of the specified ontologies and read locks for all their imports.
+     *
+     * @param ontologies {@code Collection} of {@link OntologyLock}s
+     * @return {@link Lock}
+     */
+    public Lock writeLock(Collection<OntologyLock> ontologies) {
+        return new BatchLock(this, ontologies, true);
+    }
+
+    /**
+     * Acquires the locks for the specified ontologies and their import closures.
+     *
+     * @param handle  {@link Lock} handle, to which the acquired locks are bound
+     * @param targets {@code Collection} of {@link OntologyLock}s to lock
+     * @param write   if {@code true} the write locks for the targets are acquired, otherwise read locks
+     */
+    protected void lock(Lock handle, Collection<OntologyLock> targets, boolean write) {
+        readLock().lock();
+        if (isWriteLockedByCurrentThread()) {
+            push(handle, Collections.emptyList());
+            return;
+        }
+        try {
+            while (true) {
+                Set<OntologyLock> closure = closure(targets);
+                List<Lock> res = new ArrayList<>(closure.size());
+                boolean done = false;
+                try {
+                    for (OntologyLock x : closure) {
+                        Lock lock = write && targets.contains(x) ? x.own.writeLock() : x.own.readLock();
+                        lock.lock();
+                        res.add(lock);
+                    }
+                    // the hierarchy might be changed while waiting:
+                    done = closure.equals(closure(targets));
+                } finally {
+                    if (!done) release(res);
+                }
+                if (done) {
+                    push(handle, res);
+                    return;
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            readLock().unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * Tries to acquire the locks for the specified ontologies and their import closures
+     * within the given waiting time.
+     *
+     * @param handle  {@link Lock} handle, to which the acquired locks are bound
+     * @param targets {@code Collection} of {@link OntologyLock}s to lock
+     * @param write   if {@code true} the write locks for the targets are acquired, otherwise read locks
+     * @param nanos   the maximum time to wait, in nanoseconds
+     * @return {@code true} if the locks were acquired
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    protected boolean tryLock(Lock handle,
+                              Collection<OntologyLock> targets,
+                              boolean write,
+                              long nanos) throws InterruptedException {
+        long deadline = System.nanoTime() + nanos;
+        if (!readLock().tryLock(nanos, TimeUnit.NANOSECONDS)) {
+            return false;
+        }
+        if (isWriteLockedByCurrentThread()) {
+            push(handle, Collections.emptyList());
+            return true;
+        }
+        try {
+            Set<OntologyLock> closure = closure(targets);
+            List<Lock> res = new ArrayList<>(closure.size());
+            for (OntologyLock x : closure) {
+                Lock lock = write && targets.contains(x) ? x.own.writeLock() : x.own.readLock();
+                if (!lock.tryLock(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    release(res);
+                    readLock().unlock();
+                    return false;
+                }
+                res.add(lock);
+            }
+            push(handle, res);
+            return true;
+        } catch (RuntimeException | Error | InterruptedException e) {
+            readLock().unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * Releases the locks that have been acquired last by the current thread through the given handle.
+     *
+     * @param handle {@link Lock} handle
+     * @throws IllegalMonitorStateException if the current thread does not hold the handle
+     */
+    protected void unlock(Lock handle) throws IllegalMonitorStateException {
+        Map<Lock, Deque<List<Lock>>> map = held.get();
+        Deque<List<Lock>> stack = map.get(handle);
+        if (stack == null) {
+            if (map.isEmpty()) {
+                held.remove();
+            }
+            throw new IllegalMonitorStateException();
+        }
+        release(stack.pop());
+        if (stack.isEmpty()) {
+            map.remove(handle);
+            if (map.isEmpty()) {
+                held.remove();
+            }
+        }
+        readLock().unlock();
+    }
+
+    /**
+     * Remembers the locks acquired by the current thread through the given handle.
+     *
+     * @param handle {@link Lock} handle
+     * @param locks  {@code List} of acquired {@link Lock}s
+     */
+    private void push(Lock handle, List<Lock> locks) {
+        held.get().computeIfAbsent(handle, k -> new ArrayDeque<>()).push(locks);
+    }
+
+    /**
+     * Collects the locks of all ontologies from the import closures of the given ontologies,
+     * including the ontologies themselves, in the order they should be acquired.
+     *
+     * @param targets {@code Collection} of {@link OntologyLock}s
+     * @return {@code Set} of {@link OntologyLock}s
+     */
+    protected Set<OntologyLock> closure(Collection<OntologyLock> targets) {
+        while (true) {
+            Set<OntologyLock> res = new TreeSet<>(Comparator.comparingLong(x -> x.order));
+            try {
+                for (OntologyLock t : targets) {
+                    res.add(t);
+                    UnionGraph g = t.register();
+                    if (g == null) continue;
+                    g.listBaseGraphs().forEachRemaining(x -> {
+                        OntologyLock l = find(x);
+                        if (l != null) res.add(l);
+                    });
+                }
+                return res;
+            } catch (ConcurrentModificationException e) {
+                // the imports of some not yet locked ontology are being changed, repeat
+            }
+        }
+    }
+
+    /**
+     * Finds an ontology lock by the base graph.
+     *
+     * @param graph {@link Graph}
+     * @return {@link OntologyLock} or {@code null}
+     */
+    protected OntologyLock find(Graph graph) {
+        WeakReference<OntologyLock> res = locks.get(graph);
+        return res == null ? null : res.get();
+    }
+
+    private static void release(List<Lock> locks) {
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            locks.get(i).unlock();
+        }
+    }
+
+    private Object readResolve() throws ObjectStreamException {
+        return new StripedReadWriteLock();
+    }
+
+    /**
+     * A {@link ReadWriteLock} for a single ontology.
+     * Both its read and write locks cover the whole import closure.
+     */
+    public static class OntologyLock implements ReadWriteLock, Serializable {
+        private static final long serialVersionUID = 2718493275026743011L;
+        protected final StripedReadWriteLock parent;
+        protected final long order;
+        protected final ReentrantReadWriteLock own = new ReentrantReadWriteLock();
+        protected final BaseModel ontology;
+        private final Lock readLock;
+        private final Lock writeLock;
+
+        protected OntologyLock(StripedReadWriteLock parent, long order, BaseModel ontology) {
+            this.parent = Objects.requireNonNull(parent);
+            this.ontology = Objects.requireNonNull(ontology);
+            this.order = order;
+            this.readLock = new BatchLock(parent, Collections.singleton(this), false);
+            this.writeLock = new BatchLock(parent, Collections.singleton(this), true);
+        }
+
+        /**
+         * Returns the manager-wide lock, this ontology lock belongs to.
+         *
+         * @return {@link StripedReadWriteLock}
+         */
+        public StripedReadWriteLock getParent() {
+            return parent;
+        }
+
+        /**
+         * Registers this lock in the parent using the current ontology graph.
+         *
+         * @return {@link UnionGraph} or {@code null} if the ontology is not yet ready
+         */
+        protected UnionGraph register() {
+            if (ontology.getBase() == null) return null;
+            UnionGraph res = ontology.getBase().getGraph();
+            Graph base = res.getBaseGraph();
+            if (parent.find(base) != this) {
+                parent.locks.put(base, new WeakReference<>(this));
+            }
+            return res;
+        }
+
+        @Override
+        public Lock readLock() {
+            return readLock;
+        }
+
+        @Override
+        public Lock writeLock() {
+            return writeLock;
+        }
+
+        /**
+         * Returns the lock of the ontology with the given base graph, if it belongs to the same manager,
+         * otherwise this lock.
+         * Used to guard an imported model by its own stripe instead of the importer's stripe,
+         * which holds only the read lock on the imported ontology.
+         *
+         * @param graph {@link Graph} - the base graph of some ontology
+         * @return {@link ReadWriteLock}
+         */
+        public ReadWriteLock forGraph(Graph graph) {
+            OntologyLock res = parent.find(graph);
+            return res == null ? this : res;
+        }
+
+        private Object readResolve() throws ObjectStreamException {
+            return parent.createOntologyLock(ontology);
+        }
+    }
+
+    /**
+     * A {@link Lock} over several ontologies and their import closures.
+     */
+    protected static class BatchLock implements Lock, Serializable {
+        private static final long serialVersionUID = -3405622096513497217L;
+        private final StripedReadWriteLock parent;
+        private final Collection<OntologyLock> targets;
+        private final boolean write;
+
+        protected BatchLock(StripedReadWriteLock parent, Collection<OntologyLock> targets, boolean write) {
+            this.parent = parent;
+            this.targets = targets;
+            this.write = write;
+        }
+
+        @Override
+        public void lock() {
+            parent.lock(this, targets, write);
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            if (Thread.interrupted()) throw new InterruptedException();
+            lock();
+        }
+
+        @Override
+        public boolean tryLock() {
+            try {
+                return parent.tryLock(this, targets, write, 0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            return parent.tryLock(this, targets, write, unit.toNanos(time));
+        }
+
+        @Override
+        public void unlock() {
+            parent.unlock(this);
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
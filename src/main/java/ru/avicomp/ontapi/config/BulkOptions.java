@@ -0,0 +1,105 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.config;
+
+import java.io.Serializable;
+
+/**
+ * The immutable settings to control the bulk addition of axioms,
+ * see {@link ru.avicomp.ontapi.OntologyModel#addAxioms(java.util.stream.Stream, BulkOptions)}.
+ * In the bulk mode all triples are written first,
+ * the derived caches (the search model and the object factory) are invalidated only once at the end,
+ * and the change listeners are notified with a single aggregated list of changes.
+ *
+ * @since 1.4.3
+ */
+@SuppressWarnings("WeakerAccess")
+public class BulkOptions implements Serializable {
+    private static final long serialVersionUID = -1366493263416371283L;
+
+    /**
+     * The default options: fire change events, update the components cache.
+     */
+    public static final BulkOptions DEFAULT = new BulkOptions(true, true);
+
+    protected final boolean fireEvents;
+    protected final boolean cacheComponents;
+
+    protected BulkOptions(boolean fireEvents, boolean cacheComponents) {
+        this.fireEvents = fireEvents;
+        this.cacheComponents = cacheComponents;
+    }
+
+    /**
+     * Answers {@code true} if the manager's change listeners
+     * (including impending-change and progress listeners) should be notified about the bulk addition.
+     * The notification is performed in aggregate, i.e. once for the whole list of changes.
+     *
+     * @return boolean, {@code true} by default
+     */
+    public boolean isFireEvents() {
+        return fireEvents;
+    }
+
+    /**
+     * Sets the {@link #isFireEvents()} option.
+     *
+     * @param b boolean
+     * @return {@link BulkOptions}, a copied (new) or this instance in case no changes is made
+     */
+    public BulkOptions setFireEvents(boolean b) {
+        return b == fireEvents ? this : new BulkOptions(b, cacheComponents);
+    }
+
+    /**
+     * Answers {@code true} if the components of the added axioms should be put into the components cache
+     * (if it is already loaded), as it is done for a single axiom addition.
+     * If {@code false} the components cache is just dropped and will be restored lazily on demand,
+     * which is cheaper for a really big number of axioms.
+     *
+     * @return boolean, {@code true} by default
+     */
+    public boolean isCacheComponents() {
+        return cacheComponents;
+    }
+
+    /**
+     * Sets the {@link #isCacheComponents()} option.
+     *
+     * @param b boolean
+     * @return {@link BulkOptions}, a copied (new) or this instance in case no changes is made
+     */
+    public BulkOptions setCacheComponents(boolean b) {
+        return b == cacheComponents ? this : new BulkOptions(fireEvents, b);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BulkOptions)) return false;
+        BulkOptions that = (BulkOptions) o;
+        return fireEvents == that.fireEvents && cacheComponents == that.cacheComponents;
+    }
+
+    @Override
+    public int hashCode() {
+        return (fireEvents ? 2 : 0) + (cacheComponents ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BulkOptions{fireEvents=%s, cacheComponents=%s}", fireEvents, cacheComponents);
+    }
+}
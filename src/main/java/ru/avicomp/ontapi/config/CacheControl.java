@@ -55,6 +55,11 @@ interface CacheControl<R> extends CacheSettings {
      *     <li>{@link CacheSettings#CACHE_ITERATOR}</li>
      *     <li>{@link CacheSettings#CACHE_COMPONENT}</li>
      *     <li>{@link CacheSettings#CACHE_CONTENT}</li>
+     *     <li>{@link CacheSettings#CACHE_INDEX}</li>
+     *     <li>{@link CacheSettings#CACHE_INCREMENTAL}</li>
+     *     <li>{@link CacheSettings#CACHE_PARALLEL_LOAD}</li>
+     *     <li>{@link CacheSettings#CACHE_SINGLE_PASS_LOAD}</li>
+     *     <li>{@link CacheSettings#CACHE_INTERN}</li>
      *     <li>{@link CacheSettings#CACHE_ALL}</li>
      * </ul>
      *
@@ -22,7 +22,8 @@ package ru.avicomp.ontapi.config;
  * <li>objects cache, that is encapsulated in {@link ru.avicomp.ontapi.internal.CacheObjectFactory},
  * and is used to reduce memory memory footprint when constructing OWL content</li>
  * <li>model cache, that has several levels:
- * {@link #CACHE_ALL}, {@link #CACHE_CONTENT}, {@link #CACHE_COMPONENT}, {@link #CACHE_ITERATOR}</li>
+ * {@link #CACHE_ALL}, {@link #CACHE_CONTENT}, {@link #CACHE_COMPONENT}, {@link #CACHE_ITERATOR}, {@link #CACHE_INDEX},
+ * {@link #CACHE_INCREMENTAL}</li>
  * </ul>
  * Note: since ONT-API is an evolving system, all these settings may be changed in the future releases.
  * <p>
@@ -53,12 +54,71 @@ public interface CacheSettings {
      * @see org.semanticweb.owlapi.model.OWLAnnotation
      */
     int CACHE_CONTENT = 16;
+    /**
+     * A constant value signifying that positional index cache is enabled.
+     * This is a secondary index over the content cache,
+     * that maps an axiom's component in sub or super position to the axioms containing it,
+     * so it helps to speed up navigation methods such as
+     * {@link org.semanticweb.owlapi.model.OWLOntology#subClassAxiomsForSuperClass(org.semanticweb.owlapi.model.OWLClass)}.
+     * Each index is built lazily, on the first such search, and is maintained on adding and removing axioms.
+     * It makes sense only if {@link #CACHE_CONTENT} is enabled.
+     *
+     * @see ru.avicomp.ontapi.internal.AxiomPosition
+     * @since 1.4.3
+     */
+    int CACHE_INDEX = 32;
+    /**
+     * A constant value signifying that the content cache is maintained incrementally
+     * when the graph is modified directly, i.e. through the Jena interface.
+     * In this mode a changed triple is mapped to those content types whose translators can be affected by it,
+     * and only the corresponding buckets are invalidated, while the rest of the cache stays warm.
+     * If the triple cannot be unambiguously attributed (e.g. it has a blank subject or it is a declaration),
+     * the whole cache is still released.
+     * It makes sense only if {@link #CACHE_CONTENT} is enabled.
+     *
+     * @since 1.4.3
+     */
+    int CACHE_INCREMENTAL = 64;
+    /**
+     * A constant value signifying that the whole content cache is warmed up in parallel,
+     * i.e. each content type is loaded in its own task, see {@link ru.avicomp.ontapi.internal.InternalModel#forceLoad()}.
+     * It takes effect only for concurrent managers (that use thread-safe internal caches),
+     * otherwise the content is loaded sequentially.
+     * This is not a part of {@link #CACHE_ALL} and must be turned on explicitly.
+     * It makes sense only if {@link #CACHE_CONTENT} is enabled.
+     *
+     * @since 1.4.3
+     */
+    int CACHE_PARALLEL_LOAD = 128;
+    /**
+     * A constant value signifying that the content cache is loaded in a single pass over the graph:
+     * all axiom translators are fed from one iteration over the local statements
+     * instead of each translator performing its own graph search,
+     * see {@link ru.avicomp.ontapi.internal.SinglePassAxiomReader}.
+     * This is not a part of {@link #CACHE_ALL} and must be turned on explicitly.
+     * It makes sense only if {@link #CACHE_CONTENT} is enabled.
+     *
+     * @since 1.4.3
+     */
+    int CACHE_SINGLE_PASS_LOAD = 256;
+    /**
+     * A constant value signifying that OWL entities and literals, which are produced while reading a graph,
+     * are interned (hash-consed), see {@link ru.avicomp.ontapi.internal.ModelObjectFactory}:
+     * equal objects share a single instance while it is in use somewhere,
+     * that reduces memory footprint in case of a huge number of axioms referencing the same entities.
+     * Unlike the objects cache (see {@link #getLoadObjectsCacheSize()}), the interning tables are not bounded,
+     * but hold their values through weak references.
+     * This is not a part of {@link #CACHE_ALL} and must be turned on explicitly.
+     *
+     * @since 1.4.3
+     */
+    int CACHE_INTERN = 512;
     /**
      * A constant value signifying that all model's caches are enabled.
      * It is default value.
      * Note that all these constants do not relate to nodes and objects caches.
      */
-    int CACHE_ALL = CACHE_ITERATOR | CACHE_CONTENT | CACHE_COMPONENT;
+    int CACHE_ALL = CACHE_ITERATOR | CACHE_CONTENT | CACHE_COMPONENT | CACHE_INDEX | CACHE_INCREMENTAL;
 
     /**
      * Returns the maximum size of nodes cache,
@@ -109,6 +169,13 @@ public interface CacheSettings {
      * the content (axioms/ontology annotations) and components (entities/anonymous individuals) found in a graph</li>
      * <li>{@link #CACHE_COMPONENT} - use cache-optimization to optimize iteration over components found in a graph</li>
      * <li>{@link #CACHE_CONTENT} - use cache-optimization to optimize iteration over content and its modification</li>
+     * <li>{@link #CACHE_INDEX} - use positional indexes to optimize search over the content (since 1.4.3)</li>
+     * <li>{@link #CACHE_INCREMENTAL} - do not release the whole cache on each direct graph modification,
+     * but only those parts that can be affected by the changed triple (since 1.4.3)</li>
+     * <li>{@link #CACHE_PARALLEL_LOAD} - load the content cache in parallel (since 1.4.3, not a part of {@link #CACHE_ALL})</li>
+     * <li>{@link #CACHE_SINGLE_PASS_LOAD} - load the content cache in a single pass over the graph
+     * (since 1.4.3, not a part of {@link #CACHE_ALL})</li>
+     * <li>{@link #CACHE_INTERN} - intern OWL entities and literals (since 1.4.3, not a part of {@link #CACHE_ALL})</li>
      * <li>{@link #CACHE_ALL} - all possible cache-optimizations</li>
      * </ul>
      * Note: the list above may be changed in the ONT-API evolution.
@@ -187,6 +254,61 @@ public interface CacheSettings {
         return (getModelCacheLevel() & CACHE_ITERATOR) == CACHE_ITERATOR;
     }
 
+    /**
+     * Answers {@code true} iff the positional index optimization is enabled.
+     *
+     * @return boolean
+     * @see CacheControl#setModelCacheLevel(int)
+     * @since 1.4.3
+     */
+    default boolean useIndexCache() {
+        return (getModelCacheLevel() & CACHE_INDEX) == CACHE_INDEX;
+    }
+
+    /**
+     * Answers {@code true} iff the incremental cache maintenance on direct graph changes is enabled.
+     *
+     * @return boolean
+     * @see CacheControl#setModelCacheLevel(int)
+     * @since 1.4.3
+     */
+    default boolean useIncrementalCache() {
+        return (getModelCacheLevel() & CACHE_INCREMENTAL) == CACHE_INCREMENTAL;
+    }
+
+    /**
+     * Answers {@code true} iff the parallel warm-up of the content cache is enabled.
+     *
+     * @return boolean
+     * @see CacheControl#setModelCacheLevel(int)
+     * @since 1.4.3
+     */
+    default boolean useParallelLoadCache() {
+        return (getModelCacheLevel() & CACHE_PARALLEL_LOAD) == CACHE_PARALLEL_LOAD;
+    }
+
+    /**
+     * Answers {@code true} iff the single pass loading of the content cache is enabled.
+     *
+     * @return boolean
+     * @see CacheControl#setModelCacheLevel(int)
+     * @since 1.4.3
+     */
+    default boolean useSinglePassLoadCache() {
+        return (getModelCacheLevel() & CACHE_SINGLE_PASS_LOAD) == CACHE_SINGLE_PASS_LOAD;
+    }
+
+    /**
+     * Answers {@code true} iff the interning of OWL entities and literals is enabled.
+     *
+     * @return boolean
+     * @see CacheControl#setModelCacheLevel(int)
+     * @since 1.4.3
+     */
+    default boolean useInternCache() {
+        return (getModelCacheLevel() & CACHE_INTERN) == CACHE_INTERN;
+    }
+
     /**
      * Answers {@code true} if the nodes cache is enabled.
      * This cache is located in the search model, that is used as optimization while read operations.
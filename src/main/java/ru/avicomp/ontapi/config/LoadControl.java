@@ -72,6 +72,38 @@ interface LoadControl<R> extends LoadSettings {
      */
     R setProcessImports(boolean b);
 
+    /**
+     * Sets the maximum number of threads to load the imports closure.
+     * A non-positive number is treated as {@code 1}, which means sequential loading.
+     *
+     * @param n int
+     * @return {@link R} (this or copied instance)
+     * @see LoadSettings#getImportsLoadThreads()
+     * @since 1.4.3
+     */
+    R setImportsLoadThreads(int n);
+
+    /**
+     * Sets the maximum number of threads to parse a single line-based document.
+     * A non-positive number is treated as {@code 1}, which means sequential parsing.
+     *
+     * @param n int
+     * @return {@link R} (this or copied instance)
+     * @see LoadSettings#getParseThreads()
+     * @since 1.4.3
+     */
+    R setParseThreads(int n);
+
+    /**
+     * Enables or disables the detection of pairwise disjoint base graphs in a loaded imports closure.
+     *
+     * @param b boolean
+     * @return {@link R} (this or copied instance)
+     * @see LoadSettings#isDetectDisjointGraphs()
+     * @since 1.4.3
+     */
+    R setDetectDisjointGraphs(boolean b);
+
     /**
      * Changes the preferable way to load a {@code Graph}.
      * If {@code true} specified, the OWL-API native parsers will be used.
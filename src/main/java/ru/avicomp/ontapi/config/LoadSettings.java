@@ -112,6 +112,56 @@ public interface LoadSettings {
      */
     boolean isProcessImports();
 
+    /**
+     * Returns the maximum number of threads that are used to fetch and parse the documents of the imports closure.
+     * If the returned value is greater than {@code 1},
+     * then the imports closure is discovered level by level (i.e. breadth-first)
+     * and the independent import documents are parsed concurrently on a bounded executor.
+     * Otherwise, the imports are loaded sequentially, one after another.
+     * In any case the resulting ontologies and their import hierarchies are the same.
+     * Note: the option makes sense only if the processing imports is enabled.
+     *
+     * @return int, positive ({@code 1} by default)
+     * @see LoadControl#setImportsLoadThreads(int)
+     * @see LoadSettings#isProcessImports()
+     * @see OntSettings#ONT_API_LOAD_CONF_IMPORTS_LOAD_THREADS
+     * @since 1.4.3
+     */
+    int getImportsLoadThreads();
+
+    /**
+     * Returns the maximum number of threads that are used to parse a single line-based document
+     * (i.e. {@link ru.avicomp.ontapi.OntFormat#NTRIPLES N-Triples} or {@link ru.avicomp.ontapi.OntFormat#NQUADS N-Quads}).
+     * If the returned value is greater than {@code 1},
+     * then the document is split into chunks on line boundaries,
+     * the chunks are parsed concurrently into thread-local buffers,
+     * and the buffers are added into the target graph in the document order.
+     * Blank node labels are shared across all chunks of the same document.
+     * Other formats are always parsed sequentially.
+     *
+     * @return int, positive ({@code 1} by default)
+     * @see LoadControl#setParseThreads(int)
+     * @see OntSettings#ONT_API_LOAD_CONF_PARSE_THREADS
+     * @since 1.4.3
+     */
+    int getParseThreads();
+
+    /**
+     * Answers {@code true} if the loader should check whether the base graphs of a loaded imports closure
+     * are pairwise disjoint and, if so, mark the union graphs of the hierarchy as
+     * {@link ru.avicomp.ontapi.jena.UnionGraph#isDisjoint() disjoint},
+     * so that the iteration over the whole union does not require the duplicates checking.
+     * The check is a full pass over the imported graphs with a look-up for each triple,
+     * and it is performed once per loading, for the root ontology only.
+     * It pays off for large imports closures that are iterated many times, so it is disabled by default.
+     *
+     * @return boolean, {@code false} by default
+     * @see LoadControl#setDetectDisjointGraphs(boolean)
+     * @see OntSettings#ONT_API_LOAD_CONF_DETECT_DISJOINT_GRAPHS
+     * @since 1.4.3
+     */
+    boolean isDetectDisjointGraphs();
+
     /**
      * Answers {@code true} if the native OWL-API parsers must be preferred while loading ontology,
      * which is strongly not recommended (and the method returns {@code false} by default).
@@ -39,14 +39,22 @@ import java.util.stream.Stream;
  * Additional (new) ONT-API methods:
  * <ul>
  * <li>{@link #getManagerIRIsCacheSize()} (<b>since 1.4.0</b>)</li>
+ * <li>{@link #getManagerCacheBudget()} (<b>since 1.4.3</b>)</li>
+ * <li>{@link #getManagerChangeThreads()} and {@link #setManagerChangeThreads(int)} (<b>since 1.4.3</b>)</li>
+ * <li>{@link #useSnapshotIterators()} and {@link #setUseSnapshotIterators(boolean)} (<b>since 1.4.3</b>)</li>
  * <li>{@link #getLoadNodesCacheSize()} and {@link #setLoadNodesCacheSize(int)} (<b>since 1.4.0</b>)</li>
  * <li>{@link #getLoadObjectsCacheSize()} and {@link #setLoadObjectsCacheSize(int)} (<b>since 1.4.0</b>)</li>
  * <li>{@link #setModelCacheLevel(int, boolean)} (<b>since 1.4.2</b>), {@link #setModelCacheLevel(int)} (<b>since 1.4.0</b>)</li>
  * <li>{@link #useContentCache()}, {@link #useComponentCache()}, {@link #useIteratorCache()} (<b>since 1.4.2</b>)</li>
+ * <li>{@link #useIndexCache()}, {@link #useIncrementalCache()}, {@link #useParallelLoadCache()},
+ * {@link #useSinglePassLoadCache()}, {@link #useInternCache()} (<b>since 1.4.3</b>)</li>
  * <li>{@link #getPersonality()} and {@link #setPersonality(OntPersonality)}</li>
  * <li>{@link #getGraphTransformers()} amd {@link #setGraphTransformers(GraphTransformers.Store)}</li>
  * <li>{@link #isPerformTransformation()} and {@link #setPerformTransformation(boolean)}</li>
  * <li>{@link #isProcessImports()} and {@link #setProcessImports(boolean)} (<b>since 1.4.1</b>)</li>
+ * <li>{@link #getImportsLoadThreads()} and {@link #setImportsLoadThreads(int)} (<b>since 1.4.3</b>)</li>
+ * <li>{@link #getParseThreads()} and {@link #setParseThreads(int)} (<b>since 1.4.3</b>)</li>
+ * <li>{@link #isDetectDisjointGraphs()} and {@link #setDetectDisjointGraphs(boolean)} (<b>since 1.4.3</b>)</li>
  * <li>{@link #getSupportedSchemes()} and {@link #setSupportedSchemes(List)}</li>
  * <li>{@link #disableWebAccess()} (<b>since 1.1.0</b>)</li>
  * <li>{@link #isAllowReadDeclarations()} and {@link #setAllowReadDeclarations(boolean)}</li>
@@ -54,6 +62,8 @@ import java.util.stream.Stream;
  * <li>{@link #isIgnoreAnnotationAxiomOverlaps()} and {@link #setIgnoreAnnotationAxiomOverlaps(boolean)}</li>
  * <li>{@link #isUseOWLParsersToLoad()} and {@link #setUseOWLParsersToLoad(boolean)}</li>
  * <li>{@link #isControlImports()} and {@link #setControlImports(boolean)} </li>
+ * <li>{@link #isStreamingWrite()} and {@link #setStreamingWrite(boolean)} (<b>since 1.4.3</b>)</li>
+ * <li>{@link #isGzipCompression()} and {@link #setGzipCompression(boolean)} (<b>since 1.4.3</b>)</li>
  * <li>{@link #isIgnoreAxiomsReadErrors()} and {@link #setIgnoreAxiomsReadErrors(boolean)} (<b>since 1.1.0</b>)</li>
  * <li>{@link #isSplitAxiomAnnotations()} and {@link #setSplitAxiomAnnotations(boolean)} (<b>since 1.3.0</b>)</li>
  * </ul>
@@ -298,6 +308,95 @@ public class OntConfig extends OntologyConfigurator implements
         return put(OntSettings.ONT_API_MANAGER_CACHE_IRIS, size);
     }
 
+    /**
+     * An ONT-API manager's load config getter.
+     * Returns the memory budget (in bytes) shared by the entities and nodes caches of all manager's ontologies.
+     * If it is positive, these caches are bounded by the total estimated size of their entries
+     * instead of the number of entries (see {@link #getLoadObjectsCacheSize()} and {@link #getLoadNodesCacheSize()},
+     * which in this case only turn the caches on and off).
+     * The default value is {@code 0}, which means that each cache is bounded by its own number of entries.
+     *
+     * @return long, the budget in bytes, a non-positive number to disable
+     * @see OntSettings#ONT_API_MANAGER_CACHE_BUDGET
+     * @see ru.avicomp.ontapi.internal.CacheBudget
+     * @since 1.4.3
+     */
+    public long getManagerCacheBudget() {
+        return get(OntSettings.ONT_API_MANAGER_CACHE_BUDGET);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * Sets a new memory budget for the model caches.
+     * Protected, since this is a manager's initialization setting,
+     * that must not be changed during manager's lifetime.
+     *
+     * @param bytes long, possible non-positive
+     * @return this instance
+     * @since 1.4.3
+     */
+    protected OntConfig setManagerCacheBudget(long bytes) {
+        return put(OntSettings.ONT_API_MANAGER_CACHE_BUDGET, bytes);
+    }
+
+    /**
+     * An ONT-API manager's config getter.
+     * Returns the number of threads to apply a list of changes.
+     * If it is greater than {@code 1} and the manager is concurrent,
+     * the changes of independent ontologies (i.e. ontologies that are not connected through their imports closures)
+     * are applied in parallel.
+     * The default value is {@code 1}, which means that the changes are applied one by one in the calling thread.
+     *
+     * @return int, positive number
+     * @see OntSettings#ONT_API_MANAGER_CHANGE_THREADS
+     * @since 1.4.3
+     */
+    public int getManagerChangeThreads() {
+        return get(OntSettings.ONT_API_MANAGER_CHANGE_THREADS);
+    }
+
+    /**
+     * An ONT-API manager's config setter.
+     * Sets the number of threads to apply a list of changes.
+     *
+     * @param n int, a non-positive number is treated as {@code 1}
+     * @return this instance
+     * @see #getManagerChangeThreads()
+     * @since 1.4.3
+     */
+    public OntConfig setManagerChangeThreads(int n) {
+        return put(OntSettings.ONT_API_MANAGER_CHANGE_THREADS, Math.max(n, 1));
+    }
+
+    /**
+     * An ONT-API manager's config getter.
+     * Answers {@code true} if the graphs of the concurrent ontologies work in the snapshot mode,
+     * i.e. if the graph modifications never wait for the iterators opened by other threads.
+     * The default value is {@code false}: a writer waits until all other open iterators are exhausted or expired.
+     * The setting affects only the concurrent managers.
+     *
+     * @return boolean
+     * @see OntSettings#ONT_API_MANAGER_SNAPSHOT_ITERATORS
+     * @see ru.avicomp.ontapi.jena.RWLockedGraph#RWLockedGraph(org.apache.jena.graph.Graph, ReadWriteLock, boolean)
+     * @since 1.4.3
+     */
+    public boolean useSnapshotIterators() {
+        return get(OntSettings.ONT_API_MANAGER_SNAPSHOT_ITERATORS);
+    }
+
+    /**
+     * An ONT-API manager's config setter.
+     * Turns on or off the snapshot iteration mode for the graphs of the concurrent ontologies.
+     *
+     * @param b boolean
+     * @return this instance
+     * @see #useSnapshotIterators()
+     * @since 1.4.3
+     */
+    public OntConfig setUseSnapshotIterators(boolean b) {
+        return put(OntSettings.ONT_API_MANAGER_SNAPSHOT_ITERATORS, b);
+    }
+
     /**
      * An ONT-API manager's load config getter.
      * {@inheritDoc}
@@ -446,6 +545,60 @@ public class OntConfig extends OntologyConfigurator implements
         return put(OntSettings.ONT_API_LOAD_CONF_PROCESS_IMPORTS, b);
     }
 
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public int getImportsLoadThreads() {
+        return get(OntSettings.ONT_API_LOAD_CONF_IMPORTS_LOAD_THREADS);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     */
+    @Override
+    public OntConfig setImportsLoadThreads(int n) {
+        return put(OntSettings.ONT_API_LOAD_CONF_IMPORTS_LOAD_THREADS, Math.max(n, 1));
+    }
+
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public int getParseThreads() {
+        return get(OntSettings.ONT_API_LOAD_CONF_PARSE_THREADS);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     */
+    @Override
+    public OntConfig setParseThreads(int n) {
+        return put(OntSettings.ONT_API_LOAD_CONF_PARSE_THREADS, Math.max(n, 1));
+    }
+
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDetectDisjointGraphs() {
+        return get(OntSettings.ONT_API_LOAD_CONF_DETECT_DISJOINT_GRAPHS);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     */
+    @Override
+    public OntConfig setDetectDisjointGraphs(boolean b) {
+        return put(OntSettings.ONT_API_LOAD_CONF_DETECT_DISJOINT_GRAPHS, b);
+    }
+
     /**
      * An ONT-API manager's load config getter.
      * {@inheritDoc}
@@ -614,6 +767,54 @@ public class OntConfig extends OntologyConfigurator implements
         return put(OntSettings.ONT_API_WRITE_CONF_CONTROL_IMPORTS, b);
     }
 
+    /**
+     * An ONT-API manager's write config getter.
+     * By default 'ont.api.write.conf.streaming' is disabled.
+     *
+     * @return {@code true} if 'ont.api.write.conf.streaming' is enabled
+     * @see OntWriterConfiguration#isStreamingWrite()
+     * @since 1.4.3
+     */
+    public boolean isStreamingWrite() {
+        return get(OntSettings.ONT_API_WRITE_CONF_STREAMING);
+    }
+
+    /**
+     * An ONT-API manager's write config setter.
+     *
+     * @param b boolean to enable/disable this config parameter
+     * @return this instance
+     * @see OntWriterConfiguration#setStreamingWrite(boolean)
+     * @since 1.4.3
+     */
+    public OntConfig setStreamingWrite(boolean b) {
+        return put(OntSettings.ONT_API_WRITE_CONF_STREAMING, b);
+    }
+
+    /**
+     * An ONT-API manager's write config getter.
+     * By default 'ont.api.write.conf.gzip' is disabled.
+     *
+     * @return {@code true} if 'ont.api.write.conf.gzip' is enabled
+     * @see OntWriterConfiguration#isGzipCompression()
+     * @since 1.4.3
+     */
+    public boolean isGzipCompression() {
+        return get(OntSettings.ONT_API_WRITE_CONF_GZIP);
+    }
+
+    /**
+     * An ONT-API manager's write config setter.
+     *
+     * @param b boolean to enable/disable this config parameter
+     * @return this instance
+     * @see OntWriterConfiguration#setGzipCompression(boolean)
+     * @since 1.4.3
+     */
+    public OntConfig setGzipCompression(boolean b) {
+        return put(OntSettings.ONT_API_WRITE_CONF_GZIP, b);
+    }
+
     /**
      * The same as {@link #isLoadAnnotationAxioms()}
      *
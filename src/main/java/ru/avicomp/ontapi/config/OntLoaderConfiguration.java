@@ -200,6 +200,60 @@ public class OntLoaderConfiguration extends OWLOntologyLoaderConfiguration imple
         return set(OntSettings.ONT_API_LOAD_CONF_PROCESS_IMPORTS, b);
     }
 
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public int getImportsLoadThreads() {
+        return get(OntSettings.ONT_API_LOAD_CONF_IMPORTS_LOAD_THREADS);
+    }
+
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     */
+    @Override
+    public OntLoaderConfiguration setImportsLoadThreads(int n) {
+        return set(OntSettings.ONT_API_LOAD_CONF_IMPORTS_LOAD_THREADS, Math.max(n, 1));
+    }
+
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public int getParseThreads() {
+        return get(OntSettings.ONT_API_LOAD_CONF_PARSE_THREADS);
+    }
+
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     */
+    @Override
+    public OntLoaderConfiguration setParseThreads(int n) {
+        return set(OntSettings.ONT_API_LOAD_CONF_PARSE_THREADS, Math.max(n, 1));
+    }
+
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDetectDisjointGraphs() {
+        return get(OntSettings.ONT_API_LOAD_CONF_DETECT_DISJOINT_GRAPHS);
+    }
+
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     */
+    @Override
+    public OntLoaderConfiguration setDetectDisjointGraphs(boolean b) {
+        return set(OntSettings.ONT_API_LOAD_CONF_DETECT_DISJOINT_GRAPHS, b);
+    }
+
     /**
      * An ONT-API config setter.
      * {@inheritDoc}
@@ -35,7 +35,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
- * The {@code Enum} of all ONT-API settings (22 OWL-API options + 15 ONT-API specific options)
+ * The {@code Enum} of all ONT-API settings (22 OWL-API options + 22 ONT-API specific options)
  * Note: System properties are not taken into account (this is a difference from OWL-API-impl).
  * The properties file is used as the primary settings store.
  * The default value, that is encoding in this enum,
@@ -76,6 +76,13 @@ public enum OntSettings {
 
     // since 1.4.1
     ONT_API_LOAD_CONF_PROCESS_IMPORTS(true),
+    // since 1.4.3
+    ONT_API_LOAD_CONF_IMPORTS_LOAD_THREADS(1),
+    ONT_API_LOAD_CONF_PARSE_THREADS(1),
+    ONT_API_LOAD_CONF_DETECT_DISJOINT_GRAPHS(false),
+    ONT_API_MANAGER_CHANGE_THREADS(1),
+    ONT_API_MANAGER_CACHE_BUDGET(0L),
+    ONT_API_MANAGER_SNAPSHOT_ITERATORS(false),
 
     OWL_API_LOAD_CONF_ACCEPT_HTTP_COMPRESSION(true),
     OWL_API_LOAD_CONF_CONNECTION_TIMEOUT(20_000),
@@ -93,6 +100,9 @@ public enum OntSettings {
     OWL_API_AUTHORIZATION_VALUE(""),
 
     ONT_API_WRITE_CONF_CONTROL_IMPORTS(false),
+    // since 1.4.3
+    ONT_API_WRITE_CONF_STREAMING(false),
+    ONT_API_WRITE_CONF_GZIP(false),
 
     OWL_API_WRITE_CONF_SAVE_IDS(false),
     OWL_API_WRITE_CONF_REMAP_IDS(true),
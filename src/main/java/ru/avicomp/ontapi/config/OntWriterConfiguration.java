@@ -108,6 +108,60 @@ public class OntWriterConfiguration extends OWLOntologyWriterConfiguration {
         return set(OntSettings.ONT_API_WRITE_CONF_CONTROL_IMPORTS, b);
     }
 
+    /**
+     * ONT-API getter.
+     * by default it is {@code false}.
+     *
+     * @return true if streaming writers are preferred
+     * @see #setStreamingWrite(boolean)
+     * @since 1.4.3
+     */
+    public boolean isStreamingWrite() {
+        return get(OntSettings.ONT_API_WRITE_CONF_STREAMING);
+    }
+
+    /**
+     * ONT-API config setter to enable or disable streaming save.
+     * If it is true, then the formats N-Triples, N-Quads, RDF-Thrift and Turtle are written
+     * directly from the graph iteration, triple by triple, without buffering or analysing the whole graph,
+     * so saving a large ontology needs constant memory.
+     * Turtle is written in the "blocked" form: subject by subject, without nested blank nodes and lists.
+     * The other formats are not affected.
+     *
+     * @param b boolean, to enable or disable streaming save
+     * @return this or new {@link OntWriterConfiguration} instance.
+     * @see #isStreamingWrite()
+     * @since 1.4.3
+     */
+    public OntWriterConfiguration setStreamingWrite(boolean b) {
+        return set(OntSettings.ONT_API_WRITE_CONF_STREAMING, b);
+    }
+
+    /**
+     * ONT-API getter.
+     * by default it is {@code false}.
+     *
+     * @return true if the output of Jena formats is gzip-compressed
+     * @see #setGzipCompression(boolean)
+     * @since 1.4.3
+     */
+    public boolean isGzipCompression() {
+        return get(OntSettings.ONT_API_WRITE_CONF_GZIP);
+    }
+
+    /**
+     * ONT-API config setter to enable or disable gzip compression of the output.
+     * The option affects only formats that are written by Jena.
+     *
+     * @param b boolean, to enable or disable gzip compression
+     * @return this or new {@link OntWriterConfiguration} instance.
+     * @see #isGzipCompression()
+     * @since 1.4.3
+     */
+    public OntWriterConfiguration setGzipCompression(boolean b) {
+        return set(OntSettings.ONT_API_WRITE_CONF_GZIP, b);
+    }
+
     /**
      * @see OWLOntologyWriterConfiguration#shouldUseBanners()
      */
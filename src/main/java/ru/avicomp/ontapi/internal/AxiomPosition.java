@@ -0,0 +1,206 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.internal;
+
+import org.semanticweb.owlapi.model.*;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Enum, that describes positions of {@code OWLObject}-components within {@link OWLAxiom}-containers.
+ * It is used to navigate over the content cache by a sub (or super) component of an axiom
+ * (see {@link org.semanticweb.owlapi.model.parameters.Navigation}),
+ * and also as a key for the optional positional (secondary) index, that is maintained by a {@link ObjectMap}.
+ * Each constant is bound to a single {@link OWLContentType} (i.e. to a single axiom type).
+ *
+ * @see ObjectMap#keys(Function, Object)
+ * @see ru.avicomp.ontapi.config.CacheSettings#CACHE_INDEX
+ */
+@SuppressWarnings("unchecked")
+public enum AxiomPosition implements Function<OWLAxiom, Stream<? extends OWLObject>> {
+    SUBCLASS_OF_SUB(OWLContentType.SUBCLASS_OF) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLSubClassOfAxiom) a).getSubClass());
+        }
+    },
+    SUBCLASS_OF_SUPER(OWLContentType.SUBCLASS_OF) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLSubClassOfAxiom) a).getSuperClass());
+        }
+    },
+    SUB_OBJECT_PROPERTY_SUB(OWLContentType.SUB_OBJECT_PROPERTY) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLSubObjectPropertyOfAxiom) a).getSubProperty());
+        }
+    },
+    SUB_OBJECT_PROPERTY_SUPER(OWLContentType.SUB_OBJECT_PROPERTY) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLSubObjectPropertyOfAxiom) a).getSuperProperty());
+        }
+    },
+    SUB_DATA_PROPERTY_SUB(OWLContentType.SUB_DATA_PROPERTY) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLSubDataPropertyOfAxiom) a).getSubProperty());
+        }
+    },
+    SUB_DATA_PROPERTY_SUPER(OWLContentType.SUB_DATA_PROPERTY) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLSubDataPropertyOfAxiom) a).getSuperProperty());
+        }
+    },
+    SUB_ANNOTATION_PROPERTY_OF_SUB(OWLContentType.SUB_ANNOTATION_PROPERTY_OF) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLSubAnnotationPropertyOfAxiom) a).getSubProperty());
+        }
+    },
+    SUB_ANNOTATION_PROPERTY_OF_SUPER(OWLContentType.SUB_ANNOTATION_PROPERTY_OF) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLSubAnnotationPropertyOfAxiom) a).getSuperProperty());
+        }
+    },
+    INVERSE_OBJECT_PROPERTIES_FIRST(OWLContentType.INVERSE_OBJECT_PROPERTIES) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLInverseObjectPropertiesAxiom) a).getFirstProperty());
+        }
+    },
+    INVERSE_OBJECT_PROPERTIES_SECOND(OWLContentType.INVERSE_OBJECT_PROPERTIES) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLInverseObjectPropertiesAxiom) a).getSecondProperty());
+        }
+    },
+    OBJECT_PROPERTY_ASSERTION_SUBJECT(OWLContentType.OBJECT_PROPERTY_ASSERTION) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLObjectPropertyAssertionAxiom) a).getSubject());
+        }
+    },
+    OBJECT_PROPERTY_ASSERTION_OBJECT(OWLContentType.OBJECT_PROPERTY_ASSERTION) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLObjectPropertyAssertionAxiom) a).getObject());
+        }
+    },
+    NEGATIVE_OBJECT_PROPERTY_ASSERTION_SUBJECT(OWLContentType.NEGATIVE_OBJECT_PROPERTY_ASSERTION) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLNegativeObjectPropertyAssertionAxiom) a).getSubject());
+        }
+    },
+    NEGATIVE_OBJECT_PROPERTY_ASSERTION_OBJECT(OWLContentType.NEGATIVE_OBJECT_PROPERTY_ASSERTION) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLNegativeObjectPropertyAssertionAxiom) a).getObject());
+        }
+    },
+    ANNOTATION_ASSERTION_VALUE(OWLContentType.ANNOTATION_ASSERTION) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLAnnotationAssertionAxiom) a).getValue());
+        }
+    },
+    DISJOINT_UNION_CLASS(OWLContentType.DISJOINT_UNION) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLDisjointUnionAxiom) a).getOWLClass());
+        }
+    },
+    DISJOINT_UNION_OPERANDS(OWLContentType.DISJOINT_UNION) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return ((OWLDisjointUnionAxiom) a).classExpressions();
+        }
+    },
+    SUB_PROPERTY_CHAIN_OF_SUPER(OWLContentType.SUB_PROPERTY_CHAIN_OF) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return Stream.of(((OWLSubPropertyChainOfAxiom) a).getSuperProperty());
+        }
+    },
+    SUB_PROPERTY_CHAIN_OF_CHAIN(OWLContentType.SUB_PROPERTY_CHAIN_OF) {
+        @Override
+        Stream<? extends OWLObject> components(OWLAxiom a) {
+            return ((OWLSubPropertyChainOfAxiom) a).getPropertyChain().stream();
+        }
+    },
+    // n-ary axioms:
+    EQUIVALENT_CLASSES_OPERANDS(OWLContentType.EQUIVALENT_CLASSES),
+    DISJOINT_CLASSES_OPERANDS(OWLContentType.DISJOINT_CLASSES),
+    SAME_INDIVIDUAL_OPERANDS(OWLContentType.SAME_INDIVIDUAL),
+    DIFFERENT_INDIVIDUALS_OPERANDS(OWLContentType.DIFFERENT_INDIVIDUALS),
+    EQUIVALENT_OBJECT_PROPERTIES_OPERANDS(OWLContentType.EQUIVALENT_OBJECT_PROPERTIES),
+    DISJOINT_OBJECT_PROPERTIES_OPERANDS(OWLContentType.DISJOINT_OBJECT_PROPERTIES),
+    EQUIVALENT_DATA_PROPERTIES_OPERANDS(OWLContentType.EQUIVALENT_DATA_PROPERTIES),
+    DISJOINT_DATA_PROPERTIES_OPERANDS(OWLContentType.DISJOINT_DATA_PROPERTIES),
+    ;
+
+    private final OWLContentType type;
+
+    AxiomPosition(OWLContentType type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns a {@link AxiomPosition} that corresponds to the operands of the given n-ary axiom type.
+     *
+     * @param type {@code Class} of {@link OWLNaryAxiom}, not {@code null}
+     * @return {@link AxiomPosition} or {@code null} if the given type is unknown or has no operands position
+     * (e.g. {@link org.semanticweb.owlapi.model.OWLInverseObjectPropertiesAxiom})
+     */
+    public static AxiomPosition operands(Class<? extends OWLAxiom> type) {
+        for (AxiomPosition res : values()) {
+            if (res.ordinal() >= EQUIVALENT_CLASSES_OPERANDS.ordinal()
+                    && res.type.getAxiomType().getActualClass() == type) {
+                return res;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the content type of axioms, to which this position is applicable.
+     *
+     * @return {@link OWLContentType}, never {@link OWLContentType#ANNOTATION}
+     */
+    public OWLContentType getContentType() {
+        return type;
+    }
+
+    /**
+     * Lists all components of the given {@code axiom} that are placed in this position.
+     * The default implementation is for n-ary axioms.
+     *
+     * @param a {@link OWLAxiom} of the {@link #getContentType() type}, not {@code null}
+     * @return {@code Stream} of {@link OWLObject}s
+     */
+    Stream<? extends OWLObject> components(OWLAxiom a) {
+        return ((OWLNaryAxiom<? extends OWLObject>) a).operands();
+    }
+
+    @Override
+    public Stream<? extends OWLObject> apply(OWLAxiom a) {
+        return components(a);
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.internal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.jena.graph.Node;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A manager-wide memory budget for the model caches.
+ * It is a single weight-bounded {@link Cache Caffeine Cache},
+ * that is shared between many {@link InternalCache} segments
+ * (i.e. between the entities caches of all {@link CacheObjectFactory}s
+ * and the nodes caches of all {@link SearchModel}s of a manager),
+ * so that the total estimated size of all cached entries does not exceed the specified number of bytes.
+ * The weight of an entry is a rough estimation of its key and value sizes in bytes, see {@link #weigh(Object, Object)}.
+ * Each segment collects its own hit, miss and eviction statistics.
+ * <p>
+ * A cached value (e.g. an {@link ONTObject}) may refer to the model it has been created for,
+ * and, therefore, to the whole graph.
+ * That's why the segments of a model must be {@link InternalCache#clear() cleared}
+ * when the model discards its object factory or search model,
+ * and when the ontology is removed from the manager (see {@link InternalModel#releaseCacheBudget()}):
+ * the budget should never be the only holder of a model,
+ * and the weight of an entry does not include the model it refers to.
+ * <p>
+ * Note: a segment never computes a value inside the shared cache,
+ * since the computation may require the same cache recursively
+ * (see issue <a href='https://github.com/avicomp/ont-api/issues/71'>#71</a>).
+ *
+ * @see ru.avicomp.ontapi.config.OntConfig#getManagerCacheBudget()
+ * @since 1.4.3
+ */
+@SuppressWarnings("WeakerAccess")
+public class CacheBudget {
+    /**
+     * An estimated overhead of a cache entry in bytes
+     * (a caffeine node, the composite key and the node of the segment's keys set).
+     */
+    protected static final int ENTRY_SIZE = 112;
+    /**
+     * An estimated size of an object with unknown structure in bytes.
+     */
+    protected static final int OBJECT_SIZE = 64;
+
+    protected final Cache<Key, Object> cache;
+    protected final long maximumWeight;
+
+    /**
+     * Creates a budget with the given size.
+     *
+     * @param maximumWeight long, the total estimated size of all cached entries in bytes, positive
+     */
+    public CacheBudget(long maximumWeight) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Non-positive cache budget: " + maximumWeight);
+        }
+        this.maximumWeight = maximumWeight;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .<Key, Object>weigher((k, v) -> weigh(k.key, v))
+                .executor(Runnable::run)
+                .removalListener((k, v, cause) -> {
+                    if (k != null) k.segment.onRemoval(k.key, v, cause);
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Estimates the size of a cache entry in bytes.
+     *
+     * @param key   {@code Object}, not {@code null}
+     * @param value {@code Object}, not {@code null}
+     * @return positive int
+     */
+    public static int weigh(Object key, Object value) {
+        return ENTRY_SIZE + sizeOf(key) + sizeOf(value);
+    }
+
+    /**
+     * Estimates the retained size of the given object in bytes.
+     * {@code Boolean}s are treated as shared constants.
+     * Any other objects with unknown structure (e.g. {@link ONTObject}s) are supposed to have a fixed size,
+     * the IRI string they contain is usually shared with the key,
+     * and the model they refer to is not retained by the budget (see the class description).
+     *
+     * @param o {@code Object}
+     * @return int
+     */
+    protected static int sizeOf(Object o) {
+        if (o == null || o instanceof Boolean) {
+            return 0;
+        }
+        if (o instanceof String) {
+            return 40 + 2 * ((String) o).length();
+        }
+        if (o instanceof Node) {
+            Node n = (Node) o;
+            if (n.isURI()) {
+                return 16 + sizeOf(n.getURI());
+            }
+            if (n.isLiteral()) {
+                return 48 + sizeOf(n.getLiteralLexicalForm());
+            }
+            // a blank node contains a BlankNodeId with a random UUID-like label:
+            return 16 + 16 + sizeOf(n.getBlankNodeLabel());
+        }
+        return OBJECT_SIZE;
+    }
+
+    /**
+     * Creates a new segment of this budget, which is an independent {@link InternalCache} view.
+     *
+     * @param <K> the type of keys maintained by the returned cache
+     * @param <V> the type of mapped values
+     * @return {@link InternalCache}
+     */
+    public <K, V> InternalCache<K, V> createSegment() {
+        return new Segment<>();
+    }
+
+    /**
+     * Returns the maximum total weight of all entries (in bytes).
+     *
+     * @return long
+     */
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Returns the current total weight of all entries (in bytes), that is an estimate.
+     *
+     * @return long
+     */
+    public long weightedSize() {
+        cache.cleanUp();
+        return cache.policy().eviction().map(x -> x.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    /**
+     * Returns the statistics of the whole shared cache.
+     *
+     * @return {@link CacheStats}
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheBudget{%d/%d}", weightedSize(), maximumWeight);
+    }
+
+    /**
+     * A key of the shared cache, that is a pair of a segment and a segment's key.
+     */
+    protected static final class Key {
+        private final Segment<?, ?> segment;
+        private final Object key;
+        private final int hash;
+
+        private Key(Segment<?, ?> segment, Object key) {
+            this.segment = segment;
+            this.key = key;
+            this.hash = 31 * System.identityHashCode(segment) + key.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return segment == other.segment && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A part of the shared cache, that is an {@link InternalCache} with its own statistics.
+     *
+     * @param <K> the type of keys maintained by this cache
+     * @param <V> the type of mapped values
+     */
+    protected class Segment<K, V> implements InternalCache<K, V> {
+        // the keys of this segment, that are present in the shared cache, used to clear the segment
+        protected final Set<Object> keys = ConcurrentHashMap.newKeySet();
+        protected final LongAdder hits = new LongAdder();
+        protected final LongAdder misses = new LongAdder();
+        protected final LongAdder evictions = new LongAdder();
+        protected final LongAdder evictionWeight = new LongAdder();
+
+        protected void onRemoval(Object key, Object value, RemovalCause cause) {
+            if (cause == RemovalCause.REPLACED) {
+                return;
+            }
+            // the entry may have been put again meanwhile, then the key must be kept:
+            if (!cache.asMap().containsKey(new Key(this, key))) {
+                keys.remove(key);
+            }
+            if (cause.wasEvicted()) {
+                evictions.increment();
+                evictionWeight.add(weigh(key, value));
+            }
+        }
+
+        @Override
+        public void put(K key, V value) {
+            // the key is recorded after putting, so that the removal of a previous entry cannot forget it;
+            // if the entry is evicted immediately, a stale key remains, which is harmless for the clearing
+            cache.put(new Key(this, key), value);
+            keys.add(key);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V get(K key) {
+            return (V) cache.getIfPresent(new Key(this, key));
+        }
+
+        @Override
+        public V get(K key, Function<? super K, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            V res;
+            if ((res = get(key)) != null) {
+                hits.increment();
+                return res;
+            }
+            misses.increment();
+            if ((res = mappingFunction.apply(key)) != null) {
+                put(key, res);
+            }
+            return res;
+        }
+
+        @Override
+        public void remove(K key) {
+            cache.invalidate(new Key(this, key));
+        }
+
+        @Override
+        public void clear() {
+            // each invalidated key is removed from the set by the removal listener, the stale keys are dropped here
+            keys.forEach(k -> cache.invalidate(new Key(this, k)));
+            keys.removeIf(k -> !cache.asMap().containsKey(new Key(this, k)));
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        @Override
+        public long size() {
+            return keys.size();
+        }
+
+        @Override
+        public CacheStats stats() {
+            return new CacheStats(hits.sum(), misses.sum(), 0, 0, 0, evictions.sum(), evictionWeight.sum());
+        }
+    }
+}
@@ -14,6 +14,7 @@
 
 package ru.avicomp.ontapi.internal;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.semanticweb.owlapi.model.*;
 import ru.avicomp.ontapi.DataFactory;
 import ru.avicomp.ontapi.internal.objects.ONTIRI;
@@ -21,6 +22,7 @@ import ru.avicomp.ontapi.jena.model.OntGraphModel;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -49,6 +51,7 @@ public class CacheObjectFactory extends ModelObjectFactory {
     protected final InternalCache.Loading<String, ONTObject<OWLNamedIndividual>> individuals;
     protected final InternalCache.Loading<String, IRI> iris;
     protected final Set<InternalCache> caches;
+    protected final Map<Class<? extends OWLPrimitive>, InternalCache> index;
 
     /**
      * Creates a default instance.
@@ -87,31 +90,51 @@ public class CacheObjectFactory extends ModelObjectFactory {
                                  Supplier<OntGraphModel> model,
                                  Map<Class<? extends OWLPrimitive>, InternalCache> external,
                                  Supplier<InternalCache> cacheFactory) {
-        super(dataFactory, model);
+        this(dataFactory, model, external, cacheFactory, false);
+    }
+
+    /**
+     * Creates an instance, that contain both shared (outer) and fresh (inner) caches,
+     * and optionally interns entities and literals, see {@link ModelObjectFactory#ModelObjectFactory(DataFactory, Supplier, boolean)}.
+     *
+     * @param dataFactory {@link DataFactory}, not {@code null}
+     * @param model a facility (as {@code Supplier}) to provide nonnull {@link OntGraphModel} instance, not {@code null}
+     * @param external a {@code Map} containing existing outer caches, not {@code null}
+     * @param cacheFactory a facility ({@code Supplier}) to produce new cache instances, not {@code null}
+     * @param intern boolean, if {@code true} the interning mode is enabled
+     * @since 1.4.3
+     */
+    protected CacheObjectFactory(DataFactory dataFactory,
+                                 Supplier<OntGraphModel> model,
+                                 Map<Class<? extends OWLPrimitive>, InternalCache> external,
+                                 Supplier<InternalCache> cacheFactory,
+                                 boolean intern) {
+        super(dataFactory, model, intern);
         this.caches = new HashSet<>();
-        this.iris = fetchCache(external, caches, cacheFactory, org.semanticweb.owlapi.model.IRI.class).asLoading(super::toIRI);
-        this.classes = fetchCache(external, caches, cacheFactory, OWLClass.class).asLoading(super::getClass);
-        this.datatypes = fetchCache(external, caches, cacheFactory, OWLDatatype.class).asLoading(super::getDatatype);
-        this.annotationProperties = fetchCache(external, caches, cacheFactory, OWLAnnotationProperty.class)
+        this.index = new LinkedHashMap<>();
+        this.iris = fetchCache(external, cacheFactory, org.semanticweb.owlapi.model.IRI.class).asLoading(super::toIRI);
+        this.classes = fetchCache(external, cacheFactory, OWLClass.class).asLoading(super::getClass);
+        this.datatypes = fetchCache(external, cacheFactory, OWLDatatype.class).asLoading(super::getDatatype);
+        this.annotationProperties = fetchCache(external, cacheFactory, OWLAnnotationProperty.class)
                 .asLoading(super::getAnnotationProperty);
-        this.datatypeProperties = fetchCache(external, caches, cacheFactory, OWLDataProperty.class)
+        this.datatypeProperties = fetchCache(external, cacheFactory, OWLDataProperty.class)
                 .asLoading(super::getDataProperty);
-        this.objectProperties = fetchCache(external, caches, cacheFactory, OWLObjectProperty.class)
+        this.objectProperties = fetchCache(external, cacheFactory, OWLObjectProperty.class)
                 .asLoading(super::getObjectProperty);
-        this.individuals = fetchCache(external, caches, cacheFactory, OWLNamedIndividual.class)
+        this.individuals = fetchCache(external, cacheFactory, OWLNamedIndividual.class)
                 .asLoading(super::getNamedIndividual);
     }
 
     @SuppressWarnings("unchecked")
-    private static <R> InternalCache<String, R> fetchCache(Map<Class<? extends OWLPrimitive>, InternalCache> system,
-                                                           Set<InternalCache> caches,
-                                                           Supplier<InternalCache> factory,
-                                                           Class<? extends OWLPrimitive> key) {
+    private <R> InternalCache<String, R> fetchCache(Map<Class<? extends OWLPrimitive>, InternalCache> system,
+                                                    Supplier<InternalCache> factory,
+                                                    Class<? extends OWLPrimitive> key) {
         InternalCache res = system.get(key);
         if (res == null) {
             res = factory.get();
             caches.add(res);
         }
+        index.put(key, res);
         return (InternalCache<String, R>) res;
     }
 
@@ -122,6 +145,18 @@ public class CacheObjectFactory extends ModelObjectFactory {
         caches.forEach(InternalCache::clear);
     }
 
+    /**
+     * Returns the statistics of all caches, including shared ones.
+     *
+     * @return {@code Map} with {@link OWLPrimitive} class-types as keys and {@link CacheStats} as values
+     * @since 1.4.3
+     */
+    public Map<Class<? extends OWLPrimitive>, CacheStats> getCacheStats() {
+        Map<Class<? extends OWLPrimitive>, CacheStats> res = new LinkedHashMap<>();
+        index.forEach((k, v) -> res.put(k, v.stats()));
+        return res;
+    }
+
     @Override
     public ONTObject<OWLClass> getClass(String uri) {
         return classes.get(uri);
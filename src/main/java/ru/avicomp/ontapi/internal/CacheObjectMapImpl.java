@@ -21,8 +21,9 @@ import org.semanticweb.owlapi.model.OWLObject;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -61,6 +62,10 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
     private final boolean parallel;
     // to control key-iteration
     private final boolean fastIterator;
+    // to control positional search
+    private final boolean withIndex;
+    // to allow lock-free reads, which require a concurrent map
+    private final boolean concurrentReads;
 
     @SuppressWarnings("unused")
     public CacheObjectMapImpl(Supplier<Iterator<ONTObject<X>>> loader, boolean parallel) {
@@ -68,7 +73,7 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
     }
 
     /**
-     * Constructs a bucket instance.
+     * Constructs a bucket instance without positional index.
      *
      * @param loader       a {@code Supplier} to load object-triples pairs, not {@code null}
      * @param withMerge    if {@code true} merging is performed while loading cache,
@@ -80,10 +85,55 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
                               boolean withMerge,
                               boolean parallel,
                               boolean fastIterator) {
+        this(loader, withMerge, parallel, fastIterator, false);
+    }
+
+    /**
+     * Constructs a bucket instance.
+     *
+     * @param loader       a {@code Supplier} to load object-triples pairs, not {@code null}
+     * @param withMerge    if {@code true} merging is performed while loading cache,
+     *                     otherwise the source is assumed to be distinct
+     * @param parallel     if {@code true} use caffeine cache, otherwise LHM based cache
+     * @param fastIterator if {@code true} use Array-based cache to speedup iteration over {@link X}-keys
+     * @param withIndex    if {@code true} use lazily built positional indexes to speedup search by component,
+     *                     see {@link #keys(Function, Object)}
+     */
+    public CacheObjectMapImpl(Supplier<Iterator<ONTObject<X>>> loader,
+                              boolean withMerge,
+                              boolean parallel,
+                              boolean fastIterator,
+                              boolean withIndex) {
+        this(loader, withMerge, parallel, fastIterator, withIndex, false);
+    }
+
+    /**
+     * Constructs a bucket instance.
+     *
+     * @param loader          a {@code Supplier} to load object-triples pairs, not {@code null}
+     * @param withMerge       if {@code true} merging is performed while loading cache,
+     *                        otherwise the source is assumed to be distinct
+     * @param parallel        if {@code true} use caffeine cache, otherwise LHM based cache
+     * @param fastIterator    if {@code true} use Array-based cache to speedup iteration over {@link X}-keys
+     * @param withIndex       if {@code true} use lazily built positional indexes to speedup search by component,
+     *                        see {@link #keys(Function, Object)}
+     * @param concurrentReads if {@code true} and {@code parallel} is {@code true}
+     *                        the map is always concurrent, so that {@link #peekContains(OWLObject)}
+     *                        and {@link #peekCount()} are available for lock-free reads
+     * @since 1.4.3
+     */
+    public CacheObjectMapImpl(Supplier<Iterator<ONTObject<X>>> loader,
+                              boolean withMerge,
+                              boolean parallel,
+                              boolean fastIterator,
+                              boolean withIndex,
+                              boolean concurrentReads) {
         this.loader = Objects.requireNonNull(loader);
+        this.concurrentReads = concurrentReads;
         this.withMerge = withMerge;
         this.parallel = parallel;
         this.fastIterator = fastIterator;
+        this.withIndex = withIndex;
         this.map = InternalCache.createSoftSingleton(CacheObjectMapImpl::loadMap);
     }
 
@@ -100,13 +150,13 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
             while (it.hasNext()) {
                 WithMerge.add(res, it.next());
             }
-            return CachedMap.create(res, WithMerge.getMerger(), parallel);
+            return CachedMap.create(res, WithMerge.getMerger(), parallel, withIndex);
         }
         while (it.hasNext()) {
             ONTObject<X> v = it.next();
             res.put(v.getOWLObject(), v);
         }
-        return CachedMap.create(res, null, parallel);
+        return CachedMap.create(res, null, parallel, withIndex);
     }
 
     /**
@@ -117,8 +167,9 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
      * @return {@link Map}
      */
     protected <K, V> Map<K, V> createMap() {
-        if (parallel && !fastIterator) {
+        if (parallel && (!fastIterator || concurrentReads)) {
             // use ConcurrentMap to ensure the objects list will not be broken by some mutation
+            // (and to allow lock-free reads)
             return new ConcurrentHashMap<>();
         }
         // Iteration over LHM is a little bit faster than iteration over HashMap.
@@ -157,6 +208,24 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
         return getMap().asMap().keySet().stream();
     }
 
+    /**
+     * {@inheritDoc}
+     * If the positional index is enabled,
+     * the search is performed by a hash lookup in the secondary index, that is built lazily for the given position.
+     *
+     * @param position  {@link Function} that extracts position components from a {@link X}-container,
+     *                  must be a constant, not {@code null}
+     * @param component {@link Object} to search, not {@code null}
+     * @return {@code Stream} of {@link X}s
+     */
+    @Override
+    public Stream<X> keys(Function<? super X, ? extends Stream<?>> position, Object component) {
+        if (!withIndex) {
+            return ObjectMap.super.keys(position, component);
+        }
+        return getMap().getKeys(position, component).stream();
+    }
+
     @Override
     public Stream<ONTObject<X>> values() {
         return getMap().asMap().values().stream();
@@ -179,6 +248,32 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
         return getMap().contains(o);
     }
 
+    /**
+     * {@inheritDoc}
+     * The result is available only if the map is backed by a {@link ConcurrentMap},
+     * since a lock-free read of {@code LinkedHashMap} may race with a writer.
+     *
+     * @param key {@link X} key-object, not {@code null}
+     * @return {@code Optional} with boolean or empty {@code Optional}
+     */
+    @Override
+    public Optional<Boolean> peekContains(X key) {
+        CachedMap<X, ONTObject<X>> res = map.getIfPresent(this);
+        return res == null || !res.isConcurrent() ? Optional.empty() : Optional.of(res.contains(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The result is available only if the map is backed by a {@link ConcurrentMap}.
+     *
+     * @return {@code OptionalLong}
+     */
+    @Override
+    public OptionalLong peekCount() {
+        CachedMap<X, ONTObject<X>> res = map.getIfPresent(this);
+        return res == null || !res.isConcurrent() ? OptionalLong.empty() : OptionalLong.of(res.size());
+    }
+
     /**
      * Deletes the given object and all its associated triples.
      *
@@ -209,7 +304,11 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
     /**
      * An internal map-object that holds true-{@code Map} with {@link K}-keys and {@link V}-values.
      * It has the dedicated cache implemented as {@link java.lang.ref.SoftReference}
-     * for the map keys to provide fast iteration, this is the only difference with the standard map.
+     * for the map keys to provide fast iteration.
+     * Also, it may have secondary positional indexes,
+     * that map a key component (which is determined by a position-function) to all keys that contain it.
+     * The indexes are built lazily, on demand, and then maintained by {@link #put(Object, Object)}
+     * and {@link #remove(Object)} operations.
      * @param <K> the type of keys maintained by this map
      * @param <V> the type of mapped values
      */
@@ -217,13 +316,26 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
         protected final Map<K, V> map;
         protected final BiFunction<V, V, V> merger;
         protected final InternalCache.Loading<CachedMap, List<K>> keys;
+        // positional indexes: position-function -> (component -> keys)
+        protected final Map<Function<? super K, ? extends Stream<?>>, Map<Object, Set<K>>> indexes;
+        protected final boolean parallel;
 
         protected CachedMap(Map<K, V> objects,
                             InternalCache.Loading<CachedMap, List<K>> cache,
                             BiFunction<V, V, V> merger) {
+            this(objects, cache, merger, null, false);
+        }
+
+        protected CachedMap(Map<K, V> objects,
+                            InternalCache.Loading<CachedMap, List<K>> cache,
+                            BiFunction<V, V, V> merger,
+                            Map<Function<? super K, ? extends Stream<?>>, Map<Object, Set<K>>> indexes,
+                            boolean parallel) {
             this.map = Objects.requireNonNull(objects);
             this.keys = Objects.requireNonNull(cache);
             this.merger = merger;
+            this.indexes = indexes;
+            this.parallel = parallel;
         }
 
         /**
@@ -239,16 +351,37 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
         public static <K, V> CachedMap<K, V> create(Map<K, V> map,
                                                     BiFunction<V, V, V> merger,
                                                     boolean parallel) {
+            return create(map, merger, parallel, false);
+        }
+
+        /**
+         * Creates a ready-to-use {@code CacheMap} instance.
+         *
+         * @param map       {@code Map} to wrap
+         * @param merger    a Function to perform merge operations
+         * @param parallel  a boolean flag that is used to create {@link InternalCache} instance
+         * @param withIndex if {@code true} the map will support positional indexes
+         * @param <K>       the type of keys maintained by this map
+         * @param <V>       the type of mapped values
+         * @return {@link CachedMap} instance
+         */
+        public static <K, V> CachedMap<K, V> create(Map<K, V> map,
+                                                    BiFunction<V, V, V> merger,
+                                                    boolean parallel,
+                                                    boolean withIndex) {
             InternalCache.Loading<CachedMap, List<K>> keys = InternalCache.createSoftSingleton(m -> {
                 if (!parallel) {
                     return new ArrayList<>(map.keySet());
                 }
                 // R/W lock does not guarantee thread-safety in multithreading,
                 // since iterator go beyond a locked-block where it has been initialized,
-                // but (I believe), R/W locking reduces the List's mutation costs
-                return new CopyOnWriteArrayList<>(map.keySet());
+                // so each stream is created over an immutable versioned snapshot
+                return new SnapshotList<>(map.keySet());
             });
-            return new CachedMap<>(map, keys, merger);
+            if (!withIndex) {
+                return new CachedMap<>(map, keys, merger);
+            }
+            return new CachedMap<>(map, keys, merger, parallel ? new ConcurrentHashMap<>() : new HashMap<>(), parallel);
         }
 
         /**
@@ -260,6 +393,16 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
             return map.size();
         }
 
+        /**
+         * Answers {@code true} if the underlying map is thread-safe for the lock-free reads.
+         *
+         * @return boolean
+         * @since 1.4.3
+         */
+        public boolean isConcurrent() {
+            return map instanceof ConcurrentMap;
+        }
+
         /**
          * Represents this map as a true java {@code Map}
          *
@@ -289,6 +432,9 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
             if (map.remove(key) == null) {
                 return;
             }
+            if (indexes != null) {
+                indexes.forEach((position, index) -> unindex(index, position, key));
+            }
             if (keys.isEmpty()) {
                 return;
             }
@@ -309,6 +455,9 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
          * @param value value to be associated with the specified key
          */
         public void put(K key, V value) {
+            if (indexes != null && !map.containsKey(key)) {
+                indexes.forEach((position, index) -> index(index, position, key));
+            }
             if (merger != null) {
                 map.merge(key, value, merger);
             } else {
@@ -345,6 +494,181 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
         public V get(K key) {
             return map.get(key);
         }
+
+        /**
+         * Returns all keys that contain the given {@code component} in the specified {@code position}.
+         * If there is no index for the {@code position} yet, it will be built.
+         * Note: this map must be created with indexes support (see {@link #create(Map, BiFunction, boolean, boolean)})
+         *
+         * @param position  {@link Function} to extract components from a key, a constant, not {@code null}
+         * @param component {@link Object}, not {@code null}
+         * @return {@code Collection} of {@link K}s, a snapshot copy in case of parallel mode
+         */
+        public Collection<K> getKeys(Function<? super K, ? extends Stream<?>> position, Object component) {
+            Map<Object, Set<K>> index = Objects.requireNonNull(indexes, "No index support").get(position);
+            if (index == null) {
+                synchronized (indexes) {
+                    if ((index = indexes.get(position)) == null) {
+                        indexes.put(position, index = createIndex(position));
+                    }
+                }
+            }
+            Set<K> res = index.get(component);
+            if (res == null) {
+                return Collections.emptySet();
+            }
+            // R/W lock does not guarantee thread-safety if iterating goes beyond the lock,
+            // so make a copy, the collection of keys for a component is expected to be small
+            return parallel ? new ArrayList<>(res) : res;
+        }
+
+        /**
+         * Creates a fresh positional index for the given {@code position}.
+         *
+         * @param position {@link Function} to extract components from a key, not {@code null}
+         * @return {@code Map} where keys are components and values are sets of {@link K}-keys
+         */
+        protected Map<Object, Set<K>> createIndex(Function<? super K, ? extends Stream<?>> position) {
+            Map<Object, Set<K>> res = new HashMap<>();
+            map.keySet().forEach(k -> index(res, position, k));
+            return res;
+        }
+
+        private static <K> void index(Map<Object, Set<K>> index,
+                                      Function<? super K, ? extends Stream<?>> position,
+                                      K key) {
+            position.apply(key).forEach(x -> index.computeIfAbsent(x, c -> new LinkedHashSet<>()).add(key));
+        }
+
+        private static <K> void unindex(Map<Object, Set<K>> index,
+                                        Function<? super K, ? extends Stream<?>> position,
+                                        K key) {
+            position.apply(key).forEach(x -> {
+                Set<K> set = index.get(x);
+                if (set == null) return;
+                set.remove(key);
+                if (set.isEmpty()) {
+                    index.remove(x);
+                }
+            });
+        }
+    }
+
+    /**
+     * A {@code List} with versioned immutable snapshots,
+     * that is used in parallel mode instead of {@link java.util.concurrent.CopyOnWriteArrayList}.
+     * Each read operation, including {@link #stream()} and {@link #iterator()}, works with the current snapshot,
+     * which is an array and a size published at once through a volatile field,
+     * so a stream can go beyond the locked section without copying and without {@link ConcurrentModificationException}.
+     * Appending to the end of the list does not copy the array:
+     * the new element is written after the published size, and therefore is invisible to the existing snapshots.
+     * Any other modification (i.e. removing) makes a fresh array.
+     *
+     * @param <E> the type of elements
+     * @since 1.4.3
+     */
+    public static class SnapshotList<E> extends AbstractList<E> implements RandomAccess {
+        private volatile Snapshot snapshot;
+
+        public SnapshotList(Collection<? extends E> elements) {
+            Object[] data = elements.toArray();
+            this.snapshot = new Snapshot(data, data.length);
+        }
+
+        /**
+         * Returns the current immutable snapshot as a {@code List}.
+         *
+         * @return unmodifiable {@code List}
+         */
+        @SuppressWarnings("unchecked")
+        public List<E> snapshot() {
+            Snapshot res = snapshot;
+            return Collections.unmodifiableList((List<E>) Arrays.asList(res.data).subList(0, res.size));
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E get(int index) {
+            Snapshot res = snapshot;
+            if (index < 0 || index >= res.size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + res.size);
+            }
+            return (E) res.data[index];
+        }
+
+        @Override
+        public int size() {
+            return snapshot.size;
+        }
+
+        @Override
+        public synchronized boolean add(E e) {
+            Snapshot res = snapshot;
+            Object[] data = res.data;
+            if (res.size == data.length) {
+                data = Arrays.copyOf(data, Math.max(16, res.size + (res.size >> 1)));
+            }
+            data[res.size] = e;
+            snapshot = new Snapshot(data, res.size + 1);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public synchronized E remove(int index) {
+            Snapshot res = snapshot;
+            if (index < 0 || index >= res.size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + res.size);
+            }
+            Object[] data = new Object[res.size - 1];
+            System.arraycopy(res.data, 0, data, 0, index);
+            System.arraycopy(res.data, index + 1, data, index, res.size - index - 1);
+            snapshot = new Snapshot(data, data.length);
+            return (E) res.data[index];
+        }
+
+        @Override
+        public synchronized boolean remove(Object o) {
+            int index = indexOf(o);
+            if (index < 0) return false;
+            remove(index);
+            return true;
+        }
+
+        @Override
+        public synchronized void clear() {
+            snapshot = new Snapshot(new Object[0], 0);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return snapshot().iterator();
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            return snapshot().listIterator(index);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Spliterator<E> spliterator() {
+            Snapshot res = snapshot;
+            return Spliterators.spliterator(res.data, 0, res.size, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+        }
+
+        /**
+         * An immutable pair of array and size.
+         */
+        private static class Snapshot {
+            private final Object[] data;
+            private final int size;
+
+            private Snapshot(Object[] data, int size) {
+                this.data = data;
+                this.size = size;
+            }
+        }
     }
 
 }
@@ -17,11 +17,13 @@ package ru.avicomp.ontapi.internal;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 import java.lang.ref.SoftReference;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 /**
@@ -95,6 +97,18 @@ public interface InternalCache<K, V> {
      */
     long size();
 
+    /**
+     * Returns a snapshot of this cache's cumulative statistics:
+     * the number of hits, misses and evictions.
+     * All the counters are zero if the cache does not record statistics.
+     *
+     * @return {@link CacheStats}
+     * @since 1.4.3
+     */
+    default CacheStats stats() {
+        return CacheStats.empty();
+    }
+
     /**
      * Returns the value associated with the {@code key} in this cache,
      * obtaining that value from the {@code mappingFunction} if necessary.
@@ -204,14 +218,9 @@ public interface InternalCache<K, V> {
      */
     static <K, V> InternalCache<K, V> createBounded(boolean caffeine, long size) {
         if (caffeine) {
-            return new CaffeineWrapper<>(Caffeine.newBuilder().maximumSize(size).build());
+            return new CaffeineWrapper<>(Caffeine.newBuilder().maximumSize(size).recordStats().build());
         }
-        return fromMap(new LinkedHashMap<K, V>((int) size, 0.75f, true) {
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-                return size() > size;
-            }
-        });
+        return new BoundedMapWrapper<>(size);
     }
 
     /**
@@ -230,13 +239,8 @@ public interface InternalCache<K, V> {
                                               boolean caffeine,
                                               long size) {
         InternalCache<K, V> res = caffeine ?
-                new CaffeineWrapper<>(Caffeine.newBuilder().maximumSize(size).build(loader::apply), loader) :
-                fromMap(new LinkedHashMap<K, V>((int) size, 0.75f, true) {
-                    @Override
-                    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-                        return size() > size;
-                    }
-                });
+                new CaffeineWrapper<>(Caffeine.newBuilder().maximumSize(size).recordStats().build(loader::apply), loader) :
+                new BoundedMapWrapper<>(size);
         return res.asLoading(loader);
     }
 
@@ -306,6 +310,11 @@ public interface InternalCache<K, V> {
                 }
             }
 
+            @Override
+            public V getIfPresent(K key) {
+                return value;
+            }
+
             @Override
             public InternalCache<K, V> asCache() {
                 throw new UnsupportedOperationException();
@@ -356,6 +365,12 @@ public interface InternalCache<K, V> {
                 }
             }
 
+            @Override
+            public V getIfPresent(K key) {
+                SoftReference<V> res = value;
+                return res == null ? null : res.get();
+            }
+
             @Override
             public InternalCache<K, V> asCache() {
                 throw new UnsupportedOperationException();
@@ -410,6 +425,18 @@ public interface InternalCache<K, V> {
          */
         V get(K key);
 
+        /**
+         * Returns the value associated with the {@code key} in this cache,
+         * or {@code null} if there is no cached value; never loads anything.
+         *
+         * @param key {@link K} key
+         * @return {@link V} or {@code null}
+         * @since 1.4.3
+         */
+        default V getIfPresent(K key) {
+            return asCache().get(key);
+        }
+
         /**
          * Answers a {@link InternalCache} view of this cache.
          *
@@ -594,6 +621,76 @@ public interface InternalCache<K, V> {
         }
     }
 
+    /**
+     * A bounded LRU {@code InternalCache} implementation that wraps the access-ordered {@link LinkedHashMap}
+     * and collects statistics.
+     * It is partially synchronized: only read operations are not safe.
+     *
+     * @param <K> the type of keys maintained by this cache
+     * @param <V> the type of mapped values
+     * @since 1.4.3
+     */
+    @SuppressWarnings("WeakerAccess")
+    class BoundedMapWrapper<K, V> extends MapWrapper<K, V> {
+        protected final LongAdder hits = new LongAdder();
+        protected final LongAdder misses = new LongAdder();
+
+        protected BoundedMapWrapper(long size) {
+            super(new LRUMap<>(size));
+        }
+
+        @Override
+        public V get(K key, Function<? super K, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            V res;
+            if ((res = get(key)) != null) {
+                hits.increment();
+                return res;
+            }
+            synchronized (map) {
+                if ((res = get(key)) != null) {
+                    hits.increment();
+                    return res;
+                }
+                misses.increment();
+                if ((res = mappingFunction.apply(key)) != null) {
+                    put(key, res);
+                }
+            }
+            return res;
+        }
+
+        @Override
+        public CacheStats stats() {
+            return new CacheStats(hits.sum(), misses.sum(), 0, 0, 0, ((LRUMap<K, V>) map).evictions);
+        }
+
+        /**
+         * An access-ordered {@code LinkedHashMap} with limited size, that counts evicted entries.
+         *
+         * @param <K> the type of keys maintained by this map
+         * @param <V> the type of mapped values
+         */
+        protected static class LRUMap<K, V> extends LinkedHashMap<K, V> {
+            private final long limit;
+            private volatile long evictions;
+
+            protected LRUMap(long limit) {
+                super((int) limit, 0.75f, true);
+                this.limit = limit;
+            }
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > limit) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        }
+    }
+
     /**
      * A {@code InternalCache} implementations that wraps the {@link Cache Caffeine Cache}.
      *
@@ -650,6 +747,11 @@ public interface InternalCache<K, V> {
             return cache.get(key, mappingFunction);
         }
 
+        @Override
+        public CacheStats stats() {
+            return cache.stats();
+        }
+
         @Override
         public <Key extends K, Value extends V> Loading<Key, Value> asLoading(Function<? super Key, ? extends Value> loader) {
             Objects.requireNonNull(loader);
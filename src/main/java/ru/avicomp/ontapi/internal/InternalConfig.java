@@ -21,6 +21,8 @@ import ru.avicomp.ontapi.config.OntLoaderConfiguration;
 
 import java.util.EnumMap;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A container with various configuration settings
@@ -41,6 +43,43 @@ public interface InternalConfig extends CacheSettings, AxiomsSettings {
         return false;
     }
 
+    /**
+     * Answers whether the model content may be read without locking (optimistically) in parallel with a writer.
+     * If {@code true}, the content caches must be backed by concurrent maps even if the iterator cache is enabled.
+     *
+     * @return {@code true} if optimistic reads are allowed
+     * @see ObjectMap#peekContains(org.semanticweb.owlapi.model.OWLObject)
+     * @since 1.4.3
+     */
+    default boolean optimisticReads() {
+        return false;
+    }
+
+    /**
+     * Returns the memory budget, that is shared between the model caches of different ontologies.
+     * If it is present, the entities and nodes caches are bounded by the estimated size of their entries,
+     * otherwise by the number of entries.
+     *
+     * @return {@link CacheBudget} or {@code null}
+     * @see #getLoadObjectsCacheSize()
+     * @see #getLoadNodesCacheSize()
+     * @since 1.4.3
+     */
+    default CacheBudget getCacheBudget() {
+        return null;
+    }
+
+    /**
+     * Returns the executor to load the content cache in parallel.
+     *
+     * @return {@link Executor}, not {@code null}, the {@link ForkJoinPool#commonPool() common pool} by default
+     * @see InternalModel#forceLoad()
+     * @since 1.4.3
+     */
+    default Executor getLoadExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
     /**
      * Gets a fixed state of this config as immutable instance.
      *
@@ -56,9 +95,15 @@ public interface InternalConfig extends CacheSettings, AxiomsSettings {
     class Snapshot implements InternalConfig {
         private final EnumMap<Key, Object> map = new EnumMap<>(Key.class);
         private final boolean parallel;
+        private final boolean optimisticReads;
+        private final CacheBudget budget;
+        private final Executor loadExecutor;
 
         Snapshot(InternalConfig delegate) {
             parallel = Objects.requireNonNull(delegate, "Null config").parallel();
+            optimisticReads = delegate.optimisticReads();
+            budget = delegate.getCacheBudget();
+            loadExecutor = delegate.getLoadExecutor();
             map.put(Key.LOAD_ANNOTATIONS, delegate.isLoadAnnotationAxioms());
             map.put(Key.ALLOW_DECLARATION_BULK_ANNOTATIONS, delegate.isAllowBulkAnnotationAssertions());
             map.put(Key.IGNORE_ANNOTATION_OVERLAPS, delegate.isIgnoreAnnotationAxiomOverlaps());
@@ -125,6 +170,21 @@ public interface InternalConfig extends CacheSettings, AxiomsSettings {
             return parallel;
         }
 
+        @Override
+        public boolean optimisticReads() {
+            return optimisticReads;
+        }
+
+        @Override
+        public CacheBudget getCacheBudget() {
+            return budget;
+        }
+
+        @Override
+        public Executor getLoadExecutor() {
+            return loadExecutor;
+        }
+
         @Override
         public Snapshot snapshot() {
             return this;
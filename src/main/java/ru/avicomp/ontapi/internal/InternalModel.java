@@ -14,13 +14,14 @@
 
 package ru.avicomp.ontapi.internal;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.GraphEventManager;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
-import org.apache.jena.mem.GraphMem;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.shared.Lock;
@@ -33,6 +34,7 @@ import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.DataFactory;
 import ru.avicomp.ontapi.OntApiException;
 import ru.avicomp.ontapi.OntologyID;
+import ru.avicomp.ontapi.config.BulkOptions;
 import ru.avicomp.ontapi.internal.axioms.*;
 import ru.avicomp.ontapi.jena.OntJenaException;
 import ru.avicomp.ontapi.jena.RWLockedGraph;
@@ -40,6 +42,7 @@ import ru.avicomp.ontapi.jena.UnionGraph;
 import ru.avicomp.ontapi.jena.impl.OntGraphModelImpl;
 import ru.avicomp.ontapi.jena.impl.conf.OntPersonality;
 import ru.avicomp.ontapi.jena.model.*;
+import ru.avicomp.ontapi.jena.utils.Graphs;
 import ru.avicomp.ontapi.jena.utils.Iter;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
 import ru.avicomp.ontapi.jena.vocabulary.RDF;
@@ -47,6 +50,11 @@ import ru.avicomp.ontapi.jena.vocabulary.RDF;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -88,6 +96,30 @@ public class InternalModel extends OntGraphModelImpl
         implements OntGraphModel, HasOntologyID, HasObjectFactory, HasConfig {
     private static final Logger LOGGER = LoggerFactory.getLogger(InternalModel.class);
 
+    /**
+     * A mapping between the uri-subject root triple's predicate and the content types,
+     * whose axioms can be defined by such a triple.
+     * Used by the {@link DirectListener} in incremental mode.
+     */
+    protected static final Map<Node, Set<OWLContentType>> AXIOM_PREDICATES = createAxiomPredicatesMap();
+    /**
+     * Content types, that can be affected by a triple with non-system predicate and uri subject.
+     */
+    protected static final Set<OWLContentType> ASSERTION_CONTENT = Collections.unmodifiableSet(
+            EnumSet.of(OWLContentType.ANNOTATION_ASSERTION,
+                    OWLContentType.OBJECT_PROPERTY_ASSERTION, OWLContentType.DATA_PROPERTY_ASSERTION));
+    /**
+     * Content types, that can be affected by a class assertion (i.e. {@code rdf:type} triple),
+     * since the subject becomes an individual:
+     * all axioms that may contain individuals directly or inside class expressions or SWRL rules.
+     */
+    protected static final Set<OWLContentType> INDIVIDUAL_CONTENT = Collections.unmodifiableSet(
+            OWLContentType.axioms()
+                    .filter(k -> k.hasComponent(OWLComponentType.NAMED_INDIVIDUAL)
+                            || k.hasComponent(OWLComponentType.CLASS_EXPRESSION)
+                            || k.hasComponent(OWLComponentType.SWRL_ATOM))
+                    .collect(Collectors.toCollection(() -> EnumSet.noneOf(OWLContentType.class))));
+
     /**
      * Ontology ID cache.
      */
@@ -118,6 +150,18 @@ public class InternalModel extends OntGraphModelImpl
      * @see SearchModel
      */
     protected final InternalCache.Loading<InternalModel, OntGraphModelImpl> searchModel;
+    /**
+     * The segments of the manager's shared {@link CacheBudget},
+     * that are used by the {@link #objectFactory} and {@link #searchModel} caches.
+     * They are cleared together with these caches,
+     * since an entry may refer to this model and, therefore, retain the whole graph.
+     */
+    protected final Set<InternalCache<?, ?>> budgetSegments = ConcurrentHashMap.newKeySet();
+    /**
+     * If {@code true} this model does not use the manager's {@link CacheBudget} anymore,
+     * see {@link #releaseCacheBudget()}.
+     */
+    protected volatile boolean budgetReleased;
     /**
      * The main cache, which contains all axioms and the ontology header.
      * It contains {@code 40} key-value pairs, {@code 39} for kinds of axioms and one for the ontology header.
@@ -135,6 +179,20 @@ public class InternalModel extends OntGraphModelImpl
      * @see ObjectMap
      */
     protected final InternalCache.Loading<InternalModel, Map<OWLComponentType, ObjectMap<OWLObject>>> components;
+    /**
+     * The single pass reader, that is shared between the buckets of the current {@link #content} store,
+     * or {@code null} if this way of loading is disabled.
+     *
+     * @see InternalConfig#useSinglePassLoadCache()
+     */
+    protected volatile SinglePassAxiomReader reader;
+    /**
+     * The index of triple reference counts, that is built over the fully loaded {@link #content} store,
+     * or {@code null} if it is not built yet or has been invalidated.
+     *
+     * @see #getTripleRefCounter()
+     */
+    protected volatile TripleRefCounter refs;
     /**
      * The direct listener, it monitors changes that occur through the main (Jena) interface.
      */
@@ -198,6 +256,7 @@ public class InternalModel extends OntGraphModelImpl
             // these are controlled changes; do not reset the whole cache,
             // just only annotations (associated triples map is changed):
             getHeaderCache().clear();
+            this.refs = null;
             if (Objects.requireNonNull(id, "Null id").isAnonymous()) {
                 OntID res;
                 if (id instanceof OntologyID) {
@@ -255,13 +314,79 @@ public class InternalModel extends OntGraphModelImpl
                                                         Map<Class<? extends OWLPrimitive>, InternalCache> external) {
         InternalConfig conf = getConfig();
         Supplier<OntGraphModel> model = this::getSearchModel;
+        boolean intern = conf.useInternCache();
         if (!conf.useLoadObjectsCache()) {
-            return new ModelObjectFactory(df, model);
+            return new ModelObjectFactory(df, model, intern);
         }
         long size = conf.getLoadObjectsCacheSize();
         boolean parallel = conf.parallel();
+        CacheBudget budget = getCacheBudget();
         Map<Class<? extends OWLPrimitive>, InternalCache> map = external == null ? Collections.emptyMap() : external;
-        return new CacheObjectFactory(df, model, map, () -> InternalCache.createBounded(parallel, size));
+        return new CacheObjectFactory(df, model, map,
+                budget != null ? () -> createBudgetSegment(budget) : () -> InternalCache.createBounded(parallel, size),
+                intern);
+    }
+
+    /**
+     * Returns the manager's memory budget, that is used by this model caches.
+     *
+     * @return {@link CacheBudget} or {@code null}
+     * @see InternalConfig#getCacheBudget()
+     * @since 1.4.3
+     */
+    protected CacheBudget getCacheBudget() {
+        return budgetReleased ? null : getConfig().getCacheBudget();
+    }
+
+    /**
+     * Creates a new segment of the given budget, that is owned by this model.
+     *
+     * @param budget {@link CacheBudget}, not {@code null}
+     * @param <K>    the type of keys
+     * @param <V>    the type of values
+     * @return {@link InternalCache}
+     * @see #clearBudgetSegments()
+     * @since 1.4.3
+     */
+    protected <K, V> InternalCache<K, V> createBudgetSegment(CacheBudget budget) {
+        InternalCache<K, V> res = budget.createSegment();
+        budgetSegments.add(res);
+        return res;
+    }
+
+    /**
+     * Discards all entries that this model has put into the manager's {@link CacheBudget}
+     * and stops using the budget: the caches created after this call are bounded by the number of entries.
+     * Must be called when the ontology is removed from the manager,
+     * so that the shared cache does not retain this model and its graph.
+     *
+     * @since 1.4.3
+     */
+    public void releaseCacheBudget() {
+        budgetReleased = true;
+        clearOtherCaches();
+    }
+
+    /**
+     * Returns the statistics of the entities and nodes caches of this model, if they are present.
+     * The keys are the names of caches:
+     * {@code objects:<OWL-API type>} for {@link CacheObjectFactory} caches
+     * and {@code nodes:<ONT-API type>} for {@link SearchModel} caches.
+     *
+     * @return {@code Map} with cache names as keys and {@link CacheStats} as values
+     * @since 1.4.3
+     */
+    public Map<String, CacheStats> getCacheStats() {
+        Map<String, CacheStats> res = new LinkedHashMap<>();
+        InternalObjectFactory of = objectFactory.getIfPresent(this);
+        if (of instanceof CacheObjectFactory) {
+            ((CacheObjectFactory) of).getCacheStats().forEach((k, v) -> res.put("objects:" + k.getSimpleName(), v));
+        }
+        OntGraphModelImpl sm = searchModel.getIfPresent(this);
+        if (sm instanceof SearchModel) {
+            ((SearchModel) sm).getNodesCacheStats().forEach((k, v) -> res.put("nodes:" + k.getSimpleName(), v));
+        }
+        return res;
     }
 
     /**
@@ -291,7 +416,9 @@ public class InternalModel extends OntGraphModelImpl
         if (!getConfig().useLoadNodesCache()) {
             return this;
         }
-        return new SearchModel(getGraph(), getOntPersonality(), getConfig()) {
+        CacheBudget budget = getCacheBudget();
+        return new SearchModel(getGraph(), getOntPersonality(), getConfig(),
+                budget == null ? null : () -> createBudgetSegment(budget)) {
 
             @Override
             public String toString() {
@@ -395,7 +522,7 @@ public class InternalModel extends OntGraphModelImpl
      */
     public boolean isOntologyEmpty() {
         Graph bg = getBaseGraph();
-        if (bg instanceof GraphMem) {
+        if (Graphs.isMem(bg)) {
             if (bg.isEmpty()) {
                 // really empty:
                 return true;
@@ -728,11 +855,11 @@ public class InternalModel extends OntGraphModelImpl
         OWLComponentType filter = OWLComponentType.get(primitive);
         if (OWLContentType.ANNOTATION.hasComponent(filter)) {
             // is type of annotation -> any axiom may contain the primitive
-            return reduce(OWLContentType.axioms().flatMap(k -> {
+            return flatMap(OWLContentType.axioms(), k -> {
                 ObjectMap<OWLAxiom> axioms = getContentCache(k);
                 Predicate<OWLAxiom> p = k.hasComponent(filter) ? a -> true : k::hasAnnotations;
                 return axioms.keys().filter(x -> p.test(x) && filter.contains(x, primitive));
-            }));
+            });
         }
         // select only those container-types, that are capable to contain the primitive
         return flatMap(filteredAxiomsCaches(OWLContentType.axioms().filter(x -> x.hasComponent(filter))),
@@ -768,6 +895,21 @@ public class InternalModel extends OntGraphModelImpl
         return (Stream<A>) getAxiomsCache(key).keys().filter(x -> filter.contains(x, object));
     }
 
+    /**
+     * Lists all axioms, that contain the given {@code component} in the specified {@code position}.
+     * If the positional index cache is enabled (see {@link InternalConfig#useIndexCache()}),
+     * then the search is performed through a secondary index, which is built on first demand,
+     * otherwise, the whole axioms cache of the corresponding type is traversed.
+     *
+     * @param position  {@link AxiomPosition}, not {@code null}
+     * @param component {@link OWLObject}, not {@code null}
+     * @param <A>       type of axiom
+     * @return {@code Stream} of {@link OWLAxiom}s
+     */
+    public <A extends OWLAxiom> Stream<A> listOWLAxioms(AxiomPosition position, OWLObject component) {
+        return (Stream<A>) getAxiomsCache(position.getContentType()).keys(position, component);
+    }
+
     /**
      * Lists axioms of the given axiom-type.
      *
@@ -834,6 +976,10 @@ public class InternalModel extends OntGraphModelImpl
      * with the contents of a mapped stream produced by applying the provided mapping function to each element.
      * The purpose of this method is the same as for {@link #reduce(Stream)}:
      * for thread-safety reasons calculations should not go beyond the bounds of this method.
+     * Unlike {@link #reduce(Stream)} it does not copy the elements:
+     * the mapped streams are expected to be created over immutable key snapshots
+     * (see {@link CacheObjectMapImpl.SnapshotList}), so only the streams themselves are collected,
+     * which forces loading caches and fixes the snapshot versions inside the locked section.
      *
      * @param stream {@code Stream} of {@link X}
      * @param map    a {@link Function} for mapping {@link X} to {@code Stream} of {@link R}
@@ -848,7 +994,6 @@ public class InternalModel extends OntGraphModelImpl
             return stream.flatMap(map);
         }
         // force put everything into cache (memory) and get data snapshot
-        // for now there is no any better solution
         return stream.map(map).collect(Collectors.toList()).stream().flatMap(Function.identity());
     }
 
@@ -864,6 +1009,57 @@ public class InternalModel extends OntGraphModelImpl
         return getAxiomsCache(OWLContentType.get(a.getAxiomType())).contains(a);
     }
 
+    /**
+     * Answers {@code true} if the given axiom is present within this buffer-model,
+     * but only if the corresponding cache is already in memory.
+     * This method never reads the graph and never loads any caches, i.e. it has no side effects,
+     * and therefore can be used for lock-free (optimistic) reads.
+     *
+     * @param a {@link OWLAxiom}, not {@code null}
+     * @return {@code Optional} with boolean or empty {@code Optional} if the cache is not loaded
+     * @see #contains(OWLAxiom)
+     * @since 1.4.3
+     */
+    public Optional<Boolean> peekContains(OWLAxiom a) {
+        ObjectMap<OWLAxiom> res = findContentCache(OWLContentType.get(a.getAxiomType()));
+        return res == null ? Optional.empty() : res.peekContains(a);
+    }
+
+    /**
+     * Returns the number of axioms of the given type, but only if the corresponding cache is already in memory.
+     * This method has no side effects.
+     *
+     * @param type {@link AxiomType}, not {@code null}
+     * @return {@code OptionalLong}, empty if the cache is not loaded
+     * @see #peekContains(OWLAxiom)
+     * @since 1.4.3
+     */
+    public OptionalLong peekOWLAxiomCount(AxiomType<?> type) {
+        ObjectMap<OWLAxiom> res = findContentCache(OWLContentType.get(type));
+        return res == null ? OptionalLong.empty() : res.peekCount();
+    }
+
+    /**
+     * Returns the number of all axioms in this ontology, but only if all axiom caches are already in memory.
+     * This method has no side effects.
+     *
+     * @return {@code OptionalLong}, empty if some cache is not loaded
+     * @see #getOWLAxiomCount()
+     * @since 1.4.3
+     */
+    public OptionalLong peekOWLAxiomCount() {
+        Map<OWLContentType, ObjectMap<? extends OWLObject>> store = content.getIfPresent(this);
+        if (store == null) return OptionalLong.empty();
+        long res = 0;
+        for (Map.Entry<OWLContentType, ObjectMap<? extends OWLObject>> e : store.entrySet()) {
+            if (!e.getKey().isAxiom()) continue;
+            OptionalLong count = e.getValue().peekCount();
+            if (!count.isPresent()) return OptionalLong.empty();
+            res += count.getAsLong();
+        }
+        return OptionalLong.of(res);
+    }
+
     /**
      * Answers {@code true} if the given annotation is present in ontology header.
      *
@@ -930,29 +1126,21 @@ public class InternalModel extends OntGraphModelImpl
      * @throws OntApiException in case the object cannot be added into model
      */
     protected boolean add(OWLContentType key, OWLObject container) throws OntApiException {
-        OWLTriples.Listener listener = OWLTriples.createListener();
-        GraphEventManager evm = getGraph().getEventManager();
         ObjectMap<OWLObject> map = getContentCache(key);
         map.load(); // before graph modification
+        OWLTriples<OWLObject> value;
         try {
             disableDirectListening();
-            evm.register(listener);
-            key.write(this, container);
-        } catch (Exception e) {
-            listener.getTriples().forEach(this::delete);
-            if (e instanceof OntApiException)
-                throw e;
-            throw new OntApiException(String.format("OWLObject: %s, message: '%s'", container, e.getMessage()), e);
+            value = write(key, container);
         } finally {
-            evm.unregister(listener);
             enableDirectListening();
         }
-        OWLTriples<OWLObject> value = listener.toObject(container);
         if (value.isDefinitelyEmpty()) {
             LOGGER.warn("Attempt to add empty OWL object: {}", container);
             return false;
         }
         map.add(value);
+        acquire(value);
         // put new components into objects cache
         cacheComponents(container);
         // clear search model and object factory
@@ -960,12 +1148,132 @@ public class InternalModel extends OntGraphModelImpl
         return true;
     }
 
+    /**
+     * Adds the given axioms into the model in the bulk mode.
+     * Unlike the sequential calls of {@link #add(OWLAxiom)},
+     * this method loads all the affected content caches before the graph modification,
+     * then writes all axioms into the graph and puts them into the content caches,
+     * and only after that invalidates the derived caches (i.e. the search model and the object factory) once.
+     * Axioms that are already present in the model are skipped.
+     * If some axiom cannot be written, the whole batch is rolled back:
+     * the triples of the failed axiom are deleted and the axioms that have been already added
+     * in this call are removed from the model (in reverse order), then the exception is rethrown.
+     *
+     * @param axioms  {@code Stream} of {@link OWLAxiom}s to add, not {@code null}
+     * @param options {@link BulkOptions}, not {@code null}
+     * @return {@code List} of actually added {@link OWLAxiom}s, in encounter order
+     * @throws OntApiException in case some axiom cannot be added into model
+     * @see #add(OWLAxiom)
+     * @since 1.4.3
+     */
+    public List<OWLAxiom> addAxioms(Stream<? extends OWLAxiom> axioms, BulkOptions options) throws OntApiException {
+        Objects.requireNonNull(options);
+        List<OWLAxiom> list = axioms.collect(Collectors.toList());
+        if (list.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<OWLContentType, ObjectMap<OWLObject>> maps = new EnumMap<>(OWLContentType.class);
+        list.forEach(a -> maps.computeIfAbsent(OWLContentType.get(a.getAxiomType()), k -> {
+            ObjectMap<OWLObject> res = getContentCache(k);
+            res.load(); // before graph modification
+            return res;
+        }));
+        List<OWLAxiom> res = new ArrayList<>();
+        boolean done = false;
+        try {
+            disableDirectListening();
+            for (OWLAxiom a : list) {
+                OWLContentType key = OWLContentType.get(a.getAxiomType());
+                ObjectMap<OWLObject> map = maps.get(key);
+                if (map.contains(a)) {
+                    continue;
+                }
+                OWLTriples<OWLObject> value = write(key, a);
+                if (value.isDefinitelyEmpty()) {
+                    LOGGER.warn("Attempt to add empty OWL object: {}", a);
+                    continue;
+                }
+                map.add(value);
+                acquire(value);
+                res.add(a);
+            }
+            done = true;
+        } finally {
+            enableDirectListening();
+            if (!res.isEmpty()) {
+                if (!done) {
+                    rollback(res);
+                    clearComponentsCaches();
+                } else if (options.isCacheComponents()) {
+                    // put new components into objects cache
+                    res.forEach(this::cacheComponents);
+                    // clear search model and object factory
+                    clearOtherCaches();
+                } else {
+                    clearComponentsCaches();
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Removes the given axioms, that have been partially added by the failed bulk operation, from the model.
+     * The axioms are removed in reverse order, the shared triples are kept in the same way as in {@link #remove(OWLAxiom)}.
+     * Note: the direct listening must be enabled while calling this method.
+     *
+     * @param added {@code List} of {@link OWLAxiom}s that have been written into the graph, not {@code null}
+     * @see #addAxioms(Stream, BulkOptions)
+     * @since 1.4.3
+     */
+    protected void rollback(List<OWLAxiom> added) {
+        for (int i = added.size() - 1; i >= 0; i--) {
+            try {
+                remove(added.get(i));
+            } catch (Exception e) {
+                LOGGER.warn("Can't rollback {}: '{}'", added.get(i), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Writes the given {@code container} into the graph, collecting the added triples.
+     * In case of error, the triples are rolled back.
+     * Note: the direct listening (i.e. the {@link DirectListener}) must be disabled while calling this method.
+     *
+     * @param key       {@link OWLContentType}, not {@code null}
+     * @param container either {@link OWLAxiom} or {@link OWLAnnotation},
+     *                  that corresponds to the {@code key}, not {@code null}
+     * @return {@link OWLTriples} - a container with the added triples
+     * @throws OntApiException in case the object cannot be added into model
+     * @since 1.4.3
+     */
+    protected OWLTriples<OWLObject> write(OWLContentType key, OWLObject container) throws OntApiException {
+        OWLTriples.Listener listener = OWLTriples.createListener();
+        GraphEventManager evm = getGraph().getEventManager();
+        try {
+            evm.register(listener);
+            key.write(this, container);
+        } catch (Exception e) {
+            listener.getTriples().forEach(this::delete);
+            if (e instanceof OntApiException)
+                throw e;
+            throw new OntApiException(String.format("OWLObject: %s, message: '%s'", container, e.getMessage()), e);
+        } finally {
+            evm.unregister(listener);
+            clearSinglePassCache();
+        }
+        return listener.toObject(container);
+    }
+
     /**
      * Removes the given {@code container} from the corresponding {@link ObjectMap cache} and the model.
      * In case some container's triple is associated with other object, it cannot be deleted from the graph.
      * Example of such intersection in triples is reusing b-nodes:
      * {@code <A> rdfs:subClassOf _:b0} and {@code <B> rdfs:subClassOf _:b0}.
      * Also, OWL-Entity declaration root-triples are shared between different axioms.
+     * If the content cache is enabled, the triple reference counts index is used to determine the triples to delete,
+     * otherwise the graph is re-read to find the triples that are used by other content objects.
      *
      * @param key       {@link OWLContentType}, not {@code null}
      * @param container either {@link OWLAxiom} or {@link OWLAnnotation},
@@ -983,8 +1291,15 @@ public class InternalModel extends OntGraphModelImpl
                 // they, sometimes, do not be aware what they do
                 return false;
             }
+            TripleRefCounter refs = getTripleRefCounter();
             map.remove(container);
             container = value.getOWLObject();
+            if (refs != null) {
+                List<Triple> unused = refs.release(container);
+                if (unused != null) {
+                    return remove(container, unused);
+                }
+            }
             OntGraphModel m = toModel(value);
             // triples that are used by other content objects:
             Set<Triple> used = new HashSet<>();
@@ -998,6 +1313,7 @@ public class InternalModel extends OntGraphModelImpl
             Graph g = m.getBaseGraph();
             long size = g.size();
             g.find().filterDrop(used::contains).forEachRemaining(this::delete);
+            clearSinglePassCache();
             boolean res = size != g.size();
             // clear search model and object factory
             clearOtherCaches();
@@ -1007,6 +1323,76 @@ public class InternalModel extends OntGraphModelImpl
         }
     }
 
+    /**
+     * Removes the given {@code container}'s components from the objects cache
+     * and deletes the specified triples from the base graph.
+     * Auxiliary method.
+     *
+     * @param container {@link OWLObject} - the content container, that has already been removed from the content cache
+     * @param unused    {@code Collection} of {@link Triple}s that are not used by other content containers
+     * @return {@code true} if the graph has been changed
+     * @see TripleRefCounter#release(Object)
+     * @since 1.4.3
+     */
+    protected boolean remove(OWLObject container, Collection<Triple> unused) {
+        // do it before graph modification since ONTObject's may rely on graph
+        clearComponents(container);
+        Graph g = getBaseGraph();
+        boolean res = false;
+        for (Triple t : unused) {
+            if (!g.contains(t)) continue;
+            delete(t);
+            res = true;
+        }
+        clearSinglePassCache();
+        // clear search model and object factory
+        clearOtherCaches();
+        return res;
+    }
+
+    /**
+     * Returns the triple reference counts index, building it if necessary.
+     * To build the index, all the content caches are loaded.
+     * The index is only available if the content cache is enabled.
+     *
+     * @return {@link TripleRefCounter} or {@code null} if the content cache is disabled
+     * @see InternalConfig#useContentCache()
+     * @since 1.4.3
+     */
+    protected TripleRefCounter getTripleRefCounter() {
+        TripleRefCounter res = refs;
+        if (res != null) {
+            return res;
+        }
+        if (!getConfig().useContentCache()) {
+            return null;
+        }
+        Map<OWLContentType, ObjectMap<? extends OWLObject>> store = getContentStore();
+        res = new TripleRefCounter();
+        for (ObjectMap<? extends OWLObject> map : store.values()) {
+            TripleRefCounter counter = res;
+            map.values().forEach(x -> counter.acquire(x.getOWLObject(), x.triples()));
+        }
+        if (store != getContentStore()) {
+            // the content cache has been invalidated while building
+            return null;
+        }
+        return refs = res;
+    }
+
+    /**
+     * Registers the given content container in the triple reference counts index, if it is present.
+     *
+     * @param value {@link ONTObject} - the content container with triples
+     * @since 1.4.3
+     */
+    protected void acquire(ONTObject<? extends OWLObject> value) {
+        TripleRefCounter res = refs;
+        if (res != null) {
+            res.acquire(value.getOWLObject(), value.triples());
+        }
+    }
+
     /**
      * Returns a {@code Set} of {@link Triple}s,
      * that belongs to both the given and some other content component
@@ -1192,6 +1578,7 @@ public class InternalModel extends OntGraphModelImpl
      */
     public void clearCache() {
         cachedID = null;
+        refs = null;
         content.clear();
         config.clear();
         clearComponentsCaches();
@@ -1213,6 +1600,36 @@ public class InternalModel extends OntGraphModelImpl
     protected void clearOtherCaches() {
         objectFactory.clear();
         searchModel.clear();
+        clearBudgetSegments();
+    }
+
+    /**
+     * Clears all {@link CacheBudget} segments, that belong to this model.
+     * Auxiliary method.
+     *
+     * @since 1.4.3
+     */
+    protected void clearBudgetSegments() {
+        if (budgetSegments.isEmpty()) return;
+        budgetSegments.removeIf(x -> {
+            x.clear();
+            return true;
+        });
+    }
+
+    /**
+     * Invalidates the single pass reader's result (if any),
+     * so that the content buckets, that are not loaded yet, will be read from the current graph state.
+     * Auxiliary method.
+     *
+     * @see SinglePassAxiomReader#invalidate()
+     * @since 1.4.3
+     */
+    protected void clearSinglePassCache() {
+        SinglePassAxiomReader pass = reader;
+        if (pass != null) {
+            pass.invalidate();
+        }
     }
 
     @Override
@@ -1220,6 +1637,39 @@ public class InternalModel extends OntGraphModelImpl
         return String.format("[%s]%s", getClass().getSimpleName(), getID());
     }
 
+    /**
+     * Creates a {@code Map} of the predicates that may define some axiom
+     * in the form of a triple with uri subject (a root triple), to the possible axiom types.
+     *
+     * @return unmodifiable {@code Map}
+     * @see DirectListener#getAffectedTypes(Triple)
+     */
+    private static Map<Node, Set<OWLContentType>> createAxiomPredicatesMap() {
+        Map<Node, Set<OWLContentType>> res = new HashMap<>();
+        BiConsumer<Property, Set<OWLContentType>> put = (p, k) -> res.put(p.asNode(), Collections.unmodifiableSet(k));
+        put.accept(RDFS.subClassOf, EnumSet.of(OWLContentType.SUBCLASS_OF));
+        put.accept(OWL.equivalentClass, EnumSet.of(OWLContentType.EQUIVALENT_CLASSES,
+                OWLContentType.DATATYPE_DEFINITION));
+        put.accept(OWL.disjointWith, EnumSet.of(OWLContentType.DISJOINT_CLASSES));
+        put.accept(OWL.disjointUnionOf, EnumSet.of(OWLContentType.DISJOINT_UNION));
+        put.accept(OWL.hasKey, EnumSet.of(OWLContentType.HAS_KEY));
+        put.accept(RDFS.subPropertyOf, EnumSet.of(OWLContentType.SUB_OBJECT_PROPERTY,
+                OWLContentType.SUB_DATA_PROPERTY, OWLContentType.SUB_ANNOTATION_PROPERTY_OF));
+        put.accept(OWL.equivalentProperty, EnumSet.of(OWLContentType.EQUIVALENT_OBJECT_PROPERTIES,
+                OWLContentType.EQUIVALENT_DATA_PROPERTIES));
+        put.accept(OWL.propertyDisjointWith, EnumSet.of(OWLContentType.DISJOINT_OBJECT_PROPERTIES,
+                OWLContentType.DISJOINT_DATA_PROPERTIES));
+        put.accept(OWL.inverseOf, EnumSet.of(OWLContentType.INVERSE_OBJECT_PROPERTIES));
+        put.accept(OWL.propertyChainAxiom, EnumSet.of(OWLContentType.SUB_PROPERTY_CHAIN_OF));
+        put.accept(RDFS.domain, EnumSet.of(OWLContentType.OBJECT_PROPERTY_DOMAIN,
+                OWLContentType.DATA_PROPERTY_DOMAIN, OWLContentType.ANNOTATION_PROPERTY_DOMAIN));
+        put.accept(RDFS.range, EnumSet.of(OWLContentType.OBJECT_PROPERTY_RANGE,
+                OWLContentType.DATA_PROPERTY_RANGE, OWLContentType.ANNOTATION_PROPERTY_RANGE));
+        put.accept(OWL.sameAs, EnumSet.of(OWLContentType.SAME_INDIVIDUAL));
+        put.accept(OWL.differentFrom, EnumSet.of(OWLContentType.DIFFERENT_INDIVIDUALS));
+        return Collections.unmodifiableMap(res);
+    }
+
     /**
      * Creates a {@code Map} that has {@link Enum}-keys using the specified parameters.
      *
@@ -1422,11 +1872,101 @@ public class InternalModel extends OntGraphModelImpl
 
     /**
      * Forcibly loads the whole content cache.
+     * If the parallel warm-up is enabled (see {@link InternalConfig#useParallelLoadCache()})
+     * and it is safe for this model (see {@link #canLoadInParallel()}),
+     * the loading is performed in the {@link InternalConfig#getLoadExecutor() executor} from the config,
+     * which is the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool} by default.
      */
     public void forceLoad() {
+        InternalConfig conf = getConfig();
+        if (conf.useParallelLoadCache() && canLoadInParallel()) {
+            forceLoad(conf.getLoadExecutor());
+            return;
+        }
         getContentStore().values().forEach(ObjectMap::load);
     }
 
+    /**
+     * Forcibly loads the whole content cache using the given {@code Executor}:
+     * each {@link OWLContentType content type} is loaded in a separate task.
+     * The content translators are independent readers of the graph,
+     * which must not be changed during the operation.
+     * The shared {@link InternalObjectFactory object factory} and {@link SearchModel search model}
+     * are initialized in the calling thread before submitting the tasks.
+     * Notice that the internal caches are thread-safe only if {@link InternalConfig#parallel()} is {@code true},
+     * and the graph must not contain {@link RWLockedGraph}s, since the calling thread may hold the write lock;
+     * if it is not so, the cache is loaded sequentially in the calling thread.
+     *
+     * @param executor {@link Executor}, not {@code null}
+     * @return a {@code Map} with the load time per each content type, which is not {@code null} and not empty
+     * @see #canLoadInParallel()
+     */
+    public Map<OWLContentType, Duration> forceLoad(Executor executor) {
+        Objects.requireNonNull(executor, "Null executor");
+        Map<OWLContentType, ObjectMap<? extends OWLObject>> store = getContentStore();
+        Map<OWLContentType, Duration> res = new ConcurrentHashMap<>();
+        if (!canLoadInParallel()) {
+            store.forEach((k, v) -> res.put(k, load(v)));
+            return logLoadTimes(res);
+        }
+        getObjectFactory();
+        getSearchModel();
+        CompletableFuture<?>[] tasks = store.entrySet().stream()
+                .map(x -> CompletableFuture.runAsync(() -> res.put(x.getKey(), load(x.getValue())), executor))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new OntApiException("Can't load content", e.getCause());
+        }
+        return logLoadTimes(res);
+    }
+
+    /**
+     * Answers {@code true} if the content cache can be loaded in parallel.
+     *
+     * @return boolean
+     * @see #forceLoad(Executor)
+     */
+    protected boolean canLoadInParallel() {
+        InternalConfig conf = getConfig();
+        if (!conf.parallel() || !conf.useContentCache()) {
+            return false;
+        }
+        return !Iter.findFirst(getGraph().listBaseGraphs().filterKeep(RWLockedGraph.class::isInstance)).isPresent();
+    }
+
+    /**
+     * Loads the given {@link ObjectMap} and measures the time spent.
+     *
+     * @param map {@link ObjectMap}
+     * @return {@link Duration}
+     */
+    private static Duration load(ObjectMap<?> map) {
+        Instant start = Instant.now();
+        map.load();
+        return Duration.between(start, Instant.now());
+    }
+
+    /**
+     * Logs (in debug mode) the given load times and returns them in the {@link OWLContentType} order.
+     *
+     * @param times {@code Map} with {@link Duration}s
+     * @return {@code Map}
+     */
+    private Map<OWLContentType, Duration> logLoadTimes(Map<OWLContentType, Duration> times) {
+        Map<OWLContentType, Duration> res = new EnumMap<>(times);
+        if (LOGGER.isDebugEnabled()) {
+            OntID id = getID();
+            res.forEach((k, d) -> LOGGER.debug("[{}]{}:::{}ms", id, StringUtils.rightPad("[" + k + "]", 42),
+                    d.toMillis()));
+        }
+        return res;
+    }
+
     /**
      * Maps the given {@code Stream} of {@link OWLContentType} to {@link ObjectMap}.
      * The input must contain only those elements
@@ -1472,6 +2012,19 @@ public class InternalModel extends OntGraphModelImpl
         return (ObjectMap<X>) getContentStore().get(key);
     }
 
+    /**
+     * Finds a content cache container for the given type without loading anything.
+     *
+     * @param key {@link OWLContentType}, not {@code null}
+     * @param <X> either {@link OWLAxiom} or {@link OWLAnnotation}
+     * @return {@link ObjectMap} or {@code null} if the content store is not created yet
+     * @since 1.4.3
+     */
+    protected <X extends OWLObject> ObjectMap<X> findContentCache(OWLContentType key) {
+        Map<OWLContentType, ObjectMap<? extends OWLObject>> res = content.getIfPresent(this);
+        return res == null ? null : (ObjectMap<X>) res.get(key);
+    }
+
     /**
      * Gets a content store {@code Map}.
      *
@@ -1488,6 +2041,10 @@ public class InternalModel extends OntGraphModelImpl
      * @see #createComponentStore()
      */
     protected Map<OWLContentType, ObjectMap<? extends OWLObject>> createContentStore() {
+        InternalConfig conf = getConfig();
+        this.refs = null;
+        this.reader = conf.useContentCache() && conf.useSinglePassLoadCache() ?
+                new SinglePassAxiomReader(this::getSearchModel, getObjectFactory(), conf) : null;
         return createMapStore(OWLContentType.class, OWLContentType.all(), this::createContentObjectMap);
     }
 
@@ -1500,8 +2057,16 @@ public class InternalModel extends OntGraphModelImpl
     protected ObjectMap<OWLObject> createContentObjectMap(OWLContentType key) {
         InternalObjectFactory df = getObjectFactory();
         Supplier<OntGraphModel> m = this::getSearchModel;
-        Supplier<Iterator<ONTObject<OWLObject>>> loader =
-                () -> (Iterator<ONTObject<OWLObject>>) key.read(m, df, getConfig());
+        SinglePassAxiomReader pass = this.reader;
+        Supplier<Iterator<ONTObject<OWLObject>>> loader = () -> {
+            if (pass != null) {
+                List<?> res = pass.take(key);
+                if (res != null) {
+                    return (Iterator<ONTObject<OWLObject>>) res.iterator();
+                }
+            }
+            return (Iterator<ONTObject<OWLObject>>) key.read(m, df, getConfig());
+        };
         InternalConfig conf = getConfig();
         if (!conf.useContentCache()) {
             // todo: need a straight way to find ONTObject by OWLObject,
@@ -1510,12 +2075,15 @@ public class InternalModel extends OntGraphModelImpl
         }
         boolean parallel = conf.parallel();
         boolean fastIterator = conf.useIteratorCache();
+        boolean withIndex = key.isAxiom() && conf.useIndexCache();
         boolean withMerge = !key.isDistinct();
+        boolean concurrentReads = conf.optimisticReads();
         if (!LOGGER.isDebugEnabled()) {
-            return new CacheObjectMapImpl<>(loader, withMerge, parallel, fastIterator);
+            return new CacheObjectMapImpl<>(loader, withMerge, parallel, fastIterator, withIndex, concurrentReads);
         }
         OntID id = getID();
-        return new CacheObjectMapImpl<OWLObject>(loader, withMerge, parallel, fastIterator) {
+        return new CacheObjectMapImpl<OWLObject>(loader, withMerge, parallel, fastIterator, withIndex,
+                concurrentReads) {
             @Override
             protected CachedMap loadMap() {
                 Instant start = Instant.now();
@@ -1535,6 +2103,11 @@ public class InternalModel extends OntGraphModelImpl
 
     /**
      * The direct listener to synchronize caches while working through OWL-API and jena at the same time.
+     * <p>
+     * If the incremental mode is enabled (see {@link InternalConfig#useIncrementalCache()}),
+     * then each changed triple is mapped to the set of {@link OWLContentType}s whose translators can be affected,
+     * and only these content buckets are released, the rest of the {@link #content} cache stays warm.
+     * Otherwise, or if the triple cannot be definitely attributed, the whole cache is invalidated.
      *
      * @see org.apache.jena.graph.GraphListener
      * @see org.apache.jena.graph.GraphEventManager
@@ -1545,10 +2118,73 @@ public class InternalModel extends OntGraphModelImpl
             clearCache();
         }
 
+        /**
+         * Invalidates those caches that can be affected by the given triple.
+         *
+         * @param t {@link Triple} - added or deleted, not {@code null}
+         */
+        protected void invalidate(Triple t) {
+            if (content.isEmpty() || !getConfig().useIncrementalCache()) {
+                invalidate();
+                return;
+            }
+            Set<OWLContentType> types = getAffectedTypes(t);
+            if (types == null) {
+                invalidate();
+                return;
+            }
+            getNodeCache().remove(t.getSubject());
+            clearSinglePassCache();
+            Map<OWLContentType, ObjectMap<? extends OWLObject>> store = getContentStore();
+            types.forEach(k -> store.get(k).clear());
+            refs = null;
+            // components are collected from the content:
+            clearComponentsCaches();
+        }
+
+        /**
+         * Answers a {@code Set} of content types, which can be affected by adding or deleting the given triple.
+         * To keep things simple, only triples with uri subject are analyzed:
+         * such a triple can be either a root of some axiom or an ontology header statement.
+         * Any triple with a blank subject may be a part of any anonymous expression or reification,
+         * any declaration may change the interpretation of all other axioms,
+         * so for them the method returns {@code null}, which means the whole cache should be released.
+         *
+         * @param t {@link Triple}, not {@code null}
+         * @return {@code Set} of {@link OWLContentType}s or {@code null} if the affected types are unknown
+         */
+        protected Set<OWLContentType> getAffectedTypes(Triple t) {
+            Node s = t.getSubject();
+            if (!s.isURI()) {
+                return null;
+            }
+            if (getBaseGraph().contains(s, RDF.Nodes.type, OWL.Ontology.asNode())) {
+                // the ontology header
+                return null;
+            }
+            OntPersonality personality = getOntPersonality();
+            Node p = t.getPredicate();
+            if (RDF.Nodes.type.equals(p)) {
+                Node o = t.getObject();
+                if (!o.isURI() || personality.getReserved().getResources().contains(o)) {
+                    // a declaration or some other system triple
+                    return null;
+                }
+                // class assertion, which makes the subject an individual
+                return INDIVIDUAL_CONTENT;
+            }
+            if (personality.getBuiltins().getProperties().contains(p)
+                    || !personality.getReserved().getProperties().contains(p)) {
+                return ASSERTION_CONTENT;
+            }
+            return AXIOM_PREDICATES.get(p);
+        }
+
         @Override
         protected void addEvent(Triple t) {
-            // we don't know which axiom would own this triple, so we clear the whole cache.
-            invalidate();
+            // we don't know exactly which axiom would own this triple,
+            // so we clear the whole cache or, in incremental mode, all the buckets that may own it
+            invalidate(t);
         }
 
         @Override
@@ -1556,8 +2192,8 @@ public class InternalModel extends OntGraphModelImpl
             // Although it is possible to detect only those cache elements,
             // that are really affected by deleting the triple,
             // but such a calculation would be rather too complicated and time-consuming and (therefore) possibly buggy.
-            // So it seems to be better just release all caches.
-            invalidate();
+            // So it seems to be better just release all caches or, in incremental mode, the whole affected buckets.
+            invalidate(t);
         }
 
         @Override
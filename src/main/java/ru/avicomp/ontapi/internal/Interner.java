@@ -0,0 +1,123 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.internal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.jena.graph.impl.LiteralLabel;
+import ru.avicomp.ontapi.owlapi.objects.OWLLiteralImpl;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A concurrent canonicalising (hash-consing) table with weak values.
+ * For equal keys it returns the same value instance while that instance is reachable somewhere else,
+ * so equal objects (e.g. OWL entities or literals) can share a single instance,
+ * and the equality checks can short-circuit on identity.
+ * An entry is released as soon as its value becomes weakly reachable.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of value
+ * @see ru.avicomp.ontapi.DataFactoryImpl#DataFactoryImpl(boolean)
+ * @see ModelObjectFactory
+ * @since 1.4.3
+ */
+public class Interner<K, V> {
+    private final Cache<K, V> table = Caffeine.newBuilder().weakValues().executor(Runnable::run).build();
+
+    /**
+     * Returns the canonical instance for the given key,
+     * creating it with the specified factory if there is no such instance yet.
+     *
+     * @param key     {@link K}, not {@code null}
+     * @param factory {@code Function} to create a value for the key, not {@code null}
+     * @return {@link V}, not {@code null}
+     */
+    public V intern(K key, Function<? super K, ? extends V> factory) {
+        return table.get(key, factory);
+    }
+
+    /**
+     * Returns the canonical instance, that is equal to the given value,
+     * or the given value itself, which becomes canonical, if there is no such instance yet.
+     *
+     * @param key   {@link K}, not {@code null}
+     * @param value {@link V}, not {@code null}
+     * @return {@link V}, not {@code null}
+     */
+    public V intern(K key, V value) {
+        return table.get(key, k -> value);
+    }
+
+    /**
+     * Returns the approximate number of the canonical instances.
+     *
+     * @return long
+     */
+    public long size() {
+        return table.estimatedSize();
+    }
+
+    /**
+     * Releases the table.
+     */
+    public void clear() {
+        table.invalidateAll();
+    }
+
+    /**
+     * Makes a key for the literal table from the given {@link LiteralLabel}.
+     * Two keys are equal iff the literals have the same lexical form, datatype and language,
+     * which is the same as the {@link OWLLiteralImpl} equality.
+     *
+     * @param label {@link LiteralLabel}, not {@code null}
+     * @return Object
+     */
+    public static Object literalKey(LiteralLabel label) {
+        return new LiteralKey(label.getLexicalForm(), OWLLiteralImpl.getDatatypeURI(label), label.language());
+    }
+
+    /**
+     * A literal key: the lexical form, the datatype URI and the language tag.
+     */
+    private static class LiteralKey {
+        private final String lexical;
+        private final String datatype;
+        private final String lang;
+        private final int hash;
+
+        private LiteralKey(String lexical, String datatype, String lang) {
+            this.lexical = lexical;
+            this.datatype = datatype;
+            this.lang = lang == null ? "" : lang;
+            this.hash = Objects.hash(this.lexical, this.datatype, this.lang);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof LiteralKey)) return false;
+            LiteralKey other = (LiteralKey) o;
+            return hash == other.hash && lexical.equals(other.lexical)
+                    && Objects.equals(datatype, other.datatype) && lang.equals(other.lang);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -33,6 +33,9 @@ import java.util.function.Supplier;
  * to {@link org.semanticweb.owlapi.model.OWLObject OWLObject}s directly having no cache.
  * Unlike {@link SimpleObjectFactory},
  * every object created by this factory is {@link ONTObject} with a reference to a concrete model inside.
+ * Optionally, the factory can intern OWL entities and literals
+ * (see {@link ru.avicomp.ontapi.config.CacheSettings#CACHE_INTERN}):
+ * in this mode equal objects share a single instance while it is in use somewhere.
  * <p>
  * Created by @ssz on 07.08.2019.
  *
@@ -41,10 +44,34 @@ import java.util.function.Supplier;
 public class ModelObjectFactory implements InternalObjectFactory {
     protected final Supplier<OntGraphModel> model;
     protected final DataFactory factory;
+    protected final Tables tables;
 
     public ModelObjectFactory(DataFactory factory, Supplier<OntGraphModel> model) {
+        this(factory, model, false);
+    }
+
+    /**
+     * Creates a factory instance.
+     *
+     * @param factory {@link DataFactory}, not {@code null}
+     * @param model   a facility (as {@code Supplier}) to provide nonnull {@link OntGraphModel}, not {@code null}
+     * @param intern  boolean, if {@code true} the entities and literals are interned
+     * @since 1.4.3
+     */
+    public ModelObjectFactory(DataFactory factory, Supplier<OntGraphModel> model, boolean intern) {
         this.factory = Objects.requireNonNull(factory);
         this.model = Objects.requireNonNull(model);
+        this.tables = intern ? new Tables() : null;
+    }
+
+    /**
+     * Answers {@code true} if the interning mode is enabled.
+     *
+     * @return boolean
+     * @since 1.4.3
+     */
+    public boolean isInterning() {
+        return tables != null;
     }
 
     @Override
@@ -164,6 +191,9 @@ public class ModelObjectFactory implements InternalObjectFactory {
     }
 
     public ONTObject<OWLClass> getClass(String uri) {
+        if (tables != null) {
+            return tables.classes.intern(uri, x -> new ONTClassImpl(x, model));
+        }
         return new ONTClassImpl(uri, model);
     }
 
@@ -172,26 +202,44 @@ public class ModelObjectFactory implements InternalObjectFactory {
     }
 
     public ONTObject<OWLNamedIndividual> getNamedIndividual(String uri) {
+        if (tables != null) {
+            return tables.individuals.intern(uri, x -> new ONTNamedIndividualImpl(x, model));
+        }
         return new ONTNamedIndividualImpl(uri, model);
     }
 
     public ONTObject<OWLDatatype> getDatatype(String uri) {
+        if (tables != null) {
+            return tables.datatypes.intern(uri, x -> new ONTDatatypeImpl(x, model));
+        }
         return new ONTDatatypeImpl(uri, model);
     }
 
     public ONTObject<OWLAnnotationProperty> getAnnotationProperty(String uri) {
+        if (tables != null) {
+            return tables.annotationProperties.intern(uri, x -> new ONTAnnotationPropertyImpl(x, model));
+        }
         return new ONTAnnotationPropertyImpl(uri, model);
     }
 
     public ONTObject<OWLObjectProperty> getObjectProperty(String uri) {
+        if (tables != null) {
+            return tables.objectProperties.intern(uri, x -> new ONTObjectPropertyImpl(x, model));
+        }
         return new ONTObjectPropertyImpl(uri, model);
     }
 
     public ONTObject<OWLDataProperty> getDataProperty(String uri) {
+        if (tables != null) {
+            return tables.dataProperties.intern(uri, x -> new ONTDataPropertyImpl(x, model));
+        }
         return new ONTDataPropertyImpl(uri, model);
     }
 
     public ONTObject<OWLLiteral> getLiteral(LiteralLabel label) {
+        if (tables != null) {
+            return tables.literals.intern(Interner.literalKey(label), x -> new ONTLiteralImpl(label, model));
+        }
         return new ONTLiteralImpl(label, model);
     }
 
@@ -281,4 +329,18 @@ public class ModelObjectFactory implements InternalObjectFactory {
         return new ONTSWRLIndividualImpl(id, model);
     }
 
+    /**
+     * A holder for the canonicalising tables, that are used in the interning mode.
+     *
+     * @since 1.4.3
+     */
+    protected static class Tables {
+        protected final Interner<String, ONTObject<OWLClass>> classes = new Interner<>();
+        protected final Interner<String, ONTObject<OWLDatatype>> datatypes = new Interner<>();
+        protected final Interner<String, ONTObject<OWLNamedIndividual>> individuals = new Interner<>();
+        protected final Interner<String, ONTObject<OWLObjectProperty>> objectProperties = new Interner<>();
+        protected final Interner<String, ONTObject<OWLDataProperty>> dataProperties = new Interner<>();
+        protected final Interner<String, ONTObject<OWLAnnotationProperty>> annotationProperties = new Interner<>();
+        protected final Interner<Object, ONTObject<OWLLiteral>> literals = new Interner<>();
+    }
 }
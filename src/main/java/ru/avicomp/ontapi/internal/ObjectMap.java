@@ -16,6 +16,10 @@ package ru.avicomp.ontapi.internal;
 
 import org.semanticweb.owlapi.model.OWLObject;
 
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -69,6 +73,24 @@ public interface ObjectMap<X extends OWLObject> {
      */
     Stream<X> keys();
 
+    /**
+     * Lists all {@code OWLObjects}s encapsulated by this map,
+     * which contain the given {@code component} in the specified {@code position}.
+     * It is equivalent to the expression {@code keys().filter(x -> position.apply(x).anyMatch(component::equals))},
+     * but an implementation may use a secondary index to speed up the search.
+     * In the latter case, the {@code position} is used as a key of such an index,
+     * and therefore it must be a constant with the stable {@code equals} and {@code hashCode} methods
+     * (e.g. an enum, see {@link AxiomPosition}).
+     *
+     * @param position  {@link Function} that extracts position components from a {@link X}-container, not {@code null}
+     * @param component {@link Object} to search, not {@code null}
+     * @return {@code Stream} of {@link X}s
+     */
+    default Stream<X> keys(Function<? super X, ? extends Stream<?>> position, Object component) {
+        Objects.requireNonNull(component);
+        return keys().filter(x -> position.apply(x).anyMatch(component::equals));
+    }
+
     /**
      * Lists all {@code ONTObject}s encapsulated by this map.
      * @return {@code Stream} of {@link ONTObject} that wrap {@link X}s
@@ -113,4 +135,32 @@ public interface ObjectMap<X extends OWLObject> {
         return values().count();
     }
 
+    /**
+     * Answers whether the map contains the object, but only if the map is already loaded.
+     * Unlike {@link #contains(OWLObject)} this method never loads the map,
+     * so it can be used in lock-free (optimistic) reads, which must not have side effects.
+     * An implementation must return an empty {@code Optional}
+     * if its state cannot be safely read in parallel with a writer.
+     *
+     * @param key {@link X} key-object, not {@code null}
+     * @return {@code Optional} with boolean or empty {@code Optional} if the map is not loaded
+     * @since 1.4.3
+     */
+    default Optional<Boolean> peekContains(X key) {
+        return isLoaded() ? Optional.of(contains(key)) : Optional.empty();
+    }
+
+    /**
+     * Returns the count of objects in this map, but only if the map is already loaded.
+     * This method never loads the map.
+     * An implementation must return an empty result if its state cannot be safely read in parallel with a writer.
+     *
+     * @return {@code OptionalLong}, empty if the map is not loaded
+     * @see #peekContains(OWLObject)
+     * @since 1.4.3
+     */
+    default OptionalLong peekCount() {
+        return isLoaded() ? OptionalLong.of(count()) : OptionalLong.empty();
+    }
+
 }
@@ -14,10 +14,12 @@
 
 package ru.avicomp.ontapi.internal;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.jena.enhanced.EnhGraph;
 import org.apache.jena.enhanced.EnhNode;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
@@ -36,13 +38,14 @@ import ru.avicomp.ontapi.jena.impl.conf.PersonalityBuilder;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
 import ru.avicomp.ontapi.jena.model.OntObject;
 import ru.avicomp.ontapi.jena.model.OntSWRL;
+import ru.avicomp.ontapi.jena.utils.Graphs;
+import ru.avicomp.ontapi.jena.utils.Iter;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
 import ru.avicomp.ontapi.jena.vocabulary.RDF;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Model with optimizations including nodes cache.
@@ -65,11 +68,13 @@ public abstract class SearchModel extends OntGraphModelImpl implements HasObject
     // optimization flags for annotations:
     private Boolean hasAnnotations;
     private Boolean hasSubAnnotations;
+    // the index of bulk annotations, see #getAnnotationIndex()
+    private volatile Map<AnnotationKey, List<AnnotationRef>> annotations;
     /**
      * A collection of reserved uri-{@link Node}s, that cannot be OWL-entities.
      * Used to speedup iteration in some cases (e.g. for class assertions).
      */
-    protected final Map<Class<? extends OntObject>, Set<Node>> systemResources = new HashMap<>();
+    protected final Map<Class<? extends OntObject>, Set<Node>> systemResources = new ConcurrentHashMap<>();
 
     public SearchModel(Graph graph, OntPersonality personality, InternalConfig conf) {
         this(graph, personality, conf, true);
@@ -84,6 +89,25 @@ public abstract class SearchModel extends OntGraphModelImpl implements HasObject
         this.personality = personality;
     }
 
+    /**
+     * Creates a model with nodes caches, which are produced by the given factory
+     * (e.g. as the segments of the manager's {@link CacheBudget}, that are owned by some {@link InternalModel}).
+     *
+     * @param graph       {@link Graph}, not {@code null}
+     * @param personality {@link OntPersonality}, not {@code null}
+     * @param conf        {@link InternalConfig}, not {@code null}
+     * @param caches      a factory to produce nodes caches or {@code null} to use the default bounded caches
+     * @since 1.4.3
+     */
+    protected SearchModel(Graph graph,
+                          OntPersonality personality,
+                          InternalConfig conf,
+                          Supplier<InternalCache<Node, Boolean>> caches) {
+        super(graph, cachedPersonality(personality, conf, caches));
+        this.conf = Objects.requireNonNull(conf);
+        this.personality = personality;
+    }
+
     static <X> X handleFetchNodeAsException(OntJenaException error,
                                             Node node,
                                             Class<? extends RDFNode> type,
@@ -107,6 +131,22 @@ public abstract class SearchModel extends OntGraphModelImpl implements HasObject
      * @return {@link OntPersonality}
      */
     public static OntPersonality cachedPersonality(OntPersonality from, InternalConfig conf) {
+        CacheBudget budget = conf.getCacheBudget();
+        return cachedPersonality(from, conf, budget == null ? null : budget::createSegment);
+    }
+
+    /**
+     * Creates a {@link OntPersonality} with nodes caches, that are produced by the given factory.
+     *
+     * @param from   {@link OntPersonality} to inherit all settings
+     * @param conf   {@link InternalConfig} to get all control options
+     * @param caches a factory to produce nodes caches or {@code null} to use the default bounded caches
+     * @return {@link OntPersonality}
+     * @since 1.4.3
+     */
+    protected static OntPersonality cachedPersonality(OntPersonality from,
+                                                      InternalConfig conf,
+                                                      Supplier<InternalCache<Node, Boolean>> caches) {
         if (!conf.useLoadNodesCache()) {
             throw new IllegalArgumentException("Negative cache size is specified");
         }
@@ -116,10 +156,28 @@ public abstract class SearchModel extends OntGraphModelImpl implements HasObject
                 // do not cache SWRL.DArg (and, therefore, SWRL.Arg) since an instance of this type
                 // can be Literal with unpredictable length
                 .filter(x -> x != OntSWRL.DArg.class && x != OntSWRL.Arg.class)
-                .forEach(x -> CachedFactory.cache(res, from, x, size));
+                .forEach(x -> CachedFactory.cache(res, from, x, size, caches));
         return res.build();
     }
 
+    /**
+     * Returns the statistics of the nodes caches of this model.
+     *
+     * @return {@code Map} with {@link OntObject} class-types as keys and {@link CacheStats} as values
+     * @since 1.4.3
+     */
+    public Map<Class<? extends OntObject>, CacheStats> getNodesCacheStats() {
+        Map<Class<? extends OntObject>, CacheStats> res = new LinkedHashMap<>();
+        OntPersonality cached = getOntPersonality();
+        cached.types(OntObject.class).forEach(x -> {
+            ObjectFactory f = cached.getObjectFactory(x);
+            if (f instanceof CachedFactory) {
+                res.put(x, ((CachedFactory) f).stats());
+            }
+        });
+        return res;
+    }
+
     @Override
     public InternalConfig getConfig() {
         return conf;
@@ -147,7 +205,13 @@ public abstract class SearchModel extends OntGraphModelImpl implements HasObject
 
     @Override
     public Set<Node> getSystemResources(Class<? extends OntObject> type) {
-        return systemResources.computeIfAbsent(type, x -> super.getSystemResources(type));
+        // no computeIfAbsent: the calculation may recursively require resources of other types
+        Set<Node> res = systemResources.get(type);
+        if (res == null) {
+            res = super.getSystemResources(type);
+            systemResources.put(type, res);
+        }
+        return res;
     }
 
     /**
@@ -179,7 +243,73 @@ public abstract class SearchModel extends OntGraphModelImpl implements HasObject
         if (OWL.Annotation == t && !hasSubAnnotations()) {
             return NullIterator.instance();
         }
-        return super.listAnnotations(t, s, p, o);
+        Node target = o.asNode();
+        List<AnnotationRef> res = getAnnotationIndex().get(new AnnotationKey(t.asNode(), s.asNode(), p.asNode(), target));
+        if (res == null) {
+            return NullIterator.instance();
+        }
+        return Iter.create(res)
+                .filterKeep(x -> x.target.matches(target))
+                .mapWith(x -> OntObjectImpl.wrapAsOntObject(x.annotation, this));
+    }
+
+    /**
+     * Returns the index of all bulk annotations (i.e. {@code owl:Axiom} and {@code owl:Annotation} resources),
+     * building it on the first call with a single pass over {@code owl:annotatedSource} triples.
+     * The key is a combination of the annotation type
+     * and the annotated {@code owl:annotatedSource}, {@code owl:annotatedProperty}, {@code owl:annotatedTarget} nodes,
+     * so the search of annotations for a statement is just a hash lookup.
+     * The index is not maintained: like all other optimizations of this model,
+     * it assumes that the graph is not changed while the model is in use.
+     * The model owner ({@link InternalModel}) releases the whole search model on any graph modification,
+     * either made through the OWL-API interface or directly (caught by the graph event listener).
+     *
+     * @return {@code Map} with {@link AnnotationKey}s as keys and {@code List}s of {@link AnnotationRef}s as values
+     * @since 1.4.3
+     */
+    protected Map<AnnotationKey, List<AnnotationRef>> getAnnotationIndex() {
+        Map<AnnotationKey, List<AnnotationRef>> res = annotations;
+        if (res == null) {
+            annotations = res = collectAnnotations();
+        }
+        return res;
+    }
+
+    /**
+     * Collects all bulk annotations into a {@code Map}.
+     *
+     * @return {@code Map}
+     * @see #getAnnotationIndex()
+     * @since 1.4.3
+     */
+    protected Map<AnnotationKey, List<AnnotationRef>> collectAnnotations() {
+        Graph g = getGraph();
+        Node axiom = OWL.Axiom.asNode();
+        Node annotation = OWL.Annotation.asNode();
+        Map<AnnotationKey, List<AnnotationRef>> res = new HashMap<>();
+        // a union graph may contain the same triple in different sub-graphs:
+        Set<Triple> seen = Graphs.isDistinct(g) ? null : new HashSet<>();
+        g.find(Node.ANY, OWL.annotatedSource.asNode(), Node.ANY).forEachRemaining(t -> {
+            if (seen != null && !seen.add(t)) return;
+            Node a = t.getSubject();
+            List<Node> types = new ArrayList<>(2);
+            if (g.contains(a, RDF.Nodes.type, axiom)) types.add(axiom);
+            if (g.contains(a, RDF.Nodes.type, annotation)) types.add(annotation);
+            if (types.isEmpty()) return;
+            List<Node> properties = g.find(a, OWL.annotatedProperty.asNode(), Node.ANY)
+                    .mapWith(Triple::getObject).toList();
+            List<Node> targets = g.find(a, OWL.annotatedTarget.asNode(), Node.ANY)
+                    .mapWith(Triple::getObject).toList();
+            for (Node type : types) {
+                for (Node p : properties) {
+                    for (Node o : targets) {
+                        res.computeIfAbsent(new AnnotationKey(type, t.getObject(), p, o), k -> new ArrayList<>(1))
+                                .add(new AnnotationRef(a, o));
+                    }
+                }
+            }
+        });
+        return res;
     }
 
     @Override
@@ -200,28 +330,45 @@ public abstract class SearchModel extends OntGraphModelImpl implements HasObject
         private final InternalCache<Node, Boolean> canWrapCache;
 
         public CachedFactory(Class<? extends OntObject> type, ObjectFactory from, int limit, boolean parallel) {
+            this(type, from, InternalCache.createBounded(parallel, limit));
+        }
+
+        protected CachedFactory(Class<? extends OntObject> type, ObjectFactory from, InternalCache<Node, Boolean> cache) {
             this.type = Objects.requireNonNull(type);
             this.from = Objects.requireNonNull(from);
-            this.canWrapCache = InternalCache.createBounded(parallel, limit);
+            this.canWrapCache = Objects.requireNonNull(cache);
         }
 
         private static CachedFactory create(Class<? extends OntObject> type,
                                             ObjectFactory from,
-                                            int limit) {
-
+                                            int limit,
+                                            Supplier<InternalCache<Node, Boolean>> caches) {
+            ObjectFactory origin = from instanceof CachedFactory ? ((CachedFactory) from).from : from;
+            if (caches != null) {
+                // a budget segment never computes values inside the shared cache, so there is no danger of LiveLock
+                return new CachedFactory(type, origin, caches.get());
+            }
             // Do not use caffeine due to danger of LiveLock
             // See issue #71 (https://github.com/avicomp/ont-api/issues/71)
-            return new CachedFactory(type,
-                    from instanceof CachedFactory ? ((CachedFactory) from).from : from,
-                    limit,
-                    false);
+            return new CachedFactory(type, origin, limit, false);
         }
 
         static void cache(PersonalityBuilder res,
                           OntPersonality from,
                           Class<? extends OntObject> type,
-                          int limit) {
-            res.add(type, create(type, from.getObjectFactory(type), limit));
+                          int limit,
+                          Supplier<InternalCache<Node, Boolean>> caches) {
+            res.add(type, create(type, from.getObjectFactory(type), limit, caches));
+        }
+
+        /**
+         * Returns the statistics of the nodes cache.
+         *
+         * @return {@link CacheStats}
+         * @since 1.4.3
+         */
+        public CacheStats stats() {
+            return canWrapCache.stats();
         }
 
         @Override
@@ -245,4 +392,55 @@ public abstract class SearchModel extends OntGraphModelImpl implements HasObject
             return String.format("CachedFactory[%s]", OntObjectImpl.viewAsString(type));
         }
     }
+
+    /**
+     * A key of the annotations index.
+     * Literal targets are compared by their indexing values, just like the in-memory graph does.
+     *
+     * @since 1.4.3
+     */
+    protected static class AnnotationKey {
+        private final Node type;
+        private final Node source;
+        private final Node property;
+        private final Object target;
+        private final int hash;
+
+        protected AnnotationKey(Node type, Node source, Node property, Node target) {
+            this.type = type;
+            this.source = source;
+            this.property = property;
+            this.target = target.getIndexingValue();
+            this.hash = Objects.hash(type, source, property, this.target);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof AnnotationKey)) return false;
+            AnnotationKey other = (AnnotationKey) o;
+            return hash == other.hash && source.equals(other.source) && property.equals(other.property)
+                    && type.equals(other.type) && target.equals(other.target);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A value of the annotations index: the annotation resource and the exact target node.
+     *
+     * @since 1.4.3
+     */
+    protected static class AnnotationRef {
+        private final Node annotation;
+        private final Node target;
+
+        protected AnnotationRef(Node annotation, Node target) {
+            this.annotation = annotation;
+            this.target = target;
+        }
+    }
 }
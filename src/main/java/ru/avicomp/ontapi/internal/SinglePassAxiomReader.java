@@ -0,0 +1,139 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.internal;
+
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import ru.avicomp.ontapi.jena.model.OntGraphModel;
+import ru.avicomp.ontapi.jena.model.OntStatement;
+import ru.avicomp.ontapi.jena.utils.Iter;
+import ru.avicomp.ontapi.jena.utils.OntModels;
+
+import java.lang.ref.SoftReference;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * A dispatching reader, that collects all axioms of the {@link OWLContentType content types} in a single pass.
+ * Each {@link AxiomTranslator} lists its own statements using its own graph search,
+ * so loading all axioms means walking over the base graph dozens of times.
+ * This reader iterates the local statements of the model only once
+ * and routes each {@link OntStatement} to every translator
+ * whose {@link AxiomTranslator#testStatement(OntStatement, InternalConfig)} accepts it.
+ * <p>
+ * It is used by the {@link InternalModel} as an alternative loader of the content cache:
+ * the pass is performed on the first request, then each bucket takes its own part of the result.
+ * The not yet taken rest of the result is held via a {@link SoftReference}.
+ * If it is released, taken or {@link #invalidate() invalidated},
+ * the method {@link #take(OWLContentType)} returns {@code null} and the caller should use the ordinary way.
+ *
+ * @see ru.avicomp.ontapi.config.CacheSettings#CACHE_SINGLE_PASS_LOAD
+ * @since 1.4.3
+ */
+public class SinglePassAxiomReader {
+    protected final Supplier<OntGraphModel> model;
+    protected final InternalObjectFactory factory;
+    protected final InternalConfig config;
+
+    private SoftReference<Map<OWLContentType, List<ONTObject<OWLAxiom>>>> result;
+    private boolean done;
+
+    /**
+     * Creates a reader.
+     *
+     * @param model   a facility (as {@link Supplier}) to provide nonnull {@link OntGraphModel}, not {@code null}
+     * @param factory {@link InternalObjectFactory} to produce OWL-API Objects, not {@code null}
+     * @param config  {@link InternalConfig} to control process, not {@code null}
+     */
+    public SinglePassAxiomReader(Supplier<OntGraphModel> model, InternalObjectFactory factory, InternalConfig config) {
+        this.model = Objects.requireNonNull(model);
+        this.factory = Objects.requireNonNull(factory);
+        this.config = Objects.requireNonNull(config);
+    }
+
+    /**
+     * Reads all axioms of the given types in a single pass over the local statements of the model.
+     *
+     * @param model   a facility (as {@link Supplier}) to provide nonnull {@link OntGraphModel}, not {@code null}
+     * @param factory {@link InternalObjectFactory} to produce OWL-API Objects, not {@code null}
+     * @param config  {@link InternalConfig} to control process, not {@code null}
+     * @param keys    {@code Collection} of {@link OWLContentType}s, the header ({@link OWLContentType#ANNOTATION}) is ignored
+     * @return {@code Map} with a {@code List} of {@link ONTObject}s for each axiom type
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<OWLContentType, List<ONTObject<OWLAxiom>>> read(Supplier<OntGraphModel> model,
+                                                                       InternalObjectFactory factory,
+                                                                       InternalConfig config,
+                                                                       Collection<OWLContentType> keys) {
+        Map<OWLContentType, List<ONTObject<OWLAxiom>>> res = new EnumMap<>(OWLContentType.class);
+        List<AxiomTranslator<OWLAxiom>> translators = new ArrayList<>();
+        List<List<ONTObject<OWLAxiom>>> buckets = new ArrayList<>();
+        for (OWLContentType key : keys) {
+            if (!key.isAxiom()) continue;
+            List<ONTObject<OWLAxiom>> list = new ArrayList<>();
+            res.put(key, list);
+            // the declaration translator controls this setting while listing statements only
+            if (key == OWLContentType.DECLARATION && !config.isAllowReadDeclarations()) continue;
+            translators.add((AxiomTranslator<OWLAxiom>) key.getTranslator());
+            buckets.add(list);
+        }
+        int size = translators.size();
+        ExtendedIterator<OntStatement> statements = OntModels.listLocalStatements(model.get(), null, null, null);
+        try {
+            while (statements.hasNext()) {
+                OntStatement s = statements.next();
+                for (int i = 0; i < size; i++) {
+                    AxiomTranslator<OWLAxiom> t = translators.get(i);
+                    if (!t.testStatement(s, config)) continue;
+                    t.translate(Iter.of(s), model, factory, config).forEachRemaining(buckets.get(i)::add);
+                }
+            }
+        } finally {
+            statements.close();
+        }
+        buckets.forEach(x -> ((ArrayList<?>) x).trimToSize());
+        return res;
+    }
+
+    /**
+     * Takes the axioms of the given type from the result of the single pass, which is performed on demand.
+     * Each type can be taken only once.
+     *
+     * @param key {@link OWLContentType}, not {@code null}
+     * @return {@code List} of {@link ONTObject}s
+     * or {@code null} if the data is not available and should be read in the ordinary way
+     */
+    public synchronized List<ONTObject<OWLAxiom>> take(OWLContentType key) {
+        if (!key.isAxiom()) return null;
+        Map<OWLContentType, List<ONTObject<OWLAxiom>>> res = result == null ? null : result.get();
+        if (res == null) {
+            if (done) return null;
+            done = true;
+            res = read(model, factory, config, EnumSet.allOf(OWLContentType.class));
+            result = new SoftReference<>(res);
+        }
+        return res.remove(key);
+    }
+
+    /**
+     * Releases the result of the pass, if any.
+     * Should be called on any change in the graph,
+     * after that all requests are redirected to the ordinary way.
+     */
+    public synchronized void invalidate() {
+        done = true;
+        result = null;
+    }
+}
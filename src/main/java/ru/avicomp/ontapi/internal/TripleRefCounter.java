@@ -0,0 +1,109 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.internal;
+
+import org.apache.jena.graph.Triple;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * An index of triple reference counts:
+ * for each {@link Triple} it keeps the number of content containers (axioms and ontology annotations),
+ * whose {@link ONTObject#triples()} include that triple.
+ * It is used by the {@link InternalModel} to remove a content container from the graph,
+ * deleting exactly those triples that are no longer used by any other container,
+ * without re-reading the graph.
+ * Since the triples of an {@link ONTObject} are usually computed lazily from the graph,
+ * the index also remembers the triples of each registered container as they were at the time of registration.
+ * <p>
+ * Note: the index must be built over the fully loaded content cache,
+ * and it should be dropped whenever the content cache is invalidated.
+ * The class is not thread-safe.
+ *
+ * @see InternalModel#remove(OWLContentType, org.semanticweb.owlapi.model.OWLObject)
+ * @since 1.4.3
+ */
+public class TripleRefCounter {
+    private static final Triple[] EMPTY = new Triple[0];
+    private final Map<Object, Triple[]> owners = new HashMap<>();
+    private final Map<Triple, Counter> counts = new HashMap<>();
+
+    /**
+     * Registers a content container, i.e. increments the counts of its triples.
+     * If the container is already registered, only the new triples are taken into account.
+     *
+     * @param owner   {@code Object}, the content container's key (an axiom or an annotation), not {@code null}
+     * @param triples {@code Stream} of {@link Triple}s belonging to the container
+     */
+    public void acquire(Object owner, Stream<Triple> triples) {
+        Triple[] prev = owners.getOrDefault(owner, EMPTY);
+        Set<Triple> res = new LinkedHashSet<>(Arrays.asList(prev));
+        triples.forEach(t -> {
+            if (res.add(t)) {
+                counts.computeIfAbsent(t, x -> new Counter()).value++;
+            }
+        });
+        owners.put(owner, res.toArray(EMPTY));
+    }
+
+    /**
+     * Unregisters a content container, i.e. decrements the counts of its triples.
+     *
+     * @param owner {@code Object}, the content container's key (an axiom or an annotation), not {@code null}
+     * @return {@code List} of {@link Triple}s that are no longer used by any registered container,
+     * or {@code null} if the given container is unknown
+     */
+    public List<Triple> release(Object owner) {
+        Triple[] triples = owners.remove(owner);
+        if (triples == null) {
+            return null;
+        }
+        List<Triple> res = new ArrayList<>();
+        for (Triple t : triples) {
+            Counter c = counts.get(t);
+            if (c != null && --c.value > 0) {
+                continue;
+            }
+            counts.remove(t);
+            res.add(t);
+        }
+        return res;
+    }
+
+    /**
+     * Returns the current reference count of the triple.
+     *
+     * @param t {@link Triple}
+     * @return int, non-negative
+     */
+    public int count(Triple t) {
+        Counter c = counts.get(t);
+        return c == null ? 0 : c.value;
+    }
+
+    /**
+     * Answers the number of indexed triples.
+     *
+     * @return int
+     */
+    public int size() {
+        return counts.size();
+    }
+
+    private static class Counter {
+        private int value;
+    }
+}
@@ -0,0 +1,749 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.jena;
+
+import org.apache.jena.graph.Capabilities;
+import org.apache.jena.graph.GraphEvents;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.AllCapabilities;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
+import org.apache.jena.util.iterator.NullIterator;
+
+import java.util.*;
+
+/**
+ * A compact in-memory {@link org.apache.jena.graph.Graph Graph} implementation,
+ * that can be used as an alternative to the standard {@link org.apache.jena.mem.GraphMem}
+ * for big ontologies, see {@link ru.avicomp.ontapi.OntologyCreator#createGraph()}.
+ * <p>
+ * Each {@link Node} is dictionary-encoded to an {@code int},
+ * and triples are stored as rows of three {@code int}s in a primitive array sorted in the {@code SPO} order.
+ * Two other permutations ({@code POS} and {@code OSP}) are primitive arrays of row numbers,
+ * so any triple pattern is answered by a binary search over one of the three orders.
+ * Such a layout takes about {@code 20} bytes per triple plus the dictionary,
+ * which is several times less than the {@code GraphMem} costs
+ * (a {@code Triple} object and three hash indexes for each triple).
+ * <p>
+ * The sorted arrays are not modified when a triple is added:
+ * new triples go to a small indexed delta, deleted triples are marked in a {@code BitSet}.
+ * The delta is also primitive (see {@link Delta}), it takes about {@code 40-60} bytes per triple,
+ * and it is bounded by {@code 1/8} of the sorted part (but not less than {@link #MIN_DELTA_SIZE}).
+ * When the delta becomes larger, the graph is compacted,
+ * i.e. the delta is sorted and merged into the new arrays; this gives an amortized logarithmic cost of addition.
+ * Open iterators keep working with the arrays (including the dictionary) they have been created for,
+ * so an iterator that remains open across a modification (even across {@link #clear()})
+ * returns the triples from the state of the graph at the time of its creation (or partly modified state),
+ * but never some wrong nodes.
+ * <p>
+ * Notes:
+ * <ul>
+ * <li>the graph uses term equality: it does not handle literal typing,
+ * i.e. {@code "1"^^xsd:int} and {@code "01"^^xsd:int} are different objects,
+ * see {@link Capabilities#handlesLiteralTyping()}</li>
+ * <li>the dictionary is never shrunk, nodes of deleted triples are kept until the graph is {@link #clear() cleared}</li>
+ * <li>as well as {@code GraphMem}, this graph is not thread-safe,
+ * in multithreading environment it should be wrapped with {@link RWLockedGraph}</li>
+ * </ul>
+ *
+ * @since 1.4.3
+ */
+@SuppressWarnings("WeakerAccess")
+public class CompactGraph extends GraphBase {
+    protected static final int[] SPO = {0, 1, 2};
+    protected static final int[] POS = {1, 2, 0};
+    protected static final int[] OSP = {2, 0, 1};
+    /**
+     * The minimal delta size to start compaction.
+     */
+    protected static final int MIN_DELTA_SIZE = 1 << 16;
+    /**
+     * The maximum delta size relative to the sorted part: the delta is compacted
+     * when its size exceeds {@code 1/DELTA_RATIO} of the sorted part.
+     */
+    protected static final int DELTA_RATIO = 8;
+
+    // dictionary:
+    protected final Map<Node, Integer> ids = new HashMap<>();
+    protected Node[] nodes = new Node[1024];
+    protected int nodesCount;
+
+    // the sorted part:
+    protected Store store = Store.EMPTY;
+    // the unsorted part:
+    protected final Delta delta = new Delta();
+
+    /**
+     * Returns the {@code int}-code for the given node, creating it if necessary.
+     *
+     * @param node {@link Node}, concrete, not {@code null}
+     * @return int
+     */
+    protected int encode(Node node) {
+        Integer res = ids.get(node);
+        if (res != null) return res;
+        if (nodesCount == nodes.length) {
+            nodes = Arrays.copyOf(nodes, nodesCount + (nodesCount >> 1));
+        }
+        nodes[nodesCount] = node;
+        ids.put(node, nodesCount);
+        return nodesCount++;
+    }
+
+    /**
+     * Returns the {@code int}-code for the given pattern node.
+     *
+     * @param node {@link Node} or {@code null}
+     * @return {@code -1} for any (wildcard), {@code -2} if the node is unknown, or a non-negative code
+     */
+    protected int lookup(Node node) {
+        if (node == null || !node.isConcrete()) return -1;
+        Integer res = ids.get(node);
+        return res == null ? -2 : res;
+    }
+
+    @Override
+    public void performAdd(Triple t) {
+        int s = encode(t.getSubject());
+        int p = encode(t.getPredicate());
+        int o = encode(t.getObject());
+        if (store.contains(s, p, o)) return;
+        if (!delta.add(s, p, o)) return;
+        if (delta.count > Math.max(MIN_DELTA_SIZE, store.size() / DELTA_RATIO)) {
+            compact();
+        }
+    }
+
+    @Override
+    public void performDelete(Triple t) {
+        int s = lookup(t.getSubject());
+        int p = lookup(t.getPredicate());
+        int o = lookup(t.getObject());
+        if (s < 0 || p < 0 || o < 0) return;
+        if (delta.remove(s, p, o)) return;
+        if (store.delete(s, p, o) && store.deleted > MIN_DELTA_SIZE && store.deleted > store.size()) {
+            compact();
+        }
+    }
+
+    @Override
+    public void clear() {
+        ids.clear();
+        nodes = new Node[1024];
+        nodesCount = 0;
+        store = Store.EMPTY;
+        delta.clear();
+        getEventManager().notifyEvent(this, GraphEvents.removeAll);
+    }
+
+    @Override
+    protected int graphBaseSize() {
+        return store.size() + delta.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return graphBaseSize() == 0;
+    }
+
+    @Override
+    protected boolean graphBaseContains(Triple t) {
+        int s = lookup(t.getSubject());
+        int p = lookup(t.getPredicate());
+        int o = lookup(t.getObject());
+        if (s == -2 || p == -2 || o == -2) return false;
+        if (s >= 0 && p >= 0 && o >= 0) {
+            return store.contains(s, p, o) || delta.contains(s, p, o);
+        }
+        return find(s, p, o).hasNext();
+    }
+
+    @Override
+    protected ExtendedIterator<Triple> graphBaseFind(Triple m) {
+        int s = lookup(m.getMatchSubject());
+        int p = lookup(m.getMatchPredicate());
+        int o = lookup(m.getMatchObject());
+        if (s == -2 || p == -2 || o == -2) return NullIterator.instance();
+        return find(s, p, o);
+    }
+
+    /**
+     * Lists all triples matching the given encoded pattern.
+     *
+     * @param s int, subject code or {@code -1} for any
+     * @param p int, predicate code or {@code -1} for any
+     * @param o int, object code or {@code -1} for any
+     * @return {@link ExtendedIterator} of {@link Triple}s
+     */
+    protected ExtendedIterator<Triple> find(int s, int p, int o) {
+        ExtendedIterator<Triple> res = store.size() == 0 ? NullIterator.instance() : new StoreIterator(store, s, p, o);
+        if (delta.size() == 0) return res;
+        return res.andThen(new DeltaIterator(delta.find(s, p, o)));
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        if (capabilities == null) {
+            capabilities = new AllCapabilities() {
+                @Override
+                public boolean handlesLiteralTyping() {
+                    return false;
+                }
+            };
+        }
+        return capabilities;
+    }
+
+    /**
+     * Merges the delta and the sorted part into a new sorted store.
+     */
+    protected void compact() {
+        Store old = store;
+        int m = delta.size();
+        int[] rows = new int[m * 3];
+        int i = 0;
+        for (int r = 0; r < delta.count; r++) {
+            if (delta.removed.get(r)) continue;
+            System.arraycopy(delta.rows, r * 3, rows, i, 3);
+            i += 3;
+        }
+        store = Store.merge(old, rows, m);
+        delta.clear();
+    }
+
+    /**
+     * Compares the two rows in the given order.
+     *
+     * @param a     the first array of rows
+     * @param ra    the row number in the first array
+     * @param b     the second array of rows
+     * @param rb    the row number in the second array
+     * @param order one of {@link #SPO}, {@link #POS}, {@link #OSP}
+     * @return int
+     */
+    protected static int compare(int[] a, int ra, int[] b, int rb, int[] order) {
+        for (int x : order) {
+            int res = Integer.compare(a[ra * 3 + x], b[rb * 3 + x]);
+            if (res != 0) return res;
+        }
+        return 0;
+    }
+
+    /**
+     * Sorts the row numbers {@code [0, n)} of the given array in the specified order (a stable merge sort).
+     *
+     * @param rows  array of rows
+     * @param n     the number of rows
+     * @param order one of {@link #SPO}, {@link #POS}, {@link #OSP}
+     * @return int-array of row numbers
+     */
+    protected static int[] sort(int[] rows, int n, int[] order) {
+        int[] res = new int[n];
+        for (int i = 0; i < n; i++) res[i] = i;
+        int[] tmp = new int[n];
+        for (int width = 1; width < n; width <<= 1) {
+            for (int from = 0; from < n; from += width << 1) {
+                int mid = Math.min(from + width, n);
+                int to = Math.min(from + (width << 1), n);
+                int i = from, j = mid, k = from;
+                while (i < mid && j < to) {
+                    tmp[k++] = compare(rows, res[i], rows, res[j], order) <= 0 ? res[i++] : res[j++];
+                }
+                while (i < mid) tmp[k++] = res[i++];
+                while (j < to) tmp[k++] = res[j++];
+            }
+            int[] x = res;
+            res = tmp;
+            tmp = x;
+        }
+        return res;
+    }
+
+    /**
+     * An immutable (except deletion marks) sorted storage.
+     */
+    protected static class Store {
+        protected static final Store EMPTY = new Store(new int[0], new int[0], new int[0]);
+
+        // rows in SPO order:
+        protected final int[] spo;
+        // row numbers in POS and OSP orders:
+        protected final int[] pos;
+        protected final int[] osp;
+        protected final int rows;
+        protected final BitSet removed = new BitSet();
+        protected int deleted;
+
+        protected Store(int[] spo, int[] pos, int[] osp) {
+            this.spo = spo;
+            this.pos = pos;
+            this.osp = osp;
+            this.rows = spo.length / 3;
+        }
+
+        protected int size() {
+            return rows - deleted;
+        }
+
+        protected int[] index(int[] order) {
+            return order == SPO ? null : order == POS ? pos : osp;
+        }
+
+        protected int row(int[] index, int i) {
+            return index == null ? i : index[i];
+        }
+
+        /**
+         * Finds the row number of the given triple.
+         *
+         * @param s int
+         * @param p int
+         * @param o int
+         * @return the row number or {@code -1}
+         */
+        protected int search(int s, int p, int o) {
+            int[] key = {s, p, o};
+            int from = bound(SPO, key, 3, false);
+            if (from < rows && compare(spo, from, key, 0, SPO) == 0) {
+                return from;
+            }
+            return -1;
+        }
+
+        protected boolean contains(int s, int p, int o) {
+            if (rows == 0) return false;
+            int res = search(s, p, o);
+            return res >= 0 && !removed.get(res);
+        }
+
+        protected boolean delete(int s, int p, int o) {
+            if (rows == 0) return false;
+            int res = search(s, p, o);
+            if (res < 0 || removed.get(res)) return false;
+            removed.set(res);
+            deleted++;
+            return true;
+        }
+
+        /**
+         * Returns the first position in the index,
+         * whose row prefix of the given length is greater than (or equal to, if {@code upper = false}) the key.
+         *
+         * @param order  the index order
+         * @param key    int-array of codes in {@code SPO} order
+         * @param length the prefix length
+         * @param upper  boolean
+         * @return int
+         */
+        protected int bound(int[] order, int[] key, int length, boolean upper) {
+            int[] index = index(order);
+            int lo = 0, hi = rows;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                int r = row(index, mid);
+                int c = 0;
+                for (int i = 0; i < length && c == 0; i++) {
+                    int x = order[i];
+                    c = Integer.compare(spo[r * 3 + x], key[x]);
+                }
+                if (c < 0 || (upper && c == 0)) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * Merges the live rows of the given store with the new rows.
+         *
+         * @param old  {@link Store}
+         * @param rows int-array of new rows, not in the store
+         * @param m    the number of new rows
+         * @return a new {@link Store}
+         */
+        protected static Store merge(Store old, int[] rows, int m) {
+            int n = old.rows;
+            int total = old.size() + m;
+            int[] spo = new int[total * 3];
+            int[] oldToNew = new int[n];
+            int[] newToNew = new int[m];
+            int[] sorted = sort(rows, m, SPO);
+            int i = 0, j = 0, k = 0;
+            while (i < n || j < m) {
+                if (i < n && old.removed.get(i)) {
+                    oldToNew[i++] = -1;
+                    continue;
+                }
+                boolean takeOld = j == m || (i < n && compare(old.spo, i, rows, sorted[j], SPO) < 0);
+                if (takeOld) {
+                    System.arraycopy(old.spo, i * 3, spo, k * 3, 3);
+                    oldToNew[i++] = k++;
+                } else {
+                    System.arraycopy(rows, sorted[j] * 3, spo, k * 3, 3);
+                    newToNew[sorted[j++]] = k++;
+                }
+            }
+            int[] pos = mergeIndex(old, old.pos, spo, total, rows, m, oldToNew, newToNew, POS);
+            int[] osp = mergeIndex(old, old.osp, spo, total, rows, m, oldToNew, newToNew, OSP);
+            return new Store(spo, pos, osp);
+        }
+
+        private static int[] mergeIndex(Store old, int[] index, int[] spo, int total,
+                                        int[] rows, int m, int[] oldToNew, int[] newToNew, int[] order) {
+            int[] res = new int[total];
+            int[] sorted = sort(rows, m, order);
+            int n = old.rows;
+            int i = 0, j = 0, k = 0;
+            while (i < n || j < m) {
+                if (i < n && oldToNew[index[i]] < 0) {
+                    i++;
+                    continue;
+                }
+                if (j == m || (i < n && compare(spo, oldToNew[index[i]], spo, newToNew[sorted[j]], order) < 0)) {
+                    res[k++] = oldToNew[index[i++]];
+                } else {
+                    res[k++] = newToNew[sorted[j++]];
+                }
+            }
+            return res;
+        }
+    }
+
+    /**
+     * The unsorted part of the graph.
+     * To keep the memory footprint small, it has no objects per triple:
+     * the rows are stored in a primitive array in the order of addition,
+     * the rows with the same subject (predicate, object) are linked in chains,
+     * whose heads are kept in primitive hash tables,
+     * and the triples themselves are indexed by a primitive open-addressing hash table of row numbers.
+     * A deleted row is only marked, it is excluded physically on compaction.
+     */
+    protected static class Delta {
+        // s, p, o of each row:
+        protected int[] rows = new int[3 * 64];
+        // the previous row with the same s, p, o respectively, or -1:
+        protected int[] links = new int[3 * 64];
+        protected final BitSet removed = new BitSet();
+        // the number of rows, including removed:
+        protected int count;
+        protected int deleted;
+        // row + 1 for each triple, 0 for an empty slot:
+        protected int[] table = new int[128];
+        // the last row for each subject, predicate and object code:
+        protected final IntMap[] heads = {new IntMap(), new IntMap(), new IntMap()};
+
+        protected int size() {
+            return count - deleted;
+        }
+
+        private static int hash(int s, int p, int o) {
+            int h = (s * 31 + p) * 31 + o;
+            return h ^ (h >>> 16);
+        }
+
+        /**
+         * Finds the row for the given triple.
+         *
+         * @param s int
+         * @param p int
+         * @param o int
+         * @return the live row number or {@code -1}
+         */
+        protected int indexOf(int s, int p, int o) {
+            int mask = table.length - 1;
+            for (int i = hash(s, p, o) & mask; ; i = (i + 1) & mask) {
+                int r = table[i] - 1;
+                if (r < 0) return -1;
+                if (rows[r * 3] == s && rows[r * 3 + 1] == p && rows[r * 3 + 2] == o && !removed.get(r)) {
+                    return r;
+                }
+            }
+        }
+
+        protected boolean contains(int s, int p, int o) {
+            return count != 0 && indexOf(s, p, o) >= 0;
+        }
+
+        protected boolean add(int s, int p, int o) {
+            if (indexOf(s, p, o) >= 0) return false;
+            if (count * 3 == rows.length) {
+                rows = Arrays.copyOf(rows, rows.length * 2);
+                links = Arrays.copyOf(links, links.length * 2);
+            }
+            int r = count++;
+            rows[r * 3] = s;
+            rows[r * 3 + 1] = p;
+            rows[r * 3 + 2] = o;
+            for (int x = 0; x < 3; x++) {
+                links[r * 3 + x] = heads[x].put(rows[r * 3 + x], r);
+            }
+            if (count * 2 > table.length) {
+                // removed rows are dropped from the new table:
+                table = new int[table.length * 2];
+                for (int i = 0; i < count; i++) {
+                    if (!removed.get(i)) insert(i);
+                }
+            } else {
+                insert(r);
+            }
+            return true;
+        }
+
+        private void insert(int r) {
+            int mask = table.length - 1;
+            int i = hash(rows[r * 3], rows[r * 3 + 1], rows[r * 3 + 2]) & mask;
+            while (table[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            table[i] = r + 1;
+        }
+
+        protected boolean remove(int s, int p, int o) {
+            if (count == 0) return false;
+            int r = indexOf(s, p, o);
+            if (r < 0) return false;
+            removed.set(r);
+            deleted++;
+            return true;
+        }
+
+        protected void clear() {
+            rows = new int[3 * 64];
+            links = new int[3 * 64];
+            removed.clear();
+            count = 0;
+            deleted = 0;
+            table = new int[128];
+            for (IntMap h : heads) {
+                h.clear();
+            }
+        }
+
+        /**
+         * Returns a snapshot of the triples matching the pattern.
+         *
+         * @param s int, subject code or {@code -1} for any
+         * @param p int, predicate code or {@code -1} for any
+         * @param o int, object code or {@code -1} for any
+         * @return int-array of codes in {@code SPO} order
+         */
+        protected int[] find(int s, int p, int o) {
+            int[] res = new int[24];
+            int n = 0;
+            int x = s >= 0 ? 0 : o >= 0 ? 2 : p >= 0 ? 1 : -1;
+            int r = x < 0 ? 0 : heads[x].get(x == 0 ? s : x == 2 ? o : p);
+            while (x < 0 ? r < count : r >= 0) {
+                int i = r * 3;
+                if (!removed.get(r) && (s < 0 || rows[i] == s) && (p < 0 || rows[i + 1] == p)
+                        && (o < 0 || rows[i + 2] == o)) {
+                    if (n == res.length) {
+                        res = Arrays.copyOf(res, n * 2);
+                    }
+                    System.arraycopy(rows, i, res, n, 3);
+                    n += 3;
+                }
+                r = x < 0 ? r + 1 : links[i + x];
+            }
+            return n == res.length ? res : Arrays.copyOf(res, n);
+        }
+    }
+
+    /**
+     * A primitive open-addressing hash map with non-negative {@code int} keys and {@code int} values.
+     */
+    protected static class IntMap {
+        // key + 1 for each slot, 0 for an empty slot:
+        protected int[] keys = new int[16];
+        protected int[] values = new int[16];
+        protected int size;
+
+        /**
+         * Returns the value for the key.
+         *
+         * @param key int, non-negative
+         * @return int, the value or {@code -1}
+         */
+        protected int get(int key) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key + 1) return values[i];
+            }
+            return -1;
+        }
+
+        /**
+         * Puts the value for the key.
+         *
+         * @param key   int, non-negative
+         * @param value int
+         * @return int, the previous value or {@code -1}
+         */
+        protected int put(int key, int value) {
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            for (; keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key + 1) {
+                    int res = values[i];
+                    values[i] = value;
+                    return res;
+                }
+            }
+            keys[i] = key + 1;
+            values[i] = value;
+            if (++size * 2 > keys.length) {
+                rehash();
+            }
+            return -1;
+        }
+
+        private void rehash() {
+            int[] k = keys;
+            int[] v = values;
+            keys = new int[k.length * 2];
+            values = new int[v.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < k.length; j++) {
+                if (k[j] == 0) continue;
+                int i = mix(k[j] - 1) & mask;
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = k[j];
+                values[i] = v[j];
+            }
+        }
+
+        private static int mix(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+        protected void clear() {
+            keys = new int[16];
+            values = new int[16];
+            size = 0;
+        }
+    }
+
+    /**
+     * An iterator over a range of the sorted store.
+     */
+    protected class StoreIterator extends NiceIterator<Triple> {
+        protected final Store store;
+        // the dictionary snapshot: #clear() replaces the array, the existing codes are never changed
+        protected final Node[] nodes = CompactGraph.this.nodes;
+        protected final int[] index;
+        protected final int to;
+        protected int i;
+        protected Triple next;
+        protected Triple last;
+
+        protected StoreIterator(Store store, int s, int p, int o) {
+            this.store = store;
+            int[] key = {s, p, o};
+            int[] order;
+            int length;
+            if (s >= 0) {
+                if (p >= 0) {
+                    order = SPO;
+                    length = o >= 0 ? 3 : 2;
+                } else if (o >= 0) {
+                    order = OSP;
+                    length = 2;
+                } else {
+                    order = SPO;
+                    length = 1;
+                }
+            } else if (p >= 0) {
+                order = POS;
+                length = o >= 0 ? 2 : 1;
+            } else if (o >= 0) {
+                order = OSP;
+                length = 1;
+            } else {
+                order = SPO;
+                length = 0;
+            }
+            this.index = store.index(order);
+            this.i = length == 0 ? 0 : store.bound(order, key, length, false);
+            this.to = length == 0 ? store.rows : store.bound(order, key, length, true);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && i < to) {
+                int r = store.row(index, i++);
+                if (store.removed.get(r)) continue;
+                int[] spo = store.spo;
+                next = Triple.create(nodes[spo[r * 3]], nodes[spo[r * 3 + 1]], nodes[spo[r * 3 + 2]]);
+            }
+            return next != null;
+        }
+
+        @Override
+        public Triple next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            last = next;
+            next = null;
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) throw new IllegalStateException();
+            CompactGraph.this.delete(last);
+            last = null;
+        }
+    }
+
+    /**
+     * An iterator over a delta snapshot.
+     */
+    protected class DeltaIterator extends NiceIterator<Triple> {
+        // the dictionary snapshot, see StoreIterator
+        protected final Node[] nodes = CompactGraph.this.nodes;
+        protected final int[] codes;
+        protected int i;
+        protected Triple last;
+
+        protected DeltaIterator(int[] codes) {
+            this.codes = codes;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return i < codes.length;
+        }
+
+        @Override
+        public Triple next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            last = Triple.create(nodes[codes[i]], nodes[codes[i + 1]], nodes[codes[i + 2]]);
+            i += 3;
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) throw new IllegalStateException();
+            CompactGraph.this.delete(last);
+            last = null;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.jena;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphEvents;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.sparql.util.graph.GraphListenerBase;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.vocabulary.RDF;
+import ru.avicomp.ontapi.jena.utils.Graphs;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lightweight summary of an in-memory {@link Graph}, that is used by {@link UnionGraph}
+ * to route a concrete triple pattern only to those component graphs that may contain a matching triple.
+ * A summary consists of the set of all predicates, the set of all {@code rdf:type} objects
+ * and a Bloom filter of subject namespaces.
+ * <p>
+ * A summary is built lazily, by a single pass over the graph, on the first request.
+ * After that it is kept up to date through the graph's {@link org.apache.jena.graph.GraphEventManager},
+ * so it reflects also the changes made directly in the graph, bypassing any {@code UnionGraph}.
+ * A bulk addition of a whole graph is not reported triple by triple, so it just makes the summary to be rebuilt.
+ * A summary is safe to read while the graph is being modified in another thread.
+ * <p>
+ * Note: deletions are not reflected in a summary, only the {@link GraphEvents#removeAll clearing} of the graph is.
+ * Exact counting is not possible here, since a graph notifies about the deletion of a triple
+ * (as well as about the addition) whether it was present or not.
+ * So, after some triples are deleted, a summary may contain stale predicates, types and namespaces.
+ * This is harmless: the summary can only say that the graph certainly does not contain a triple,
+ * otherwise the graph itself is asked, and a stale item means just a redundant look-up.
+ * <p>
+ * The summaries are held in a global weak registry, one per graph,
+ * so a graph that is shared between several hierarchies is scanned and listened only once.
+ * A summary has no reference to its graph, and a graph that is no longer in use is collected by GC as usual.
+ * The registry is accessed only when a {@code UnionGraph} collects its base graphs,
+ * while finding the graph uses the summaries it holds itself.
+ * Only {@link Graphs#isMem(Graph) in-memory} graphs are summarised.
+ *
+ * @since 1.4.3
+ */
+@SuppressWarnings("WeakerAccess")
+public class GraphSummary extends GraphListenerBase {
+    private static final Map<Graph, GraphSummary> SUMMARIES = Collections.synchronizedMap(new WeakHashMap<>());
+    /**
+     * The number of bits in the subject namespaces filter (must be a power of two).
+     */
+    protected static final int FILTER_SIZE = 1 << 12;
+
+    protected final Set<Node> predicates = ConcurrentHashMap.newKeySet();
+    protected final Set<Node> types = ConcurrentHashMap.newKeySet();
+    protected final AtomicLongArray namespaces = new AtomicLongArray(FILTER_SIZE / Long.SIZE);
+    protected volatile boolean hasNonURISubjects;
+    protected volatile boolean ready;
+
+    protected GraphSummary() {
+    }
+
+    /**
+     * Returns the summary for the specified graph, registering it if needed.
+     * The returned summary is not built yet: this happens on the first {@link #mayContain(Graph, Triple)} call.
+     *
+     * @param graph {@link Graph}, not {@code null}
+     * @return {@link GraphSummary} or {@code null} if the graph is not an in-memory graph
+     */
+    public static GraphSummary get(Graph graph) {
+        if (!Graphs.isMem(graph)) {
+            return null;
+        }
+        return SUMMARIES.computeIfAbsent(graph, g -> {
+            GraphSummary res = new GraphSummary();
+            g.getEventManager().register(res);
+            return res;
+        });
+    }
+
+    /**
+     * Answers {@code true} if a summary can help to answer the given pattern,
+     * i.e. if the pattern has a concrete subject or a concrete predicate.
+     * The object is taken into account only if the predicate is {@code rdf:type}.
+     *
+     * @param pattern {@link Triple} pattern, not {@code null}
+     * @return boolean
+     */
+    public static boolean isRoutable(Triple pattern) {
+        return pattern.getSubject().isConcrete() || pattern.getPredicate().isConcrete();
+    }
+
+    /**
+     * Answers {@code false} if the specified graph certainly contains no triple matching the given pattern.
+     * If the pattern is not {@link #isRoutable(Triple) routable}, the method returns {@code true}.
+     * Builds the summary if it is not ready yet.
+     *
+     * @param graph   {@link Graph}, the graph this summary is {@link #get(Graph) registered} for, not {@code null}
+     * @param pattern {@link Triple} pattern, not {@code null}
+     * @return boolean
+     */
+    public boolean mayContain(Graph graph, Triple pattern) {
+        if (!isRoutable(pattern)) {
+            return true;
+        }
+        if (!ready) {
+            build(graph);
+        }
+        return test(pattern);
+    }
+
+    /**
+     * Fills this summary with the content of the given graph.
+     *
+     * @param graph {@link Graph}
+     */
+    protected synchronized void build(Graph graph) {
+        if (ready) return;
+        ExtendedIterator<Triple> it = graph.find();
+        try {
+            while (it.hasNext()) {
+                addEvent(it.next());
+            }
+        } finally {
+            it.close();
+        }
+        ready = true;
+    }
+
+    /**
+     * Answers {@code false} if the summarised graph certainly contains no triple matching the given pattern.
+     * Note that deleted triples are not taken into account (see the class description).
+     *
+     * @param pattern {@link Triple} pattern, not {@code null}
+     * @return boolean
+     */
+    public boolean test(Triple pattern) {
+        Node p = pattern.getPredicate();
+        if (p.isConcrete() && !predicates.contains(p)) {
+            return false;
+        }
+        Node o = pattern.getObject();
+        if (RDF.Nodes.type.equals(p) && o.isURI() && !types.contains(o)) {
+            return false;
+        }
+        Node s = pattern.getSubject();
+        if (s.isURI()) {
+            return testNamespace(s.getURI());
+        }
+        return !s.isConcrete() || hasNonURISubjects;
+    }
+
+    protected boolean testNamespace(String uri) {
+        int h = namespaceHash(uri);
+        return testBit(h) && testBit(mix(h));
+    }
+
+    protected void addNamespace(String uri) {
+        int h = namespaceHash(uri);
+        setBit(h);
+        setBit(mix(h));
+    }
+
+    private boolean testBit(int h) {
+        int i = h & (FILTER_SIZE - 1);
+        return (namespaces.get(i >>> 6) & (1L << i)) != 0;
+    }
+
+    private void setBit(int h) {
+        int i = h & (FILTER_SIZE - 1);
+        long bit = 1L << i;
+        long prev;
+        while (((prev = namespaces.get(i >>> 6)) & bit) == 0 && !namespaces.compareAndSet(i >>> 6, prev, prev | bit)) {
+            // retry
+        }
+    }
+
+    private static int mix(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Calculates a hash-code of the namespace part of the given URI,
+     * which is everything up to the last {@code '#'}, {@code '/'} or {@code ':'} inclusive.
+     * No substring is created.
+     *
+     * @param uri String
+     * @return int
+     */
+    protected static int namespaceHash(String uri) {
+        int end = uri.length() - 1;
+        while (end >= 0) {
+            char c = uri.charAt(end);
+            if (c == '#' || c == '/' || c == ':') break;
+            end--;
+        }
+        int h = 0;
+        for (int i = 0; i <= end; i++) {
+            h = 31 * h + uri.charAt(i);
+        }
+        return h;
+    }
+
+    @Override
+    protected void addEvent(Triple t) {
+        predicates.add(t.getPredicate());
+        if (RDF.Nodes.type.equals(t.getPredicate())) {
+            types.add(t.getObject());
+        }
+        Node s = t.getSubject();
+        if (s.isURI()) {
+            addNamespace(s.getURI());
+        } else {
+            hasNonURISubjects = true;
+        }
+    }
+
+    @Override
+    protected void deleteEvent(Triple t) {
+        // deletions are not reflected (see the class description)
+    }
+
+    /**
+     * Handles a bulk addition, e.g. {@code Model#add(Model)}, that is reported without individual triples.
+     * The summary is invalidated and will be rebuilt on the next {@link #mayContain(Graph, Triple)} call.
+     * The current items are kept, so a concurrent reader never gets a false negative meanwhile.
+     *
+     * @param g     {@link Graph} the summarised graph
+     * @param added {@link Graph} the added content
+     */
+    @Override
+    public void notifyAddGraph(Graph g, Graph added) {
+        invalidate();
+    }
+
+    @Override
+    public void notifyEvent(Graph source, Object value) {
+        if (GraphEvents.removeAll.equals(value)) {
+            clear();
+        }
+    }
+
+    protected synchronized void clear() {
+        predicates.clear();
+        types.clear();
+        for (int i = 0; i < namespaces.length(); i++) {
+            namespaces.set(i, 0);
+        }
+        hasNonURISubjects = false;
+    }
+
+    protected synchronized void invalidate() {
+        ready = false;
+    }
+}
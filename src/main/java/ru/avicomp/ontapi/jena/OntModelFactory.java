@@ -68,6 +68,18 @@ public class OntModelFactory {
         return new GraphMem();
     }
 
+    /**
+     * Creates a compact (dictionary-encoded) in-memory graph,
+     * which requires much less memory than the default graph, but has slower write operations.
+     *
+     * @return {@link CompactGraph}
+     * @see #createDefaultGraph()
+     * @since 1.4.3
+     */
+    public static Graph createCompactGraph() {
+        return new CompactGraph();
+    }
+
     /**
      * Creates default (in-memory) RDF Model implementation.
      *
@@ -55,6 +55,15 @@ import java.util.stream.Collectors;
  * Note: currently this {@code Graph} does not support transactions.
  * I.e. the method {@link TransactionHandler#transactionsSupported()} returns {@code false}.
  * <p>
+ * There are two iteration modes.
+ * By default, a writer waits until all iterators opened by other threads are either exhausted or expired
+ * (see {@link #waitForEmptyIterators()}).
+ * In the snapshot mode (see {@link #RWLockedGraph(Graph, ReadWriteLock, boolean)}) writers never wait for readers:
+ * iterators pull data from the base graph in small chunks under the read lock,
+ * and a writer puts in memory the rest of only those open iterators, that can be affected by the change
+ * (see {@link #beforeChange(Triple, boolean)}),
+ * so every iterator continues with the data it would see if there were no changes.
+ * <p>
  * Created by @szuev on 07.04.2017.
  */
 @SuppressWarnings("WeakerAccess")
@@ -80,6 +89,10 @@ public class RWLockedGraph implements Graph {
      * {@link GraphEventManager}, cannot be {@code null}
      */
     protected final GraphEventManager gem;
+    /**
+     * If {@code true} the graph works in the snapshot mode, see {@link SIT}.
+     */
+    protected final boolean snapshots;
 
     /**
      * Constructs a new {@link RWLockedGraph Read/Write Locked Graph Wrapper}
@@ -109,7 +122,23 @@ public class RWLockedGraph implements Graph {
     }
 
     /**
-     * The base constructor.
+     * Constructs a new {@link RWLockedGraph Read/Write Locked Graph Wrapper} with {@link SimpleEventManager}
+     * and the specified iteration mode.
+     * If {@code snapshots} is {@code true} modifications never wait for other threads iterators,
+     * instead the rest of each open iterator is put in memory just before the change.
+     *
+     * @param base      {@link Graph}, not {@code null}
+     * @param lock      {@link ReadWriteLock}, not {@code null}
+     * @param snapshots boolean, to turn on the snapshot mode
+     * @throws RuntimeException if any input parameter is wrong
+     * @since 1.4.3
+     */
+    public RWLockedGraph(Graph base, ReadWriteLock lock, boolean snapshots) {
+        this(base, lock, 500, new SimpleEventManager(), snapshots);
+    }
+
+    /**
+     * Constructs a graph wrapper in the default (waiting) mode.
      *
      * @param base                {@link Graph}, not {@code null}
      * @param lock                {@link ReadWriteLock}, not {@code null}
@@ -118,12 +147,32 @@ public class RWLockedGraph implements Graph {
      * @throws RuntimeException if any input parameter is wrong
      */
     protected RWLockedGraph(Graph base, ReadWriteLock lock, long delayInMilliseconds, GraphEventManager gem) {
+        this(base, lock, delayInMilliseconds, gem, false);
+    }
+
+    /**
+     * The base constructor.
+     *
+     * @param base                {@link Graph}, not {@code null}
+     * @param lock                {@link ReadWriteLock}, not {@code null}
+     * @param delayInMilliseconds long, positive number
+     * @param gem                 {@link GraphEventManager}, not {@code null}
+     * @param snapshots           boolean, to turn on the snapshot mode
+     * @throws RuntimeException if any input parameter is wrong
+     * @since 1.4.3
+     */
+    protected RWLockedGraph(Graph base,
+                            ReadWriteLock lock,
+                            long delayInMilliseconds,
+                            GraphEventManager gem,
+                            boolean snapshots) {
         this.base = Objects.requireNonNull(base, "Null base graph");
         this.lock = Objects.requireNonNull(lock, "Null lock");
         this.gem = Objects.requireNonNull(gem, "Null event manager");
         if (delayInMilliseconds <= 0)
             throw new IllegalArgumentException("Non-positive delay specified.");
         this.delay = delayInMilliseconds;
+        this.snapshots = snapshots;
     }
 
     /**
@@ -143,13 +192,23 @@ public class RWLockedGraph implements Graph {
         return lock;
     }
 
+    /**
+     * Answers {@code true} if this graph works in the snapshot mode.
+     *
+     * @return boolean
+     * @since 1.4.3
+     */
+    public boolean isSnapshotMode() {
+        return snapshots;
+    }
+
     @Override
     public void add(Triple t) throws AddDeniedException {
         lock.writeLock().lock();
         try {
             if (!base.getCapabilities().addAllowed())
                 throw new AddDeniedException("Attempt to add triple " + t);
-            waitForEmptyIterators();
+            beforeChange(t, true);
             base.add(t);
         } finally {
             lock.writeLock().unlock();
@@ -162,7 +221,7 @@ public class RWLockedGraph implements Graph {
         try {
             if (!base.getCapabilities().deleteAllowed())
                 throw new DeleteDeniedException("Attempt to delete triple " + t);
-            waitForEmptyIterators();
+            beforeChange(t, false);
             base.delete(t);
         } finally {
             lock.writeLock().unlock();
@@ -175,7 +234,7 @@ public class RWLockedGraph implements Graph {
         try {
             if (!base.getCapabilities().deleteAllowed())
                 throw new DeleteDeniedException("Attempt to remove triple " + Triple.createMatch(s, p, o));
-            waitForEmptyIterators();
+            beforeChange(Triple.createMatch(s, p, o), false);
             base.remove(s, p, o);
         } finally {
             lock.writeLock().unlock();
@@ -188,7 +247,7 @@ public class RWLockedGraph implements Graph {
         try {
             if (!base.getCapabilities().deleteAllowed())
                 throw new DeleteDeniedException("Attempt to clear");
-            waitForEmptyIterators();
+            beforeChange(Triple.ANY, false);
             base.clear();
         } finally {
             lock.writeLock().unlock();
@@ -212,7 +271,7 @@ public class RWLockedGraph implements Graph {
     public ExtendedIterator<Triple> find(Triple m) {
         lock.readLock().lock();
         try {
-            return new WIT<>(base.find(m));
+            return createIterator(m);
         } finally {
             lock.readLock().unlock();
         }
@@ -232,7 +291,7 @@ public class RWLockedGraph implements Graph {
     public ExtendedIterator<Triple> find(Node s, Node p, Node o) {
         lock.readLock().lock();
         try {
-            return new WIT<>(base.find(s, p, o));
+            return createIterator(Triple.createMatch(s, p, o));
         } finally {
             lock.readLock().unlock();
         }
@@ -290,7 +349,7 @@ public class RWLockedGraph implements Graph {
     public boolean isEmpty() {
         lock.readLock().lock();
         try {
-            if (base instanceof GraphMem)
+            if (Graphs.isMem(base))
                 return base.isEmpty();
             return !Iter.findFirst(find()).isPresent();
         } finally {
@@ -351,6 +410,98 @@ public class RWLockedGraph implements Graph {
         }
     }
 
+    /**
+     * Creates an iterator over the triples matching the pattern according to the current iteration mode.
+     * Must be called under the read lock.
+     *
+     * @param m {@link Triple} pattern, not {@code null}
+     * @return {@link WIT}
+     * @since 1.4.3
+     */
+    protected WIT<Triple> createIterator(Triple m) {
+        return snapshots ? new SIT(m) : new WIT<>(base.find(m));
+    }
+
+    /**
+     * Prepares the graph and the open iterators for the modification.
+     * Must be called under the write lock.
+     * In the default mode the method waits for the iterators of other threads.
+     * In the snapshot mode it {@link SIT#detach() detaches} the open iterators, that can be affected by the change,
+     * i.e. puts their rest in memory, while the base iterators are still valid.
+     * Nothing is done if the change is a no-op (e.g. adding an existing triple)
+     * or if there are no open iterators, that depend on the changed data.
+     *
+     * @param m     {@link Triple} to add or a pattern to delete, not {@code null}
+     * @param added boolean, {@code true} if the triple is going to be added
+     * @since 1.4.3
+     */
+    protected void beforeChange(Triple m, boolean added) {
+        if (!snapshots) {
+            waitForEmptyIterators();
+            return;
+        }
+        List<SIT> affected;
+        synchronized (iterators) {
+            if (iterators.isEmpty()) return;
+            affected = iterators.stream()
+                    .filter(x -> x instanceof SIT)
+                    .map(SIT.class::cast)
+                    .filter(x -> !x.detached)
+                    .collect(Collectors.toList());
+        }
+        if (affected.isEmpty()) return;
+        if (m.isConcrete() && added == base.contains(m)) {
+            // no-op
+            return;
+        }
+        boolean indexed = isIndexed();
+        affected.stream().filter(x -> !indexed || mayAffect(x.pattern, m)).forEach(SIT::detach);
+    }
+
+    /**
+     * Answers {@code true} if the base graph is known to be an in-memory graph (or a union of such graphs),
+     * whose iterators are invalidated only by changes of the index node of the searched pattern.
+     * For any other graph each change is considered as affecting all open iterators.
+     *
+     * @return boolean
+     * @see #mayAffect(Triple, Triple)
+     * @since 1.4.3
+     */
+    protected boolean isIndexed() {
+        if (base instanceof GraphMem) return true;
+        if (!(base instanceof UnionGraph)) return false;
+        return Iter.allMatch(((UnionGraph) base).listBaseGraphs(), g -> g instanceof GraphMem);
+    }
+
+    /**
+     * Answers {@code true} if a change of the triples matching the pattern {@code change}
+     * can break an iterator over the {@link GraphMem} for the pattern {@code search}.
+     * A {@code GraphMem} iterator walks through a single bunch of triples, that is chosen by the index node
+     * (the subject, if it is concrete, then the object, then the predicate),
+     * or through all triples, if the search pattern has no concrete nodes.
+     *
+     * @param search {@link Triple} the pattern of an open iterator
+     * @param change {@link Triple} the triple or the pattern to change
+     * @return boolean
+     * @since 1.4.3
+     */
+    protected static boolean mayAffect(Triple search, Triple change) {
+        if (search.getSubject().isConcrete()) {
+            return matches(search.getSubject(), change.getSubject());
+        }
+        if (search.getObject().isConcrete()) {
+            return matches(search.getObject(), change.getObject());
+        }
+        if (search.getPredicate().isConcrete()) {
+            return matches(search.getPredicate(), change.getPredicate());
+        }
+        return true;
+    }
+
+    private static boolean matches(Node index, Node n) {
+        return !n.isConcrete() || index.equals(n);
+    }
+
     /**
      * Waits for all other (that are created by other threads) iterators.
      * After operation is finished, all iterators must be either done or cached in the from of snapshot.
@@ -375,13 +526,24 @@ public class RWLockedGraph implements Graph {
     @SuppressWarnings("unchecked")
     protected void makeIteratorSnapshot(WIT<?> it) {
         ExtendedIterator base = it.setBase(null);
-        ArrayList res = new ArrayList();
+        it.setBase(toSnapshot(base));
+        removeIterator(it);
+    }
+
+    /**
+     * Drains the given iterator into memory.
+     *
+     * @param base {@link ExtendedIterator}
+     * @param <X>  anything
+     * @return {@link ExtendedIterator} over the in-memory copy
+     */
+    protected static <X> ExtendedIterator<X> toSnapshot(ExtendedIterator<X> base) {
+        ArrayList<X> res = new ArrayList<>();
         while (base.hasNext()) {
             res.add(base.next());
         }
         res.trimToSize();
-        it.setBase(Iter.create(res.iterator()));
-        removeIterator(it);
+        return Iter.create(res.iterator());
     }
 
     /**
@@ -590,6 +752,128 @@ public class RWLockedGraph implements Graph {
         }
     }
 
+    /**
+     * A snapshot {@link WIT}-iterator, that is used in the snapshot mode.
+     * It reads the base iterator by chunks under the read lock and keeps them in a local buffer,
+     * which is accessed only by the thread that consumes the iterator.
+     * Nothing else is kept in memory while the graph is not changed.
+     * Just before a change, that may affect the base iterator, the writer {@link #detach() detaches} the iterator:
+     * its rest is put in memory, so the iterator always returns the data of the graph version in which it was created,
+     * never throws {@link ConcurrentModificationException} and never makes a writer wait.
+     * An iterator that is exhausted or closed is unregistered from the graph,
+     * a forgotten one is held only weakly and is collected by GC as usual.
+     *
+     * @since 1.4.3
+     */
+    public class SIT extends WIT<Triple> {
+        /**
+         * The maximum number of elements fetched from the base iterator under a single read lock acquisition.
+         */
+        protected static final int CHUNK_SIZE = 256;
+        protected final Deque<Triple> buffer = new ArrayDeque<>();
+        protected final Triple pattern;
+        /**
+         * Guarded by the {@link #lock}.
+         */
+        protected boolean detached;
+        protected Triple last;
+        protected boolean exhausted;
+
+        /**
+         * Creates the iterator.
+         * Must be called under the read lock.
+         *
+         * @param m {@link Triple} pattern, not {@code null}
+         */
+        protected SIT(Triple m) {
+            super(get().find(m));
+            this.pattern = m;
+        }
+
+        /**
+         * Puts the rest of the base iterator in memory.
+         * Must be called under the write lock, before the graph is changed.
+         */
+        protected void detach() {
+            ExtendedIterator<Triple> base = base();
+            List<Triple> rest = new ArrayList<>();
+            try {
+                base.forEachRemaining(rest::add);
+            } finally {
+                base.close();
+            }
+            setBase(WrappedIterator.create(rest.iterator()));
+            detached = true;
+        }
+
+        /**
+         * Fills the buffer with the next chunk of the base iterator.
+         */
+        protected void fetch() {
+            lock.readLock().lock();
+            try {
+                ExtendedIterator<Triple> base = base();
+                for (int i = 0; i < CHUNK_SIZE && base.hasNext(); i++) {
+                    buffer.add(base.next());
+                }
+                if (buffer.isEmpty()) {
+                    exhausted = true;
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!buffer.isEmpty()) return true;
+            if (exhausted) return false;
+            try {
+                fetch();
+            } catch (Exception e) {
+                deleteFromCollection();
+                throw e;
+            }
+            if (exhausted) {
+                deleteFromCollection();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public Triple next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return last = buffer.poll();
+        }
+
+        /**
+         * Removes the last returned triple from the graph.
+         *
+         * @throws IllegalStateException if there is no element to remove
+         */
+        @Override
+        public void remove() {
+            if (last == null) throw new IllegalStateException();
+            RWLockedGraph.this.delete(last);
+            last = null;
+        }
+
+        @Override
+        public void close() {
+            buffer.clear();
+            exhausted = true;
+            withReadLock(() -> {
+                try {
+                    close(base());
+                } finally {
+                    deleteFromCollection();
+                }
+                return null;
+            });
+        }
+    }
+
     /**
      * A wrapper for {@link PrefixMapping}.
      *
@@ -20,12 +20,17 @@ import org.apache.jena.graph.Triple;
 import org.apache.jena.graph.compose.CompositionBase;
 import org.apache.jena.graph.impl.SimpleEventManager;
 import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.sparql.util.graph.GraphListenerBase;
 import org.apache.jena.util.CollectionFactory;
 import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NullIterator;
 import ru.avicomp.ontapi.jena.utils.Graphs;
 import ru.avicomp.ontapi.jena.utils.Iter;
 
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -49,6 +54,16 @@ public class UnionGraph extends CompositionBase {
     protected final Graph base;
     protected final Underlying sub;
     protected final boolean distinct;
+    /**
+     * If {@code true} all the base graphs of the hierarchy are known to be pairwise disjoint,
+     * and, therefore, a distinct graph has no need to check the duplicates while {@link #find(Triple)}.
+     */
+    protected volatile boolean disjoint;
+    /**
+     * A listener, that watches the base graphs while this graph has the {@link #disjoint} flag,
+     * {@code null} if there is no the flag.
+     */
+    protected DisjointWatcher watcher;
 
     /**
      * A set of parents, used to control {@link #graphs cache}.
@@ -61,6 +76,12 @@ public class UnionGraph extends CompositionBase {
      * This {@code Set} cannot contain {@link UnionGraph}s.
      */
     protected Set<Graph> graphs;
+    /**
+     * Internal cache to hold the {@link GraphSummary summaries} of the base graphs,
+     * used to route a concrete pattern while {@link Graph#find(Triple) #find(..)}.
+     * It is reset together with the {@link #graphs} cache.
+     */
+    protected volatile Map<Graph, GraphSummary> summaries;
 
     /**
      * Creates an instance with default settings.
@@ -137,6 +158,104 @@ public class UnionGraph extends CompositionBase {
         return distinct;
     }
 
+    /**
+     * Answers {@code true} if the base graphs of this union graph are considered to be pairwise disjoint,
+     * i.e. no triple belongs to more than one graph.
+     * See {@link #setDisjoint(boolean)} and {@link #detectDisjoint()}.
+     *
+     * @return boolean
+     * @since 1.4.3
+     */
+    public boolean isDisjoint() {
+        return disjoint;
+    }
+
+    /**
+     * Declares that the base graphs of this union graph are (or are not) pairwise disjoint.
+     * For a {@link #isDistinct() distinct} graph this turns off the duplicates checking while {@link #find(Triple)},
+     * so the iteration over the whole union requires only constant memory.
+     * The caller (e.g. a loader, which knows that the imports closure has no common triples) is responsible
+     * for the correctness of this declaration: if the graphs overlap, the {@code find} may return duplicates.
+     * While the flag is set, the base graphs are listened through their event managers,
+     * so any addition (either through some union graph or directly into a base graph) keeps the flag consistent:
+     * it is reset, if a new triple is already present in some other base graph.
+     * Also it is reset on any {@link #addGraph(Graph)} in the hierarchy.
+     * A graph without the flag has no listeners and, therefore, no additional costs on modification.
+     *
+     * @param disjoint boolean
+     * @return this instance
+     * @see #detectDisjoint()
+     * @since 1.4.3
+     */
+    public synchronized UnionGraph setDisjoint(boolean disjoint) {
+        if (disjoint && watcher == null) {
+            (watcher = new DisjointWatcher(this)).register();
+        } else if (!disjoint && watcher != null) {
+            watcher.unregister();
+            watcher = null;
+        }
+        this.disjoint = disjoint;
+        return this;
+    }
+
+    /**
+     * Checks whether the base graphs of this union graph are pairwise disjoint
+     * and sets the {@link #isDisjoint() disjoint} flag accordingly.
+     * The check requires a full iteration over all graphs except the first (base) one,
+     * each triple is probed in the preceding graphs, so the memory consumption is constant.
+     *
+     * @return boolean, the new state of the flag
+     * @see #setDisjoint(boolean)
+     * @since 1.4.3
+     */
+    public boolean detectDisjoint() {
+        List<Graph> graphs = listBaseGraphs().toList();
+        boolean res = true;
+        for (int i = 1; i < graphs.size() && res; i++) {
+            List<Graph> prev = graphs.subList(0, i);
+            res = !Iter.anyMatch(graphs.get(i).find(), t -> containsIn(prev, t));
+        }
+        setDisjoint(res);
+        return res;
+    }
+
+    private static boolean containsIn(Collection<Graph> graphs, Triple t) {
+        for (Graph g : graphs) {
+            if (g.contains(t)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Resets the {@link #isDisjoint() disjoint} flag for this graph and all its ancestors.
+     */
+    protected void resetDisjoint() {
+        collectDisjointAncestors().forEach(x -> x.setDisjoint(false));
+    }
+
+    /**
+     * Re-registers the watchers of this graph and all its ancestors that have the {@link #isDisjoint() disjoint} flag,
+     * so that they no longer listen (and refer to) the graphs that are not in the hierarchy anymore.
+     * A removal cannot make the graphs overlap, so the flag itself is kept.
+     */
+    protected void refreshDisjoint() {
+        collectDisjointAncestors().forEach(x -> x.setDisjoint(false).setDisjoint(true));
+    }
+
+    /**
+     * Lists this graph and all its ancestors that have the {@link #isDisjoint() disjoint} flag.
+     *
+     * @return {@code List} of {@link UnionGraph}s
+     */
+    private List<UnionGraph> collectDisjointAncestors() {
+        Set<UnionGraph> res = new HashSet<>();
+        res.add(this);
+        if (!parents.isEmpty()) {
+            collectParents(res);
+        }
+        return res.stream().filter(x -> x.disjoint).collect(Collectors.toList());
+    }
+
     /**
      * Returns the base (primary) graph.
      *
@@ -157,8 +276,9 @@ public class UnionGraph extends CompositionBase {
 
     @Override
     public void performAdd(Triple t) {
-        if (!sub.contains(t))
+        if (!sub.contains(t)) {
             base.add(t);
+        }
     }
 
     @Override
@@ -179,6 +299,7 @@ public class UnionGraph extends CompositionBase {
         getUnderlying().add(graph);
         addParent(graph);
         resetGraphsCache();
+        resetDisjoint();
         return this;
     }
 
@@ -200,6 +321,7 @@ public class UnionGraph extends CompositionBase {
         getUnderlying().remove(graph);
         removeParent(graph);
         resetGraphsCache();
+        refreshDisjoint();
         return this;
     }
 
@@ -214,7 +336,10 @@ public class UnionGraph extends CompositionBase {
      * Clears the {@link #graphs cache}.
      */
     protected void resetGraphsCache() {
-        collectAllUnionGraphs().forEach(x -> x.graphs = null);
+        collectAllUnionGraphs().forEach(x -> {
+            x.graphs = null;
+            x.summaries = null;
+        });
     }
 
     /**
@@ -266,7 +391,7 @@ public class UnionGraph extends CompositionBase {
         while (graphs.hasNext()) {
             Graph g = graphs.next();
             if (g == base) continue;
-            if (g.contains(t)) return true;
+            if (mayContain(g, t) && g.contains(t)) return true;
         }
         return false;
     }
@@ -288,6 +413,8 @@ public class UnionGraph extends CompositionBase {
 
     /**
      * Creates an extended iterator to be used in {@link Graph#find(Triple)}.
+     * A concrete pattern is routed only to those base graphs that may contain a matching triple,
+     * see {@link GraphSummary}.
      *
      * @param m {@link Triple} pattern, not {@code null}
      * @return {@link ExtendedIterator} of {@link Triple}s
@@ -299,15 +426,61 @@ public class UnionGraph extends CompositionBase {
         if (sub.isEmpty()) {
             return base.find(m);
         }
-        if (!distinct) {
-            return Iter.flatMap(listBaseGraphs(), x -> x.find(m));
+        ExtendedIterator<Graph> candidates = listBaseGraphs();
+        if (GraphSummary.isRoutable(m)) {
+            // route the concrete pattern only to those graphs whose summaries allow a match:
+            candidates = candidates.filterKeep(x -> mayContain(x, m));
+        }
+        if (!distinct || disjoint) {
+            return Iter.flatMap(candidates, x -> x.find(m));
+        }
+        // The duplicates are possible only if the pattern matches triples from more than one graph:
+        List<Graph> graphs = candidates.filterKeep(x -> x.contains(m)).toList();
+        if (graphs.isEmpty()) {
+            return NullIterator.instance();
+        }
+        if (graphs.size() == 1) {
+            return graphs.get(0).find(m);
         }
         // The logic and the comment below have been copy-pasted from the org.apache.jena.graph.compose.Union:
         // To find in the union, find in the components, concatenate the results, and omit duplicates.
         // That last is a performance penalty,
         // but I see no way to remove it unless we know the graphs do not overlap.
         Set<Triple> seen = createSet();
-        return Iter.flatMap(listBaseGraphs(), x -> recording(rejecting(x.find(m), seen), seen));
+        return Iter.flatMap(Iter.create(graphs), x -> recording(rejecting(x.find(m), seen), seen));
+    }
+
+    /**
+     * Answers {@code false} if the specified base graph certainly contains no triple matching the given pattern.
+     *
+     * @param graph {@link Graph}, one of the {@link #listBaseGraphs() base graphs}
+     * @param m     {@link Triple} pattern, not {@code null}
+     * @return boolean
+     * @see GraphSummary
+     */
+    protected boolean mayContain(Graph graph, Triple m) {
+        Map<Graph, GraphSummary> res = summaries;
+        if (res == null) {
+            summaries = res = collectSummaries();
+        }
+        GraphSummary summary = res.get(graph);
+        return summary == null || summary.mayContain(graph, m);
+    }
+
+    /**
+     * Collects the summaries of all base graphs.
+     *
+     * @return {@code Map} with {@link Graph}s as keys and {@link GraphSummary}s as values
+     */
+    protected Map<Graph, GraphSummary> collectSummaries() {
+        Map<Graph, GraphSummary> res = new IdentityHashMap<>();
+        listBaseGraphs().forEachRemaining(g -> {
+            GraphSummary summary = GraphSummary.get(g);
+            if (summary != null) {
+                res.put(g, summary);
+            }
+        });
+        return res;
     }
 
     /**
@@ -330,7 +503,10 @@ public class UnionGraph extends CompositionBase {
     @Override
     public void close() {
         listBaseGraphs().forEachRemaining(Graph::close);
-        collectUnionGraphs().forEach(x -> x.closed = true);
+        collectUnionGraphs().forEach(x -> {
+            x.setDisjoint(false);
+            x.closed = true;
+        });
     }
 
     /**
@@ -444,6 +620,77 @@ public class UnionGraph extends CompositionBase {
         return String.format("%s(%s)@%s", getClass().getName(), Graphs.getName(this), Integer.toHexString(hashCode()));
     }
 
+    /**
+     * A listener to watch the additions into the base graphs of a {@link #isDisjoint() disjoint} union graph.
+     * It resets the flag as soon as a triple, that is added into some base graph
+     * (either through any union graph or directly), is found in more than one base graph.
+     * A bulk addition of a whole graph (e.g. {@code Model#add(Model)}), which is not reported triple by triple,
+     * resets the flag unconditionally.
+     * The listener does not prevent the union graph and its base graphs from being collected by GC,
+     * even if it is still registered in some graph that is shared with other hierarchies:
+     * if the union graph is collected, the listener unregisters itself on the next event.
+     * Also, it is unregistered explicitly when a graph is removed from the hierarchy or the union graph is closed.
+     *
+     * @since 1.4.3
+     */
+    protected static class DisjointWatcher extends GraphListenerBase {
+        private final Reference<UnionGraph> union;
+        private final List<Reference<Graph>> graphs;
+
+        protected DisjointWatcher(UnionGraph union) {
+            this.union = new WeakReference<>(union);
+            this.graphs = union.listBaseGraphs().<Reference<Graph>>mapWith(WeakReference::new).toList();
+        }
+
+        protected void register() {
+            graphs().forEach(g -> g.getEventManager().register(this));
+        }
+
+        protected void unregister() {
+            graphs().forEach(g -> g.getEventManager().unregister(this));
+        }
+
+        private List<Graph> graphs() {
+            List<Graph> res = new ArrayList<>(graphs.size());
+            for (Reference<Graph> r : graphs) {
+                Graph g = r.get();
+                if (g != null) res.add(g);
+            }
+            return res;
+        }
+
+        @Override
+        protected void addEvent(Triple t) {
+            UnionGraph u = union.get();
+            if (u == null) {
+                unregister();
+                return;
+            }
+            int count = 0;
+            for (Graph g : graphs()) {
+                if (g.contains(t) && ++count > 1) {
+                    u.setDisjoint(false);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void notifyAddGraph(Graph g, Graph added) {
+            UnionGraph u = union.get();
+            if (u == null) {
+                unregister();
+                return;
+            }
+            u.setDisjoint(false);
+        }
+
+        @Override
+        protected void deleteEvent(Triple t) {
+            // a deletion cannot make the graphs overlap
+        }
+    }
+
     /**
      * A container to hold all sub-graphs, that make up the hierarchy.
      * Such a representation of sub-graphs collection in the form of separate class allows
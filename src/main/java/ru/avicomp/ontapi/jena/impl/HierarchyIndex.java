@@ -0,0 +1,303 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.jena.impl;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.sparql.util.graph.GraphListenerBase;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import ru.avicomp.ontapi.jena.UnionGraph;
+import ru.avicomp.ontapi.jena.model.OntObject;
+import ru.avicomp.ontapi.jena.vocabulary.RDF;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A lazy materialised index of transitive hierarchies (such as {@code rdfs:subClassOf} or {@code rdfs:subPropertyOf})
+ * for an {@link OntGraphModelImpl Ontology Model}.
+ * <p>
+ * For each hierarchy (i.e. a triple of a predicate, a direction and a class-type)
+ * the index keeps a {@code Map} of reflexive transitive closures, which are computed on demand.
+ * The closures are calculated using the Tarjan's strongly connected components algorithm,
+ * so all members of a cycle (e.g. {@code A rdfs:subClassOf B}, {@code B rdfs:subClassOf A},
+ * which is the RDF form of equivalent classes) share the same immutable {@code Set},
+ * and the closure of any node is assembled from the already known closures of its children.
+ * The result is always the same as {@link OntObjectImpl#getHierarchy(org.apache.jena.rdf.model.Resource, Function, boolean)}
+ * produces, but the graph walk happens only once per node.
+ * <p>
+ * The index is maintained incrementally through the {@link UnionGraph.OntEventManager graph event manager}s
+ * of the whole {@link UnionGraph} hierarchy:
+ * adding or deleting a hierarchy triple releases only those closures, that contain the affected node,
+ * a change of typing (a triple with {@code rdf:type} predicate or with a blank subject)
+ * or a bulk graph operation releases the whole index.
+ * Changes of the graph hierarchy itself (i.e. adding or removing sub-graphs) are detected while querying.
+ * Note that changes made directly in a base graph, bypassing the union graph, cannot be tracked.
+ *
+ * @see OntGraphModelImpl#enableHierarchyIndex()
+ * @since 1.4.3
+ */
+@SuppressWarnings("WeakerAccess")
+public class HierarchyIndex extends GraphListenerBase {
+    protected final OntGraphModelImpl model;
+    protected final Map<Key, Map<Node, Set<RDFNode>>> closures = new ConcurrentHashMap<>();
+    // a snapshot of the graph hierarchy, to detect its modifications
+    protected List<Graph> graphs = Collections.emptyList();
+    protected List<UnionGraph> unions = Collections.emptyList();
+
+    public HierarchyIndex(OntGraphModelImpl model) {
+        this.model = Objects.requireNonNull(model);
+    }
+
+    /**
+     * Returns a reflexive transitive closure for the given object and hierarchy,
+     * i.e. a {@code Set} of all objects, that are reachable from the given one by the {@code predicate},
+     * including the object itself.
+     *
+     * @param object    {@link X}, not {@code null}
+     * @param type      the class-type of {@link X}
+     * @param predicate the {@link Property} whose values are required
+     * @param inverse   if {@code true}, use the inverse of {@code predicate} rather than {@code predicate}
+     * @param <X>       subtype of {@link OntObject}
+     * @return unmodifiable {@code Set} of {@link X}s
+     */
+    @SuppressWarnings("unchecked")
+    public <X extends OntObject> Set<X> getClosure(X object, Class<X> type, Property predicate, boolean inverse) {
+        checkGraphs();
+        Map<Node, Set<RDFNode>> cache = closures.computeIfAbsent(new Key(predicate.asNode(), inverse, type),
+                k -> new ConcurrentHashMap<>());
+        Set<RDFNode> res = cache.get(object.asNode());
+        if (res == null) {
+            Function<RDFNode, ExtendedIterator<? extends RDFNode>> listDirect = inverse ?
+                    x -> ((OntObjectImpl) x).listSubjects(predicate, type) :
+                    x -> ((OntObjectImpl) x).listObjects(predicate, type);
+            res = new Walker(cache, listDirect).visit(object).closure;
+        }
+        return (Set<X>) (Set<?>) res;
+    }
+
+    /**
+     * Releases the whole index.
+     */
+    public void clear() {
+        closures.clear();
+    }
+
+    /**
+     * Attaches this index to the model's graph hierarchy.
+     */
+    protected void register() {
+        checkGraphs();
+    }
+
+    /**
+     * Detaches this index from the model's graph hierarchy and releases all caches.
+     */
+    protected synchronized void unregister() {
+        unions.forEach(g -> g.getEventManager().unregister(this));
+        unions = Collections.emptyList();
+        graphs = Collections.emptyList();
+        clear();
+    }
+
+    /**
+     * Compares the current graph hierarchy with the snapshot,
+     * and, if it has been changed, releases the index and re-registers this listener.
+     */
+    protected synchronized void checkGraphs() {
+        UnionGraph graph = model.getGraph();
+        List<Graph> current = graph.listBaseGraphs().toList();
+        if (sameGraphs(graphs, current)) {
+            return;
+        }
+        unions.forEach(g -> g.getEventManager().unregister(this));
+        unions = graph.listUnionGraphs().toList();
+        unions.forEach(g -> g.getEventManager().register(this));
+        graphs = current;
+        clear();
+    }
+
+    private static boolean sameGraphs(List<Graph> left, List<Graph> right) {
+        if (left.size() != right.size()) return false;
+        for (int i = 0; i < left.size(); i++) {
+            if (left.get(i) != right.get(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Releases those closures, that can be affected by adding or deleting the given triple.
+     *
+     * @param t {@link Triple}, not {@code null}
+     */
+    protected void invalidate(Triple t) {
+        if (closures.isEmpty()) return;
+        boolean affected = false;
+        for (Map.Entry<Key, Map<Node, Set<RDFNode>>> e : closures.entrySet()) {
+            Key k = e.getKey();
+            if (!k.predicate.equals(t.getPredicate())) continue;
+            affected = true;
+            // the triple is an edge from the subject (or from the object if the hierarchy is inverse),
+            // so only those closures, that include that node, can be changed
+            RDFNode from = model.asRDFNode(k.inverse ? t.getObject() : t.getSubject());
+            e.getValue().values().removeIf(s -> s.contains(from));
+        }
+        if (affected) return;
+        if (t.getSubject().isURI() && !RDF.Nodes.type.equals(t.getPredicate())) {
+            // a triple with uri subject does not change the typing of any node,
+            // unless it is a declaration
+            return;
+        }
+        clear();
+    }
+
+    @Override
+    protected void addEvent(Triple t) {
+        invalidate(t);
+    }
+
+    @Override
+    protected void deleteEvent(Triple t) {
+        invalidate(t);
+    }
+
+    @Override
+    public void notifyAddGraph(Graph g, Graph other) {
+        clear();
+    }
+
+    @Override
+    public void notifyDeleteGraph(Graph g, Graph other) {
+        clear();
+    }
+
+    @Override
+    public void notifyEvent(Graph source, Object value) {
+        clear();
+    }
+
+    /**
+     * A hierarchy key.
+     */
+    protected static class Key {
+        private final Node predicate;
+        private final boolean inverse;
+        private final Class<?> type;
+
+        protected Key(Node predicate, boolean inverse, Class<?> type) {
+            this.predicate = predicate;
+            this.inverse = inverse;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return inverse == other.inverse && predicate.equals(other.predicate) && type.equals(other.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(predicate, inverse, type);
+        }
+    }
+
+    /**
+     * A recursive Tarjan's walker, that collects closures of strongly connected components into the cache.
+     */
+    private static class Walker {
+        private final Map<Node, Set<RDFNode>> cache;
+        private final Function<RDFNode, ExtendedIterator<? extends RDFNode>> listDirect;
+        private final Map<Node, State> states = new HashMap<>();
+        private final Deque<State> stack = new ArrayDeque<>();
+        private int counter;
+
+        private Walker(Map<Node, Set<RDFNode>> cache,
+                       Function<RDFNode, ExtendedIterator<? extends RDFNode>> listDirect) {
+            this.cache = cache;
+            this.listDirect = listDirect;
+        }
+
+        private State visit(RDFNode node) {
+            State res = new State(node, counter++);
+            states.put(node.asNode(), res);
+            stack.push(res);
+            res.children = listDirect.apply(node).toList();
+            for (RDFNode c : res.children) {
+                Set<RDFNode> known = cache.get(c.asNode());
+                if (known != null) {
+                    continue;
+                }
+                State s = states.get(c.asNode());
+                if (s == null) {
+                    s = visit(c);
+                    res.low = Math.min(res.low, s.low);
+                } else if (s.closure == null) { // on the stack
+                    res.low = Math.min(res.low, s.index);
+                }
+            }
+            if (res.low != res.index) {
+                return res;
+            }
+            List<State> component = new ArrayList<>();
+            State s;
+            do {
+                component.add(s = stack.pop());
+            } while (s != res);
+            Set<RDFNode> closure = new HashSet<>();
+            component.forEach(x -> closure.add(x.node));
+            component.forEach(x -> x.children.forEach(c -> {
+                Set<RDFNode> known = cache.get(c.asNode());
+                if (known != null) {
+                    closure.addAll(known);
+                    return;
+                }
+                State cs = states.get(c.asNode());
+                if (cs.closure != null) {
+                    closure.addAll(cs.closure);
+                }
+            }));
+            Set<RDFNode> unmodifiable = Collections.unmodifiableSet(closure);
+            component.forEach(x -> {
+                x.closure = unmodifiable;
+                cache.put(x.node.asNode(), unmodifiable);
+            });
+            return res;
+        }
+    }
+
+    /**
+     * A node state while walking.
+     */
+    private static class State {
+        private final RDFNode node;
+        private final int index;
+        private int low;
+        private List<? extends RDFNode> children;
+        private Set<RDFNode> closure;
+
+        private State(RDFNode node, int index) {
+            this.node = node;
+            this.index = index;
+            this.low = index;
+        }
+    }
+}
@@ -57,6 +57,8 @@ public class OntGraphModelImpl extends UnionModel implements OntGraphModel, Pers
 
     // the model's types mapper
     protected final Map<String, RDFDatatype> dtTypes = new HashMap<>();
+    // the optional index of transitive hierarchies
+    protected volatile HierarchyIndex hierarchyIndex;
 
     /**
      * @param graph       {@link Graph}
@@ -66,6 +68,58 @@ public class OntGraphModelImpl extends UnionModel implements OntGraphModel, Pers
         super(graph, OntPersonality.asJenaPersonality(personality));
     }
 
+    /**
+     * Enables the {@link HierarchyIndex hierarchy index} for this model.
+     * Once enabled, the indirect hierarchy queries
+     * (e.g. {@link OntCE#superClasses(boolean)}, {@link OntOPE#subProperties(boolean)}, {@link OntIndividual#classes(boolean)})
+     * are answered from the lazily materialised transitive closures,
+     * which are kept in sync with the graph through its event manager.
+     * Does nothing if the index is already enabled.
+     *
+     * @return this model
+     * @see #disableHierarchyIndex()
+     * @since 1.4.3
+     */
+    public OntGraphModelImpl enableHierarchyIndex() {
+        if (hierarchyIndex != null) return this;
+        synchronized (this) {
+            if (hierarchyIndex != null) return this;
+            HierarchyIndex res = new HierarchyIndex(this);
+            res.register();
+            hierarchyIndex = res;
+        }
+        return this;
+    }
+
+    /**
+     * Disables the {@link HierarchyIndex hierarchy index} and releases all its resources.
+     *
+     * @return this model
+     * @see #enableHierarchyIndex()
+     * @since 1.4.3
+     */
+    public OntGraphModelImpl disableHierarchyIndex() {
+        HierarchyIndex res;
+        synchronized (this) {
+            res = hierarchyIndex;
+            hierarchyIndex = null;
+        }
+        if (res != null) {
+            res.unregister();
+        }
+        return this;
+    }
+
+    /**
+     * Returns the {@link HierarchyIndex hierarchy index}, if it is enabled.
+     *
+     * @return {@link HierarchyIndex} or {@code null}
+     * @since 1.4.3
+     */
+    public HierarchyIndex getHierarchyIndex() {
+        return hierarchyIndex;
+    }
+
     /**
      * Creates a fresh ontology resource (i.e. {@code @uri rdf:type owl:Ontology} triple)
      * and moves to it all content from existing ontology resources (if they present).
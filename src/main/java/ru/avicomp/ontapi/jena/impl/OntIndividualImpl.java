@@ -117,6 +117,12 @@ public abstract class OntIndividualImpl extends OntObjectImpl implements OntIndi
             return listClasses().toSet();
         }
         Set<OntCE> res = new HashSet<>();
+        HierarchyIndex index = getModel().getHierarchyIndex();
+        if (index != null) {
+            listObjects(RDF.type, OntCE.class)
+                    .forEachRemaining(c -> res.addAll(index.getClosure(c, OntCE.class, RDFS.subClassOf, false)));
+            return res;
+        }
         Function<OntCE, ExtendedIterator<OntCE>> listSuperClasses =
                 x -> ((OntObjectImpl) x).listObjects(RDFS.subClassOf, OntCE.class);
         listObjects(RDF.type, OntCE.class).forEachRemaining(c -> collectIndirect(c, listSuperClasses, res));
@@ -162,7 +162,7 @@ public class OntObjectImpl extends ResourceImpl implements OntObject {
                                                             Property predicate,
                                                             boolean inverse,
                                                             boolean direct) {
-        return Iter.fromSet(() -> getHierarchy(object, getListDirect(type, predicate, inverse), direct));
+        return Iter.fromSet(() -> getHierarchy(object, type, predicate, inverse, direct));
     }
 
     /**
@@ -182,7 +182,34 @@ public class OntObjectImpl extends ResourceImpl implements OntObject {
                                                                           Property predicate,
                                                                           boolean inverse,
                                                                           boolean direct) {
-        return Iter.create(() -> getHierarchy(object, getListDirect(type, predicate, inverse), direct).iterator());
+        return Iter.create(() -> getHierarchy(object, type, predicate, inverse, direct).iterator());
+    }
+
+    /**
+     * Returns a {@code Set} of all descendants for the specified object and the predicate,
+     * using the model's {@link HierarchyIndex hierarchy index} for indirect queries if it is enabled.
+     *
+     * @param object    {@link X}
+     * @param type      the class-type of {@link X}
+     * @param predicate the {@link Property} whose values are required
+     * @param inverse   if {@code true}, use the inverse of {@code predicate} rather than {@code predicate}
+     * @param direct    if {@code true}, only returns the direct (adjacent) values
+     * @param <X>       subtype of {@link OntObject}
+     * @return {@code Set} of {@link X}s
+     * @since 1.4.3
+     */
+    private static <X extends OntObject> Set<X> getHierarchy(X object,
+                                                             Class<X> type,
+                                                             Property predicate,
+                                                             boolean inverse,
+                                                             boolean direct) {
+        HierarchyIndex index;
+        if (direct || (index = ((OntGraphModelImpl) object.getModel()).getHierarchyIndex()) == null) {
+            return getHierarchy(object, getListDirect(type, predicate, inverse), direct);
+        }
+        Set<X> res = new HashSet<>(index.getClosure(object, type, predicate, inverse));
+        res.remove(object);
+        return res;
     }
 
     /**
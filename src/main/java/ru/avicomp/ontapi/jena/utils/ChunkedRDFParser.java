@@ -0,0 +1,253 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.jena.utils;
+
+import org.apache.jena.atlas.RuntimeIOException;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphUtil;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.RiotException;
+import org.apache.jena.riot.lang.LabelToNode;
+import org.apache.jena.riot.system.StreamRDFBase;
+import org.apache.jena.sparql.core.Quad;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A parser that reads a line-based RDF document ({@link Lang#NTRIPLES N-Triples} or {@link Lang#NQUADS N-Quads})
+ * using several threads.
+ * The input stream is split into chunks on line boundaries,
+ * each chunk is parsed by its own Jena parser into a thread-local buffer,
+ * and then the buffers are added into the target graph on the calling thread in the document order.
+ * So the target graph is never accessed concurrently and need not be thread-safe.
+ * The number of chunks that are held in memory at the same time is bounded,
+ * so a large document is never loaded into memory entirely.
+ * <p>
+ * Blank node labels are scoped to the document:
+ * all chunk parsers share the same {@link LabelToNode} seed,
+ * so the same label in different chunks produces the same blank node.
+ * Only triples and default graph quads are added, named graph data is ignored,
+ * which matches the behaviour of {@link org.apache.jena.riot.RDFDataMgr#read(Graph, InputStream, String, Lang)}.
+ *
+ * @since 1.4.3
+ */
+public class ChunkedRDFParser {
+    /**
+     * The default (initial) size of a chunk in bytes.
+     * A chunk is enlarged if it does not contain a single line terminator.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private final Lang lang;
+    private final String base;
+    private final int threads;
+    private final int chunkSize;
+
+    /**
+     * Creates a parser.
+     *
+     * @param lang      {@link Lang}, must be line-based, see {@link #isSupported(Lang)}
+     * @param base      String, the base IRI, can be {@code null}
+     * @param threads   int, the number of parser threads, positive
+     * @param chunkSize int, the initial size of a chunk in bytes, positive
+     * @throws IllegalArgumentException if the parameters are wrong
+     */
+    public ChunkedRDFParser(Lang lang, String base, int threads, int chunkSize) {
+        if (!isSupported(lang)) {
+            throw new IllegalArgumentException("Not a line-based language: " + lang);
+        }
+        if (threads < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("Wrong parameters: threads = " + threads + ", chunk size = " + chunkSize);
+        }
+        this.lang = lang;
+        this.base = base;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Answers {@code true} if the given language can be split into chunks on line boundaries.
+     * Note that binary formats (e.g. {@link Lang#RDFTHRIFT RDF-Thrift}) are not supported.
+     *
+     * @param lang {@link Lang}
+     * @return boolean
+     */
+    public static boolean isSupported(Lang lang) {
+        return RDFLanguages.sameLang(Lang.NTRIPLES, lang) || RDFLanguages.sameLang(Lang.NQUADS, lang);
+    }
+
+    /**
+     * Parses the given input stream into the graph.
+     * The stream is not closed.
+     *
+     * @param in    {@link InputStream}, not {@code null}
+     * @param graph {@link Graph} to add triples, not {@code null}
+     * @throws RiotException      in case of a syntax error in any chunk
+     * @throws RuntimeIOException in case of an I/O error
+     */
+    public void parse(InputStream in, Graph graph) throws RiotException, RuntimeIOException {
+        Objects.requireNonNull(in, "Null input stream.");
+        Objects.requireNonNull(graph, "Null graph.");
+        UUID seed = UUID.randomUUID();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread res = new Thread(r, "ont-api-rdf-parser");
+            res.setDaemon(true);
+            return res;
+        });
+        Deque<Future<List<Triple>>> pending = new ArrayDeque<>();
+        try {
+            Chunks chunks = new Chunks(in, chunkSize);
+            byte[] chunk;
+            while ((chunk = chunks.next()) != null) {
+                byte[] bytes = chunk;
+                pending.add(executor.submit(() -> parse(bytes, seed)));
+                // keep the number of chunks in memory bounded:
+                while (pending.size() > 2 * threads) {
+                    GraphUtil.add(graph, take(pending.removeFirst()));
+                }
+            }
+            while (!pending.isEmpty()) {
+                GraphUtil.add(graph, take(pending.removeFirst()));
+            }
+        } catch (IOException e) {
+            throw new RuntimeIOException(e);
+        } finally {
+            pending.forEach(f -> f.cancel(true));
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Parses a single chunk into a list of triples.
+     *
+     * @param bytes array of bytes, a sequence of whole lines
+     * @param seed  {@link UUID} the document seed to allocate blank nodes
+     * @return List of {@link Triple}s
+     */
+    protected List<Triple> parse(byte[] bytes, UUID seed) {
+        List<Triple> res = new ArrayList<>();
+        RDFParser.create()
+                .source(new ByteArrayInputStream(bytes))
+                .lang(lang)
+                .base(base)
+                .labelToNode(LabelToNode.createScopeByDocumentHash(seed))
+                .parse(new StreamRDFBase() {
+                    @Override
+                    public void triple(Triple triple) {
+                        res.add(triple);
+                    }
+
+                    @Override
+                    public void quad(Quad quad) {
+                        if (quad.isTriple() || quad.isDefaultGraph()) {
+                            res.add(quad.asTriple());
+                        }
+                    }
+                });
+        return res;
+    }
+
+    /**
+     * Waits for the chunk parsing result.
+     *
+     * @param task {@link Future}
+     * @return List of {@link Triple}s
+     * @throws RiotException if the task failed or the current thread is interrupted
+     */
+    private static List<Triple> take(Future<List<Triple>> task) throws RiotException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RiotException("Interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RiotException(cause);
+        }
+    }
+
+    /**
+     * Splits the input stream into byte chunks, each of which ends with a line terminator
+     * (except possibly the last one).
+     * A line feed ({@code 0x0A}) byte can never be a part of a multibyte UTF-8 sequence,
+     * and line-based RDF syntaxes have no multiline tokens,
+     * so the chunks can be parsed independently.
+     */
+    private static class Chunks {
+        private final InputStream in;
+        private byte[] buffer;
+        private int length;
+        private boolean eof;
+
+        Chunks(InputStream in, int size) {
+            this.in = in;
+            this.buffer = new byte[size];
+        }
+
+        /**
+         * Returns the next chunk.
+         *
+         * @return array of bytes or {@code null} if there are no more data
+         * @throws IOException if an I/O error occurs
+         */
+        byte[] next() throws IOException {
+            while (true) {
+                fill();
+                if (length == 0) {
+                    return null;
+                }
+                int end = eof ? length : lastLineEnd();
+                if (end > 0) {
+                    byte[] res = Arrays.copyOf(buffer, end);
+                    System.arraycopy(buffer, end, buffer, 0, length - end);
+                    length -= end;
+                    return res;
+                }
+                // a very long line: enlarge the buffer
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+
+        private void fill() throws IOException {
+            int n;
+            while (!eof && length < buffer.length) {
+                if ((n = in.read(buffer, length, buffer.length - length)) == -1) {
+                    eof = true;
+                } else {
+                    length += n;
+                }
+            }
+        }
+
+        private int lastLineEnd() {
+            for (int i = length - 1; i >= 0; i--) {
+                if (buffer[i] == '\n') {
+                    return i + 1;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.jena.utils;
+
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.vocabulary.XSD;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A compact binary snapshot format for a {@link Graph Jena Graph}.
+ * The snapshot consists of the prefixes, the dictionary of all distinct nodes
+ * and the triples, each triple is encoded as three variable-length dictionary indexes.
+ * The datatype of a typed literal is also a reference to the dictionary.
+ * Unlike the text RDF syntaxes, there is no parsing while reading,
+ * and blank node labels are preserved as is.
+ * A snapshot can be read either from a stream or from a {@link ByteBuffer},
+ * in particular from a memory-mapped file, see {@link #read(Path, Graph)}.
+ * <p>
+ * Note: the graph must not be modified while writing.
+ * Only concrete nodes (URIs, blank nodes and literals) are supported.
+ *
+ * @since 1.4.3
+ */
+public class GraphSnapshot {
+    private static final int MAGIC = 0x4F4E5453; // "ONTS"
+    private static final int VERSION = 1;
+
+    private static final int URI = 1;
+    private static final int BLANK = 2;
+    private static final int STRING = 3;
+    private static final int LANG_LITERAL = 4;
+    private static final int TYPED_LITERAL = 5;
+
+    /**
+     * Writes the graph into the output stream.
+     * The stream is flushed, but not closed.
+     *
+     * @param graph {@link Graph} to write, not {@code null}
+     * @param out   {@link OutputStream}, not {@code null}
+     * @throws IOException                     if an I/O error occurs
+     * @throws IllegalArgumentException        if the graph contains a non-concrete node
+     * @throws ConcurrentModificationException if the graph is changed while writing
+     */
+    public static void write(Graph graph, OutputStream out) throws IOException {
+        Map<Node, Integer> nodes = new HashMap<>();
+        Map<String, String> prefixes = graph.getPrefixMapping().getNsPrefixMap();
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        writeInt(data, prefixes.size());
+        for (Map.Entry<String, String> e : prefixes.entrySet()) {
+            writeString(data, e.getKey());
+            writeString(data, e.getValue());
+        }
+        // the first pass: the dictionary
+        ByteArrayOutputStream dictionary = new ByteArrayOutputStream();
+        DataOutputStream dict = new DataOutputStream(dictionary);
+        long count = 0;
+        ExtendedIterator<Triple> it = graph.find();
+        try {
+            while (it.hasNext()) {
+                Triple t = it.next();
+                index(nodes, dict, t.getSubject());
+                index(nodes, dict, t.getPredicate());
+                index(nodes, dict, t.getObject());
+                count++;
+            }
+        } finally {
+            it.close();
+        }
+        writeInt(data, nodes.size());
+        dictionary.writeTo(data);
+        // the second pass: the triples
+        writeLong(data, count);
+        it = graph.find();
+        try {
+            while (it.hasNext()) {
+                Triple t = it.next();
+                writeInt(data, id(nodes, t.getSubject()));
+                writeInt(data, id(nodes, t.getPredicate()));
+                writeInt(data, id(nodes, t.getObject()));
+                count--;
+            }
+        } finally {
+            it.close();
+        }
+        if (count != 0) {
+            throw new ConcurrentModificationException("The graph has been changed while writing");
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes the graph into the file, the file is overwritten.
+     *
+     * @param graph {@link Graph} to write, not {@code null}
+     * @param file  {@link Path} to the file, not {@code null}
+     * @throws IOException if an I/O error occurs
+     * @see #write(Graph, OutputStream)
+     */
+    public static void write(Graph graph, Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(graph, out);
+        }
+    }
+
+    /**
+     * Reads a snapshot from the input stream into the graph.
+     * Exactly the snapshot bytes are consumed, the stream is not closed,
+     * so it is possible to read a snapshot that is embedded into some other stream.
+     *
+     * @param in    {@link InputStream}, not {@code null}
+     * @param graph {@link Graph} to add triples, not {@code null}
+     * @throws IOException if an I/O error occurs or the data is not a valid snapshot
+     */
+    public static void read(InputStream in, Graph graph) throws IOException {
+        DataInputStream data = in instanceof DataInputStream ? (DataInputStream) in : new DataInputStream(in);
+        read(new Input() {
+            @Override
+            int readByte() throws IOException {
+                return data.readUnsignedByte();
+            }
+
+            @Override
+            void readBytes(byte[] res) throws IOException {
+                data.readFully(res);
+            }
+        }, graph);
+    }
+
+    /**
+     * Reads a snapshot from the buffer into the graph.
+     * The buffer position is moved to the end of the snapshot.
+     *
+     * @param buffer {@link ByteBuffer}, not {@code null}
+     * @param graph  {@link Graph} to add triples, not {@code null}
+     * @throws IOException if the data is not a valid snapshot
+     */
+    public static void read(ByteBuffer buffer, Graph graph) throws IOException {
+        try {
+            read(new Input() {
+                @Override
+                int readByte() {
+                    return buffer.get() & 0xFF;
+                }
+
+                @Override
+                void readBytes(byte[] res) {
+                    buffer.get(res);
+                }
+            }, graph);
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Unexpected end of the snapshot");
+        }
+    }
+
+    /**
+     * Reads a snapshot from the file into the graph.
+     * The file is memory-mapped.
+     *
+     * @param file  {@link Path} to the file, not {@code null}
+     * @param graph {@link Graph} to add triples, not {@code null}
+     * @throws IOException if an I/O error occurs or the file is not a valid snapshot
+     */
+    public static void read(Path file, Graph graph) throws IOException {
+        read(map(file), graph);
+    }
+
+    /**
+     * Maps the whole file into memory in read-only mode.
+     *
+     * @param file {@link Path}
+     * @return {@link ByteBuffer}
+     * @throws IOException if an I/O error occurs or the file is too large to be mapped
+     */
+    public static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("The file " + file + " is too large to be mapped: " + size);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    private static void read(Input in, Graph graph) throws IOException {
+        int magic = (in.readByte() << 24) | (in.readByte() << 16) | (in.readByte() << 8) | in.readByte();
+        if (magic != MAGIC) {
+            throw new IOException("Not a graph snapshot");
+        }
+        int version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+        int prefixes = in.readInt();
+        for (int i = 0; i < prefixes; i++) {
+            graph.getPrefixMapping().setNsPrefix(in.readString(), in.readString());
+        }
+        Node[] nodes = new Node[in.readInt()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = readNode(in, nodes);
+        }
+        long count = in.readLong();
+        for (long i = 0; i < count; i++) {
+            graph.add(Triple.create(node(nodes, in.readInt()), node(nodes, in.readInt()), node(nodes, in.readInt())));
+        }
+    }
+
+    private static Node readNode(Input in, Node[] nodes) throws IOException {
+        int kind = in.readByte();
+        switch (kind) {
+            case URI:
+                return NodeFactory.createURI(in.readString());
+            case BLANK:
+                return NodeFactory.createBlankNode(in.readString());
+            case STRING:
+                return NodeFactory.createLiteral(in.readString());
+            case LANG_LITERAL:
+                String lex = in.readString();
+                return NodeFactory.createLiteral(lex, in.readString());
+            case TYPED_LITERAL:
+                lex = in.readString();
+                String type = node(nodes, in.readInt()).getURI();
+                return NodeFactory.createLiteral(lex, TypeMapper.getInstance().getSafeTypeByName(type));
+            default:
+                throw new IOException("Unknown node kind: " + kind);
+        }
+    }
+
+    private static Node node(Node[] nodes, int id) throws IOException {
+        Node res;
+        if (id < 0 || id >= nodes.length || (res = nodes[id]) == null) {
+            throw new IOException("Wrong node reference: " + id);
+        }
+        return res;
+    }
+
+    private static int id(Map<Node, Integer> nodes, Node node) {
+        Integer res = nodes.get(node);
+        if (res == null) {
+            throw new ConcurrentModificationException("The graph has been changed while writing");
+        }
+        return res;
+    }
+
+    private static int index(Map<Node, Integer> nodes, DataOutputStream out, Node node) throws IOException {
+        Integer res = nodes.get(node);
+        if (res != null) {
+            return res;
+        }
+        if (node.isURI()) {
+            out.writeByte(URI);
+            writeString(out, node.getURI());
+        } else if (node.isBlank()) {
+            out.writeByte(BLANK);
+            writeString(out, node.getBlankNodeLabel());
+        } else if (node.isLiteral()) {
+            String lang = node.getLiteralLanguage();
+            String type = node.getLiteralDatatypeURI();
+            if (lang != null && !lang.isEmpty()) {
+                out.writeByte(LANG_LITERAL);
+                writeString(out, node.getLiteralLexicalForm());
+                writeString(out, lang);
+            } else if (type == null || XSD.xstring.getURI().equals(type)) {
+                out.writeByte(STRING);
+                writeString(out, node.getLiteralLexicalForm());
+            } else {
+                // the datatype goes first:
+                int dt = index(nodes, out, NodeFactory.createURI(type));
+                out.writeByte(TYPED_LITERAL);
+                writeString(out, node.getLiteralLexicalForm());
+                writeInt(out, dt);
+            }
+        } else {
+            throw new IllegalArgumentException("Not a concrete node: " + node);
+        }
+        nodes.put(node, res = nodes.size());
+        return res;
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeInt(DataOutputStream out, int value) throws IOException {
+        writeLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * A source of bytes to read a snapshot.
+     */
+    private static abstract class Input {
+
+        abstract int readByte() throws IOException;
+
+        abstract void readBytes(byte[] res) throws IOException;
+
+        int readInt() throws IOException {
+            long res = readLong();
+            if (res > Integer.MAX_VALUE) {
+                throw new IOException("Wrong int value: " + res);
+            }
+            return (int) res;
+        }
+
+        long readLong() throws IOException {
+            long res = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                res |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return res;
+                }
+            }
+            throw new IOException("Malformed variable-length number");
+        }
+
+        String readString() throws IOException {
+            byte[] res = new byte[readInt()];
+            readBytes(res);
+            return new String(res, StandardCharsets.UTF_8);
+        }
+    }
+}
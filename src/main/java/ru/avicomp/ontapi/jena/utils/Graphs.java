@@ -24,6 +24,7 @@ import org.apache.jena.shared.PrefixMapping;
 import org.apache.jena.sparql.graph.GraphWrapper;
 import org.apache.jena.sparql.util.graph.GraphUtils;
 import org.apache.jena.util.iterator.ExtendedIterator;
+import ru.avicomp.ontapi.jena.CompactGraph;
 import ru.avicomp.ontapi.jena.RWLockedGraph;
 import ru.avicomp.ontapi.jena.UnionGraph;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
@@ -96,7 +97,7 @@ public class Graphs {
      * @see Dyadic
      */
     public static Graph getBase(Graph graph) {
-        if (graph instanceof GraphMem) {
+        if (isMem(graph)) {
             return graph;
         }
         if (graph instanceof GraphWrapper) {
@@ -153,6 +154,19 @@ public class Graphs {
         return Objects.equals(getBase(left), getBase(right));
     }
 
+    /**
+     * Answers {@code true} iff the given graph is a primitive in-memory graph,
+     * i.e. either {@link GraphMem} or {@link CompactGraph}.
+     * Such a graph is distinct, sized, and it has no sub-graphs.
+     *
+     * @param graph {@link Graph} to test
+     * @return boolean
+     * @since 1.4.3
+     */
+    public static boolean isMem(Graph graph) {
+        return graph instanceof GraphMem || graph instanceof CompactGraph;
+    }
+
     /**
      * Answers {@code true} iff the given graph is distinct.
      * A distinct {@code Graph} behaves like a {@code Set}:
@@ -165,7 +179,7 @@ public class Graphs {
      * @since 1.4.2
      */
     public static boolean isDistinct(Graph graph) {
-        if (graph instanceof GraphMem) {
+        if (isMem(graph)) {
             return true;
         }
         if (graph instanceof UnionGraph) {
@@ -189,7 +203,7 @@ public class Graphs {
      * @since 1.4.2
      */
     public static boolean isSized(Graph graph) {
-        if (graph instanceof GraphMem) {
+        if (isMem(graph)) {
             return true;
         }
         if (graph instanceof UnionGraph) {
@@ -208,12 +222,12 @@ public class Graphs {
      * @since 1.4.2
      */
     public static long size(Graph graph) {
-        if (graph instanceof GraphMem) {
+        if (isMem(graph)) {
             return graph.size();
         }
         if (graph instanceof UnionGraph && ((UnionGraph) graph).getUnderlying().isEmpty()) {
             Graph bg = ((UnionGraph) graph).getBaseGraph();
-            if (bg instanceof GraphMem) {
+            if (isMem(bg)) {
                 return bg.size();
             }
         }
@@ -235,7 +249,7 @@ public class Graphs {
      */
     public static UnionGraph toUnion(Graph g) {
         if (g instanceof UnionGraph) return (UnionGraph) g;
-        if (g instanceof GraphMem) return new UnionGraph(g);
+        if (isMem(g)) return new UnionGraph(g);
         return toUnion(getBase(g), baseGraphs(g).collect(Collectors.toSet()));
     }
 
@@ -463,14 +477,31 @@ public class Graphs {
      * @throws StackOverflowError in case the given graph has a recursion in its hierarchy
      */
     public static Graph asConcurrent(Graph graph, ReadWriteLock lock) {
+        return asConcurrent(graph, lock, false);
+    }
+
+    /**
+     * Makes a concurrent version of the given {@code Graph} by wrapping it as {@link RWLockedGraph}
+     * with the specified iteration mode.
+     * In the snapshot mode writers never wait for open iterators,
+     * see {@link RWLockedGraph#RWLockedGraph(Graph, ReadWriteLock, boolean)}.
+     *
+     * @param graph     {@link Graph}, not {@code null}
+     * @param lock      {@link ReadWriteLock}, not {@code null}
+     * @param snapshots boolean, to turn on the snapshot mode
+     * @return {@link Graph} with {@link ReadWriteLock}
+     * @throws StackOverflowError in case the given graph has a recursion in its hierarchy
+     * @since 1.4.3
+     */
+    public static Graph asConcurrent(Graph graph, ReadWriteLock lock, boolean snapshots) {
         if (graph instanceof RWLockedGraph) {
-            return asConcurrent(((RWLockedGraph) graph).get(), lock);
+            return asConcurrent(((RWLockedGraph) graph).get(), lock, snapshots);
         }
         if (!(graph instanceof UnionGraph)) {
-            return new RWLockedGraph(graph, lock);
+            return new RWLockedGraph(graph, lock, snapshots);
         }
         UnionGraph u = (UnionGraph) graph;
-        Graph base = asConcurrent(u.getBaseGraph(), lock);
+        Graph base = asConcurrent(u.getBaseGraph(), lock, snapshots);
         UnionGraph res = new UnionGraph(base);
         u.getUnderlying().listGraphs()
                 .mapWith(Graphs::asNonConcurrent)
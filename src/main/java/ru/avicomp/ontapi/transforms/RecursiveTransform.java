@@ -17,13 +17,13 @@ package ru.avicomp.ontapi.transforms;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
 import ru.avicomp.ontapi.jena.utils.BuiltIn;
 import ru.avicomp.ontapi.jena.utils.Iter;
 import ru.avicomp.ontapi.transforms.vocabulary.AVC;
 
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -44,13 +44,16 @@ import java.util.stream.Stream;
  * }</pre>
  * Created by @szuev on 24.01.2018.
  * <p>
- * Note: this transform is slow - the complexity is ~O(n*log(n))
+ * The recursions are found in a single pass:
+ * a depth-first traversal over the blank-node subgraph (i.e. the graph of all triples
+ * with blank subject and blank object) collects the triples that close cycles,
+ * and then all of them are processed (deleted or replaced) in one batch.
+ * The complexity is ~O(n), where n is the number of triples.
  * @see AVC#error(String)
  */
 @SuppressWarnings("WeakerAccess")
 public class RecursiveTransform extends Transform {
 
-    protected static final int EMERGENCY_EXIT_LIMIT = 10_000;
     protected final boolean replace;
     protected final boolean subject;
 
@@ -71,12 +74,32 @@ public class RecursiveTransform extends Transform {
         this(graph, true, true);
     }
 
+    /**
+     * Lists all triples with blank subject and object, whose subject is a part of some recursion.
+     *
+     * @param graph {@link Graph}
+     * @return Stream of {@link Triple triples}
+     * @deprecated since 1.4.3: use {@link #recursiveTriples(Graph, boolean)},
+     * which finds the triples that close recursions in a single pass
+     */
+    @Deprecated
     public static Stream<Triple> recursiveTriplesBySubject(Graph graph) {
-        return anonymous(graph).filter(t -> testSubject(graph, t.getSubject()));
+        Map<Node, Boolean> res = new HashMap<>();
+        return anonymous(graph).filter(t -> res.computeIfAbsent(t.getSubject(), x -> testSubject(graph, x)));
     }
 
+    /**
+     * Lists all triples with blank subject and object, whose object is a part of some recursion.
+     *
+     * @param graph {@link Graph}
+     * @return Stream of {@link Triple triples}
+     * @deprecated since 1.4.3: use {@link #recursiveTriples(Graph, boolean)},
+     * which finds the triples that close recursions in a single pass
+     */
+    @Deprecated
     public static Stream<Triple> recursiveTriplesByObject(Graph graph) {
-        return anonymous(graph).filter(t -> testObject(graph, t.getObject()));
+        Map<Node, Boolean> res = new HashMap<>();
+        return anonymous(graph).filter(t -> res.computeIfAbsent(t.getObject(), x -> testObject(graph, x)));
     }
 
     /**
@@ -99,9 +122,11 @@ public class RecursiveTransform extends Transform {
      * @param test  {@link Node}  the subject to test
      * @return true if this node in recursion
      * @see #testObject(Graph, Node)
+     * @deprecated since 1.4.3: use {@link #recursiveTriples(Graph, boolean)}
      */
+    @Deprecated
     public static boolean testSubject(Graph graph, Node test) {
-        return test.isBlank() && objectsBySubject(graph, test, new HashSet<>()).anyMatch(test::equals);
+        return isRecursive(graph, test, true);
     }
 
     /**
@@ -112,48 +137,114 @@ public class RecursiveTransform extends Transform {
      * @param test  {@link Node}  the object to test
      * @return true if this node in recursion
      * @see #testSubject(Graph, Node)
+     * @deprecated since 1.4.3: use {@link #recursiveTriples(Graph, boolean)}
      */
+    @Deprecated
     public static boolean testObject(Graph graph, Node test) {
-        return test.isBlank() && subjectsByObject(graph, test, new HashSet<>()).anyMatch(test::equals);
+        return isRecursive(graph, test, false);
     }
 
-    private static Stream<Node> objectsBySubject(Graph graph, Node subject, Set<Triple> visited) {
-        Set<Node> nodes = Iter.asStream(graph.find(subject, Node.ANY, Node.ANY))
-                .filter(visited::add)
-                .map(Triple::getObject)
-                .filter(Node::isBlank).collect(Collectors.toSet());
-        return nodes.stream()
-                .flatMap(s -> Stream.concat(Stream.of(s), objectsBySubject(graph, s, visited)));
+    /**
+     * Answers {@code true} if the given blank node is reachable from itself
+     * through the triples with blank subject and blank object.
+     * The search is iterative (breadth-first), so it is stack-safe.
+     *
+     * @param graph       {@link Graph}
+     * @param test        {@link Node} to test
+     * @param fromSubject if {@code true} the search goes from subjects to objects, otherwise in the opposite direction
+     * @return boolean
+     * @since 1.4.3
+     */
+    protected static boolean isRecursive(Graph graph, Node test, boolean fromSubject) {
+        if (!test.isBlank()) return false;
+        Set<Node> seen = new HashSet<>();
+        Deque<Node> queue = new ArrayDeque<>();
+        queue.add(test);
+        while (!queue.isEmpty()) {
+            Node n = queue.poll();
+            ExtendedIterator<Triple> it = fromSubject ?
+                    graph.find(n, Node.ANY, Node.ANY) : graph.find(Node.ANY, Node.ANY, n);
+            try {
+                while (it.hasNext()) {
+                    Triple t = it.next();
+                    Node next = fromSubject ? t.getObject() : t.getSubject();
+                    if (!next.isBlank()) continue;
+                    if (test.equals(next)) return true;
+                    if (seen.add(next)) queue.add(next);
+                }
+            } finally {
+                it.close();
+            }
+        }
+        return false;
     }
 
-    private static Stream<Node> subjectsByObject(Graph graph, Node object, Set<Triple> visited) {
-        Set<Node> nodes = Iter.asStream(graph.find(Node.ANY, Node.ANY, object))
-                .filter(visited::add)
-                .map(Triple::getSubject)
-                .filter(Node::isBlank).collect(Collectors.toSet());
-        return nodes.stream()
-                .flatMap(o -> Stream.concat(Stream.of(o), subjectsByObject(graph, o, visited)));
+    /**
+     * Finds the triples that close recursions (cycles) in the subgraph
+     * formed by the triples with blank subject and blank object.
+     * The method performs a single iterative (i.e. stack-safe) depth-first traversal over that subgraph,
+     * and returns its back edges, i.e. the triples that refer to a node that is on the current traversal path.
+     * Every cycle contains at least one back edge, so removing all of them makes the blank-node subgraph acyclic,
+     * while all other triples remain untouched.
+     *
+     * @param graph         {@link Graph}
+     * @param fromSubject   if {@code true} the traversal goes from subjects to objects, otherwise in the opposite direction
+     * @return {@code List} of {@link Triple}s, in the traversal order
+     * @since 1.4.3
+     */
+    public static List<Triple> recursiveTriples(Graph graph, boolean fromSubject) {
+        Function<Triple, Node> start = fromSubject ? Triple::getSubject : Triple::getObject;
+        Function<Triple, Node> end = fromSubject ? Triple::getObject : Triple::getSubject;
+        Map<Node, List<Triple>> edges = new LinkedHashMap<>();
+        anonymous(graph).forEach(t -> edges.computeIfAbsent(start.apply(t), x -> new ArrayList<>()).add(t));
+        Set<Node> seen = new HashSet<>();
+        Set<Node> path = new HashSet<>();
+        Deque<Map.Entry<Node, Iterator<Triple>>> stack = new ArrayDeque<>();
+        List<Triple> res = new ArrayList<>();
+        for (Node root : edges.keySet()) {
+            if (!seen.add(root)) continue;
+            path.add(root);
+            stack.push(new AbstractMap.SimpleEntry<>(root, edges.get(root).iterator()));
+            while (!stack.isEmpty()) {
+                Map.Entry<Node, Iterator<Triple>> e = stack.peek();
+                Iterator<Triple> it = e.getValue();
+                if (!it.hasNext()) {
+                    path.remove(e.getKey());
+                    stack.pop();
+                    continue;
+                }
+                Triple t = it.next();
+                Node next = end.apply(t);
+                if (path.contains(next)) {
+                    res.add(t);
+                    continue;
+                }
+                if (!seen.add(next)) continue;
+                path.add(next);
+                stack.push(new AbstractMap.SimpleEntry<>(next,
+                        edges.getOrDefault(next, Collections.emptyList()).iterator()));
+            }
+        }
+        return res;
     }
 
+    /**
+     * Deletes or replaces all recursive triples in one batch.
+     *
+     * @see #recursiveTriples()
+     */
     @Override
     public void perform() {
         Graph graph = getBaseGraph();
-        Optional<Triple> r = Optional.empty();
-        int count = 0;
-        do {
-            if (count++ > EMERGENCY_EXIT_LIMIT) {
-                throw new TransformException("To many recursions in the graph");
+        List<Triple> triples = recursiveTriples().collect(Collectors.toList());
+        for (Triple t : triples) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("{} [{}]", replace ? "Replace" : "Delete", t);
             }
-            r.ifPresent(t -> {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug("{} [{}]", replace ? "Replace" : "Delete", t);
-                }
-                graph.delete(t);
-                if (!replace) return;
-                graph.add(createReplacement(t));
-            });
-            r = recursiveTriples().findFirst();
-        } while (r.isPresent());
+            graph.delete(t);
+            if (!replace) continue;
+            graph.add(createReplacement(t));
+        }
     }
 
     public Triple createReplacement(Triple base) {
@@ -165,7 +256,14 @@ public class RecursiveTransform extends Transform {
                 Triple.create(base.getSubject(), base.getPredicate(), mapper.apply(base.getObject()));
     }
 
+    /**
+     * Lists the triples that close recursions in the base graph.
+     * Removing all of them makes the blank-node subgraph acyclic.
+     *
+     * @return Stream of {@link Triple triples}
+     * @see #recursiveTriples(Graph, boolean)
+     */
     public Stream<Triple> recursiveTriples() {
-        return subject ? recursiveTriplesBySubject(getBaseGraph()) : recursiveTriplesByObject(getBaseGraph());
+        return recursiveTriples(getBaseGraph(), subject).stream();
     }
 }
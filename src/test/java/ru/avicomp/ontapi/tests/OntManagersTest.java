@@ -45,7 +45,7 @@ public class OntManagersTest {
 
     @Parameterized.Parameters(name = "{0}")
     public static List<TestProfile> getData() {
-        return Arrays.asList(new ONTStandard(), new ONTConcurrent(), new OWLStandard(), new OWLConcurrent());
+        return Arrays.asList(new ONTStandard(), new ONTConcurrent(), new ONTStriped(), new ONTOptimistic(), new OWLStandard(), new OWLConcurrent());
     }
 
     @Test
@@ -74,9 +74,16 @@ public class OntManagersTest {
     public void testShareLock() throws Exception {
         OWLOntologyManager m = data.createManager();
         OWLOntology o = m.createOntology();
+        OWLOntology b = m.createOntology(IRI.create("X"));
+        if (data.hasOntologyLocks()) {
+            Assert.assertNotSame(data.getReadLock(o), data.getReadLock(m));
+            Assert.assertNotSame(data.getWriteLock(o), data.getWriteLock(m));
+            Assert.assertNotSame(data.getReadLock(o), data.getReadLock(b));
+            Assert.assertNotSame(data.getWriteLock(o), data.getWriteLock(b));
+            return;
+        }
         Assert.assertSame(data.getReadLock(o), data.getReadLock(m));
         Assert.assertSame(data.getWriteLock(o), data.getWriteLock(m));
-        OWLOntology b = m.createOntology(IRI.create("X"));
         Assert.assertSame(data.getReadLock(b), data.getReadLock(m));
         Assert.assertSame(data.getWriteLock(b), data.getWriteLock(m));
     }
@@ -138,6 +145,10 @@ public class OntManagersTest {
 
         abstract Lock getWriteLock(OWLOntology o);
 
+        boolean hasOntologyLocks() {
+            return false;
+        }
+
         int getNumberOfStorers() {
             return 20;
         }
@@ -265,6 +276,25 @@ public class OntManagersTest {
         }
     }
 
+    private static class ONTStriped extends ONTConcurrent {
+        @Override
+        public OWLOntologyManager createManager() {
+            return OntManagers.createStripedConcurrentONT();
+        }
+
+        @Override
+        boolean hasOntologyLocks() {
+            return true;
+        }
+    }
+
+    private static class ONTOptimistic extends ONTConcurrent {
+        @Override
+        public OWLOntologyManager createManager() {
+            return OntManagers.createOptimisticConcurrentONT();
+        }
+    }
+
     private static class OWLStandard extends OWLProfile {
 
         @Override
@@ -17,17 +17,24 @@ package ru.avicomp.ontapi.tests;
 import org.junit.Assert;
 import org.junit.Test;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.Imports;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.avicomp.ontapi.OWLAdapter;
 import ru.avicomp.ontapi.OntManagers;
 import ru.avicomp.ontapi.OntologyManager;
 import ru.avicomp.ontapi.OntologyModel;
+import ru.avicomp.ontapi.RWLockedOntology;
+import ru.avicomp.ontapi.internal.InternalModel;
+import ru.avicomp.ontapi.jena.model.OntGraphModel;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -41,6 +48,7 @@ import java.util.stream.Stream;
 public class RaceTest {
     // constants for test tuning:
     private static final long TIMEOUT = 15_000; // ms
+    private static final long STRIPED_TIMEOUT = 5_000; // ms
     private static final Logger LOGGER = LoggerFactory.getLogger(RaceTest.class);
     private static final boolean ADD_WITH_ANNOTATIONS = true;
     private static final int ADD_THREADS_NUM = 4;
@@ -120,4 +128,211 @@ public class RaceTest {
         }
         LOGGER.debug("Fin.");
     }
+
+    @Test
+    public void testStripedConcurrency() throws Exception {
+        OntologyManager m = OntManagers.createStripedConcurrentONT();
+        m.getOntologyConfigurator().setAllowReadDeclarations(false);
+        OntologyModel a = m.createOntology(IRI.create("http://a"));
+        OntologyModel b = m.createOntology(IRI.create("http://b"));
+        OntologyModel c = m.createOntology(IRI.create("http://c"));
+        OWLDataFactory df = m.getOWLDataFactory();
+        OWLImportsDeclaration importA = df.getOWLImportsDeclaration(IRI.create("http://a"));
+        OWLImportsDeclaration importB = df.getOWLImportsDeclaration(IRI.create("http://b"));
+        m.applyChange(new AddImport(c, importA));
+        AtomicBoolean process = new AtomicBoolean(true);
+        ScheduledExecutorService service = Executors.newScheduledThreadPool(11);
+        List<Future<?>> res = new ArrayList<>();
+        for (OntologyModel o : new OntologyModel[]{a, b}) {
+            res.add(service.submit(toTask(o, process, RaceTest::add)));
+            res.add(service.submit(toTask(o, process, RaceTest::add)));
+            res.add(service.submit(toTask(o, process, RaceTest::remove)));
+            res.add(service.submit(toTask(o, process, RaceTest::remove)));
+        }
+        res.add(service.submit(toTask(c, process, (o, ready) -> {
+            while (ready.get()) {
+                Assert.assertTrue(o.axioms(Imports.INCLUDED).count() >= 0);
+            }
+        })));
+        res.add(service.submit(toTask(c, process, (o, ready) -> {
+            while (ready.get()) {
+                OWLOntologyChange ch = o.importsDeclarations().anyMatch(importB::equals) ?
+                        new RemoveImport(o, importB) : new AddImport(o, importB);
+                m.applyChange(ch);
+            }
+        })));
+        service.schedule(() -> process.set(false), STRIPED_TIMEOUT, TimeUnit.MILLISECONDS);
+        service.shutdown();
+        for (Future<?> f : res) {
+            f.get();
+        }
+        Assert.assertTrue(service.awaitTermination(STRIPED_TIMEOUT, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(c.imports().anyMatch(a::equals));
+    }
+
+    @Test
+    public void testOptimisticConcurrency() throws Exception {
+        OntologyManager m = OntManagers.createOptimisticConcurrentONT();
+        OWLDataFactory df = m.getOWLDataFactory();
+        OntologyModel o = m.createOntology();
+        AtomicBoolean process = new AtomicBoolean(true);
+        ScheduledExecutorService service = Executors.newScheduledThreadPool(ADD_THREADS_NUM * 2 + 1);
+        List<Future<?>> res = new ArrayList<>();
+        for (int i = 0; i < ADD_THREADS_NUM; i++) {
+            res.add(service.submit(toTask(o, process, (x, ready) -> {
+                while (ready.get()) {
+                    OWLClass c = df.getOWLClass(IRI.create("test", "clazz" + ThreadLocalRandom.current().nextInt()));
+                    OWLAxiom a = df.getOWLSubClassOfAxiom(c, df.getOWLThing());
+                    x.add(a);
+                    Assert.assertTrue(x.containsAxiom(a));
+                }
+            })));
+            res.add(service.submit(toTask(o, process, (x, ready) -> {
+                int prev = 0;
+                while (ready.get()) {
+                    int count = x.getAxiomCount();
+                    Assert.assertTrue(count >= prev);
+                    Assert.assertTrue(x.getAxiomCount(AxiomType.SUBCLASS_OF) >= count);
+                    prev = count;
+                }
+            })));
+        }
+        service.schedule(() -> process.set(false), STRIPED_TIMEOUT, TimeUnit.MILLISECONDS);
+        service.shutdown();
+        for (Future<?> f : res) {
+            f.get();
+        }
+        Assert.assertEquals(o.axioms().count(), o.getAxiomCount());
+    }
+
+    @Test
+    public void testOptimisticReadsRequireConcurrentMaps() {
+        OWLAxiom a = OntManagers.getDataFactory().getOWLDeclarationAxiom(OntManagers.getDataFactory()
+                .getOWLClass(IRI.create("http://x")));
+        // the default concurrent manager uses LinkedHashMap with the iterator cache: no lock-free reads
+        OntologyModel o1 = OntManagers.createConcurrentONT().createOntology();
+        o1.add(a);
+        Assert.assertTrue(o1.containsAxiom(a));
+        InternalModel m1 = OWLAdapter.get().asBaseModel(o1).getBase();
+        Assert.assertFalse(m1.peekContains(a).isPresent());
+        Assert.assertFalse(m1.peekOWLAxiomCount().isPresent());
+        // the optimistic manager uses concurrent maps:
+        OntologyModel o2 = OntManagers.createOptimisticConcurrentONT().createOntology();
+        o2.add(a);
+        Assert.assertTrue(o2.containsAxiom(a));
+        InternalModel m2 = OWLAdapter.get().asBaseModel(o2).getBase();
+        Assert.assertEquals(Optional.of(true), m2.peekContains(a));
+        Assert.assertEquals(1, m2.peekOWLAxiomCount(AxiomType.DECLARATION).orElse(-1));
+        Assert.assertEquals(1, o2.getAxiomCount());
+    }
+
+    @Test
+    public void testStripedLocksIndependence() throws Exception {
+        OntologyManager m = OntManagers.createStripedConcurrentONT();
+        OWLDataFactory df = m.getOWLDataFactory();
+        OntologyModel a = m.createOntology(IRI.create("http://a"));
+        OntologyModel b = m.createOntology(IRI.create("http://b"));
+        OntologyModel c = m.createOntology(IRI.create("http://c"));
+        m.applyChange(new AddImport(c, df.getOWLImportsDeclaration(IRI.create("http://a"))));
+        OWLAxiom axiom = df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create("http://x")));
+        Lock lock = ((RWLockedOntology) a).getLock().writeLock();
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        Future<?> res;
+        lock.lock();
+        try {
+            // the ontology b is independent: can be changed while a is locked
+            service.submit(() -> b.add(axiom)).get(TIMEOUT, TimeUnit.MILLISECONDS);
+            // the ontology c imports a: must wait
+            res = service.submit(() -> c.add(axiom));
+            try {
+                res.get(500, TimeUnit.MILLISECONDS);
+                Assert.fail("The ontology has been changed while its import is locked");
+            } catch (TimeoutException e) {
+                LOGGER.debug("Expected: {}", e.toString());
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            res.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        } finally {
+            service.shutdown();
+        }
+        Assert.assertTrue(b.containsAxiom(axiom));
+        Assert.assertTrue(c.containsAxiom(axiom));
+    }
+
+    @Test
+    public void testStripedLocksReleaseOrder() throws Exception {
+        OntologyManager m = OntManagers.createStripedConcurrentONT();
+        OWLDataFactory df = m.getOWLDataFactory();
+        OntologyModel a = m.createOntology(IRI.create("http://a"));
+        OntologyModel b = m.createOntology(IRI.create("http://b"));
+        OWLAxiom axiom = df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create("http://x")));
+        Lock la = ((RWLockedOntology) a).getLock().writeLock();
+        Lock lb = ((RWLockedOntology) b).getLock().writeLock();
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        Future<?> res;
+        la.lock();
+        lb.lock();
+        try {
+            // not in the LIFO order:
+            la.unlock();
+            service.submit(() -> a.add(axiom)).get(TIMEOUT, TimeUnit.MILLISECONDS);
+            res = service.submit(() -> b.add(axiom));
+            try {
+                res.get(500, TimeUnit.MILLISECONDS);
+                Assert.fail("The ontology has been changed while it is locked");
+            } catch (TimeoutException e) {
+                LOGGER.debug("Expected: {}", e.toString());
+            }
+        } finally {
+            lb.unlock();
+        }
+        try {
+            res.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        } finally {
+            service.shutdown();
+        }
+        Assert.assertTrue(a.containsAxiom(axiom));
+        Assert.assertTrue(b.containsAxiom(axiom));
+        try {
+            lb.unlock();
+            Assert.fail("Possible to unlock twice");
+        } catch (IllegalMonitorStateException e) {
+            LOGGER.debug("Expected: {}", e.toString());
+        }
+    }
+
+    @Test
+    public void testStripedLocksForImportModels() throws Exception {
+        OntologyManager m = OntManagers.createStripedConcurrentONT();
+        OWLDataFactory df = m.getOWLDataFactory();
+        OntologyModel a = m.createOntology(IRI.create("http://a"));
+        OntologyModel c = m.createOntology(IRI.create("http://c"));
+        m.applyChange(new AddImport(c, df.getOWLImportsDeclaration(IRI.create("http://a"))));
+        OntGraphModel imported = c.asGraphModel().imports().findFirst().orElseThrow(AssertionError::new);
+        Lock lock = ((RWLockedOntology) a).getLock().readLock();
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        Future<?> res;
+        lock.lock();
+        try {
+            // the imported model is guarded by the stripe of a, not c: a writer must wait for the reader of a
+            res = service.submit(() -> imported.createOntClass("http://x"));
+            try {
+                res.get(500, TimeUnit.MILLISECONDS);
+                Assert.fail("The imported ontology has been changed while it is read-locked");
+            } catch (TimeoutException e) {
+                LOGGER.debug("Expected: {}", e.toString());
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            res.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        } finally {
+            service.shutdown();
+        }
+        Assert.assertNotNull(a.asGraphModel().getOntClass("http://x"));
+    }
 }
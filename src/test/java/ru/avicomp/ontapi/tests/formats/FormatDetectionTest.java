@@ -0,0 +1,109 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.tests.formats;
+
+import org.apache.jena.rdf.model.Model;
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSourceBase;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import ru.avicomp.ontapi.OntFormat;
+import ru.avicomp.ontapi.OntGraphUtils;
+import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.OntologyModel;
+import ru.avicomp.ontapi.utils.ReadWriteUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * To test the format detection by the document content,
+ * see {@link OntGraphUtils#detectFormat(byte[], int)}.
+ */
+public class FormatDetectionTest {
+
+    private static OntFormat detect(String txt) {
+        byte[] bytes = txt.getBytes(StandardCharsets.UTF_8);
+        return OntGraphUtils.detectFormat(bytes, Math.min(bytes.length, OntGraphUtils.SNIFF_BUFFER_SIZE));
+    }
+
+    @Test
+    public void testDetectRDFFormats() {
+        Model m = ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl");
+        for (OntFormat f : new OntFormat[]{OntFormat.TURTLE, OntFormat.RDF_XML, OntFormat.NTRIPLES,
+                OntFormat.JSON_LD, OntFormat.RDF_JSON, OntFormat.TRIX}) {
+            Assert.assertEquals(f, detect(ReadWriteUtils.toString(m, f)));
+        }
+        Assert.assertEquals(OntFormat.NQUADS, detect("<urn:a> <urn:p> \"x\"@en <urn:g> .\n"));
+        Assert.assertEquals(OntFormat.NTRIPLES, detect("# comment\n_:b0 <urn:p> \"1\"^^<urn:t> .\n"));
+        Assert.assertEquals(OntFormat.TURTLE, detect("PREFIX : <urn:x#>\n:a :p :b ."));
+        Assert.assertNull(detect("<urn:a> a <urn:C> ."));
+        Assert.assertNull(detect(""));
+    }
+
+    @Test
+    public void testDetectOWLFormats() throws Exception {
+        Assert.assertEquals(OntFormat.FUNCTIONAL_SYNTAX, detect(readResource("test2.fss")));
+        Assert.assertEquals(OntFormat.MANCHESTER_SYNTAX, detect(readResource("test2.omn")));
+        Assert.assertEquals(OntFormat.OWL_XML, detect(readResource("test2.owl")));
+    }
+
+    @Test
+    public void testLoadWithoutFormat() throws OWLOntologyCreationException {
+        Model m = ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl");
+        long expected = m.size();
+        for (OntFormat f : new OntFormat[]{OntFormat.NTRIPLES, OntFormat.RDF_XML, OntFormat.JSON_LD}) {
+            AtomicInteger reads = new AtomicInteger();
+            // wrong extension:
+            OntologyModel o = OntManagers.createONT().loadOntologyFromOntologyDocument(
+                    createSource(ReadWriteUtils.toString(m, f), IRI.create("http://example.com/pizza.ttl"), reads));
+            Assert.assertEquals(f, OntFormat.get(o.getFormat()));
+            Assert.assertEquals("The document " + f + " must be read only once", 1, reads.get());
+            Assert.assertEquals(expected, o.asGraphModel().getBaseGraph().size());
+        }
+    }
+
+    private static String readResource(String name) throws Exception {
+        return new String(Files.readAllBytes(ReadWriteUtils.getResourcePath("ontapi", name)), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a document source without format, that counts the number of streams that have been actually read.
+     */
+    private static OWLOntologyDocumentSourceBase createSource(String txt, IRI iri, AtomicInteger reads) {
+        return new OWLOntologyDocumentSourceBase(iri, null, null) {
+            @Override
+            public Optional<InputStream> getInputStream() {
+                return Optional.of(new ByteArrayInputStream(txt.getBytes(StandardCharsets.UTF_8)) {
+                    private boolean used;
+
+                    @Override
+                    public synchronized int read(byte[] b, int off, int len) {
+                        if (!used) {
+                            used = true;
+                            reads.incrementAndGet();
+                        }
+                        return super.read(b, off, len);
+                    }
+                });
+            }
+        };
+    }
+}
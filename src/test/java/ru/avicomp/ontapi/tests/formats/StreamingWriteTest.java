@@ -0,0 +1,122 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.tests.formats;
+
+import org.apache.jena.graph.Factory;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.riot.RDFDataMgr;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.semanticweb.owlapi.io.StreamDocumentTarget;
+import org.semanticweb.owlapi.model.IRI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.avicomp.ontapi.OntFormat;
+import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.OntologyManager;
+import ru.avicomp.ontapi.OntologyModel;
+import ru.avicomp.ontapi.config.OntWriterConfiguration;
+import ru.avicomp.ontapi.utils.ReadWriteUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * To test streaming save and compression options of {@link OntWriterConfiguration}.
+ */
+@RunWith(Parameterized.class)
+public class StreamingWriteTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingWriteTest.class);
+    private final OntFormat format;
+
+    public StreamingWriteTest(OntFormat format) {
+        this.format = format;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static List<OntFormat> getData() {
+        return Arrays.asList(OntFormat.NTRIPLES, OntFormat.NQUADS, OntFormat.RDF_THRIFT, OntFormat.TURTLE);
+    }
+
+    private static OntologyManager createManager(boolean streaming, boolean gzip) {
+        OntologyManager res = OntManagers.createONT();
+        OntWriterConfiguration conf = res.getOntologyWriterConfiguration()
+                .setStreamingWrite(streaming)
+                .setGzipCompression(gzip);
+        res.setOntologyWriterConfiguration(conf);
+        Assert.assertEquals(streaming, res.getOntologyWriterConfiguration().isStreamingWrite());
+        Assert.assertEquals(gzip, res.getOntologyWriterConfiguration().isGzipCompression());
+        return res;
+    }
+
+    private static OntologyModel loadPizza(OntologyManager m) throws Exception {
+        return m.loadOntologyFromOntologyDocument(ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE));
+    }
+
+    private void assertContent(OntologyModel expected, InputStream in) {
+        Graph actual = Factory.createGraphMem();
+        RDFDataMgr.read(actual, in, format.getLang());
+        Assert.assertTrue(expected.asGraphModel().getBaseGraph().isIsomorphicWith(actual));
+    }
+
+    @Test
+    public void testStreamingWrite() throws Exception {
+        for (boolean gzip : new boolean[]{false, true}) {
+            OntologyManager m = createManager(true, gzip);
+            OntologyModel o = loadPizza(m);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            m.saveOntology(o, format.createOwlFormat(), new StreamDocumentTarget(out));
+            byte[] bytes = out.toByteArray();
+            LOGGER.debug("{}, gzip={}: {} bytes", format, gzip, bytes.length);
+            InputStream in = new ByteArrayInputStream(bytes);
+            assertContent(o, gzip ? new GZIPInputStream(in) : in);
+        }
+    }
+
+    @Test
+    public void testStreamingWriteToFile() throws Exception {
+        OntologyManager m = createManager(true, true);
+        OntologyModel o = loadPizza(m);
+        Path file = Files.createTempFile("ont-api-streaming-", "." + format.getExt() + ".gz");
+        file.toFile().deleteOnExit();
+        m.saveOntology(o, format.createOwlFormat(), IRI.create(file.toUri()));
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            assertContent(o, in);
+        }
+    }
+
+    @Test
+    public void testStreamingTurtleIsBlocked() throws Exception {
+        Assume.assumeTrue(format == OntFormat.TURTLE);
+        OntologyManager m = createManager(true, false);
+        OntologyModel o = loadPizza(m);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        m.saveOntology(o, format.createOwlFormat(), new StreamDocumentTarget(out));
+        String txt = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        // no nested blank nodes in the blocked form, and prefixes are kept:
+        Assert.assertFalse(txt.contains("["));
+        Assert.assertTrue(txt.contains("@prefix owl:"));
+    }
+}
@@ -31,6 +31,7 @@ import ru.avicomp.ontapi.BaseModel;
 import ru.avicomp.ontapi.OntFormat;
 import ru.avicomp.ontapi.OntManagers;
 import ru.avicomp.ontapi.internal.AxiomParserProvider;
+import ru.avicomp.ontapi.internal.CacheObjectMapImpl;
 import ru.avicomp.ontapi.internal.InternalModel;
 import ru.avicomp.ontapi.internal.ONTObject;
 import ru.avicomp.ontapi.jena.OntModelFactory;
@@ -44,9 +45,7 @@ import ru.avicomp.ontapi.utils.ReadWriteUtils;
 import ru.avicomp.ontapi.utils.TestUtils;
 
 import java.net.URI;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -120,6 +119,22 @@ public class InternalModelTest {
         Assert.assertEquals("Incorrect annotations count", 4, annotations.size());
     }
 
+    @Test
+    public void testSnapshotKeysList() {
+        CacheObjectMapImpl.SnapshotList<String> list = new CacheObjectMapImpl.SnapshotList<>(Arrays.asList("a", "b"));
+        Stream<String> s1 = list.stream();
+        Iterator<String> it = list.iterator();
+        list.add("c");
+        Stream<String> s2 = list.stream();
+        list.remove("a");
+        list.add("d");
+        Assert.assertEquals(Arrays.asList("a", "b"), s1.collect(Collectors.toList()));
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), s2.collect(Collectors.toList()));
+        Assert.assertEquals("a", it.next());
+        Assert.assertEquals(Arrays.asList("b", "c", "d"), list);
+        Assert.assertEquals("d", list.get(2));
+    }
+
     @Test
     public void testPizzaEntities() {
         testEntities("ontapi/pizza.ttl", OntFormat.TURTLE);
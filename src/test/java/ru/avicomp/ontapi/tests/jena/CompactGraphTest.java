@@ -0,0 +1,157 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.tests.jena;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import ru.avicomp.ontapi.OntFormat;
+import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.OntologyManager;
+import ru.avicomp.ontapi.OntologyModel;
+import ru.avicomp.ontapi.jena.CompactGraph;
+import ru.avicomp.ontapi.jena.OntModelFactory;
+import ru.avicomp.ontapi.jena.utils.Graphs;
+import ru.avicomp.ontapi.jena.utils.Iter;
+import ru.avicomp.ontapi.utils.ReadWriteUtils;
+
+import java.util.*;
+
+/**
+ * To test {@link CompactGraph}.
+ */
+public class CompactGraphTest {
+
+    private static Node node(Random r, int bound) {
+        int i = r.nextInt(bound);
+        return i % 7 == 0 ? NodeFactory.createLiteral("v" + i) : NodeFactory.createURI("http://x#" + i);
+    }
+
+    private static Triple triple(Random r, int bound) {
+        Node s = node(r, bound);
+        if (s.isLiteral()) s = NodeFactory.createBlankNode("b" + s.getLiteralLexicalForm());
+        return Triple.create(s, NodeFactory.createURI("http://p#" + r.nextInt(10)), node(r, bound));
+    }
+
+    private static void assertSameContent(Graph expected, Graph actual, Random r, int bound) {
+        Assert.assertEquals(expected.size(), actual.size());
+        Assert.assertEquals(set(expected.find()), set(actual.find()));
+        for (int i = 0; i < 100; i++) {
+            Triple t = triple(r, bound);
+            Node s = r.nextBoolean() ? t.getSubject() : Node.ANY;
+            Node p = r.nextBoolean() ? t.getPredicate() : Node.ANY;
+            Node o = s == Node.ANY && p == Node.ANY || r.nextBoolean() ? t.getObject() : Node.ANY;
+            Assert.assertEquals(set(expected.find(s, p, o)), set(actual.find(s, p, o)));
+            Assert.assertEquals(expected.contains(s, p, o), actual.contains(s, p, o));
+        }
+    }
+
+    private static Set<Triple> set(ExtendedIterator<Triple> it) {
+        List<Triple> list = it.toList();
+        Set<Triple> res = new HashSet<>(list);
+        Assert.assertEquals("Not distinct", list.size(), res.size());
+        return res;
+    }
+
+    @Test
+    public void testAddDeleteFind() {
+        Random r = new Random(42);
+        int bound = 2_000;
+        Graph expected = OntModelFactory.createDefaultGraph();
+        Graph actual = OntModelFactory.createCompactGraph();
+        Assert.assertTrue(Graphs.isMem(actual));
+        // enough to run several compactions:
+        for (int i = 0; i < 300_000; i++) {
+            Triple t = triple(r, bound);
+            if (r.nextInt(4) == 0) {
+                expected.delete(t);
+                actual.delete(t);
+            } else {
+                expected.add(t);
+                actual.add(t);
+            }
+        }
+        assertSameContent(expected, actual, r, bound);
+        // remove through iterator:
+        Node p = NodeFactory.createURI("http://p#3");
+        ExtendedIterator<Triple> it = actual.find(Node.ANY, p, Node.ANY);
+        while (it.hasNext()) {
+            Triple t = it.next();
+            it.remove();
+            expected.delete(t);
+        }
+        Assert.assertFalse(actual.contains(Node.ANY, p, Node.ANY));
+        assertSameContent(expected, actual, r, bound);
+
+        actual.clear();
+        Assert.assertTrue(actual.isEmpty());
+        Assert.assertEquals(0, Iter.count(actual.find()));
+    }
+
+    @Test
+    public void testIteratorAcrossClear() {
+        Random r = new Random(7);
+        int bound = 500;
+        Graph g = OntModelFactory.createCompactGraph();
+        Set<Triple> expected = new HashSet<>();
+        // both the sorted part and the delta:
+        for (int i = 0; i < 70_000; i++) {
+            Triple t = triple(r, bound);
+            g.add(t);
+            expected.add(t);
+        }
+        Assert.assertEquals(expected.size(), g.size());
+        ExtendedIterator<Triple> it = g.find();
+        Set<Triple> actual = new HashSet<>();
+        actual.add(it.next());
+        g.clear();
+        for (int i = 0; i < 100; i++) {
+            g.add(Triple.create(NodeFactory.createURI("http://y#" + i), NodeFactory.createURI("http://y#p"),
+                    NodeFactory.createBlankNode()));
+        }
+        // the open iterator returns the triples of the graph state it has been created for:
+        it.forEachRemaining(actual::add);
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(100, g.size());
+    }
+
+    @Test
+    public void testLoadOntology() throws Exception {
+        OWLOntologyDocumentSource src = ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE);
+        OntologyManager m1 = OntManagers.createONT();
+        OntologyManager m2 = OntManagers.createCompactONT();
+        OntologyModel o1 = m1.loadOntologyFromOntologyDocument(src);
+        OntologyModel o2 = m2.loadOntologyFromOntologyDocument(src);
+        Assert.assertTrue(Graphs.getBase(o2.asGraphModel().getGraph()) instanceof CompactGraph);
+        Assert.assertEquals(o1.asGraphModel().size(), o2.asGraphModel().size());
+        Assert.assertEquals(o1.getAxiomCount(), o2.getAxiomCount());
+        Assert.assertEquals(o1.signature().count(), o2.signature().count());
+
+        OWLAxiom a = o1.axioms(AxiomType.SUBCLASS_OF).findFirst().orElseThrow(AssertionError::new);
+        o1.remove(a);
+        o2.remove(a);
+        o1.clearCache();
+        o2.clearCache();
+        Assert.assertEquals(o1.asGraphModel().size(), o2.asGraphModel().size());
+        Assert.assertEquals(o1.getAxiomCount(), o2.getAxiomCount());
+    }
+}
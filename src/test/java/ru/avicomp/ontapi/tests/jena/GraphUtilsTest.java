@@ -14,24 +14,37 @@
 
 package ru.avicomp.ontapi.tests.jena;
 
+import org.apache.jena.graph.Factory;
 import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
 import org.apache.jena.graph.impl.WrappedGraph;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RiotException;
 import org.apache.jena.sparql.graph.GraphWrapper;
 import org.junit.Assert;
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.jena.UnionGraph;
+import ru.avicomp.ontapi.jena.utils.ChunkedRDFParser;
+import ru.avicomp.ontapi.jena.utils.GraphSnapshot;
 import ru.avicomp.ontapi.jena.utils.Graphs;
+import ru.avicomp.ontapi.utils.ReadWriteUtils;
 import ru.avicomp.ontapi.utils.SpinModels;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * To test {@link Graphs} utility class.
+ * To test {@link Graphs} utility class and {@link ChunkedRDFParser}.
  * Created by @szz on 11.06.2019.
  */
 public class GraphUtilsTest {
@@ -64,6 +77,72 @@ public class GraphUtilsTest {
         Assert.assertEquals(flat(u).collect(Collectors.toSet()), actual);
     }
 
+    @Test
+    public void testChunkedParseNTriples() {
+        Model m = ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RDFDataMgr.write(out, m, Lang.NTRIPLES);
+        byte[] bytes = out.toByteArray();
+
+        Graph expected = Factory.createGraphMem();
+        RDFDataMgr.read(expected, new ByteArrayInputStream(bytes), null, Lang.NTRIPLES);
+        // small chunks to make sure the blank nodes are shared across the chunks:
+        Graph actual = Factory.createGraphMem();
+        new ChunkedRDFParser(Lang.NTRIPLES, null, 4, 512).parse(new ByteArrayInputStream(bytes), actual);
+        Assert.assertEquals(m.size(), actual.size());
+        Assert.assertTrue(expected.isIsomorphicWith(actual));
+    }
+
+    @Test
+    public void testChunkedParseNQuads() {
+        String txt = "<urn:a> <urn:p> _:b0 .\n" +
+                "_:b0 <urn:p> \"x\" <urn:g> .\n" +
+                "_:b0 <urn:p> <urn:b> .\n" +
+                "<urn:b> <urn:p> _:b0 .\n";
+        Graph expected = Factory.createGraphMem();
+        RDFDataMgr.read(expected, new ByteArrayInputStream(txt.getBytes(StandardCharsets.UTF_8)), null, Lang.NQUADS);
+        Graph actual = Factory.createGraphMem();
+        new ChunkedRDFParser(Lang.NQUADS, null, 2, 8)
+                .parse(new ByteArrayInputStream(txt.getBytes(StandardCharsets.UTF_8)), actual);
+        Assert.assertEquals(3, actual.size());
+        Assert.assertEquals(1, Graphs.subjects(actual).filterKeep(Node::isBlank).toSet().size());
+        Assert.assertTrue(expected.isIsomorphicWith(actual));
+    }
+
+    @Test(expected = RiotException.class)
+    public void testChunkedParseWrongSyntax() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            sb.append("<urn:s").append(i).append("> <urn:p> <urn:o> .\n");
+        }
+        sb.append("<urn:s> <urn:p> .\n");
+        new ChunkedRDFParser(Lang.NTRIPLES, null, 3, 64)
+                .parse(new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8)), Factory.createGraphMem());
+    }
+
+    @Test
+    public void testGraphSnapshot() throws Exception {
+        Graph g = ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl").getGraph();
+        String txt = "@prefix x: <urn:x#> .\n" +
+                "x:s x:p \"a\", \"b\"@en, \"1\"^^<http://www.w3.org/2001/XMLSchema#int>, \"wrong\"^^<http://www.w3.org/2001/XMLSchema#int>, " +
+                "\"c\"^^<urn:x#dt>, \"\\u0436\\n\" ; x:q [ x:p x:s ] .";
+        RDFDataMgr.read(g, new ByteArrayInputStream(txt.getBytes(StandardCharsets.UTF_8)), Lang.TURTLE);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GraphSnapshot.write(g, out);
+        byte[] bytes = out.toByteArray();
+
+        Graph actual = Factory.createGraphMem();
+        GraphSnapshot.read(new ByteArrayInputStream(bytes), actual);
+        Assert.assertEquals(g.size(), actual.size());
+        // blank nodes are preserved as is:
+        g.find().forEachRemaining(t -> Assert.assertTrue("Can't find " + t, actual.contains(t)));
+        Assert.assertEquals(g.getPrefixMapping().getNsPrefixMap(), actual.getPrefixMapping().getNsPrefixMap());
+
+        Graph fromBuffer = Factory.createGraphMem();
+        GraphSnapshot.read(ByteBuffer.wrap(bytes), fromBuffer);
+        Assert.assertTrue(actual.isIsomorphicWith(fromBuffer));
+    }
+
     private static Stream<Graph> flat(Graph graph) {
         if (graph == null) return Stream.empty();
         return Stream.concat(Stream.of(Graphs.getBase(graph)), Graphs.subGraphs(graph).flatMap(GraphUtilsTest::flat));
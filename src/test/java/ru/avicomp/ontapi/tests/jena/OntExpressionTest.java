@@ -24,6 +24,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.jena.OntJenaException;
 import ru.avicomp.ontapi.jena.OntModelFactory;
+import ru.avicomp.ontapi.jena.impl.OntGraphModelImpl;
 import ru.avicomp.ontapi.jena.model.*;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
 import ru.avicomp.ontapi.jena.vocabulary.RDF;
@@ -95,6 +96,73 @@ public class OntExpressionTest {
                 .peek(x -> LOGGER.debug("{} has sub class: {}", d, x)).count());
     }
 
+    @Test
+    public void testClassHierarchyIndex() {
+        OntGraphModelImpl m = (OntGraphModelImpl) OntModelFactory.createModel().setNsPrefixes(OntModelFactory.STANDARD);
+        OntClass a = m.createOntClass("A");
+        OntClass b = m.createOntClass("B");
+        OntClass c = m.createOntClass("C");
+        OntClass d = m.createOntClass("D");
+        OntClass e = m.createOntClass("E");
+        a.addSuperClass(b).addSuperClass(m.createComplementOf(e));
+        // a cycle:
+        b.addSuperClass(c);
+        c.addSuperClass(d);
+        d.addSuperClass(b);
+        OntIndividual i = a.createIndividual("I");
+        OntNOP p1 = m.createObjectProperty("P1");
+        OntNOP p2 = m.createObjectProperty("P2");
+        p1.addSuperProperty(p2);
+        p2.addSuperProperty(p1.createInverse());
+
+        Map<String, Set<? extends OntObject>> expected = collectHierarchies(a, c, d, e, i, p1, p2);
+        m.enableHierarchyIndex();
+        Assert.assertNotNull(m.getHierarchyIndex());
+        Assert.assertEquals(expected, collectHierarchies(a, c, d, e, i, p1, p2));
+        Assert.assertEquals(expected, collectHierarchies(a, c, d, e, i, p1, p2));
+        Assert.assertEquals(4, a.superClasses(false).count());
+        Assert.assertEquals(3, d.subClasses(false).count());
+
+        // modify hierarchy:
+        d.removeSuperClass(b);
+        e.addSuperClass(m.getOWLThing());
+        m.createOntClass("F").addSuperClass(e);
+        p2.removeSuperProperty(null);
+        // modify typing:
+        m.createResource("G", OWL.Class).addProperty(RDFS.subClassOf, a);
+        // modify the graph hierarchy:
+        OntGraphModel imported = OntModelFactory.createModel().setID("http://imported").getModel();
+        imported.createOntClass(c.getURI()).addSuperClass(imported.createOntClass("H"));
+        m.addImport(imported);
+
+        Map<String, Set<? extends OntObject>> actual = collectHierarchies(a, c, d, e, i, p1, p2);
+        m.disableHierarchyIndex();
+        Assert.assertNull(m.getHierarchyIndex());
+        Assert.assertEquals(collectHierarchies(a, c, d, e, i, p1, p2), actual);
+        Assert.assertEquals(5, a.superClasses(false).count());
+        Assert.assertEquals(4, d.subClasses(false).count());
+    }
+
+    private static Map<String, Set<? extends OntObject>> collectHierarchies(OntClass a,
+                                                                            OntClass c,
+                                                                            OntClass d,
+                                                                            OntClass e,
+                                                                            OntIndividual i,
+                                                                            OntNOP p1,
+                                                                            OntNOP p2) {
+        Map<String, Set<? extends OntObject>> res = new HashMap<>();
+        res.put("a-super", a.superClasses(false).collect(Collectors.toSet()));
+        res.put("c-super", c.superClasses(false).collect(Collectors.toSet()));
+        res.put("d-sub", d.subClasses(false).collect(Collectors.toSet()));
+        res.put("e-sub", e.subClasses(false).collect(Collectors.toSet()));
+        res.put("e-super", e.superClasses(false).collect(Collectors.toSet()));
+        res.put("i-classes", i.classes(false).collect(Collectors.toSet()));
+        res.put("p1-super", p1.superProperties(false).collect(Collectors.toSet()));
+        res.put("p2-sub", p2.subProperties(false).collect(Collectors.toSet()));
+        LOGGER.debug("Hierarchies: {}", res);
+        return res;
+    }
+
     @Test
     public void testClassExpressionSubClassOf() {
         OntGraphModel m = OntModelFactory.createModel().setNsPrefixes(OntModelFactory.STANDARD);
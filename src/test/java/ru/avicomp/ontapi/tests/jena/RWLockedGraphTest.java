@@ -18,7 +18,10 @@ import org.apache.jena.graph.Factory;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.GraphStatisticsHandler;
 import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.util.iterator.ExtendedIterator;
 import org.junit.Assert;
 import org.junit.Test;
 import org.semanticweb.owlapi.model.AxiomType;
@@ -26,6 +29,8 @@ import org.semanticweb.owlapi.model.OWLAxiom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.NoOpReadWriteLock;
+import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.OntologyManager;
 import ru.avicomp.ontapi.internal.AxiomParserProvider;
 import ru.avicomp.ontapi.internal.ONTObject;
 import ru.avicomp.ontapi.jena.OntModelFactory;
@@ -146,6 +151,122 @@ public class RWLockedGraphTest {
         LOGGER.debug("Duration: {}", Duration.between(s, e));
     }
 
+    @Test
+    public void testRaceModifyAndListInSnapshotMode() throws Exception {
+        Graph g = loadPizza();
+        RWLockedGraph gg = new RWLockedGraph(g, new ReentrantReadWriteLock(), true);
+        Assert.assertTrue(gg.isSnapshotMode());
+        OntGraphModel m = OntModelFactory.createModel(gg);
+        testRace(m);
+        Assert.assertEquals(g.size(), gg.size());
+    }
+
+    @Test
+    public void testSnapshotModeWriterDoesNotWait() throws Exception {
+        Graph g = loadPizza();
+        int size = g.size();
+        RWLockedGraph gg = new RWLockedGraph(g, new ReentrantReadWriteLock(), true);
+        ExtendedIterator<Triple> it = gg.find(Triple.ANY);
+        Set<Triple> seen = new HashSet<>();
+        seen.add(it.next());
+        Triple added = Triple.create(NodeFactory.createURI("x"), RDF.type.asNode(), OWL.Class.asNode());
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            // the iterator is open and not expired, in the default mode the writer would wait
+            service.submit(() -> {
+                gg.add(added);
+                gg.clear();
+            }).get(TIMEOUT, TimeUnit.MILLISECONDS);
+        } finally {
+            service.shutdown();
+        }
+        it.forEachRemaining(seen::add);
+        Assert.assertEquals(size, seen.size());
+        Assert.assertFalse(seen.contains(added));
+        Assert.assertTrue(gg.isEmpty());
+        // the same thread may modify the graph during iteration without CME
+        gg.add(added);
+        ExtendedIterator<Triple> it2 = gg.find();
+        gg.add(Triple.create(NodeFactory.createURI("y"), RDF.type.asNode(), OWL.Class.asNode()));
+        Assert.assertEquals(Collections.singletonList(added), it2.toList());
+        Assert.assertEquals(2, gg.size());
+    }
+
+    @Test
+    public void testSnapshotModeJournal() throws Exception {
+        Graph g = loadPizza();
+        Set<Triple> expected = g.find().toSet();
+        RWLockedGraph gg = new RWLockedGraph(g, new ReentrantReadWriteLock(), true);
+        ExtendedIterator<Triple> it = gg.find(Triple.ANY);
+        Set<Triple> actual = new HashSet<>();
+        actual.add(it.next());
+        List<Triple> rest = g.find().filterDrop(actual::contains).toList();
+        Triple deleted = rest.get(rest.size() - 1);
+        Triple readded = rest.get(rest.size() - 2);
+        Triple added = Triple.create(NodeFactory.createURI("x"), RDF.type.asNode(), OWL.Class.asNode());
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            service.submit(() -> {
+                gg.delete(deleted);
+                gg.delete(readded);
+                gg.add(readded);
+                gg.add(added);
+            }).get(TIMEOUT, TimeUnit.MILLISECONDS);
+        } finally {
+            service.shutdown();
+        }
+        it.forEachRemaining(t -> Assert.assertTrue("Duplicate " + t, actual.add(t)));
+        Assert.assertEquals(expected, actual);
+        Assert.assertFalse(gg.contains(deleted));
+        Assert.assertTrue(gg.contains(added));
+        // the changes made without open iterators are not recorded:
+        gg.delete(added);
+        Assert.assertEquals(expected.size() - 1, gg.find().toList().size());
+    }
+
+    @Test
+    public void testSnapshotModeDetach() throws Exception {
+        Graph g = loadPizza();
+        RWLockedGraph gg = new RWLockedGraph(g, new ReentrantReadWriteLock(), true);
+        Node s = g.find(Node.ANY, RDF.type.asNode(), OWL.Class.asNode())
+                .filterKeep(t -> g.find(t.getSubject(), Node.ANY, Node.ANY).toList().size() > 2)
+                .next().getSubject();
+        List<Triple> expected = g.find(s, Node.ANY, Node.ANY).toList();
+        Triple other = g.find(Node.ANY, RDF.type.asNode(), OWL.ObjectProperty.asNode()).next();
+        ExtendedIterator<Triple> it = gg.find(s, Node.ANY, Node.ANY);
+        Set<Triple> actual = new HashSet<>();
+        actual.add(it.next());
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            // a change that does not concern the subject keeps the iterator as is:
+            service.submit(() -> {
+                gg.delete(other);
+                gg.add(Triple.create(NodeFactory.createURI("x"), RDF.type.asNode(), OWL.Class.asNode()));
+            }).get(TIMEOUT, TimeUnit.MILLISECONDS);
+            Assert.assertTrue(it.hasNext());
+            actual.add(it.next());
+            // a change of the subject puts the rest of the iterator in memory:
+            service.submit(() -> gg.remove(s, Node.ANY, Node.ANY)).get(TIMEOUT, TimeUnit.MILLISECONDS);
+        } finally {
+            service.shutdown();
+        }
+        it.forEachRemaining(t -> Assert.assertTrue("Duplicate " + t, actual.add(t)));
+        Assert.assertEquals(new HashSet<>(expected), actual);
+        Assert.assertFalse(gg.contains(s, Node.ANY, Node.ANY));
+        Assert.assertFalse(gg.contains(other));
+    }
+
+    @Test
+    public void testSnapshotModeConfig() {
+        OntologyManager m = OntManagers.createConcurrentONT();
+        Assert.assertFalse(m.getOntologyConfigurator().useSnapshotIterators());
+        Graph g = m.createOntology().asGraphModel().getBaseGraph();
+        Assert.assertFalse(((RWLockedGraph) g).isSnapshotMode());
+        m.getOntologyConfigurator().setUseSnapshotIterators(true);
+        g = m.createOntology().asGraphModel().getBaseGraph();
+        Assert.assertTrue(((RWLockedGraph) g).isSnapshotMode());
+    }
+
     @Test
     public void testConcurrentPrefixes() throws ExecutionException, InterruptedException {
         PrefixMapping pm = new RWLockedGraph(Factory.createGraphMem(), new ReentrantReadWriteLock()).getPrefixMapping();
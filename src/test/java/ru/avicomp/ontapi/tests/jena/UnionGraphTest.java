@@ -17,17 +17,23 @@ package ru.avicomp.ontapi.tests.jena;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.jena.graph.Factory;
 import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
 import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.mem.GraphMem;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.shared.AddDeniedException;
 import org.apache.jena.shared.ClosedException;
 import org.apache.jena.shared.DeleteDeniedException;
 import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.vocabulary.RDFS;
 import org.junit.Assert;
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.avicomp.ontapi.jena.GraphSummary;
 import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.ontapi.jena.UnionGraph;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
@@ -38,6 +44,8 @@ import ru.avicomp.ontapi.utils.UnmodifiableGraph;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * To test {@link UnionGraph}.
@@ -292,4 +300,191 @@ public class UnionGraphTest {
         u1.addGraph(b);
         Assert.assertEquals(new HashSet<>(Arrays.asList(a, b, c, d)), u1.listBaseGraphs().toSet());
     }
+
+    @Test
+    public void testDisjointFind() {
+        Triple t1 = Triple.create(NodeFactory.createURI("a1"), RDF.Nodes.type, OWL.Class.asNode());
+        Triple t2 = Triple.create(NodeFactory.createURI("a2"), RDF.Nodes.type, OWL.Class.asNode());
+        Triple t3 = Triple.create(NodeFactory.createURI("b1"), RDF.Nodes.type, OWL.Class.asNode());
+        Triple t4 = Triple.create(NodeFactory.createURI("c1"), RDF.Nodes.type, OWL.Class.asNode());
+        Graph a = createTestMemGraph("a");
+        Graph b = createTestMemGraph("b");
+        Graph c = createTestMemGraph("c");
+        a.add(t1);
+        a.add(t2);
+        b.add(t3);
+        c.add(t4);
+        c.add(t1);
+        AtomicInteger sets = new AtomicInteger();
+        UnionGraph u1 = new UnionGraph(a) {
+            @Override
+            protected Set<Triple> createSet() {
+                sets.incrementAndGet();
+                return super.createSet();
+            }
+        };
+        UnionGraph u2 = new UnionGraph(b);
+        UnionGraph u3 = new UnionGraph(c);
+        u1.addGraph(u2).addGraph(u3);
+
+        Assert.assertFalse(u1.isDisjoint());
+        Assert.assertEquals(4, u1.find().toList().size());
+        Assert.assertEquals(1, sets.get());
+        // only one graph matches the pattern - no need to check duplicates:
+        Assert.assertEquals(1, u1.find(t3.getSubject(), null, null).toList().size());
+        Assert.assertEquals(0, u1.find(NodeFactory.createURI("x"), null, null).toList().size());
+        Assert.assertEquals(1, sets.get());
+        Assert.assertFalse(u1.detectDisjoint());
+
+        c.delete(t1);
+        Assert.assertTrue(u1.detectDisjoint());
+        Assert.assertEquals(4, u1.find().toList().size());
+        Assert.assertEquals(1, sets.get());
+
+        // the flag is reset when a triple is added through a sub-graph:
+        u3.add(t2);
+        Assert.assertFalse(u1.isDisjoint());
+        Assert.assertEquals(4, u1.find().toList().size());
+        Assert.assertEquals(2, sets.get());
+
+        // and when a triple is added directly into a base graph:
+        u3.delete(t2);
+        Assert.assertTrue(u1.detectDisjoint());
+        b.add(t1);
+        Assert.assertFalse(u1.isDisjoint());
+        b.delete(t1);
+        u3.add(t2);
+
+        // declared disjoint for overlapping graphs: duplicates are possible
+        Assert.assertTrue(u1.setDisjoint(true).isDisjoint());
+        Assert.assertEquals(5, u1.find().toList().size());
+        u1.addGraph(createTestMemGraph("d"));
+        Assert.assertFalse(u1.isDisjoint());
+    }
+
+    @Test
+    public void testDisjointWatcherLifecycle() {
+        Triple t1 = Triple.create(NodeFactory.createURI("a1"), RDF.Nodes.type, OWL.Class.asNode());
+        Triple t2 = Triple.create(NodeFactory.createURI("b1"), RDF.Nodes.type, OWL.Class.asNode());
+        Graph a = createTestMemGraph("a");
+        Graph b = createTestMemGraph("b");
+        Graph c = createTestMemGraph("c");
+        a.add(t1);
+        b.add(t2);
+        UnionGraph u2 = new UnionGraph(b);
+        UnionGraph u3 = new UnionGraph(c);
+        UnionGraph u1 = new UnionGraph(a).addGraph(u2).addGraph(u3);
+        Assert.assertTrue(u1.detectDisjoint());
+        Assert.assertTrue(c.getEventManager().listening());
+
+        // the removed graph is no longer listened, the flag is kept:
+        u1.removeGraph(u3);
+        Assert.assertTrue(u1.isDisjoint());
+        Assert.assertFalse(c.getEventManager().listening());
+        c.add(t1);
+        Assert.assertTrue(u1.isDisjoint());
+        Assert.assertEquals(2, u1.find().toList().size());
+
+        // a bulk addition is reported as a whole graph:
+        Graph other = createTestMemGraph("other");
+        other.add(t1);
+        ModelFactory.createModelForGraph(b).add(ModelFactory.createModelForGraph(other));
+        Assert.assertFalse(u1.isDisjoint());
+        Assert.assertEquals(2, u1.find().toList().size());
+
+        // closing unregisters the listeners:
+        b.delete(t1);
+        Assert.assertTrue(u1.detectDisjoint());
+        u1.close();
+        Assert.assertFalse(u1.isDisjoint());
+    }
+
+    @Test
+    public void testRoutedFind() {
+        Node type = RDF.Nodes.type;
+        Node clazz = OWL.Class.asNode();
+        Triple t1 = Triple.create(NodeFactory.createURI("http://a#C1"), type, clazz);
+        Triple t2 = Triple.create(NodeFactory.createURI("http://a#P1"), type, OWL.ObjectProperty.asNode());
+        Triple t3 = Triple.create(NodeFactory.createURI("http://b#C2"), RDFS.subClassOf.asNode(), t1.getSubject());
+        AtomicInteger queries = new AtomicInteger();
+        Graph a = createTestMemGraph("a");
+        Graph b = new GraphMem() {
+            @Override
+            public boolean graphBaseContains(Triple t) {
+                queries.incrementAndGet();
+                return super.graphBaseContains(t);
+            }
+
+            @Override
+            public ExtendedIterator<Triple> graphBaseFind(Triple m) {
+                queries.incrementAndGet();
+                return super.graphBaseFind(m);
+            }
+        };
+        a.add(t1);
+        a.add(t2);
+        b.add(t3);
+        UnionGraph u = new UnionGraph(a).addGraph(new UnionGraph(b));
+
+        Assert.assertTrue(GraphSummary.get(a).mayContain(a, Triple.createMatch(null, type, clazz)));
+        Assert.assertFalse(GraphSummary.get(b).mayContain(b, Triple.createMatch(null, type, clazz)));
+        Assert.assertFalse(GraphSummary.get(a).mayContain(a, Triple.createMatch(null, RDFS.subClassOf.asNode(), null)));
+        Assert.assertFalse(GraphSummary.get(b).mayContain(b, Triple.createMatch(t1.getSubject(), null, null)));
+        Assert.assertTrue(GraphSummary.get(b).mayContain(b, Triple.createMatch(null, null, null)));
+        Assert.assertFalse(GraphSummary.isRoutable(Triple.createMatch(null, null, clazz)));
+        Assert.assertSame(GraphSummary.get(b), GraphSummary.get(b));
+        queries.set(0);
+
+        // the graph b is not asked:
+        Assert.assertEquals(1, u.find(null, type, clazz).toList().size());
+        Assert.assertTrue(u.contains(t1));
+        Assert.assertFalse(u.contains(NodeFactory.createURI("http://a#C3"), type, clazz));
+        Assert.assertEquals(0, queries.get());
+        Assert.assertEquals(1, u.find(null, RDFS.subClassOf.asNode(), null).toList().size());
+        Assert.assertTrue(u.contains(t3));
+        Assert.assertNotEquals(0, queries.get());
+
+        // the summary follows the changes made directly in the graph:
+        Triple t4 = Triple.create(NodeFactory.createURI("http://c#C3"), type, clazz);
+        b.add(t4);
+        Assert.assertTrue(GraphSummary.get(b).mayContain(b, t4));
+        Assert.assertEquals(2, u.find(null, type, clazz).toList().size());
+        Assert.assertTrue(u.contains(t4));
+        b.delete(t4);
+        // deletions are not reflected in the summary, but the result is correct:
+        Assert.assertTrue(GraphSummary.get(b).mayContain(b, t4));
+        Assert.assertEquals(1, u.find(null, type, clazz).toList().size());
+        b.clear();
+        Assert.assertFalse(GraphSummary.get(b).mayContain(b, t3));
+        Assert.assertFalse(u.contains(t3));
+        Assert.assertEquals(2, u.find().toList().size());
+    }
+
+    @Test
+    public void testRoutedFindAfterBulkAdd() {
+        Node type = RDF.Nodes.type;
+        Node clazz = OWL.Class.asNode();
+        Triple t1 = Triple.create(NodeFactory.createURI("http://a#C1"), type, clazz);
+        Triple t2 = Triple.create(NodeFactory.createURI("http://b#C2"), RDFS.subClassOf.asNode(), t1.getSubject());
+        Graph a = createTestMemGraph("a");
+        Graph b = createTestMemGraph("b");
+        a.add(t1);
+        b.add(t1);
+        UnionGraph u = new UnionGraph(a).addGraph(new UnionGraph(b));
+        // the summaries are built:
+        Assert.assertFalse(u.contains(t2));
+        Assert.assertEquals(0, u.find(t2.getSubject(), null, null).toList().size());
+
+        Graph other = createTestMemGraph("other");
+        other.add(t2);
+        // GraphUtil#addInto: the triples are added bypassing the event manager, only the whole graph is reported
+        Model m = ModelFactory.createModelForGraph(b);
+        m.add(ModelFactory.createModelForGraph(other));
+        Assert.assertTrue(b.contains(t2));
+
+        Assert.assertTrue(GraphSummary.get(b).mayContain(b, t2));
+        Assert.assertTrue(u.contains(t2));
+        Assert.assertEquals(1, u.find(t2.getSubject(), null, null).toList().size());
+        Assert.assertEquals(1, u.find(null, RDFS.subClassOf.asNode(), null).toList().size());
+    }
 }
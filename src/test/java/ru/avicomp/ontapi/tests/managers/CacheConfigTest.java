@@ -14,15 +14,19 @@
 
 package ru.avicomp.ontapi.tests.managers;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.graph.impl.WrappedGraph;
 import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.vocabulary.RDFS;
 import org.junit.Assert;
 import org.junit.Test;
 import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.Navigation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.*;
@@ -32,10 +36,20 @@ import ru.avicomp.ontapi.config.OntLoaderConfiguration;
 import ru.avicomp.ontapi.config.OntSettings;
 import ru.avicomp.ontapi.internal.*;
 import ru.avicomp.ontapi.jena.impl.OntGraphModelImpl;
+import ru.avicomp.ontapi.jena.impl.conf.OntModelConfig;
+import ru.avicomp.ontapi.jena.model.*;
+import ru.avicomp.ontapi.jena.vocabulary.OWL;
+import ru.avicomp.ontapi.jena.vocabulary.RDF;
 import ru.avicomp.ontapi.utils.ReadWriteUtils;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Created by @ssz on 04.03.2019.
@@ -130,6 +144,124 @@ public class CacheConfigTest {
         Assert.assertTrue(m2 instanceof SearchModel);
     }
 
+    @Test
+    public void testSearchModelAnnotationIndex() {
+        for (String file : Arrays.asList("/ontapi/test-annotations-1.ttl", "/ontapi/test-annotations-2.ttl",
+                "/ontapi/test-annotations-3.ttl", "/ontapi/pizza.ttl")) {
+            LOGGER.debug("Test <{}>", file);
+            Graph g = ReadWriteUtils.loadResourceTTLFile(file).getGraph();
+            OntGraphModelImpl m1 = new OntGraphModelImpl(g, OntModelConfig.getPersonality());
+            OntGraphModelImpl m2 = new SearchModel(g, OntModelConfig.getPersonality(), InternalConfig.DEFAULT) {
+                @Override
+                public InternalObjectFactory getObjectFactory() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+            m1.localStatements().forEach(s -> {
+                Set<OntStatement> expected = s.annotations().collect(Collectors.toSet());
+                OntStatement s2 = m2.asStatement(s.asTriple());
+                Assert.assertEquals(expected, s2.annotations().collect(Collectors.toSet()));
+                Assert.assertEquals(s.hasAnnotations(), s2.hasAnnotations());
+                Assert.assertEquals(s.annotationResources().collect(Collectors.toSet()),
+                        s2.annotationResources().collect(Collectors.toSet()));
+            });
+        }
+    }
+
+    @Test
+    public void testCacheStats() throws Exception {
+        OntologyManager m = OntManagers.createONT();
+        OntologyModel o = m.loadOntologyFromOntologyDocument(ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl",
+                OntFormat.TURTLE));
+        Assert.assertEquals(945, o.axioms().count());
+        Map<String, CacheStats> stats = ((BaseModel) o).getBase().getCacheStats();
+        LOGGER.debug("Stats: {}", stats);
+        CacheStats classes = stats.get("objects:OWLClass");
+        Assert.assertNotNull(classes);
+        Assert.assertTrue(classes.hitCount() > 0);
+        Assert.assertTrue(classes.missCount() > 0);
+        Assert.assertTrue(stats.keySet().stream().anyMatch(x -> x.startsWith("nodes:")));
+    }
+
+    @Test
+    public void testCacheBudget() throws Exception {
+        Assert.assertEquals(0L, new OntConfig().getManagerCacheBudget());
+        OntologyManagerImpl m = (OntologyManagerImpl) OntManagers.createConcurrentONT();
+        Assert.assertNull(m.getCacheBudget());
+        long budget = 20_000;
+        m.setOntologyConfigurator(new OntConfig() {
+            @Override
+            protected OntConfig setManagerCacheBudget(long bytes) {
+                return super.setManagerCacheBudget(bytes);
+            }
+        }.setManagerCacheBudget(budget));
+        CacheBudget cache = m.getCacheBudget();
+        Assert.assertNotNull(cache);
+        Assert.assertEquals(budget, cache.getMaximumWeight());
+
+        OntologyModel o1 = m.loadOntologyFromOntologyDocument(ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl",
+                OntFormat.TURTLE));
+        OntologyModel o2 = m.loadOntologyFromOntologyDocument(ReadWriteUtils.getFileDocumentSource("/ontapi/family.ttl",
+                OntFormat.TURTLE));
+        Assert.assertEquals(945, o1.axioms().count());
+        long count = o2.axioms().count();
+        Assert.assertEquals(OntManagers.createONT().loadOntologyFromOntologyDocument(
+                ReadWriteUtils.getFileDocumentSource("/ontapi/family.ttl", OntFormat.TURTLE)).axioms().count(), count);
+
+        LOGGER.debug("Budget: {}, stats: {}", cache, cache.stats());
+        Assert.assertTrue(cache.weightedSize() <= budget);
+        Assert.assertTrue(cache.stats().evictionCount() > 0);
+        Map<String, CacheStats> stats1 = ((BaseModel) o1).getBase().getCacheStats();
+        Map<String, CacheStats> stats2 = ((BaseModel) o2).getBase().getCacheStats();
+        Assert.assertTrue(stats1.get("objects:OWLClass").hitCount() > 0);
+        Assert.assertTrue(stats2.get("objects:OWLClass").missCount() > 0);
+        long evictions = Stream.of(stats1, stats2).flatMap(x -> x.values().stream())
+                .mapToLong(CacheStats::evictionCount).sum();
+        Assert.assertTrue(evictions > 0);
+    }
+
+    @Test
+    public void testCacheBudgetRelease() throws Exception {
+        OntologyManagerImpl m = (OntologyManagerImpl) OntManagers.createONT();
+        m.setOntologyConfigurator(new OntConfig() {
+            @Override
+            protected OntConfig setManagerCacheBudget(long bytes) {
+                return super.setManagerCacheBudget(bytes);
+            }
+        }.setManagerCacheBudget(10_000_000));
+        CacheBudget cache = m.getCacheBudget();
+        OntologyModel o1 = m.loadOntologyFromOntologyDocument(ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl",
+                OntFormat.TURTLE));
+        Assert.assertEquals(945, o1.axioms().count());
+        long size = cache.weightedSize();
+        Assert.assertTrue(size > 0);
+
+        // any change discards the object factory and the search model together with their budget segments:
+        o1.add(m.getOWLDataFactory().getOWLDeclarationAxiom(m.getOWLDataFactory().getOWLClass("http://x#C")));
+        Assert.assertEquals(0, cache.weightedSize());
+        ((BaseModel) o1).getBase().clearCache();
+        Assert.assertEquals(946, o1.axioms().count());
+        size = cache.weightedSize();
+        Assert.assertTrue(size > 0);
+
+        OntologyModel o2 = m.loadOntologyFromOntologyDocument(ReadWriteUtils.getFileDocumentSource("/ontapi/family.ttl",
+                OntFormat.TURTLE));
+        long count = o2.axioms().count();
+        long total = cache.weightedSize();
+        Assert.assertTrue(total > size);
+
+        // the removed ontology does not hold the budget anymore, but still works:
+        m.removeOntology(o1);
+        Assert.assertEquals(total - size, cache.weightedSize());
+        m.removeOntology(o2);
+        Assert.assertEquals(0, cache.weightedSize());
+        InternalModel base = ((BaseModel) o2).getBase();
+        InternalObjectFactory of = base.getObjectFactory();
+        Assert.assertEquals(base.classes().count(), base.classes().map(of::getClass).distinct().count());
+        Assert.assertEquals(count, o2.axioms().count());
+        Assert.assertEquals(0, cache.weightedSize());
+    }
+
     @Test
     public void testObjectsCacheSize() throws Exception {
         long axioms = 945;
@@ -433,6 +565,249 @@ public class CacheConfigTest {
         Assert.assertEquals(axioms, o.getAxiomCount());
     }
 
+    @Test
+    public void testIndexCacheOption() throws OWLOntologyCreationException {
+        OWLOntologyDocumentSource s = ReadWriteUtils.getFileDocumentSource("/ontapi/family.ttl", OntFormat.TURTLE);
+        OntologyManager m1 = OntManagers.createONT();
+        Assert.assertTrue(m1.getOntologyConfigurator().useIndexCache());
+        OntologyModel o1 = m1.loadOntologyFromOntologyDocument(s);
+        OntologyManager m2 = OntManagers.createONT();
+        m2.getOntologyConfigurator().setModelCacheLevel(CacheSettings.CACHE_INDEX, false);
+        Assert.assertFalse(m2.getOntologyConfigurator().useIndexCache());
+        Assert.assertTrue(m2.getOntologyConfigurator().useContentCache());
+        OntologyModel o2 = m2.loadOntologyFromOntologyDocument(s);
+
+        testIndexSearch(o1, o2);
+
+        DataFactory df = m1.getOWLDataFactory();
+        OWLNamedIndividual i = o1.individualsInSignature().findFirst().orElseThrow(AssertionError::new);
+        OWLObjectProperty p = o1.objectPropertiesInSignature().findFirst().orElseThrow(AssertionError::new);
+        OWLClass c = o1.classesInSignature().findFirst().orElseThrow(AssertionError::new);
+        List<OWLAxiom> add = Arrays.asList(df.getOWLObjectPropertyAssertionAxiom(p, i, df.getOWLNamedIndividual("x")),
+                df.getOWLSubClassOfAxiom(df.getOWLClass("y"), c),
+                df.getOWLSubObjectPropertyOfAxiom(df.getOWLObjectProperty("z"), p));
+        add.forEach(a -> {
+            o1.add(a);
+            o2.add(a);
+        });
+        testIndexSearch(o1, o2);
+        Assert.assertEquals(1, o1.axioms(OWLObjectPropertyAssertionAxiom.class, OWLIndividual.class,
+                df.getOWLNamedIndividual("x"), Navigation.IN_SUPER_POSITION).count());
+
+        o1.axioms(AxiomType.OBJECT_PROPERTY_ASSERTION).limit(20).collect(Collectors.toList()).forEach(a -> {
+            o1.remove(a);
+            o2.remove(a);
+        });
+        o1.remove(add.get(1));
+        o2.remove(add.get(1));
+        testIndexSearch(o1, o2);
+        Assert.assertEquals(0, o1.subClassAxiomsForSuperClass(c).filter(add.get(1)::equals).count());
+    }
+
+    @Test
+    public void testParallelLoadCacheOption() throws Exception {
+        OWLOntologyDocumentSource s = ReadWriteUtils.getFileDocumentSource("/ontapi/family.ttl", OntFormat.TURTLE);
+        OntologyManager m1 = OntManagers.createConcurrentONT();
+        Assert.assertFalse(m1.getOntologyConfigurator().useParallelLoadCache());
+        m1.getOntologyConfigurator().setModelCacheLevel(CacheSettings.CACHE_PARALLEL_LOAD, true);
+        Assert.assertTrue(m1.getOntologyConfigurator().useParallelLoadCache());
+        OntologyModel o1 = m1.loadOntologyFromOntologyDocument(s);
+        OntologyManager m2 = OntManagers.createONT();
+        OntologyModel o2 = m2.loadOntologyFromOntologyDocument(s);
+
+        InternalModel im = OWLAdapter.get().asBaseModel(o1).getBase();
+        ExecutorService service = Executors.newFixedThreadPool(4);
+        try {
+            Map<OWLContentType, Duration> times = im.forceLoad(service);
+            Assert.assertEquals(OWLContentType.all().count(), times.size());
+        } finally {
+            service.shutdown();
+        }
+        Map map = (Map) getInternalCache(im, OWLContentType.class).get(im);
+        map.values().forEach(x -> Assert.assertTrue(((ObjectMap) x).isLoaded()));
+        assertEqualSets(o2.axioms(), o1.axioms());
+
+        // the manager's executor is used by default:
+        AtomicInteger tasks = new AtomicInteger();
+        ((OntologyManagerImpl) m1).setLoadExecutor(r -> {
+            tasks.incrementAndGet();
+            r.run();
+        });
+        im.clearCache();
+        im.forceLoad();
+        Assert.assertEquals(OWLContentType.all().count(), tasks.get());
+        assertEqualSets(o2.axioms(), o1.axioms());
+
+        // non-concurrent manager: sequential loading
+        InternalModel im2 = OWLAdapter.get().asBaseModel(o2).getBase();
+        im2.clearCache();
+        Assert.assertEquals(OWLContentType.all().count(), im2.forceLoad(Runnable::run).size());
+        assertEqualSets(o2.axioms(), o1.axioms());
+    }
+
+    @Test
+    public void testSinglePassLoadCacheOption() throws Exception {
+        List<String> files = Arrays.asList("/ontapi/pizza.ttl", "/ontapi/family.ttl", "/ontapi/swrl.owl.rdf",
+                "/ontapi/test-annotations-2.ttl", "/ontapi/goodrelations.rdf", "/ontapi/foaf.rdf");
+        for (String file : files) {
+            LOGGER.debug("Test <{}>", file);
+            OntFormat f = file.endsWith(".ttl") ? OntFormat.TURTLE : OntFormat.RDF_XML;
+            OWLOntologyDocumentSource s = ReadWriteUtils.getFileDocumentSource(file, f);
+            OntologyManager m1 = OntManagers.createONT();
+            Assert.assertFalse(m1.getOntologyConfigurator().useSinglePassLoadCache());
+            m1.getOntologyConfigurator().setModelCacheLevel(CacheSettings.CACHE_SINGLE_PASS_LOAD, true);
+            Assert.assertTrue(m1.getOntologyConfigurator().useSinglePassLoadCache());
+            OntologyModel o = m1.loadOntologyFromOntologyDocument(s);
+            OntGraphModel g = o.asGraphModel();
+            // compare with the ordinary translators' reading on the same graph (blank nodes are the same):
+            AxiomType.AXIOM_TYPES.forEach(t -> assertEqualSets(AxiomParserProvider.get(t).axioms(g)
+                    .map(ONTObject::getOWLObject), o.axioms(t).map(OWLAxiom.class::cast)));
+        }
+        // the rest of the single pass result must not be used after a direct graph change:
+        OWLOntologyDocumentSource s = ReadWriteUtils.getFileDocumentSource("/ontapi/family.ttl", OntFormat.TURTLE);
+        OntologyManager m = OntManagers.createONT();
+        m.getOntologyConfigurator().setModelCacheLevel(CacheSettings.CACHE_SINGLE_PASS_LOAD, true);
+        OntologyModel o = m.loadOntologyFromOntologyDocument(s);
+        o.clearCache();
+        long declarations = o.axioms(AxiomType.DECLARATION).count();
+        OntGraphModel g = o.asGraphModel();
+        OntClass c = g.createOntClass("urn:C");
+        g.classes().filter(x -> x != c).findFirst().orElseThrow(AssertionError::new).addSuperClass(c);
+        Assert.assertEquals(declarations + 1, o.axioms(AxiomType.DECLARATION).count());
+        Assert.assertEquals(1, o.subClassAxiomsForSuperClass(m.getOWLDataFactory().getOWLClass("urn:C")).count());
+    }
+
+    @Test
+    public void testInternCacheOption() throws Exception {
+        OWLOntologyDocumentSource s = ReadWriteUtils.getFileDocumentSource("/ontapi/family.ttl", OntFormat.TURTLE);
+        OntologyManager m1 = OntManagers.createONT();
+        OntologyModel o1 = m1.loadOntologyFromOntologyDocument(s);
+        for (int size : new int[]{-1, CacheObjectFactory.CACHE_SIZE}) {
+            OntologyManager m2 = OntManagers.createONT();
+            Assert.assertFalse(m2.getOntologyConfigurator().useInternCache());
+            m2.getOntologyConfigurator().setModelCacheLevel(CacheSettings.CACHE_INTERN, true)
+                    .setLoadObjectsCacheSize(size);
+            Assert.assertTrue(m2.getOntologyConfigurator().useInternCache());
+            OntologyModel o2 = m2.loadOntologyFromOntologyDocument(s);
+            assertEqualSets(o1.axioms(), o2.axioms());
+            // each entity and literal, that is equal to some other one, must be the same instance:
+            Map<OWLObject, OWLObject> canonical = new HashMap<>();
+            Stream.concat(o2.axioms().flatMap(HasSignature::signature),
+                    o2.axioms(AxiomType.DATA_PROPERTY_ASSERTION).map(OWLDataPropertyAssertionAxiom::getObject))
+                    .forEach(x -> Assert.assertSame(x, canonical.computeIfAbsent(x, k -> x)));
+        }
+
+        DataFactoryImpl df = new DataFactoryImpl(true);
+        Assert.assertTrue(df.isInterning());
+        Assert.assertSame(df.getOWLClass("urn:C"), df.getOWLClass(IRI.create("urn:C")));
+        Assert.assertSame(df.getOWLObjectProperty("urn:P"), df.getOWLEntity(EntityType.OBJECT_PROPERTY, IRI.create("urn:P")));
+        Assert.assertNotSame(df.getOWLClass("urn:C"), new DataFactoryImpl().getOWLClass("urn:C"));
+        Assert.assertSame(df.getOWLLiteral("x", "en"), df.getOWLLiteral("x", "en"));
+        Assert.assertSame(df.getOWLLiteral(42), df.getOWLLiteral("42", df.getIntegerOWLDatatype()));
+        Assert.assertNotSame(df.getOWLLiteral("x", "en"), df.getOWLLiteral("x", "de"));
+    }
+
+    @Test
+    public void testIncrementalCacheOption() throws Exception {
+        OWLOntologyDocumentSource s = ReadWriteUtils.getFileDocumentSource("/ontapi/family.ttl", OntFormat.TURTLE);
+        OntologyManager m1 = OntManagers.createONT();
+        Assert.assertTrue(m1.getOntologyConfigurator().useIncrementalCache());
+        OntologyModel o1 = m1.loadOntologyFromOntologyDocument(s);
+        OntologyManager m2 = OntManagers.createONT();
+        m2.getOntologyConfigurator().setModelCacheLevel(CacheSettings.CACHE_INCREMENTAL, false);
+        Assert.assertFalse(m2.getOntologyConfigurator().useIncrementalCache());
+        OntologyModel o2 = m2.loadOntologyFromOntologyDocument(s);
+        assertEqualSets(o2.axioms(), o1.axioms());
+
+        InternalModel im = OWLAdapter.get().asBaseModel(o1).getBase();
+        Map map = (Map) getInternalCache(im, OWLContentType.class).get(im);
+        OntGraphModel g1 = o1.asGraphModel();
+        OntGraphModel g2 = o2.asGraphModel();
+        OntClass c = g1.classes().findFirst().orElseThrow(AssertionError::new);
+        OntIndividual.Named i = g1.individuals().filter(OntObject::isURIResource)
+                .map(x -> x.as(OntIndividual.Named.class)).findFirst().orElseThrow(AssertionError::new);
+        OntNOP p = g1.objectProperties().findFirst().orElseThrow(AssertionError::new);
+        List<Triple> triples = Arrays.asList(
+                Triple.create(NodeFactory.createURI("urn:x"), RDF.Nodes.type, c.asNode()),
+                Triple.create(i.asNode(), p.asNode(), NodeFactory.createURI("urn:x")),
+                Triple.create(c.asNode(), RDFS.Nodes.subClassOf, OWL.Thing.asNode()),
+                Triple.create(c.asNode(), RDFS.Nodes.label, NodeFactory.createLiteral("c")));
+        triples.forEach(t -> {
+            g1.getGraph().add(t);
+            g2.getGraph().add(t);
+            assertEqualSets(o2.axioms(), o1.axioms());
+        });
+        // only affected buckets are released:
+        g1.getGraph().add(triples.get(2));
+        Assert.assertTrue(((ObjectMap) map.get(OWLContentType.CLASS_ASSERTION)).isLoaded());
+        Assert.assertTrue(((ObjectMap) map.get(OWLContentType.DECLARATION)).isLoaded());
+        g1.getGraph().delete(triples.get(2));
+        Assert.assertFalse(((ObjectMap) map.get(OWLContentType.SUBCLASS_OF)).isLoaded());
+        Assert.assertTrue(((ObjectMap) map.get(OWLContentType.CLASS_ASSERTION)).isLoaded());
+        g2.getGraph().delete(triples.get(2));
+        assertEqualSets(o2.axioms(), o1.axioms());
+
+        triples.forEach(t -> {
+            g1.getGraph().delete(t);
+            g2.getGraph().delete(t);
+            assertEqualSets(o2.axioms(), o1.axioms());
+        });
+        // declaration: the whole cache is released
+        g1.createOntClass("urn:y");
+        g2.createOntClass("urn:y");
+        map = (Map) getInternalCache(im, OWLContentType.class).get(im);
+        Assert.assertFalse(((ObjectMap) map.get(OWLContentType.DECLARATION)).isLoaded());
+        assertEqualSets(o2.axioms(), o1.axioms());
+    }
+
+    @Test
+    public void testIndexSearchForNaryAxiomWithoutOperandsPosition() throws OWLOntologyCreationException {
+        OWLOntologyDocumentSource s = ReadWriteUtils.getFileDocumentSource("/ontapi/family.ttl", OntFormat.TURTLE);
+        OntologyManager m = OntManagers.createONT();
+        OntologyModel o = m.loadOntologyFromOntologyDocument(s);
+        DataFactory df = m.getOWLDataFactory();
+        OWLObjectProperty p = o.objectPropertiesInSignature().findFirst().orElseThrow(AssertionError::new);
+        OWLObjectProperty q = df.getOWLObjectProperty("q");
+        OWLClass c = o.classesInSignature().findFirst().orElseThrow(AssertionError::new);
+        o.add(df.getOWLInverseObjectPropertiesAxiom(p, q));
+        Assert.assertNull(AxiomPosition.operands(OWLInverseObjectPropertiesAxiom.class));
+        // the inverse-properties axiom has no operands position, the search falls back to the filtering:
+        Assert.assertEquals(0, o.axioms(OWLInverseObjectPropertiesAxiom.class, OWLClass.class, c,
+                Navigation.IN_SUB_POSITION).count());
+        Assert.assertEquals(1, o.axioms(OWLInverseObjectPropertiesAxiom.class, OWLObjectPropertyExpression.class, q,
+                Navigation.IN_SUPER_POSITION).count());
+    }
+
+    private static void testIndexSearch(OntologyModel withIndex, OntologyModel noIndex) {
+        Assert.assertEquals(noIndex.getAxiomCount(), withIndex.getAxiomCount());
+        withIndex.individualsInSignature().forEach(i -> {
+            assertEqualSets(noIndex.axioms(OWLObjectPropertyAssertionAxiom.class, OWLIndividual.class, i,
+                    Navigation.IN_SUB_POSITION), withIndex.axioms(OWLObjectPropertyAssertionAxiom.class,
+                    OWLIndividual.class, i, Navigation.IN_SUB_POSITION));
+            assertEqualSets(noIndex.axioms(OWLObjectPropertyAssertionAxiom.class, OWLIndividual.class, i,
+                    Navigation.IN_SUPER_POSITION), withIndex.axioms(OWLObjectPropertyAssertionAxiom.class,
+                    OWLIndividual.class, i, Navigation.IN_SUPER_POSITION));
+            assertEqualSets(noIndex.sameIndividualAxioms(i), withIndex.sameIndividualAxioms(i));
+            assertEqualSets(noIndex.axioms(i), withIndex.axioms(i));
+        });
+        withIndex.classesInSignature().forEach(c -> {
+            assertEqualSets(noIndex.subClassAxiomsForSuperClass(c), withIndex.subClassAxiomsForSuperClass(c));
+            assertEqualSets(noIndex.disjointClassesAxioms(c), withIndex.disjointClassesAxioms(c));
+            assertEqualSets(noIndex.axioms(c), withIndex.axioms(c));
+        });
+        withIndex.objectPropertiesInSignature().forEach(p -> {
+            assertEqualSets(noIndex.objectSubPropertyAxiomsForSuperProperty(p),
+                    withIndex.objectSubPropertyAxiomsForSuperProperty(p));
+            assertEqualSets(noIndex.objectSubPropertyAxiomsForSubProperty(p),
+                    withIndex.objectSubPropertyAxiomsForSubProperty(p));
+            assertEqualSets(noIndex.inverseObjectPropertyAxioms(p), withIndex.inverseObjectPropertyAxioms(p));
+        });
+    }
+
+    private static <X> void assertEqualSets(Stream<X> expected, Stream<X> actual) {
+        Assert.assertEquals(expected.collect(Collectors.toSet()), actual.collect(Collectors.toSet()));
+    }
+
     @Test
     public void testLoadNativeOWLFormatWhenContentCacheIsDisabled() throws OWLOntologyCreationException {
         OntologyManager m = OntManagers.createONT();
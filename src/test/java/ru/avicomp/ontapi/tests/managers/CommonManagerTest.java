@@ -23,10 +23,12 @@ import org.hamcrest.core.IsEqual;
 import org.junit.Assert;
 import org.junit.Test;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
 import org.semanticweb.owlapi.model.parameters.Imports;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.*;
+import ru.avicomp.ontapi.config.CacheSettings;
 import ru.avicomp.ontapi.config.OntLoaderConfiguration;
 import ru.avicomp.ontapi.internal.AxiomTranslator;
 import ru.avicomp.ontapi.internal.InternalObjectFactory;
@@ -38,19 +40,29 @@ import ru.avicomp.ontapi.jena.impl.conf.OntModelConfig;
 import ru.avicomp.ontapi.jena.model.OntClass;
 import ru.avicomp.ontapi.jena.model.OntEntity;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
+import ru.avicomp.ontapi.jena.utils.Graphs;
 import ru.avicomp.ontapi.transforms.GraphTransformers;
 import ru.avicomp.ontapi.utils.OntIRI;
 import ru.avicomp.ontapi.utils.ReadWriteUtils;
 import ru.avicomp.ontapi.utils.SpinModels;
 
+import javax.annotation.Nonnull;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -328,6 +340,213 @@ public class CommonManagerTest {
         serializationTest(OntManagers.createConcurrentONT());
     }
 
+    @Test
+    public void testManagerSnapshot() throws Exception {
+        OntologyManager origin = (OntologyManager) setUpManager(OntManagers.createONT());
+        Path file = Files.createTempFile("ont-api-snapshot-", ".bin");
+        file.toFile().deleteOnExit();
+        origin.saveSnapshot(file);
+
+        OntologyManager copy = OntManagers.createConcurrentONT();
+        List<OntologyModel> res = copy.restoreSnapshot(file);
+        Assert.assertEquals(origin.ontologies().count(), res.size());
+        compareManagersTest(origin, copy);
+        copy.ontologies().forEach(o -> Assert.assertEquals(origin.getOntologyDocumentIRI(origin.getOntology(o.getOntologyID())),
+                copy.getOntologyDocumentIRI(o)));
+        Assert.assertEquals(Graphs.importsTreeAsString(origin.getGraphModel("urn:iri.com#1").getGraph()),
+                Graphs.importsTreeAsString(copy.getGraphModel("urn:iri.com#1").getGraph()));
+        editManagerTest(origin, copy);
+
+        try {
+            copy.restoreSnapshot(file);
+            Assert.fail("Possible to restore the same ontologies twice");
+        } catch (OntApiException e) {
+            LOGGER.debug("Expected: '{}'", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testManagerSnapshotRollback() throws Exception {
+        OntologyManager origin = (OntologyManager) setUpManager(OntManagers.createONT());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        origin.saveSnapshot(out);
+        long count = origin.ontologies().count();
+        Assert.assertTrue(count > 1);
+
+        OntologyManager copy = OntManagers.createONT();
+        int[] calls = {0};
+        // a manager, that fails when restoring the last ontology:
+        OntologyManager broken = (OntologyManager) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{OntologyManager.class}, (proxy, method, args) -> {
+                    if ("setOntologyFormat".equals(method.getName()) && ++calls[0] == count) {
+                        throw new OntApiException("Broken manager");
+                    }
+                    try {
+                        return method.invoke(copy, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        try {
+            ManagerSnapshot.read(broken, ByteBuffer.wrap(out.toByteArray()),
+                    ManagerSnapshot.createLoaderConfiguration(copy));
+            Assert.fail("Possible to restore snapshot");
+        } catch (OntApiException e) {
+            LOGGER.debug("Expected: '{}'", e.getMessage());
+        }
+        Assert.assertEquals(count, calls[0]);
+        Assert.assertEquals(0, copy.ontologies().count());
+        // now it is possible to restore the same snapshot:
+        Assert.assertEquals(count, copy.restoreSnapshot(ByteBuffer.wrap(out.toByteArray())).size());
+        compareManagersTest(origin, copy);
+    }
+
+    @Test
+    public void testManagerSnapshotWithBlankNodes() throws Exception {
+        OntologyManager origin = OntManagers.createONT();
+        OntologyModel expected = origin.loadOntologyFromOntologyDocument(
+                ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        origin.saveSnapshot(out);
+
+        OntologyManager copy = OntManagers.createONT();
+        OntologyModel actual = copy.restoreSnapshot(ByteBuffer.wrap(out.toByteArray())).get(0);
+        Assert.assertEquals(expected.getOntologyID(), actual.getOntologyID());
+        Assert.assertEquals(OntFormat.TURTLE, OntFormat.get(copy.getOntologyFormat(actual)));
+        Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), actual.axioms().collect(Collectors.toSet()));
+        Assert.assertTrue(expected.asGraphModel().getBaseGraph().isIsomorphicWith(actual.asGraphModel().getBaseGraph()));
+    }
+
+    @Test
+    public void testParallelChangesApplication() {
+        testParallelChangesApplication(OntManagers.createConcurrentONT());
+        testParallelChangesApplication(OntManagers.createStripedConcurrentONT());
+    }
+
+    @Test
+    public void testParallelChangesRollback() {
+        OntologyManager m = OntManagers.createStripedConcurrentONT();
+        m.getOntologyConfigurator().setManagerChangeThreads(3);
+        OWLDataFactory df = m.getOWLDataFactory();
+        List<OntologyModel> ontologies = createParallelChangesOntologies(m, 3);
+        OntLoaderConfiguration conf = m.getOntologyLoaderConfiguration()
+                .setModelCacheLevel(CacheSettings.CACHE_CONTENT, false);
+        OntGraphModel g = OntModelFactory.createModel();
+        g.setID("urn:no-content-cache");
+        OntologyModel bad = m.addOntology(g.getGraph(), conf);
+        Map<OntologyModel, Long> counts = ontologies.stream()
+                .collect(Collectors.toMap(x -> x, x -> x.axioms().count()));
+
+        List<OWLOntologyChange> changes = new ArrayList<>();
+        ontologies.forEach(o -> changes.add(new AddAxiom(o, df.getOWLDeclarationAxiom(df.getOWLClass("urn:X")))));
+        changes.add(new AddAxiom(bad, df.getOWLDeclarationAxiom(df.getOWLClass("urn:X"))));
+        ontologies.forEach(o -> changes.add(new AddAxiom(o, df.getOWLDeclarationAxiom(df.getOWLClass("urn:Y")))));
+        try {
+            m.applyChanges(changes);
+            Assert.fail("Possible to apply changes");
+        } catch (OntologyModelImpl.ModificationDeniedException e) {
+            LOGGER.debug("Expected: '{}'", e.getMessage());
+        }
+        counts.forEach((o, c) -> Assert.assertEquals(c.longValue(), o.axioms().count()));
+        Assert.assertEquals(0, bad.getAxiomCount());
+    }
+
+    @Test
+    public void testParallelChangesExecutorReuse() throws Exception {
+        OntologyManager m = OntManagers.createConcurrentONT();
+        m.getOntologyConfigurator().setManagerChangeThreads(3);
+        OWLDataFactory df = m.getOWLDataFactory();
+        List<OntologyModel> ontologies = createParallelChangesOntologies(m, 3);
+        Field field = OntologyManagerImpl.class.getDeclaredField("changesExecutor");
+        field.setAccessible(true);
+        Assert.assertNull(field.get(m));
+
+        m.applyChanges(createParallelChanges(df, ontologies));
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) field.get(m);
+        Assert.assertNotNull(executor);
+        Assert.assertEquals(3, executor.getMaximumPoolSize());
+
+        m.getOntologyConfigurator().setManagerChangeThreads(2);
+        ontologies.forEach(o -> o.add(df.getOWLDeclarationAxiom(df.getOWLClass("urn:Z"))));
+        m.applyChanges(ontologies.stream()
+                .map(o -> new RemoveAxiom(o, df.getOWLDeclarationAxiom(df.getOWLClass("urn:Z"))))
+                .collect(Collectors.toList()));
+        Assert.assertSame(executor, field.get(m));
+        Assert.assertEquals(2, executor.getMaximumPoolSize());
+        Assert.assertFalse(executor.isShutdown());
+    }
+
+    private static void testParallelChangesApplication(OntologyManager m) {
+        m.getOntologyConfigurator().setManagerChangeThreads(4);
+        OntologyManager s = OntManagers.createONT();
+        List<OntologyModel> actual = createParallelChangesOntologies(m, 6);
+        List<OntologyModel> expected = createParallelChangesOntologies(s, 6);
+        List<List<? extends OWLOntologyChange>> broadcasts = new ArrayList<>();
+        m.addOntologyChangeListener(broadcasts::add);
+        List<OWLOntologyChange> progress = new ArrayList<>();
+        m.addOntologyChangeProgessListener(new OWLOntologyChangeProgressListener() {
+            @Override
+            public void begin(int size) {
+            }
+
+            @Override
+            public void appliedChange(@Nonnull OWLOntologyChange change) {
+                progress.add(change);
+            }
+
+            @Override
+            public void end() {
+            }
+        });
+
+        List<OWLOntologyChange> changes1 = createParallelChanges(m.getOWLDataFactory(), actual);
+        List<OWLOntologyChange> changes2 = createParallelChanges(s.getOWLDataFactory(), expected);
+        ChangeDetails res = m.applyChangesAndGetDetails(changes1);
+        Assert.assertEquals(s.applyChangesAndGetDetails(changes2).getChangeEffect(), res.getChangeEffect());
+        Assert.assertEquals(ChangeApplied.SUCCESSFULLY, res.getChangeEffect());
+        // the first change is a duplicate
+        Assert.assertEquals(changes1.subList(1, changes1.size()), res.getEnactedChanges());
+        Assert.assertEquals(changes1, progress);
+        // o0 and o1 are connected through the imports and therefore are in the same group
+        Assert.assertEquals(5, broadcasts.size());
+        Assert.assertEquals(res.getEnactedChanges().size(), broadcasts.stream().mapToInt(List::size).sum());
+        for (int i = 0; i < actual.size(); i++) {
+            Assert.assertEquals(expected.get(i).axioms().collect(Collectors.toSet()),
+                    actual.get(i).axioms().collect(Collectors.toSet()));
+            Assert.assertTrue(expected.get(i).asGraphModel().getBaseGraph()
+                    .isIsomorphicWith(actual.get(i).asGraphModel().getBaseGraph()));
+        }
+    }
+
+    private static List<OntologyModel> createParallelChangesOntologies(OntologyManager m, int count) {
+        List<OntologyModel> res = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            OntologyModel o = m.createOntology(IRI.create("urn:o" + i));
+            o.add(m.getOWLDataFactory().getOWLDeclarationAxiom(m.getOWLDataFactory().getOWLClass("urn:C")));
+            res.add(o);
+        }
+        res.get(1).applyChange(new AddImport(res.get(1),
+                m.getOWLDataFactory().getOWLImportsDeclaration(IRI.create("urn:o0"))));
+        return res;
+    }
+
+    private static List<OWLOntologyChange> createParallelChanges(OWLDataFactory df, List<OntologyModel> ontologies) {
+        List<OWLOntologyChange> res = new ArrayList<>();
+        res.add(new AddAxiom(ontologies.get(0), df.getOWLDeclarationAxiom(df.getOWLClass("urn:C"))));
+        for (int k = 0; k < 50; k++) {
+            for (OntologyModel o : ontologies) {
+                OWLClass c = df.getOWLClass("urn:" + o.getOntologyID().getOntologyIRI().orElseThrow(AssertionError::new)
+                        .getShortForm() + "#C" + k);
+                res.add(new AddAxiom(o, df.getOWLSubClassOfAxiom(c, df.getOWLClass("urn:C"))));
+                if (k % 10 == 0) {
+                    res.add(new RemoveAxiom(o, df.getOWLDeclarationAxiom(df.getOWLClass("urn:C"))));
+                    res.add(new AddAxiom(o, df.getOWLDeclarationAxiom(df.getOWLClass("urn:C"))));
+                }
+            }
+        }
+        return res;
+    }
+
     @Test
     public void testPassingJenaOntModel() throws Exception {
         LOGGER.debug("Build MultiUnion graph using jena OntModel");
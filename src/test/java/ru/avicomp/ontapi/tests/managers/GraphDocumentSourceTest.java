@@ -202,6 +202,47 @@ public class GraphDocumentSourceTest {
         }
     }
 
+    @Test
+    public void testDisjointImportsClosure() {
+        OntGraphModel b = OntModelFactory.createModel().setNsPrefixes(OntModelFactory.STANDARD);
+        b.setID("http://b");
+        b.createOntClass("http://b#B");
+        OntGraphModel a = OntModelFactory.createModel().setNsPrefixes(OntModelFactory.STANDARD);
+        a.setID("http://a");
+        a.addImport(b);
+        a.createOntClass("http://a#A").addSuperClass(b.getOntClass("http://b#B"));
+
+        // the detection is disabled by default:
+        Assert.assertFalse(((UnionGraph) OntManagers.createONT().addOntology(a.getGraph())
+                .asGraphModel().getGraph()).isDisjoint());
+
+        OntologyManager manager = OntManagers.createONT();
+        manager.getOntologyConfigurator().setDetectDisjointGraphs(true);
+        OntologyModel o = manager.addOntology(a.getGraph());
+        Assert.assertEquals(2, manager.ontologies().count());
+        UnionGraph u = (UnionGraph) o.asGraphModel().getGraph();
+        // the loader has detected that the imports closure has no common triples:
+        Assert.assertTrue(u.isDisjoint());
+        long size = u.find().toList().size();
+        Assert.assertEquals(a.getBaseGraph().size() + b.getBaseGraph().size(), size);
+
+        // a direct modification of the base graph keeps the flag consistent:
+        Triple t = b.getBaseGraph().find().next();
+        o.asGraphModel().getBaseGraph().add(t);
+        Assert.assertFalse(u.isDisjoint());
+        Assert.assertEquals(size, u.find().toList().size());
+
+        // a bulk addition into the import, that is reported as a whole graph, also resets the flag:
+        o.asGraphModel().getBaseGraph().delete(t);
+        Assert.assertTrue(u.detectDisjoint());
+        Graph imported = manager.getOntology(IRI.create("http://b")).asGraphModel().getBaseGraph();
+        Graph overlap = new GraphMem();
+        overlap.add(o.asGraphModel().getBaseGraph().find(null, RDFS.subClassOf.asNode(), null).next());
+        ModelFactory.createModelForGraph(imported).add(ModelFactory.createModelForGraph(overlap));
+        Assert.assertFalse(u.isDisjoint());
+        Assert.assertEquals(size, u.find().toList().size());
+    }
+
     @Test
     public void testDisableTransforms() throws OWLOntologyCreationException {
         OntologyManager m = OntManagers.createONT();
@@ -33,6 +33,7 @@ import ru.avicomp.ontapi.config.OntLoaderConfiguration;
 import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.ontapi.jena.UnionGraph;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
+import ru.avicomp.ontapi.jena.utils.Graphs;
 import ru.avicomp.ontapi.jena.utils.OntModels;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
 import ru.avicomp.ontapi.jena.vocabulary.RDF;
@@ -45,7 +46,9 @@ import ru.avicomp.ontapi.utils.*;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
@@ -541,6 +544,98 @@ public class LoadFactoryManagerTest {
         Assert.assertEquals(2, m.ontologies().count());
     }
 
+    @Test
+    public void testParallelImportsLoading() throws Exception {
+        // a -> (b, c, x); b -> (d); c -> (d, e, f); e -> (f); x - missing
+        Map<String, List<String>> imports = new LinkedHashMap<>();
+        imports.put("urn:a", Arrays.asList("urn:b", "urn:c", "urn:x"));
+        imports.put("urn:b", Collections.singletonList("urn:d"));
+        imports.put("urn:c", Arrays.asList("urn:d", "urn:e", "urn:f"));
+        imports.put("urn:d", Collections.emptyList());
+        imports.put("urn:e", Collections.singletonList("urn:f"));
+        imports.put("urn:f", Collections.emptyList());
+        Path dir = Files.createTempDirectory("ont-api-imports");
+        Map<String, Path> files = new HashMap<>();
+        for (String uri : imports.keySet()) {
+            OntGraphModel m = OntModelFactory.createModel().setNsPrefixes(OntModelFactory.STANDARD);
+            m.setID(uri);
+            m.createOntClass(uri + "#C");
+            imports.get(uri).forEach(i -> m.getID().addImport(i));
+            Path file = dir.resolve(uri.replace(":", "-") + ".ttl");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                m.write(out, OntFormat.TURTLE.getID());
+            }
+            file.toFile().deleteOnExit();
+            files.put(uri, file);
+        }
+        dir.toFile().deleteOnExit();
+        // "urn:e" and "urn:f" are served by a document source mapper, the rest - by IRI mappers
+        Set<String> threads = Collections.synchronizedSet(new HashSet<>());
+        OntologyManager.DocumentSourceMapping docMapper = id -> id.getOntologyIRI()
+                .map(IRI::getIRIString)
+                .filter(uri -> uri.equals("urn:e") || uri.equals("urn:f"))
+                .map(uri -> new FileDocumentSource(files.get(uri).toFile(), OntFormat.TURTLE.createOwlFormat()) {
+                    @Override
+                    public Optional<InputStream> getInputStream() {
+                        threads.add(Thread.currentThread().getName());
+                        return super.getInputStream();
+                    }
+                })
+                .orElse(null);
+
+        List<OntologyManager> managers = new ArrayList<>();
+        for (int n : new int[]{1, 4}) {
+            OntologyManager m = OntManagers.createONT();
+            files.forEach((uri, file) -> m.getIRIMappers()
+                    .add(new SimpleIRIMapper(IRI.create(uri), IRI.create(file.toUri()))));
+            m.getDocumentSourceMappers().add(docMapper);
+            OntLoaderConfiguration conf = m.getOntologyLoaderConfiguration()
+                    .setMissingImportHandlingStrategy(MissingImportHandlingStrategy.SILENT)
+                    .setImportsLoadThreads(n);
+            Assert.assertEquals(n, conf.getImportsLoadThreads());
+            m.loadOntologyFromOntologyDocument(new FileDocumentSource(files.get("urn:a").toFile()), conf);
+            Assert.assertEquals(imports.size(), m.ontologies().count());
+            managers.add(m);
+        }
+        Assert.assertTrue("Not a parallel loading: " + threads,
+                threads.stream().anyMatch(x -> x.startsWith("ont-api-imports-loader")));
+
+        OntologyManager expected = managers.get(0);
+        OntologyManager actual = managers.get(1);
+        for (String uri : imports.keySet()) {
+            OntologyModel e = expected.getOntology(IRI.create(uri));
+            OntologyModel a = actual.getOntology(IRI.create(uri));
+            Assert.assertNotNull(e);
+            Assert.assertNotNull(a);
+            Assert.assertEquals(Graphs.importsTreeAsString(e.asGraphModel().getGraph()),
+                    Graphs.importsTreeAsString(a.asGraphModel().getGraph()));
+            Assert.assertEquals(e.axioms(Imports.INCLUDED).collect(Collectors.toSet()),
+                    a.axioms(Imports.INCLUDED).collect(Collectors.toSet()));
+            Assert.assertEquals(expected.getOntologyDocumentIRI(e), actual.getOntologyDocumentIRI(a));
+        }
+        Assert.assertEquals(5, actual.getOntology(IRI.create("urn:a")).imports().count());
+    }
+
+    @Test
+    public void testParallelParsing() throws Exception {
+        OWLOntology src = OntManagers.createONT().loadOntologyFromOntologyDocument(
+                ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE));
+        String txt = ReadWriteUtils.toString(src, OntFormat.NTRIPLES);
+        List<OntologyModel> res = new ArrayList<>();
+        for (int n : new int[]{1, 4}) {
+            OntologyManager m = OntManagers.createONT();
+            OntLoaderConfiguration conf = m.getOntologyLoaderConfiguration().setParseThreads(n);
+            Assert.assertEquals(n, conf.getParseThreads());
+            OntologyModel o = m.loadOntologyFromOntologyDocument(new StringDocumentSource(txt), conf);
+            Assert.assertEquals(OntFormat.NTRIPLES, OntFormat.get(m.getOntologyFormat(o)));
+            res.add(o);
+        }
+        Assert.assertEquals(src.getAxiomCount(), res.get(1).getAxiomCount());
+        Assert.assertEquals(res.get(0).axioms().collect(Collectors.toSet()),
+                res.get(1).axioms().collect(Collectors.toSet()));
+        Assert.assertTrue(res.get(0).asGraphModel().getBaseGraph().isIsomorphicWith(res.get(1).asGraphModel().getBaseGraph()));
+    }
+
     @Test(expected = OntologyFactoryImpl.ConfigMismatchException.class)
     public void testDisableWebAccess() throws OWLOntologyCreationException {
         IRI iri = IRI.create("http://spinrdf.org/sp");
@@ -14,13 +14,16 @@
 
 package ru.avicomp.ontapi.tests.model;
 
+import org.apache.jena.graph.Graph;
 import org.junit.Assert;
 import org.junit.Test;
 import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.*;
+import ru.avicomp.ontapi.config.BulkOptions;
 import ru.avicomp.ontapi.jena.impl.conf.OntModelConfig;
 import ru.avicomp.ontapi.jena.model.*;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
@@ -28,11 +31,15 @@ import ru.avicomp.ontapi.jena.vocabulary.RDF;
 import ru.avicomp.ontapi.jena.vocabulary.SWRL;
 import ru.avicomp.ontapi.jena.vocabulary.XSD;
 import ru.avicomp.ontapi.utils.ReadWriteUtils;
+import uk.ac.manchester.cs.owl.owlapi.OWLDeclarationAxiomImpl;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * To test {@link OWLOntology#addAxiom(OWLAxiom)} and {@link OWLOntology#removeAxiom(OWLAxiom)}.
@@ -437,4 +444,114 @@ public class ModifyAxiomsTest {
         Assert.assertEquals(3, o.axioms().peek(x -> LOGGER.debug("{}", x)).count());
         Assert.assertEquals(4, o.asGraphModel().size());
     }
+
+    @Test
+    public void testBulkAddAxioms() throws Exception {
+        OWLOntologyDocumentSource src = ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE);
+        List<OWLAxiom> axioms = OntManagers.createONT().loadOntologyFromOntologyDocument(src)
+                .axioms().collect(Collectors.toList());
+
+        OntologyManager m = OntManagers.createConcurrentONT();
+        OntologyModel o1 = m.createOntology(IRI.create("http://bulk"));
+        OntologyModel o2 = m.createOntology(IRI.create("http://sequential"));
+        List<List<? extends OWLOntologyChange>> events = new ArrayList<>();
+        m.addOntologyChangeListener(events::add);
+
+        Assert.assertEquals(ChangeApplied.SUCCESSFULLY,
+                o1.addAxioms(Stream.concat(axioms.stream(), axioms.stream()), BulkOptions.DEFAULT));
+        Assert.assertEquals(1, events.size());
+        Assert.assertEquals(axioms.size(), events.get(0).size());
+        Assert.assertTrue(events.get(0).stream().allMatch(c -> c.isAddAxiom() && c.getOntology() == o1));
+
+        axioms.forEach(o2::add);
+        Assert.assertEquals(axioms.size() + 1, events.size());
+        Assert.assertEquals(o2.getAxiomCount(), o1.getAxiomCount());
+        Assert.assertEquals(o2.axioms().collect(Collectors.toSet()), o1.axioms().collect(Collectors.toSet()));
+        Assert.assertEquals(o2.asGraphModel().size(), o1.asGraphModel().size());
+        // the same after reloading the cache:
+        o1.clearCache();
+        o2.clearCache();
+        Assert.assertEquals(o2.axioms().collect(Collectors.toSet()), o1.axioms().collect(Collectors.toSet()));
+
+        // nothing to add:
+        events.clear();
+        Assert.assertEquals(ChangeApplied.NO_OPERATION, o1.addAxioms(axioms.stream(), BulkOptions.DEFAULT));
+        Assert.assertEquals(1, events.size());
+        Assert.assertTrue(events.get(0).isEmpty());
+
+        // no events, no components cache:
+        events.clear();
+        OntologyModel o3 = m.createOntology(IRI.create("http://bulk-silent"));
+        o3.classesInSignature().count(); // load components
+        Assert.assertEquals(ChangeApplied.SUCCESSFULLY, o3.addAxioms(axioms.stream(),
+                BulkOptions.DEFAULT.setFireEvents(false).setCacheComponents(false)));
+        Assert.assertTrue(events.isEmpty());
+        Assert.assertEquals(o2.getAxiomCount(), o3.getAxiomCount());
+        Assert.assertEquals(o2.classesInSignature().count(), o3.classesInSignature().count());
+    }
+
+    @Test
+    public void testBulkAddAxiomsRollback() {
+        OntologyManager m = OntManagers.createONT();
+        OWLDataFactory df = m.getOWLDataFactory();
+        OntologyModel o = m.createOntology(IRI.create("http://bulk-rollback"));
+        OWLAxiom existing = df.getOWLDeclarationAxiom(df.getOWLClass("A"));
+        o.add(existing);
+        long size = o.asGraphModel().size();
+        List<List<? extends OWLOntologyChange>> events = new ArrayList<>();
+        m.addOntologyChangeListener(events::add);
+
+        boolean[] fail = {false};
+        OWLAxiom broken = new OWLDeclarationAxiomImpl(df.getOWLClass("C"), Collections.emptyList()) {
+            @Override
+            public List<OWLAnnotation> annotationsAsList() {
+                if (fail[0]) throw new IllegalStateException("Broken axiom");
+                return super.annotationsAsList();
+            }
+        };
+        broken.hashCode(); // the hash code is cached, so the axiom fails only while writing
+        fail[0] = true;
+        List<OWLAxiom> axioms = Arrays.asList(df.getOWLDeclarationAxiom(df.getOWLClass("B")),
+                df.getOWLSubClassOfAxiom(df.getOWLClass("A"), df.getOWLClass("B")),
+                existing, broken);
+        try {
+            o.addAxioms(axioms.stream(), BulkOptions.DEFAULT);
+            Assert.fail("Possible to add broken axiom");
+        } catch (OntApiException e) {
+            LOGGER.debug("Expected: '{}'", e.getMessage());
+        }
+        Assert.assertTrue(events.isEmpty());
+        Assert.assertEquals(Collections.singletonList(existing), o.axioms().collect(Collectors.toList()));
+        Assert.assertEquals(size, o.asGraphModel().size());
+        o.clearCache();
+        Assert.assertEquals(Collections.singletonList(existing), o.axioms().collect(Collectors.toList()));
+        Assert.assertEquals(1, o.classesInSignature().count());
+    }
+
+    @Test
+    public void testRemoveHalfOfAxioms() {
+        Graph g = ReadWriteUtils.loadResourceTTLFile("/ontapi/family.ttl").getGraph();
+        OntologyModel o = OntManagers.createONT().addOntology(g);
+        Set<OWLAxiom> expected = o.axioms().collect(Collectors.toSet());
+        List<OWLAxiom> axioms = o.axioms()
+                .filter(a -> !a.isOfType(AxiomType.DECLARATION))
+                .sorted().collect(Collectors.toList());
+        long size = g.size();
+        for (int i = 0; i < axioms.size(); i += 2) {
+            OWLAxiom a = axioms.get(i);
+            o.remove(a);
+            expected.remove(a);
+            Assert.assertFalse(o.containsAxiom(a));
+        }
+        Assert.assertTrue(g.size() < size);
+        Assert.assertEquals(expected, o.axioms().collect(Collectors.toSet()));
+        // re-read the graph:
+        o.clearCache();
+        Assert.assertEquals(expected, o.axioms().collect(Collectors.toSet()));
+        // remove the rest:
+        expected.stream().filter(a -> !a.isOfType(AxiomType.DECLARATION)).collect(Collectors.toList())
+                .forEach(o::remove);
+        o.clearCache();
+        Assert.assertEquals(o.axioms(AxiomType.DECLARATION).count(), o.getAxiomCount());
+    }
 }
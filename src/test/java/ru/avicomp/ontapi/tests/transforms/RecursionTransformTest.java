@@ -16,9 +16,9 @@ package ru.avicomp.ontapi.tests.transforms;
 
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.sparql.util.graph.GraphListenerBase;
 import org.junit.Assert;
-import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -27,6 +27,7 @@ import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
 import ru.avicomp.ontapi.jena.utils.Graphs;
 import ru.avicomp.ontapi.transforms.OWLRecursiveTransform;
+import ru.avicomp.ontapi.transforms.RecursiveTransform;
 import ru.avicomp.ontapi.transforms.Transform;
 import ru.avicomp.ontapi.utils.ReadWriteUtils;
 
@@ -43,7 +44,6 @@ import java.util.Set;
 /**
  * Created by @szuev on 30.01.2018.
  */
-@Ignore //todo: temporary ignored: right now this functionality is not used by the ONT-API and buggy
 @RunWith(Parameterized.class)
 public class RecursionTransformTest {
     private final TestData data;
@@ -52,14 +52,6 @@ public class RecursionTransformTest {
         this.data = data;
     }
 
-    /**
-     * TODO: although right now this transformer is disabled, so it is doesn't matter, but sometimes (very rare) there is StackOverflowError:
-     * java.lang.StackOverflowError
-     * at java.util.stream.Streams$StreamBuilderImpl.forEachRemaining(Streams.java:419)
-     * at java.util.stream.Streams$ConcatSpliterator.forEachRemaining(Streams.java:742)
-     * at java.util.stream.ReferencePipeline$Head.forEach(ReferencePipeline.java:580)
-     * at java.util.stream.ReferencePipeline$7$1.accept(ReferencePipeline.java:270)
-     */
     @Test
     public void testOWLTrasform() throws IOException {
         OntGraphModel m = OntModelFactory.createModel();
@@ -76,6 +68,22 @@ public class RecursionTransformTest {
         Assert.assertEquals("Wrong delete triples count", data.deleteCount, l.delete.size());
     }
 
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testRecursiveNodes() throws IOException {
+        Graph g = OntModelFactory.createDefaultGraph();
+        try (InputStream in = Files.newInputStream(data.file)) {
+            RDFDataMgr.read(g, in, null, data.format.getLang());
+        }
+        List<Triple> expected = RecursiveTransform.recursiveTriples(g, true);
+        Assert.assertEquals(expected.isEmpty(), RecursiveTransform.recursiveTriplesBySubject(g).count() == 0);
+        Assert.assertEquals(expected.isEmpty(), RecursiveTransform.recursiveTriplesByObject(g).count() == 0);
+        expected.forEach(t -> {
+            Assert.assertTrue(RecursiveTransform.testSubject(g, t.getSubject()));
+            Assert.assertTrue(RecursiveTransform.testObject(g, t.getObject()));
+        });
+    }
+
     @Parameterized.Parameters(name = "{0}")
     public static List<TestData> getData() {
         return Arrays.asList(TestData.of("ontapi/recursive-graph.ttl", 1), TestData.of("/etc/spl.spin.ttl", 0), TestData.of("ontapi/test-rec.ttl", 0), TestData.of("ontapi/test-long.ttl", 0));